@@ -1,12 +1,14 @@
 package org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed;
 
 import static java.util.Arrays.asList;
+import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 import static org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.ViolationType.FIELD_IS_MISSING;
 import static org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.ViolationType.VALUE_INVALID;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.validation.ConstraintViolation;
 import javax.validation.constraints.NotNull;
@@ -44,6 +46,22 @@ public final class AnnotationBasedValidationErrorsExtractor {
         }
     }
 
+    public List<ValidationErrorDTO> extractAnnotationBasedErrorsFromViolations(
+        final Set<? extends ConstraintViolation<?>> violations
+    ) {
+        return violations
+            .stream()
+            .sorted(comparing(violation -> violation.getPropertyPath().toString()))
+            .map(violation ->
+                new JsPathParsingValidationErrorDTO(
+                    JsonPath.adaptFromJavaxValidationPath(violation.getPropertyPath().toString()),
+                    violation.getMessage(),
+                    toViolationType(violation.getConstraintDescriptor().getAnnotation().annotationType())
+                )
+            )
+            .collect(Collectors.toList());
+    }
+
     private ViolationType toViolationType(final Class<? extends Annotation> annotationClass) {
         if (annotationClass == NotNull.class) {
             return FIELD_IS_MISSING;
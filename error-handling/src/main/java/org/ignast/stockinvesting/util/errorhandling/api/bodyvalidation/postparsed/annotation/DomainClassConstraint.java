@@ -6,6 +6,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.Map;
 import javax.validation.Constraint;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -28,12 +29,42 @@ public @interface DomainClassConstraint {
     Class<?> domainClass();
 
     @Getter
-    @RequiredArgsConstructor(staticName = "supporting")
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
     class SupportedTypes {
 
         @NonNull
         private final Map<Class<?>, From1ParamConstructor<String>> typesConstructableFromString;
 
         private final Map<Class<?>, From1ParamConstructor<Integer>> typesConstructableFromInteger;
+
+        @NonNull
+        private final Map<Class<?>, From1ParamValidator<String>> typesValidatableFromString;
+
+        @NonNull
+        private final Map<Class<?>, From1ParamValidator<Integer>> typesValidatableFromInteger;
+
+        public static SupportedTypes supporting(
+            final Map<Class<?>, From1ParamConstructor<String>> typesConstructableFromString,
+            final Map<Class<?>, From1ParamConstructor<Integer>> typesConstructableFromInteger
+        ) {
+            return new SupportedTypes(
+                typesConstructableFromString,
+                typesConstructableFromInteger,
+                Map.of(),
+                Map.of()
+            );
+        }
+
+        public SupportedTypes validatingWithoutExceptions(
+            final Map<Class<?>, From1ParamValidator<String>> stringValidators,
+            final Map<Class<?>, From1ParamValidator<Integer>> integerValidators
+        ) {
+            return new SupportedTypes(
+                typesConstructableFromString,
+                typesConstructableFromInteger,
+                stringValidators,
+                integerValidators
+            );
+        }
     }
 }
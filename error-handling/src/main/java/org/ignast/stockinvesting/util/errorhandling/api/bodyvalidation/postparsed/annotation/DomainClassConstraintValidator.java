@@ -10,10 +10,16 @@ abstract class DomainClassConstraintValidator<T> implements ConstraintValidator<
 
     private final Map<Class<?>, From1ParamConstructor<T>> supportedObjects;
 
+    private final Map<Class<?>, From1ParamValidator<T>> validators;
+
     private Class<?> domainClass;
 
-    private DomainClassConstraintValidator(final Map<Class<?>, From1ParamConstructor<T>> supportedObjects) {
+    private DomainClassConstraintValidator(
+        final Map<Class<?>, From1ParamConstructor<T>> supportedObjects,
+        final Map<Class<?>, From1ParamValidator<T>> validators
+    ) {
         this.supportedObjects = supportedObjects;
+        this.validators = validators;
     }
 
     public void initialize(final DomainClassConstraint constraint) {
@@ -30,7 +36,13 @@ abstract class DomainClassConstraintValidator<T> implements ConstraintValidator<
     }
 
     private boolean validate(final T value, final ConstraintValidatorContext context) {
-        if (!supportedObjects.containsKey(domainClass)) {
+        if (validators.containsKey(domainClass)) {
+            return validators
+                .get(domainClass)
+                .validate(value)
+                .map(message -> reject(message, context))
+                .orElse(true);
+        } else if (!supportedObjects.containsKey(domainClass)) {
             throw new IllegalArgumentException(
                 format("DomainClassConstraint is not configured for '%s' class", domainClass.getSimpleName())
             );
@@ -39,24 +51,34 @@ abstract class DomainClassConstraintValidator<T> implements ConstraintValidator<
                 supportedObjects.get(domainClass).construct(value);
                 return true;
             } catch (IllegalArgumentException e) {
-                context.disableDefaultConstraintViolation();
-                context.buildConstraintViolationWithTemplate(e.getMessage()).addConstraintViolation();
-                return false;
+                return reject(e.getMessage(), context);
             }
         }
     }
 
+    private boolean reject(final String message, final ConstraintValidatorContext context) {
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(message).addConstraintViolation();
+        return false;
+    }
+
     static class IntegerBackedObjectValidator extends DomainClassConstraintValidator<Integer> {
 
         public IntegerBackedObjectValidator(final DomainClassConstraint.SupportedTypes supportedObjects) {
-            super(supportedObjects.getTypesConstructableFromInteger());
+            super(
+                supportedObjects.getTypesConstructableFromInteger(),
+                supportedObjects.getTypesValidatableFromInteger()
+            );
         }
     }
 
     static class StringBackedObjectValidator extends DomainClassConstraintValidator<String> {
 
         public StringBackedObjectValidator(final DomainClassConstraint.SupportedTypes supportedObjects) {
-            super(supportedObjects.getTypesConstructableFromString());
+            super(
+                supportedObjects.getTypesConstructableFromString(),
+                supportedObjects.getTypesValidatableFromString()
+            );
         }
     }
 }
@@ -0,0 +1,7 @@
+package org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.annotation;
+
+import java.util.Optional;
+
+public interface From1ParamValidator<T> {
+    public Optional<String> validate(T arg);
+}
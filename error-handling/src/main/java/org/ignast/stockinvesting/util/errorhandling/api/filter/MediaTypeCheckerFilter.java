@@ -0,0 +1,94 @@
+package org.ignast.stockinvesting.util.errorhandling.api.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.val;
+import org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+public final class MediaTypeCheckerFilter extends OncePerRequestFilter {
+
+    private static final int NOT_ACCEPTABLE = 406;
+
+    private final byte[] missingAcceptHeaderError;
+
+    private final String uncheckedPath;
+
+    private final HandlerMapping handlers;
+
+    public MediaTypeCheckerFilter(
+        @NonNull final ObjectMapper mapper,
+        @NonNull final String uncheckedPath,
+        @NonNull final HandlerMapping handlers
+    ) throws JsonProcessingException {
+        this.missingAcceptHeaderError =
+            mapper.writeValueAsBytes(StandardErrorDTO.createForNotAcceptableNoHeader());
+        this.uncheckedPath = uncheckedPath;
+        this.handlers = handlers;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain chain
+    ) throws ServletException, IOException {
+        if (
+            isGETrequestMissingMediaTypeAsPerExplicitApiVersionRequirementNotToBreakClientsOnUpgrades(request)
+        ) {
+            response.setStatus(NOT_ACCEPTABLE);
+            response.setContentLength(missingAcceptHeaderError.length);
+            response.getOutputStream().write(missingAcceptHeaderError);
+            response.flushBuffer();
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private boolean isGETrequestMissingMediaTypeAsPerExplicitApiVersionRequirementNotToBreakClientsOnUpgrades(
+        final HttpServletRequest request
+    ) {
+        if (isGET(request) && request.getHeader(HttpHeaders.ACCEPT) == null) {
+            return !isUnchecked(request) && isHandled(request);
+        } else {
+            return false;
+        }
+    }
+
+    private boolean isGET(final HttpServletRequest request) {
+        return "GET".equals(request.getMethod());
+    }
+
+    private boolean isUnchecked(final HttpServletRequest request) {
+        final val uri = request.getRequestURI();
+        final val start = request.getContextPath().length();
+        final val end = start + uncheckedPath.length();
+        return uri.startsWith(uncheckedPath, start) && (uri.length() == end || uri.charAt(end) == '/');
+    }
+
+    @SuppressWarnings("checkstyle:illegalcatch")
+    private boolean isHandled(final HttpServletRequest request) {
+        final val alreadyParsed = ServletRequestPathUtils.hasParsedRequestPath(request);
+        if (!alreadyParsed) {
+            ServletRequestPathUtils.parseAndCache(request);
+        }
+        try {
+            return handlers.getHandler(request) != null;
+        } catch (Exception e) {
+            return false;
+        } finally {
+            if (!alreadyParsed) {
+                ServletRequestPathUtils.clearParsedRequestPath(request);
+            }
+        }
+    }
+}
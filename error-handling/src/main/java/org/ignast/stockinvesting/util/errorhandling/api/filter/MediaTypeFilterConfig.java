@@ -0,0 +1,23 @@
+package org.ignast.stockinvesting.util.errorhandling.api.filter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Configuration
+public class MediaTypeFilterConfig {
+
+    @Bean
+    public MediaTypeCheckerFilter mediaTypeCheckerFilter(
+        final ObjectMapper objectMapper,
+        @Value("${management.endpoints.web.base-path:/actuator}") final String actuatorBasePath,
+        @Lazy @Qualifier("requestMappingHandlerMapping") final HandlerMapping handlers
+    ) throws JsonProcessingException {
+        return new MediaTypeCheckerFilter(objectMapper, actuatorBasePath, handlers);
+    }
+}
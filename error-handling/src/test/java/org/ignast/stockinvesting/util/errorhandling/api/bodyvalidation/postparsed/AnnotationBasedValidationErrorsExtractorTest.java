@@ -11,7 +11,12 @@ import static org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.po
 import static org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.MethodArgumentNotValidExceptionMock.withErrorFieldViolation;
 
 import java.util.ArrayList;
+import java.util.Set;
 import java.util.stream.Stream;
+import javax.validation.Validation;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.val;
 import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.AnnotationBasedValidationErrorsExtractor.ExtractionException;
 import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.MethodArgumentNotValidExceptionMock.ViolationMockBuilder;
@@ -181,4 +186,37 @@ public final class AnnotationBasedValidationErrorsExtractorTest {
         assertThat(validationError2.getMessage()).isEqualTo("message2");
         assertThat(validationError2.getErrorName()).isEqualTo("valueIsInvalid");
     }
+
+    @Test
+    public void shouldExtractErrorsFromConstraintViolationsOrderedByPath() {
+        final val validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        final val validationErrors = extractor.extractAnnotationBasedErrorsFromViolations(
+            validator.validate(new Listing(null, "TOOLONG"))
+        );
+
+        assertThat(validationErrors).hasSize(2);
+        final val missingError = validationErrors.get(0);
+        final val invalidError = validationErrors.get(1);
+        assertThat(missingError.getJsonPath()).isEqualTo("$.marketIdentifier");
+        assertThat(missingError.getErrorName()).isEqualTo("fieldIsMissing");
+        assertThat(invalidError.getJsonPath()).isEqualTo("$.stockSymbol");
+        assertThat(invalidError.getMessage()).isEqualTo("must contain at most 2 characters");
+        assertThat(invalidError.getErrorName()).isEqualTo("valueIsInvalid");
+    }
+
+    @Test
+    public void shouldExtractNoErrorsFromNoConstraintViolations() {
+        assertThat(extractor.extractAnnotationBasedErrorsFromViolations(Set.of())).isEmpty();
+    }
+
+    @AllArgsConstructor
+    private static final class Listing {
+
+        @NotNull
+        private final String marketIdentifier;
+
+        @Size(max = 2, message = "must contain at most 2 characters")
+        private final String stockSymbol;
+    }
 }
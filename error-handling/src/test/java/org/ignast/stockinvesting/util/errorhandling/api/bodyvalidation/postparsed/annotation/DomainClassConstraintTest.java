@@ -12,6 +12,7 @@ import static org.mockito.Mockito.when;
 
 import java.lang.annotation.Annotation;
 import java.util.Map;
+import java.util.Optional;
 import javax.validation.ConstraintValidatorContext;
 import lombok.val;
 import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.annotation.DomainClassConstraintValidator.IntegerBackedObjectValidator;
@@ -80,6 +81,54 @@ final class DomainClassStringBackedObjectValidatorValidatorTest {
         assertThat(validator.isValid("argument", null)).isTrue();
     }
 
+    @Test
+    public void shouldPreferValidatorOverConstructor() {
+        final val supportedTypes = supporting(
+            Map.of(ClassAlwaysInvalid.class, ClassAlwaysInvalid::new),
+            emptyMap()
+        )
+            .validatingWithoutExceptions(
+                Map.of(ClassAlwaysInvalid.class, arg -> Optional.<String>empty()),
+                emptyMap()
+            );
+        final val validator = new StringBackedObjectValidator(supportedTypes);
+        validator.initialize(constrainedBy(ClassAlwaysInvalid.class));
+
+        assertThat(validator.isValid("argument", null)).isTrue();
+    }
+
+    @Test
+    public void shouldInvalidateWithMessageFromValidatorWithoutConstructing() {
+        final val supportedTypes = supporting(emptyMap(), emptyMap())
+            .validatingWithoutExceptions(
+                Map.of(ClassA.class, arg -> Optional.of("invalid " + arg)),
+                emptyMap()
+            );
+        final val validator = new StringBackedObjectValidator(supportedTypes);
+        validator.initialize(constrainedBy(ClassA.class));
+        final val builder = mock(ConstraintValidatorContext.ConstraintViolationBuilder.class);
+        final val context = MockitoUtils.mock(
+            ConstraintValidatorContext.class,
+            c -> when(c.buildConstraintViolationWithTemplate(ArgumentMatchers.any())).thenReturn(builder)
+        );
+
+        assertThat(validator.isValid("argument", context)).isFalse();
+
+        verify(context).disableDefaultConstraintViolation();
+        verify(context).buildConstraintViolationWithTemplate("invalid argument");
+        verify(builder).addConstraintViolation();
+    }
+
+    @Test
+    public void shouldNotSupportNullValidators() {
+        final val supportedTypes = supporting(emptyMap(), emptyMap());
+
+        assertThatNullPointerExceptionIsThrownBy(
+            () -> supportedTypes.validatingWithoutExceptions(null, emptyMap()),
+            () -> supportedTypes.validatingWithoutExceptions(emptyMap(), null)
+        );
+    }
+
     @SuppressWarnings("checkstyle:anoninnerlength")
     private DomainClassConstraint constrainedBy(final Class<?> domainClass) {
         final val constraint = new DomainClassConstraint() {
@@ -188,6 +237,43 @@ final class DomainClassIntegerBackedObjectValidatorValidatorTest {
         assertThat(validator.isValid(any(), null)).isTrue();
     }
 
+    @Test
+    public void shouldPreferValidatorOverConstructor() {
+        final val supportedTypes = supporting(
+            emptyMap(),
+            Map.of(ClassAlwaysInvalid.class, ClassAlwaysInvalid::new)
+        )
+            .validatingWithoutExceptions(
+                emptyMap(),
+                Map.of(ClassAlwaysInvalid.class, arg -> Optional.<String>empty())
+            );
+        final val validator = new IntegerBackedObjectValidator(supportedTypes);
+        validator.initialize(constrainedBy(ClassAlwaysInvalid.class));
+
+        assertThat(validator.isValid(any(), null)).isTrue();
+    }
+
+    @Test
+    public void shouldInvalidateWithMessageFromValidatorWithoutConstructing() {
+        final val supportedTypes = supporting(emptyMap(), emptyMap())
+            .validatingWithoutExceptions(
+                emptyMap(),
+                Map.of(ClassA.class, arg -> Optional.of("invalid " + arg))
+            );
+        final val validator = new IntegerBackedObjectValidator(supportedTypes);
+        validator.initialize(constrainedBy(ClassA.class));
+        final val builder = mock(ConstraintValidatorContext.ConstraintViolationBuilder.class);
+        final val context = MockitoUtils.mock(
+            ConstraintValidatorContext.class,
+            c -> when(c.buildConstraintViolationWithTemplate(ArgumentMatchers.any())).thenReturn(builder)
+        );
+
+        assertThat(validator.isValid(any(), context)).isFalse();
+
+        verify(context).buildConstraintViolationWithTemplate("invalid 4");
+        verify(builder).addConstraintViolation();
+    }
+
     @SuppressWarnings("checkstyle:magicnumber")
     private int any() {
         return 4;
@@ -0,0 +1,188 @@
+package org.ignast.stockinvesting.util.errorhandling.api.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import javax.servlet.http.HttpServletRequest;
+import lombok.val;
+import org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+final class MediaTypeCheckerFilterTest {
+
+    private static final String ERROR = "serializedError";
+
+    private final ObjectMapper mapper = mock(ObjectMapper.class);
+
+    private final HandlerMapping handlers = mock(HandlerMapping.class);
+
+    private MediaTypeCheckerFilter filter;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(mapper.writeValueAsBytes(any(StandardErrorDTO.class)))
+            .thenReturn(ERROR.getBytes(StandardCharsets.UTF_8));
+        when(handlers.getHandler(any())).thenReturn(new HandlerExecutionChain(new Object()));
+        filter = new MediaTypeCheckerFilter(mapper, "/actuator", handlers);
+    }
+
+    @Test
+    public void shouldNotBeCreatedWithNullArguments() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> new MediaTypeCheckerFilter(null, "/actuator", handlers));
+        assertThatNullPointerException().isThrownBy(() -> new MediaTypeCheckerFilter(mapper, null, handlers));
+        assertThatNullPointerException()
+            .isThrownBy(() -> new MediaTypeCheckerFilter(mapper, "/actuator", null));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "Accept", "accept", "ACCEPT" })
+    public void httpGetMethodRequestsShouldComeWithAcceptHeader(final String accept) throws Exception {
+        final val request = new MockHttpServletRequest("GET", "/any");
+        request.addHeader(accept, "any");
+        final val response = new MockHttpServletResponse();
+        final val chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(response.getStatus()).isNotEqualTo(HttpStatus.NOT_ACCEPTABLE.value());
+    }
+
+    @Test
+    public void acceptHeaderShouldBeRequiredForGetMethodRequests() throws Exception {
+        final val request = new MockHttpServletRequest("GET", "/any");
+        final val response = new MockHttpServletResponse();
+        final val chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_ACCEPTABLE.value());
+        assertThat(response.getContentAsString()).isEqualTo(ERROR);
+        assertThat(response.getContentLength()).isEqualTo(ERROR.length());
+    }
+
+    @Test
+    public void shouldSerializeErrorOnlyOnce() throws Exception {
+        filter.doFilter(
+            new MockHttpServletRequest("GET", "/any"),
+            new MockHttpServletResponse(),
+            new MockFilterChain()
+        );
+        filter.doFilter(
+            new MockHttpServletRequest("GET", "/any"),
+            new MockHttpServletResponse(),
+            new MockFilterChain()
+        );
+
+        verify(mapper, times(1)).writeValueAsBytes(any(StandardErrorDTO.class));
+    }
+
+    @Test
+    public void acceptHeaderShouldNotBeRequiredForPostMethodRequests() throws Exception {
+        final val request = new MockHttpServletRequest("POST", "/any");
+        final val response = new MockHttpServletResponse();
+        final val chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(response.getStatus()).isNotEqualTo(HttpStatus.NOT_ACCEPTABLE.value());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/actuator", "/actuator/health/readiness" })
+    public void acceptHeaderShouldNotBeRequiredForUncheckedPaths(final String path) throws Exception {
+        final val request = new MockHttpServletRequest("GET", path);
+        final val response = new MockHttpServletResponse();
+        final val chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    public void uncheckedPathsShouldBeRelativeToContextPath() throws Exception {
+        final val request = new MockHttpServletRequest("GET", "/quotes/actuator/health");
+        request.setContextPath("/quotes");
+        final val chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/actuators", "/actuatorx/health" })
+    public void acceptHeaderShouldBeRequiredForPathsMerelyStartingLikeUncheckedPaths(final String path)
+        throws Exception {
+        final val response = new MockHttpServletResponse();
+        final val chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_ACCEPTABLE.value());
+    }
+
+    @Test
+    public void acceptHeaderShouldNotBeRequiredForPathsWithoutHandler() throws Exception {
+        when(handlers.getHandler(any())).thenReturn(null);
+        final val request = new MockHttpServletRequest("GET", "/unmapped");
+        final val response = new MockHttpServletResponse();
+        final val chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(response.getStatus()).isNotEqualTo(HttpStatus.NOT_ACCEPTABLE.value());
+    }
+
+    @Test
+    public void acceptHeaderShouldNotBeRequiredWhenNoHandlerAcceptsRequest() throws Exception {
+        when(handlers.getHandler(any())).thenThrow(new IllegalStateException("method not supported"));
+        final val request = new MockHttpServletRequest("GET", "/post-only");
+        final val chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    public void shouldLookUpHandlerByParsedPathAndLeaveNoParsedPathBehind() throws Exception {
+        doAnswer(invocation -> {
+                final HttpServletRequest lookedUp = invocation.getArgument(0);
+                assertThat(ServletRequestPathUtils.getParsedRequestPath(lookedUp).value()).isEqualTo("/any");
+                return null;
+            })
+            .when(handlers)
+            .getHandler(any());
+        final val request = new MockHttpServletRequest("GET", "/any");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(handlers).getHandler(request);
+        assertThat(ServletRequestPathUtils.hasParsedRequestPath(request)).isFalse();
+    }
+}
@@ -7,9 +7,9 @@ import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.parsing.s
 import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.parsing.strictjackson.StrictStringDeserializer;
 import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.AnnotationBasedValidationErrorsExtractor;
 import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.ControllerAdviceForPostParsedValidation;
+import org.ignast.stockinvesting.util.errorhandling.api.filter.MediaTypeFilterConfig;
 import org.ignast.stockinvesting.util.errorhandling.api.genericvalidation.ControllerAdviceForGenericErrors;
 import org.ignast.stockinvesting.util.errorhandling.api.genericvalidation.GenericErrorController;
-import org.ignast.stockinvesting.util.errorhandling.api.interceptor.MediaTypeInterceptorConfig;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.web.servlet.error.ErrorController;
 import org.springframework.context.annotation.Bean;
@@ -17,7 +17,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 
 @TestConfiguration
-@Import({ MediaTypeInterceptorConfig.class, BodyValidationConfig.class })
+@Import({ MediaTypeFilterConfig.class, BodyValidationConfig.class })
 class GenericErrorHandlingConfiguration {
 
     @Bean
@@ -135,6 +135,14 @@ final class ManualWiringIT {
             );
     }
 
+    @Test
+    public void shouldNotRequireAcceptHeaderForPathsWithoutHandler() throws Exception {
+        final val response = getWithoutAcceptHeader(url(port) + "/notexistent/path");
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(response.body()).isEqualTo("{\"httpStatus\":404}");
+    }
+
     private HttpResponse<String> getWithoutAcceptHeader(final String url)
         throws IOException, InterruptedException {
         final val request = HttpRequest.newBuilder().GET().uri(URI.create(url)).build();
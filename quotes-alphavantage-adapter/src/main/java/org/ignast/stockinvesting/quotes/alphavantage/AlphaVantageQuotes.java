@@ -1,16 +1,28 @@
 package org.ignast.stockinvesting.quotes.alphavantage;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
+import com.google.common.collect.Lists;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import lombok.NonNull;
 import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Listing;
 import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
 import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
 import org.ignast.stockinvesting.quotes.domain.StockSymbol;
 import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -22,7 +34,9 @@ import org.springframework.web.client.RestTemplate;
 @Repository
 public class AlphaVantageQuotes implements QuotesRepository {
 
-    private static final String COMMUNICATION_FAILED = "Communication with server failed";
+    public static final int MAX_SYMBOLS_PER_CALL = 100;
+
+    private static final String COMMUNICATION_FAILED = AsyncQuoteClient.COMMUNICATION_FAILED;
 
     private final String url;
 
@@ -30,27 +44,79 @@ public class AlphaVantageQuotes implements QuotesRepository {
 
     private final RestTemplate restTemplate;
 
+    private final AsyncQuoteClient asyncClient;
+
     public AlphaVantageQuotes(
-        final RestTemplateBuilder builder,
+        @Qualifier("alphaVantageRestTemplate") final RestTemplate restTemplate,
+        final AsyncQuoteClient asyncClient,
         @Value("${alphavantage.url}") final String url,
         @Value("${alphavantage.apikey}") final String apikey
     ) {
-        restTemplate = builder.messageConverters().build();
+        this.restTemplate = restTemplate;
+        this.asyncClient = asyncClient;
         this.url = url;
         this.apikey = apikey;
     }
 
     @Override
     @SuppressWarnings("checkstyle:designforextension")
-    public BigDecimal getQuotedPriceOf(final StockSymbol stockSymbol, final MarketIdentifierCode mic) {
-        final val response = invoke(toUri(stockSymbol)).getBody();
+    public Price getQuotedPriceOf(final StockSymbol stockSymbol, final MarketIdentifierCode mic) {
+        return toPrice(invoke(toUri(stockSymbol)).getBody(), stockSymbol, mic);
+    }
 
-        return response
+    @Override
+    @SuppressWarnings("checkstyle:designforextension")
+    public CompletableFuture<Price> getQuotedPriceOfAsync(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        return asyncClient
+            .retrieve(toUri(stockSymbol), QuoteResponseDTO.class)
+            .thenApply(response -> toPrice(response, stockSymbol, mic));
+    }
+
+    @Override
+    @SuppressWarnings("checkstyle:designforextension")
+    public Map<Listing, CompletableFuture<Price>> getQuotedPricesOf(
+        @NonNull final Collection<Listing> listings
+    ) {
+        final Map<Listing, CompletableFuture<Price>> prices = new HashMap<>();
+        Lists
+            .partition(listings.stream().distinct().collect(toList()), MAX_SYMBOLS_PER_CALL)
+            .forEach(batch -> {
+                final val pricesBySymbol = asyncClient
+                    .retrieve(toBatchUri(batch), BatchQuoteResponseDTO.class)
+                    .thenApply(r ->
+                        r.getPricesBySymbol().orElseThrow(() -> quoteRetrievalFailed(r.getError()))
+                    );
+                batch.forEach(listing ->
+                    prices.put(listing, pricesBySymbol.thenApply(p -> toPrice(p, listing)))
+                );
+            });
+        return prices;
+    }
+
+    private Price toPrice(final Map<String, Optional<BigDecimal>> pricesBySymbol, final Listing listing) {
+        final val symbol = listing.getStockSymbol();
+        final val mic = listing.getMarketIdentifierCode();
+        final val amount = pricesBySymbol
+            .getOrDefault(symbol.get(), Optional.empty())
+            .orElseThrow(() -> stockSymbolNotSupported(symbol, mic));
+        return Price.of(amount, StockExchanges.quoteCurrencyOf(mic));
+    }
+
+    private Price toPrice(
+        final QuoteResponseDTO response,
+        final StockSymbol stockSymbol,
+        final MarketIdentifierCode mic
+    ) {
+        final val amount = response
             .getQuote()
             .map(q -> q.getPrice().orElseThrow(() -> stockSymbolNotSupported(stockSymbol, mic)))
             .orElseThrow(() -> {
                 throw quoteRetrievalFailed(response.getError());
             });
+        return Price.of(amount, StockExchanges.quoteCurrencyOf(mic));
     }
 
     private QuoteRetrievalFailedException quoteRetrievalFailed(final Optional<String> errorMessage) {
@@ -63,6 +129,15 @@ public class AlphaVantageQuotes implements QuotesRepository {
         return url + format("/query?function=GLOBAL_QUOTE&symbol=%s&apikey=%s", stockSymbol.get(), apikey);
     }
 
+    private String toBatchUri(final List<Listing> listings) {
+        final val symbols = listings
+            .stream()
+            .map(l -> l.getStockSymbol().get())
+            .distinct()
+            .collect(joining(","));
+        return url + format("/query?function=BATCH_STOCK_QUOTES&symbols=%s&apikey=%s", symbols, apikey);
+    }
+
     private StockSymbolNotSupportedInThisMarket stockSymbolNotSupported(
         final StockSymbol stockSymbol,
         final MarketIdentifierCode mic
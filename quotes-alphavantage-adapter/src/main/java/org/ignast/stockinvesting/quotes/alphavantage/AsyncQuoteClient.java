@@ -0,0 +1,82 @@
+package org.ignast.stockinvesting.quotes.alphavantage;
+
+import static org.springframework.http.HttpStatus.Series.SUCCESSFUL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+@Component
+public final class AsyncQuoteClient {
+
+    static final String COMMUNICATION_FAILED = "Communication with server failed";
+
+    private final HttpClient httpClient;
+
+    private final Duration totalTimeout;
+
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+
+    public AsyncQuoteClient(
+        @Qualifier("alphaVantageAsyncHttpClient") final HttpClient httpClient,
+        @Value("${alphavantage.http.timeout.total}") final Duration totalTimeout
+    ) {
+        this.httpClient = httpClient;
+        this.totalTimeout = totalTimeout;
+    }
+
+    <T> CompletableFuture<T> retrieve(final String uri, final Class<T> responseType) {
+        final val request = HttpRequest
+            .newBuilder(URI.create(uri))
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .timeout(totalTimeout)
+            .GET()
+            .build();
+        return httpClient
+            .sendAsync(request, BodyHandlers.ofByteArray())
+            .handle((response, failure) -> toBody(response, failure, responseType));
+    }
+
+    private <T> T toBody(
+        final HttpResponse<byte[]> response,
+        final Throwable failure,
+        final Class<T> responseType
+    ) {
+        if (failure != null) {
+            throw new QuoteRetrievalFailedException(COMMUNICATION_FAILED, new CompletionException(failure));
+        }
+        if (HttpStatus.Series.resolve(response.statusCode()) != SUCCESSFUL || !isJson(response)) {
+            throw new QuoteRetrievalFailedException(COMMUNICATION_FAILED);
+        }
+        try {
+            return mapper.readValue(response.body(), responseType);
+        } catch (IOException e) {
+            throw new QuoteRetrievalFailedException(COMMUNICATION_FAILED, e);
+        }
+    }
+
+    private boolean isJson(final HttpResponse<byte[]> response) {
+        return response
+            .headers()
+            .firstValue(HttpHeaders.CONTENT_TYPE)
+            .map(MediaType::parseMediaType)
+            .filter(MediaType.APPLICATION_JSON::isCompatibleWith)
+            .isPresent();
+    }
+}
@@ -0,0 +1,26 @@
+package org.ignast.stockinvesting.quotes.alphavantage;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+@ToString
+final class BatchQuoteDTO {
+
+    @Getter
+    private final String symbol;
+
+    @Getter
+    private final Optional<BigDecimal> price;
+
+    public BatchQuoteDTO(
+        @NonNull @JsonProperty(value = "1. symbol") final String symbol,
+        @NonNull @JsonProperty(value = "2. price") final Optional<BigDecimal> price
+    ) {
+        this.symbol = symbol;
+        this.price = price;
+    }
+}
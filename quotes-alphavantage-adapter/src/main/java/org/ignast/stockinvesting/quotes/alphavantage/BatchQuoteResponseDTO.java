@@ -0,0 +1,38 @@
+package org.ignast.stockinvesting.quotes.alphavantage;
+
+import static java.util.stream.Collectors.toMap;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+@ToString
+final class BatchQuoteResponseDTO {
+
+    @Getter
+    private final Optional<List<BatchQuoteDTO>> quotes;
+
+    @Getter
+    private final Optional<String> error;
+
+    public BatchQuoteResponseDTO(
+        @NonNull @JsonProperty("Stock Quotes") final Optional<List<BatchQuoteDTO>> quotes,
+        @NonNull @JsonProperty("Error Message") final Optional<String> error
+    ) {
+        this.quotes = quotes;
+        this.error = error;
+    }
+
+    Optional<Map<String, Optional<BigDecimal>>> getPricesBySymbol() {
+        return quotes.map(q ->
+            q
+                .stream()
+                .collect(toMap(BatchQuoteDTO::getSymbol, BatchQuoteDTO::getPrice, (first, second) -> first))
+        );
+    }
+}
@@ -0,0 +1,236 @@
+package org.ignast.stockinvesting.quotes.alphavantage.batch;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.function.Function.identity;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+
+public final class MicroBatchingQuotes implements QuotesRepository, AutoCloseable {
+
+    private final QuotesRepository quotes;
+
+    private final long windowNanos;
+
+    private final int maxBatchSize;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final DistributionSummary batchSizes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<UpstreamPriority, Batch> pending = new EnumMap<>(UpstreamPriority.class);
+
+    public MicroBatchingQuotes(
+        @NonNull final QuotesRepository quotes,
+        @NonNull final Duration window,
+        final int maxBatchSize,
+        @NonNull final MeterRegistry meterRegistry
+    ) {
+        this(
+            quotes,
+            window,
+            maxBatchSize,
+            meterRegistry,
+            Executors.newSingleThreadScheduledExecutor(task -> {
+                final val thread = new Thread(task, "quote-batching");
+                thread.setDaemon(true);
+                return thread;
+            })
+        );
+    }
+
+    MicroBatchingQuotes(
+        @NonNull final QuotesRepository quotes,
+        @NonNull final Duration window,
+        final int maxBatchSize,
+        @NonNull final MeterRegistry meterRegistry,
+        @NonNull final ScheduledExecutorService scheduler
+    ) {
+        if (window.isNegative() || maxBatchSize <= 0) {
+            throw new IllegalArgumentException(
+                "Batching window must not be negative and batch size must be positive"
+            );
+        }
+        this.quotes = quotes;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = scheduler;
+        this.batchSizes =
+            DistributionSummary
+                .builder("quotes.upstream.batch.size")
+                .description("Listings retrieved together in a single upstream batch")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Price getQuotedPriceOf(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        return quotes.getQuotedPriceOf(stockSymbol, mic);
+    }
+
+    @Override
+    public CompletableFuture<Price> getQuotedPriceOfAsync(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        final val priority = UpstreamPriority.current();
+        final Optional<CompletableFuture<Price>> batched;
+        final Optional<Batch> full;
+        lock.lock();
+        try {
+            final val batch = Optional.ofNullable(pending.get(priority));
+            if (batch.isEmpty()) {
+                pending.put(priority, open(priority));
+            }
+            batched = batch.map(b -> b.add(new Listing(stockSymbol, mic)));
+            full = batch.filter(b -> b.size() >= maxBatchSize);
+            full.ifPresent(b -> pending.remove(priority));
+        } finally {
+            lock.unlock();
+        }
+        full.ifPresent(this::dispatch);
+        return batched
+            .map(price -> price.thenApply(identity()))
+            .orElseGet(() -> quotes.getQuotedPriceOfAsync(stockSymbol, mic));
+    }
+
+    @Override
+    public Map<Listing, CompletableFuture<Price>> getQuotedPricesOf(
+        @NonNull final Collection<Listing> listings
+    ) {
+        return quotes.getQuotedPricesOf(listings);
+    }
+
+    private Batch open(final UpstreamPriority priority) {
+        final val batch = new Batch(priority);
+        scheduler.schedule(() -> dispatchIfPending(batch), windowNanos, NANOSECONDS);
+        return batch;
+    }
+
+    private void dispatchIfPending(final Batch batch) {
+        final boolean stillPending;
+        lock.lock();
+        try {
+            stillPending = pending.remove(batch.getPriority(), batch);
+        } finally {
+            lock.unlock();
+        }
+        if (stillPending) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(final Batch batch) {
+        if (batch.size() == 1) {
+            dispatchAlone(batch);
+        } else if (batch.size() > 1) {
+            dispatchTogether(batch);
+        }
+    }
+
+    private void dispatchAlone(final Batch batch) {
+        UpstreamPriority.runAs(
+            batch.getPriority(),
+            () ->
+                batch
+                    .getPrices()
+                    .forEach((listing, price) ->
+                        completedFuture(listing)
+                            .thenCompose(l ->
+                                quotes.getQuotedPriceOfAsync(l.getStockSymbol(), l.getMarketIdentifierCode())
+                            )
+                            .whenComplete((p, f) -> complete(price, p, f))
+                    )
+        );
+    }
+
+    private void dispatchTogether(final Batch batch) {
+        batchSizes.record(batch.size());
+        UpstreamPriority.runAs(
+            batch.getPriority(),
+            () ->
+                completedFuture(batch.getPrices().keySet())
+                    .thenApply(quotes::getQuotedPricesOf)
+                    .whenComplete((retrieved, failure) ->
+                        batch
+                            .getPrices()
+                            .forEach((listing, price) -> complete(price, retrieved, failure, listing))
+                    )
+        );
+    }
+
+    private void complete(
+        final CompletableFuture<Price> price,
+        final Map<Listing, CompletableFuture<Price>> retrieved,
+        final Throwable failure,
+        final Listing listing
+    ) {
+        if (failure == null) {
+            Optional
+                .ofNullable(retrieved.get(listing))
+                .orElseGet(() -> failedFuture(new QuoteRetrievalFailedException("Quote was not retrieved")))
+                .whenComplete((p, f) -> complete(price, p, f));
+        } else {
+            complete(price, null, failure);
+        }
+    }
+
+    private void complete(final CompletableFuture<Price> price, final Price value, final Throwable failure) {
+        if (failure == null) {
+            price.complete(value);
+        } else if (failure instanceof CompletionException && failure.getCause() != null) {
+            price.completeExceptionally(failure.getCause());
+        } else {
+            price.completeExceptionally(failure);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Batch {
+
+        private final UpstreamPriority priority;
+
+        private final Map<Listing, CompletableFuture<Price>> prices = new LinkedHashMap<>();
+
+        CompletableFuture<Price> add(final Listing listing) {
+            return prices.computeIfAbsent(listing, l -> new CompletableFuture<>());
+        }
+
+        int size() {
+            return prices.size();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.ignast.stockinvesting.quotes.alphavantage.batch;
+
+import static org.ignast.stockinvesting.quotes.alphavantage.AlphaVantageQuotes.MAX_SYMBOLS_PER_CALL;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.RateLimitedQuotes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QuoteBatchingConfig {
+
+    @Bean(destroyMethod = "close")
+    public MicroBatchingQuotes batchedQuotes(
+        final RateLimitedQuotes rateLimitedQuotes,
+        @Value("${alphavantage.batch.window}") final Duration window,
+        @Value("${alphavantage.batch.size}") final int maxBatchSize,
+        final MeterRegistry meterRegistry
+    ) {
+        if (maxBatchSize > MAX_SYMBOLS_PER_CALL) {
+            throw new IllegalArgumentException(
+                String.format("Batch size must not exceed %d symbols per upstream call", MAX_SYMBOLS_PER_CALL)
+            );
+        }
+        return new MicroBatchingQuotes(rateLimitedQuotes, window, maxBatchSize, meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+final class CacheKey {
+
+    @NonNull
+    private final StockSymbol stockSymbol;
+
+    @NonNull
+    private final MarketIdentifierCode marketIdentifierCode;
+}
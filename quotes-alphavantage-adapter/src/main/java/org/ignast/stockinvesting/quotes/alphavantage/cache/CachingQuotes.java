@@ -0,0 +1,279 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.function.Function.identity;
+import static org.ignast.stockinvesting.quotes.alphavantage.cache.LoadFailureLog.logFailures;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+
+public final class CachingQuotes implements QuotesRepository {
+
+    static final String CACHE_NAME = "quotes";
+
+    private static final String CACHE_TAG = "cache";
+
+    private final QuotesRepository quotes;
+
+    private final Optional<SharedCache<Listing, Quote>> sharedQuotes;
+
+    private final Duration sharedTimeToLive;
+
+    private final Counter sharedHits;
+
+    private final Counter sharedMisses;
+
+    private final Counter coalesced;
+
+    private final Counter refreshesRejected;
+
+    private final Clock clock;
+
+    private final AsyncLoadingCache<CacheKey, Quote> cache;
+
+    public CachingQuotes(
+        @NonNull final QuotesRepository quotes,
+        @NonNull final Duration softTimeToLive,
+        @NonNull final Duration hardTimeToLive,
+        final long maximumSize,
+        @NonNull final Executor refreshExecutor,
+        @NonNull final Optional<SharedCache<Listing, Quote>> sharedQuotes,
+        @NonNull final MeterRegistry meterRegistry
+    ) {
+        this(
+            quotes,
+            softTimeToLive,
+            hardTimeToLive,
+            maximumSize,
+            refreshExecutor,
+            sharedQuotes,
+            meterRegistry,
+            Ticker.systemTicker(),
+            Clock.systemUTC()
+        );
+    }
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    CachingQuotes(
+        @NonNull final QuotesRepository quotes,
+        @NonNull final Duration softTimeToLive,
+        @NonNull final Duration hardTimeToLive,
+        final long maximumSize,
+        @NonNull final Executor refreshExecutor,
+        @NonNull final Optional<SharedCache<Listing, Quote>> sharedQuotes,
+        @NonNull final MeterRegistry meterRegistry,
+        @NonNull final Ticker ticker,
+        @NonNull final Clock clock
+    ) {
+        if (softTimeToLive.compareTo(hardTimeToLive) > 0) {
+            throw new IllegalArgumentException("Soft time to live must not exceed hard time to live");
+        }
+        this.quotes = quotes;
+        this.sharedQuotes = sharedQuotes;
+        this.sharedTimeToLive = softTimeToLive;
+        this.sharedHits = sharedGets("hit", meterRegistry);
+        this.sharedMisses = sharedGets("miss", meterRegistry);
+        this.coalesced =
+            Counter
+                .builder("quotes.coalesced")
+                .description("Quote lookups served by joining an identical retrieval already in flight")
+                .register(meterRegistry);
+        this.refreshesRejected =
+            Counter
+                .builder("cache.refreshes.rejected")
+                .description("Background refreshes of quotes rejected because the refresh pool was saturated")
+                .tag(CACHE_TAG, CACHE_NAME)
+                .register(meterRegistry);
+        this.clock = clock;
+        this.cache =
+            Caffeine
+                .newBuilder()
+                .refreshAfterWrite(softTimeToLive)
+                .expireAfter(new QuoteAgeExpiry(hardTimeToLive, clock))
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync(new Loader(refreshExecutor));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Price getQuotedPriceOf(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        return getQuoteOf(stockSymbol, mic).getPrice();
+    }
+
+    @Override
+    public Quote getQuoteOf(@NonNull final StockSymbol stockSymbol, @NonNull final MarketIdentifierCode mic) {
+        final val retrieval = lookUp(new CacheKey(stockSymbol, mic));
+        try {
+            return retrieval.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Price> getQuotedPriceOfAsync(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        return getQuoteOfAsync(stockSymbol, mic).thenApply(Quote::getPrice);
+    }
+
+    @Override
+    public CompletableFuture<Quote> getQuoteOfAsync(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        return lookUp(new CacheKey(stockSymbol, mic));
+    }
+
+    private CompletableFuture<Quote> lookUp(final CacheKey key) {
+        final val inFlight = cache.asMap().get(key);
+        if (inFlight != null && !inFlight.isDone()) {
+            coalesced.increment();
+        }
+        return cache.get(key);
+    }
+
+    private CompletableFuture<Quote> retrieveAsync(final CacheKey key) {
+        final val listing = toListing(key);
+        return findShared(listing)
+            .map(CompletableFuture::completedFuture)
+            .orElseGet(() ->
+                quotes
+                    .getQuotedPriceOfAsync(key.getStockSymbol(), key.getMarketIdentifierCode())
+                    .thenApply(price -> share(listing, price))
+            );
+    }
+
+    private Optional<Quote> findShared(final Listing listing) {
+        return sharedQuotes.flatMap(shared -> {
+            final val quote = shared.get(listing);
+            if (quote.isPresent()) {
+                sharedHits.increment();
+            } else {
+                sharedMisses.increment();
+            }
+            return quote;
+        });
+    }
+
+    private Quote share(final Listing listing, final Price price) {
+        final val quote = new Quote(price, Instant.now(clock));
+        sharedQuotes.ifPresent(shared -> shared.put(listing, quote, sharedTimeToLive));
+        return quote;
+    }
+
+    private static Listing toListing(final CacheKey key) {
+        return new Listing(key.getStockSymbol(), key.getMarketIdentifierCode());
+    }
+
+    private static Counter sharedGets(final String result, final MeterRegistry meterRegistry) {
+        return Counter
+            .builder("cache.shared.gets")
+            .description(
+                "Lookups of quotes missing in the local cache from the cache shared between instances"
+            )
+            .tag(CACHE_TAG, CACHE_NAME)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private RuntimeException unwrap(final CompletionException e) {
+        final val cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        } else {
+            return e;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private final class Loader implements AsyncCacheLoader<CacheKey, Quote> {
+
+        private final Executor refreshExecutor;
+
+        @Override
+        public CompletableFuture<Quote> asyncLoad(final CacheKey key, final Executor executor) {
+            return logFailures(key, retrieveAsync(key));
+        }
+
+        @Override
+        public CompletableFuture<Quote> asyncReload(
+            final CacheKey key,
+            final Quote oldQuote,
+            final Executor executor
+        ) {
+            try {
+                return logFailures(
+                    key,
+                    supplyAsync(() -> retrieveAsync(key), refreshExecutor).thenCompose(identity())
+                );
+            } catch (RejectedExecutionException e) {
+                refreshesRejected.increment();
+                return CompletableFuture.completedFuture(oldQuote);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class QuoteAgeExpiry implements Expiry<CacheKey, Quote> {
+
+        private final Duration hardTimeToLive;
+
+        private final Clock clock;
+
+        @Override
+        public long expireAfterCreate(final CacheKey key, final Quote quote, final long currentTime) {
+            final val age = Duration.between(quote.getRetrievedAt(), clock.instant());
+            return Math.max(0, hardTimeToLive.minus(age).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            final CacheKey key,
+            final Quote quote,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return expireAfterCreate(key, quote, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            final CacheKey key,
+            final Quote quote,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
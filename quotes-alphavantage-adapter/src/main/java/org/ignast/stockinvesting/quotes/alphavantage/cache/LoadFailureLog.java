@@ -0,0 +1,43 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.ignast.stockinvesting.quotes.domain.ApplicationException;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class LoadFailureLog {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachingQuotes.class);
+
+    private LoadFailureLog() {}
+
+    static <T> CompletableFuture<T> logFailures(final CacheKey key, final CompletableFuture<T> retrieval) {
+        return retrieval.whenComplete((value, error) -> {
+            if (error instanceof CompletionException) {
+                log(key, error.getCause());
+            } else if (error != null) {
+                log(key, error);
+            }
+        });
+    }
+
+    private static void log(final CacheKey key, final Throwable error) {
+        if (error instanceof QuoteRetrievalFailedException || error instanceof ApplicationException) {
+            LOG.debug(
+                "Quote of {} in {} not retrieved: {}",
+                key.getStockSymbol().get(),
+                key.getMarketIdentifierCode().get(),
+                error.getMessage()
+            );
+        } else {
+            LOG.warn(
+                "Quote of {} in {} not retrieved",
+                key.getStockSymbol().get(),
+                key.getMarketIdentifierCode().get(),
+                error
+            );
+        }
+    }
+}
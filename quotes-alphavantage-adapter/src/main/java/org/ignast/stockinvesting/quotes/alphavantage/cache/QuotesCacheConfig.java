@@ -0,0 +1,58 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.ignast.stockinvesting.quotes.alphavantage.batch.MicroBatchingQuotes;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.Quote;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QuotesCacheConfig {
+
+    @Bean
+    @SuppressWarnings("checkstyle:parameternumber")
+    public CachingQuotes quotes(
+        final MicroBatchingQuotes batchedQuotes,
+        @Value("${alphavantage.cache.ttl.soft}") final Duration softTimeToLive,
+        @Value("${alphavantage.cache.ttl.hard}") final Duration hardTimeToLive,
+        @Value("${alphavantage.cache.size}") final long maximumSize,
+        @Value("${alphavantage.cache.refresh.threads}") final int refreshThreads,
+        @Value("${alphavantage.cache.refresh.queue}") final int refreshQueueCapacity,
+        final Optional<SharedCache<Listing, Quote>> sharedQuotes,
+        final MeterRegistry meterRegistry
+    ) {
+        return new CachingQuotes(
+            batchedQuotes,
+            softTimeToLive,
+            hardTimeToLive,
+            maximumSize,
+            refreshExecutor(refreshThreads, refreshQueueCapacity),
+            sharedQuotes,
+            meterRegistry
+        );
+    }
+
+    private Executor refreshExecutor(final int threads, final int queueCapacity) {
+        return UpstreamPriority.inBackground(
+            new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("quote-refresh-%d").setDaemon(true).build()
+            )
+        );
+    }
+}
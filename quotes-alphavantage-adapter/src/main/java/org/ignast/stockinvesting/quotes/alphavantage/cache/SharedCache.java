@@ -0,0 +1,10 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface SharedCache<K, V> {
+    public Optional<V> get(K key);
+
+    public void put(K key, V value, Duration timeToLive);
+}
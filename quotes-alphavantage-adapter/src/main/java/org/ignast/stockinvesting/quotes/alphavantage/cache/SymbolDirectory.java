@@ -0,0 +1,207 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+
+public final class SymbolDirectory implements QuotesRepository {
+
+    static final String CACHE_NAME = "symbols";
+
+    private static final Optional<String> SUPPORTED = Optional.empty();
+
+    private final QuotesRepository quotes;
+
+    private final Cache<Listing, Optional<String>> verdicts;
+
+    public SymbolDirectory(
+        @NonNull final QuotesRepository quotes,
+        @NonNull final Duration supportedTimeToLive,
+        @NonNull final Duration unsupportedTimeToLive,
+        final long maximumSize,
+        @NonNull final MeterRegistry meterRegistry
+    ) {
+        this(
+            quotes,
+            supportedTimeToLive,
+            unsupportedTimeToLive,
+            maximumSize,
+            meterRegistry,
+            Ticker.systemTicker()
+        );
+    }
+
+    SymbolDirectory(
+        @NonNull final QuotesRepository quotes,
+        @NonNull final Duration supportedTimeToLive,
+        @NonNull final Duration unsupportedTimeToLive,
+        final long maximumSize,
+        @NonNull final MeterRegistry meterRegistry,
+        @NonNull final Ticker ticker
+    ) {
+        this.quotes = quotes;
+        this.verdicts =
+            Caffeine
+                .newBuilder()
+                .expireAfter(
+                    new SupportedOrNotExpiry(supportedTimeToLive.toNanos(), unsupportedTimeToLive.toNanos())
+                )
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verdicts, CACHE_NAME);
+    }
+
+    @Override
+    public void verifySupported(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        final val listing = new Listing(stockSymbol, mic);
+        final val known = verdicts.getIfPresent(listing);
+        if (known != null) {
+            rejectIfUnsupported(known);
+            return;
+        }
+        try {
+            quotes.getQuotedPriceOf(stockSymbol, mic);
+        } catch (StockSymbolNotSupportedInThisMarket e) {
+            verdicts.put(listing, Optional.of(e.getMessage()));
+            throw e;
+        }
+        verdicts.put(listing, SUPPORTED);
+    }
+
+    @Override
+    public CompletableFuture<Void> verifySupportedAsync(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        final val listing = new Listing(stockSymbol, mic);
+        final val known = verdicts.getIfPresent(listing);
+        if (known != null) {
+            return CompletableFuture.runAsync(() -> rejectIfUnsupported(known), Runnable::run);
+        }
+        return quotes
+            .getQuotedPriceOfAsync(stockSymbol, mic)
+            .whenComplete((price, failure) -> {
+                if (failure == null) {
+                    verdicts.put(listing, SUPPORTED);
+                } else if (unwrap(failure) instanceof StockSymbolNotSupportedInThisMarket) {
+                    verdicts.put(listing, Optional.of(unwrap(failure).getMessage()));
+                }
+            })
+            .thenAccept(price -> {});
+    }
+
+    @Override
+    public Price getQuotedPriceOf(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        return quotes.getQuotedPriceOf(stockSymbol, mic);
+    }
+
+    @Override
+    public Quote getQuoteOf(@NonNull final StockSymbol stockSymbol, @NonNull final MarketIdentifierCode mic) {
+        return quotes.getQuoteOf(stockSymbol, mic);
+    }
+
+    @Override
+    public CompletableFuture<Price> getQuotedPriceOfAsync(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        return quotes.getQuotedPriceOfAsync(stockSymbol, mic);
+    }
+
+    @Override
+    public CompletableFuture<Quote> getQuoteOfAsync(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        return quotes.getQuoteOfAsync(stockSymbol, mic);
+    }
+
+    @Override
+    public Map<Listing, CompletableFuture<Price>> getQuotedPricesOf(
+        @NonNull final Collection<Listing> listings
+    ) {
+        return quotes.getQuotedPricesOf(listings);
+    }
+
+    private void rejectIfUnsupported(final Optional<String> rejection) {
+        rejection.ifPresent(message -> {
+            throw new StockSymbolNotSupportedInThisMarket(message);
+        });
+    }
+
+    private Throwable unwrap(final Throwable failure) {
+        if (failure instanceof CompletionException) {
+            return failure.getCause();
+        } else {
+            return failure;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class SupportedOrNotExpiry implements Expiry<Listing, Optional<String>> {
+
+        private final long supportedNanos;
+
+        private final long unsupportedNanos;
+
+        @Override
+        public long expireAfterCreate(
+            final Listing listing,
+            final Optional<String> rejection,
+            final long currentTime
+        ) {
+            if (rejection.isPresent()) {
+                return unsupportedNanos;
+            } else {
+                return supportedNanos;
+            }
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            final Listing listing,
+            final Optional<String> rejection,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return expireAfterCreate(listing, rejection, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            final Listing listing,
+            final Optional<String> rejection,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
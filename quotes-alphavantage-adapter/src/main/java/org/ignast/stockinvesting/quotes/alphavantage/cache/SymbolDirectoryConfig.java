@@ -0,0 +1,31 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class SymbolDirectoryConfig {
+
+    @Bean
+    @Primary
+    public QuotesRepository symbolDirectory(
+        final CachingQuotes quotes,
+        @Value("${alphavantage.symbols.ttl.supported}") final Duration supportedTimeToLive,
+        @Value("${alphavantage.symbols.ttl.unsupported}") final Duration unsupportedTimeToLive,
+        @Value("${alphavantage.symbols.size}") final long maximumSize,
+        final MeterRegistry meterRegistry
+    ) {
+        return new SymbolDirectory(
+            quotes,
+            supportedTimeToLive,
+            unsupportedTimeToLive,
+            maximumSize,
+            meterRegistry
+        );
+    }
+}
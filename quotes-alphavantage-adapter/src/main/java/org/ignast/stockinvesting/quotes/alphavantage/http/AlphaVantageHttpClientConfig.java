@@ -0,0 +1,106 @@
+package org.ignast.stockinvesting.quotes.alphavantage.http;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.val;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class AlphaVantageHttpClientConfig {
+
+    static final String POOL_NAME = "alphavantage";
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient alphaVantageHttpClient(
+        @Value("${alphavantage.http.pool.size}") final int poolSize,
+        @Value("${alphavantage.http.pool.per.route}") final int poolSizePerRoute,
+        @Value("${alphavantage.http.timeout.pool}") final Duration poolTimeout,
+        @Value("${alphavantage.http.timeout.connect}") final Duration connectTimeout,
+        @Value("${alphavantage.http.timeout.read}") final Duration readTimeout,
+        @Value("${alphavantage.http.idle.eviction}") final Duration maxIdleTime,
+        final MeterRegistry meterRegistry
+    ) {
+        final val connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(poolSize);
+        connectionManager.setDefaultMaxPerRoute(poolSizePerRoute);
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME)
+            .bindTo(meterRegistry);
+        return HttpClients
+            .custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig
+                    .custom()
+                    .setConnectionRequestTimeout(toMillis(poolTimeout))
+                    .setConnectTimeout(toMillis(connectTimeout))
+                    .setSocketTimeout(toMillis(readTimeout))
+                    .build()
+            )
+            .evictExpiredConnections()
+            .evictIdleConnections(maxIdleTime.toMillis(), MILLISECONDS)
+            .build();
+    }
+
+    @Bean
+    public DeadlineRequestFactory alphaVantageRequestFactory(
+        final CloseableHttpClient alphaVantageHttpClient,
+        @Value("${alphavantage.http.timeout.total}") final Duration totalTimeout
+    ) {
+        return new DeadlineRequestFactory(alphaVantageHttpClient, totalTimeout);
+    }
+
+    @Bean
+    public RestTemplate alphaVantageRestTemplate(
+        final RestTemplateBuilder builder,
+        final DeadlineRequestFactory alphaVantageRequestFactory
+    ) {
+        return builder.messageConverters().requestFactory(() -> alphaVantageRequestFactory).build();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService alphaVantageAsyncExecutor(
+        @Value("${alphavantage.http.pool.size}") final int poolSize,
+        final MeterRegistry meterRegistry
+    ) {
+        return ExecutorServiceMetrics.monitor(
+            meterRegistry,
+            Executors.newFixedThreadPool(
+                poolSize,
+                new ThreadFactoryBuilder().setNameFormat("alphavantage-async-%d").setDaemon(true).build()
+            ),
+            POOL_NAME
+        );
+    }
+
+    @Bean
+    public HttpClient alphaVantageAsyncHttpClient(
+        @Value("${alphavantage.http.timeout.connect}") final Duration connectTimeout,
+        final ExecutorService alphaVantageAsyncExecutor
+    ) {
+        return HttpClient
+            .newBuilder()
+            .connectTimeout(connectTimeout)
+            .executor(alphaVantageAsyncExecutor)
+            .build();
+    }
+
+    private int toMillis(final Duration duration) {
+        return Math.toIntExact(duration.toMillis());
+    }
+}
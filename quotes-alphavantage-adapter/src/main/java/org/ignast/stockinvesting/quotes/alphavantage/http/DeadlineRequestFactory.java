@@ -0,0 +1,54 @@
+package org.ignast.stockinvesting.quotes.alphavantage.http;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.NonNull;
+import lombok.val;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+public final class DeadlineRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final long deadlineNanos;
+
+    private final ScheduledExecutorService scheduler;
+
+    public DeadlineRequestFactory(@NonNull final HttpClient httpClient, @NonNull final Duration deadline) {
+        this(
+            httpClient,
+            deadline,
+            Executors.newSingleThreadScheduledExecutor(task -> {
+                final val thread = new Thread(task, "alphavantage-deadline");
+                thread.setDaemon(true);
+                return thread;
+            })
+        );
+    }
+
+    DeadlineRequestFactory(
+        @NonNull final HttpClient httpClient,
+        @NonNull final Duration deadline,
+        @NonNull final ScheduledExecutorService scheduler
+    ) {
+        super(httpClient);
+        if (deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("Request deadline must be positive");
+        }
+        this.deadlineNanos = deadline.toNanos();
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void postProcessHttpRequest(final HttpUriRequest request) {
+        scheduler.schedule(request::abort, deadlineNanos, NANOSECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
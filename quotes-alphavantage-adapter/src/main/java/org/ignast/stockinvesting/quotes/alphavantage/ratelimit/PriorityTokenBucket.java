@@ -0,0 +1,227 @@
+package org.ignast.stockinvesting.quotes.alphavantage.ratelimit;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+
+public final class PriorityTokenBucket implements AutoCloseable {
+
+    private static final String PRIORITY_TAG = "priority";
+
+    private final long nanosPerToken;
+
+    private final long capacity;
+
+    private final int queueCapacity;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Queue<Waiter> waiters = new PriorityQueue<>(
+        Comparator.comparing(Waiter::getPriority).thenComparingLong(Waiter::getSequence)
+    );
+
+    private final ScheduledExecutorService dispatcher;
+
+    private final Map<UpstreamPriority, Timer> waitTimes = new EnumMap<>(UpstreamPriority.class);
+
+    private final Counter rejected;
+
+    private long sequence;
+
+    private long tokens;
+
+    private long lastRefill = System.nanoTime();
+
+    private boolean dispatchScheduled;
+
+    public PriorityTokenBucket(
+        final int requestsPerMinute,
+        final int capacity,
+        final int queueCapacity,
+        @NonNull final MeterRegistry meterRegistry
+    ) {
+        this(
+            requestsPerMinute,
+            capacity,
+            queueCapacity,
+            meterRegistry,
+            Executors.newSingleThreadScheduledExecutor(task -> {
+                final val thread = new Thread(task, "upstream-rate-limit");
+                thread.setDaemon(true);
+                return thread;
+            })
+        );
+    }
+
+    PriorityTokenBucket(
+        final int requestsPerMinute,
+        final int capacity,
+        final int queueCapacity,
+        @NonNull final MeterRegistry meterRegistry,
+        @NonNull final ScheduledExecutorService dispatcher
+    ) {
+        if (requestsPerMinute <= 0 || capacity <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Rate, capacity and queue capacity must be positive");
+        }
+        this.nanosPerToken = Duration.ofMinutes(1).toNanos() / requestsPerMinute;
+        this.capacity = capacity;
+        this.queueCapacity = queueCapacity;
+        this.tokens = capacity;
+        this.dispatcher = dispatcher;
+        for (final val priority : UpstreamPriority.values()) {
+            waitTimes.put(
+                priority,
+                Timer
+                    .builder("quotes.upstream.wait")
+                    .description("Time spent waiting for upstream rate limit")
+                    .tag(PRIORITY_TAG, priority.name().toLowerCase())
+                    .register(meterRegistry)
+            );
+        }
+        this.rejected =
+            Counter
+                .builder("quotes.upstream.rejected")
+                .description("Upstream calls rejected because the rate limit queue was full")
+                .register(meterRegistry);
+        meterRegistry.gaugeCollectionSize("quotes.upstream.queue", Tags.empty(), waiters);
+    }
+
+    public void acquire(@NonNull final UpstreamPriority priority) {
+        final val acquisition = acquireAsync(priority);
+        try {
+            acquisition.get();
+        } catch (InterruptedException e) {
+            abandon(acquisition);
+            Thread.currentThread().interrupt();
+            throw new QuoteRetrievalFailedException("Interrupted while waiting for upstream", e);
+        } catch (ExecutionException e) {
+            throw (QuoteRetrievalFailedException) e.getCause();
+        }
+    }
+
+    public CompletableFuture<Void> acquireAsync(@NonNull final UpstreamPriority priority) {
+        final val waiter = new Waiter(priority, System.nanoTime());
+        final List<Waiter> granted;
+        lock.lock();
+        try {
+            if (waiters.size() >= queueCapacity) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(
+                    new QuoteRetrievalFailedException("Too many quote retrievals are waiting for upstream")
+                );
+            }
+            waiter.sequence = sequence++;
+            waiters.add(waiter);
+            granted = grantAvailableTokens();
+        } finally {
+            lock.unlock();
+        }
+        complete(granted);
+        return waiter.getAcquisition();
+    }
+
+    private void dispatch() {
+        final List<Waiter> granted;
+        lock.lock();
+        try {
+            dispatchScheduled = false;
+            granted = grantAvailableTokens();
+        } finally {
+            lock.unlock();
+        }
+        complete(granted);
+    }
+
+    private List<Waiter> grantAvailableTokens() {
+        final List<Waiter> granted = new ArrayList<>();
+        refill();
+        while (!waiters.isEmpty() && tokens > 0) {
+            tokens--;
+            granted.add(waiters.poll());
+        }
+        if (!waiters.isEmpty() && !dispatchScheduled) {
+            dispatchScheduled = true;
+            dispatcher.schedule(this::dispatch, nanosUntilNextToken(), NANOSECONDS);
+        }
+        return granted;
+    }
+
+    private void complete(final List<Waiter> granted) {
+        final val now = System.nanoTime();
+        for (final val waiter : granted) {
+            waitTimes.get(waiter.getPriority()).record(now - waiter.getStart(), NANOSECONDS);
+            waiter.getAcquisition().complete(null);
+        }
+    }
+
+    void abandon(final CompletableFuture<Void> acquisition) {
+        final List<Waiter> granted;
+        lock.lock();
+        try {
+            if (waiters.removeIf(w -> w.getAcquisition() == acquisition)) {
+                return;
+            }
+            tokens = Math.min(capacity, tokens + 1);
+            granted = grantAvailableTokens();
+        } finally {
+            lock.unlock();
+        }
+        complete(granted);
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdown();
+    }
+
+    private void refill() {
+        final val now = System.nanoTime();
+        final val newTokens = (now - lastRefill) / nanosPerToken;
+        if (newTokens > 0) {
+            tokens = Math.min(capacity, tokens + newTokens);
+            if (tokens == capacity) {
+                lastRefill = now;
+            } else {
+                lastRefill += newTokens * nanosPerToken;
+            }
+        }
+    }
+
+    private long nanosUntilNextToken() {
+        return Math.max(1, lastRefill + nanosPerToken - System.nanoTime());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Waiter {
+
+        private final UpstreamPriority priority;
+
+        private final long start;
+
+        private final CompletableFuture<Void> acquisition = new CompletableFuture<>();
+
+        private long sequence;
+    }
+}
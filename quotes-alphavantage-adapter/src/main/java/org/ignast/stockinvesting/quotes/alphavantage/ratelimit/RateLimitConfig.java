@@ -0,0 +1,29 @@
+package org.ignast.stockinvesting.quotes.alphavantage.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ignast.stockinvesting.quotes.alphavantage.AlphaVantageQuotes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RateLimitConfig {
+
+    @Bean(destroyMethod = "close")
+    public PriorityTokenBucket upstreamTokenBucket(
+        @Value("${alphavantage.ratelimit.requests.per.minute}") final int requestsPerMinute,
+        @Value("${alphavantage.ratelimit.burst}") final int burst,
+        @Value("${alphavantage.ratelimit.queue}") final int queueCapacity,
+        final MeterRegistry meterRegistry
+    ) {
+        return new PriorityTokenBucket(requestsPerMinute, burst, queueCapacity, meterRegistry);
+    }
+
+    @Bean
+    public RateLimitedQuotes rateLimitedQuotes(
+        final AlphaVantageQuotes alphaVantageQuotes,
+        final PriorityTokenBucket upstreamTokenBucket
+    ) {
+        return new RateLimitedQuotes(alphaVantageQuotes, upstreamTokenBucket);
+    }
+}
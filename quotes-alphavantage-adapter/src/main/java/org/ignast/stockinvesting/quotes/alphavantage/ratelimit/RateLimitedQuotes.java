@@ -0,0 +1,69 @@
+package org.ignast.stockinvesting.quotes.alphavantage.ratelimit;
+
+import static org.ignast.stockinvesting.quotes.alphavantage.AlphaVantageQuotes.MAX_SYMBOLS_PER_CALL;
+
+import com.google.common.collect.Lists;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.NonNull;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+
+public final class RateLimitedQuotes implements QuotesRepository {
+
+    private final QuotesRepository quotes;
+
+    private final PriorityTokenBucket tokenBucket;
+
+    public RateLimitedQuotes(
+        @NonNull final QuotesRepository quotes,
+        @NonNull final PriorityTokenBucket tokenBucket
+    ) {
+        this.quotes = quotes;
+        this.tokenBucket = tokenBucket;
+    }
+
+    @Override
+    public Price getQuotedPriceOf(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        tokenBucket.acquire(UpstreamPriority.current());
+        return quotes.getQuotedPriceOf(stockSymbol, mic);
+    }
+
+    @Override
+    public CompletableFuture<Price> getQuotedPriceOfAsync(
+        @NonNull final StockSymbol stockSymbol,
+        @NonNull final MarketIdentifierCode mic
+    ) {
+        return tokenBucket
+            .acquireAsync(UpstreamPriority.current())
+            .thenCompose(acquired -> quotes.getQuotedPriceOfAsync(stockSymbol, mic));
+    }
+
+    @Override
+    public Map<Listing, CompletableFuture<Price>> getQuotedPricesOf(
+        @NonNull final Collection<Listing> listings
+    ) {
+        final val priority = UpstreamPriority.current();
+        final Map<Listing, CompletableFuture<Price>> prices = new HashMap<>();
+        Lists
+            .partition(List.copyOf(new LinkedHashSet<>(listings)), MAX_SYMBOLS_PER_CALL)
+            .forEach(batch -> {
+                final val retrieval = tokenBucket
+                    .acquireAsync(priority)
+                    .thenApply(acquired -> quotes.getQuotedPricesOf(batch));
+                batch.forEach(listing -> prices.put(listing, retrieval.thenCompose(p -> p.get(listing))));
+            });
+        return prices;
+    }
+}
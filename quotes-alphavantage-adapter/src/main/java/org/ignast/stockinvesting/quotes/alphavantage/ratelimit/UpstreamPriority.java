@@ -0,0 +1,34 @@
+package org.ignast.stockinvesting.quotes.alphavantage.ratelimit;
+
+import java.util.concurrent.Executor;
+import lombok.NonNull;
+import lombok.val;
+
+public enum UpstreamPriority {
+    INTERACTIVE,
+    BACKGROUND;
+
+    private static final ThreadLocal<UpstreamPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static UpstreamPriority current() {
+        return CURRENT.get();
+    }
+
+    public static void runInBackground(@NonNull final Runnable task) {
+        runAs(BACKGROUND, task);
+    }
+
+    public static void runAs(@NonNull final UpstreamPriority priority, @NonNull final Runnable task) {
+        final val previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            task.run();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    public static Executor inBackground(@NonNull final Executor executor) {
+        return task -> executor.execute(() -> runInBackground(task));
+    }
+}
@@ -0,0 +1,29 @@
+package org.ignast.stockinvesting.quotes.alphavantage.verification;
+
+import lombok.NonNull;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public final class PendingVerificationSweep {
+
+    private final Companies companies;
+
+    private final int batchSize;
+
+    public PendingVerificationSweep(@NonNull final Companies companies, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.companies = companies;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+        initialDelayString = "${companies.verification.sweep.interval}",
+        fixedDelayString = "${companies.verification.sweep.interval}"
+    )
+    public void sweep() {
+        UpstreamPriority.runInBackground(() -> companies.verifyPending(batchSize));
+    }
+}
@@ -0,0 +1,48 @@
+package org.ignast.stockinvesting.quotes.alphavantage.verification;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class PendingVerificationSweepConfig {
+
+    @Bean
+    public PendingVerificationSweep pendingVerificationSweep(
+        final Companies companies,
+        @Value("${companies.verification.sweep.size}") final int batchSize
+    ) {
+        return new PendingVerificationSweep(companies, batchSize);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService companyVerificationExecutor(
+        @Value("${companies.verification.threads}") final int threads,
+        @Value("${companies.verification.queue}") final int queueCapacity,
+        final MeterRegistry meterRegistry
+    ) {
+        return ExecutorServiceMetrics.monitor(
+            meterRegistry,
+            new ThreadPoolExecutor(
+                threads,
+                threads,
+                0,
+                MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat("company-verification-%d").setDaemon(true).build()
+            ),
+            "company-verification"
+        );
+    }
+}
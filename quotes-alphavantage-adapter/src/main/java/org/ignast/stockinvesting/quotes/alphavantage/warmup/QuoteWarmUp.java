@@ -0,0 +1,185 @@
+package org.ignast.stockinvesting.quotes.alphavantage.warmup;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.ignast.stockinvesting.quotes.alphavantage.AlphaVantageQuotes.MAX_SYMBOLS_PER_CALL;
+
+import com.google.common.collect.Iterators;
+import com.google.common.math.IntMath;
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority;
+import org.ignast.stockinvesting.quotes.domain.ApplicationException;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+public final class QuoteWarmUp implements HealthIndicator, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QuoteWarmUp.class);
+
+    private static final int HUNDRED_PERCENT = 100;
+
+    private static final String METRIC_NAME = "quotes.warmup";
+
+    private static final String RESULT_TAG = "result";
+
+    private final Companies companies;
+
+    private final int pageSize;
+
+    private final RateLimiter rateLimiter;
+
+    private final int readinessPercentage;
+
+    private final long intervalNanos;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter warmed;
+
+    private final Counter failed;
+
+    private final AtomicLong attempted = new AtomicLong();
+
+    private volatile long total;
+
+    private volatile boolean counted;
+
+    private volatile boolean lastCycleWarm;
+
+    public QuoteWarmUp(
+        @NonNull final Companies companies,
+        final int pageSize,
+        @NonNull final RateLimiter rateLimiter,
+        final int readinessPercentage,
+        @NonNull final Duration interval,
+        @NonNull final MeterRegistry meterRegistry
+    ) {
+        this(
+            companies,
+            pageSize,
+            rateLimiter,
+            readinessPercentage,
+            interval,
+            meterRegistry,
+            Executors.newSingleThreadScheduledExecutor(task -> {
+                final val thread = new Thread(task, "quote-warmup");
+                thread.setDaemon(true);
+                return thread;
+            })
+        );
+    }
+
+    QuoteWarmUp(
+        @NonNull final Companies companies,
+        final int pageSize,
+        @NonNull final RateLimiter rateLimiter,
+        final int readinessPercentage,
+        @NonNull final Duration interval,
+        @NonNull final MeterRegistry meterRegistry,
+        @NonNull final ScheduledExecutorService scheduler
+    ) {
+        if (readinessPercentage < 0 || readinessPercentage > HUNDRED_PERCENT) {
+            throw new IllegalArgumentException("Readiness percentage must be between 0 and 100");
+        }
+        if (interval.isNegative() || interval.isZero()) {
+            throw new IllegalArgumentException("Warm-up interval must be positive");
+        }
+        this.companies = companies;
+        this.pageSize = pageSize;
+        this.rateLimiter = rateLimiter;
+        this.readinessPercentage = readinessPercentage;
+        this.intervalNanos = interval.toNanos();
+        this.scheduler = scheduler;
+        this.warmed = meterRegistry.counter(METRIC_NAME, RESULT_TAG, "warmed");
+        this.failed = meterRegistry.counter(METRIC_NAME, RESULT_TAG, "failed");
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::warmUp, 0, intervalNanos, NANOSECONDS);
+    }
+
+    @SuppressWarnings("checkstyle:illegalcatch")
+    public void warmUp() {
+        try {
+            counted = false;
+            attempted.set(0);
+            total = companies.count();
+            counted = true;
+            UpstreamPriority.runInBackground(() ->
+                Iterators
+                    .partition(companies.streamAll(pageSize).iterator(), pageSize)
+                    .forEachRemaining(this::warmUp)
+            );
+            lastCycleWarm = isWarm();
+        } catch (RuntimeException e) {
+            lastCycleWarm = false;
+            LOG.warn("Quote warm-up failed", e);
+        }
+    }
+
+    private void warmUp(final List<Company> page) {
+        rateLimiter.acquire(IntMath.divide(page.size(), MAX_SYMBOLS_PER_CALL, RoundingMode.CEILING));
+        CompletableFuture.allOf(page.stream().map(this::warmUp).toArray(CompletableFuture[]::new)).join();
+    }
+
+    private CompletableFuture<Void> warmUp(final Company company) {
+        return company.getQuoteAsync().handle((quote, failure) -> count(failure));
+    }
+
+    private Void count(final Throwable failure) {
+        if (failure == null) {
+            warmed.increment();
+        } else if (isExpected(failure)) {
+            failed.increment();
+        } else {
+            throw new CompletionException(failure);
+        }
+        attempted.incrementAndGet();
+        return null;
+    }
+
+    private static boolean isExpected(final Throwable failure) {
+        if (failure instanceof CompletionException) {
+            return isExpected(failure.getCause());
+        }
+        return failure instanceof ApplicationException || failure instanceof QuoteRetrievalFailedException;
+    }
+
+    private boolean isWarm() {
+        return counted && attempted.get() * HUNDRED_PERCENT >= total * readinessPercentage;
+    }
+
+    @Override
+    public Health health() {
+        return status().withDetail("warmedUp", attempted.get()).withDetail("total", total).build();
+    }
+
+    private Health.Builder status() {
+        if (lastCycleWarm || isWarm()) {
+            return Health.up();
+        } else {
+            return Health.outOfService();
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+    }
+}
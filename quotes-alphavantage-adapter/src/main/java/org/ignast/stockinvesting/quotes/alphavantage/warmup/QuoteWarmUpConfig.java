@@ -0,0 +1,40 @@
+package org.ignast.stockinvesting.quotes.alphavantage.warmup;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QuoteWarmUpConfig {
+
+    private static final double HUNDRED_PERCENT = 100;
+
+    private static final long SECONDS_PER_MINUTE = TimeUnit.MINUTES.toSeconds(1);
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public QuoteWarmUp quoteWarmUp(
+        final Companies companies,
+        @Value("${alphavantage.warmup.page.size}") final int pageSize,
+        @Value("${alphavantage.ratelimit.requests.per.minute}") final int upstreamRequestsPerMinute,
+        @Value("${alphavantage.warmup.upstream.percentage}") final int upstreamPercentage,
+        @Value("${alphavantage.warmup.readiness.percentage}") final int readinessPercentage,
+        @Value("${alphavantage.warmup.interval}") final Duration interval,
+        final MeterRegistry meterRegistry
+    ) {
+        return new QuoteWarmUp(
+            companies,
+            pageSize,
+            RateLimiter.create(
+                upstreamRequestsPerMinute * (upstreamPercentage / HUNDRED_PERCENT) / SECONDS_PER_MINUTE
+            ),
+            readinessPercentage,
+            interval,
+            meterRegistry
+        );
+    }
+}
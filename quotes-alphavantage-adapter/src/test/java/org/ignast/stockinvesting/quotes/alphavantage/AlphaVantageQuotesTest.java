@@ -1,6 +1,9 @@
 package org.ignast.stockinvesting.quotes.alphavantage;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -15,11 +18,20 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import java.math.BigDecimal;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.val;
 import org.ignast.stockinvesting.quotes.domain.ApplicationException;
+import org.ignast.stockinvesting.quotes.domain.Listing;
 import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
 import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
 import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.ignast.stockinvesting.quotes.domain.StockExchangeNotSupported;
 import org.ignast.stockinvesting.quotes.domain.StockSymbol;
 import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
 import org.junit.jupiter.api.Test;
@@ -28,14 +40,21 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
 
-@RestClientTest(AlphaVantageQuotes.class)
+@RestClientTest({ AlphaVantageQuotes.class, AsyncQuoteClient.class })
 @TestPropertySource(
-    properties = { "alphavantage.url=https://test.uri.com", "alphavantage.apikey=testApiKey" }
+    properties = {
+        "alphavantage.url=https://test.uri.com",
+        "alphavantage.apikey=testApiKey",
+        "alphavantage.http.timeout.total=1s",
+    }
 )
 public final class AlphaVantageQuotesTest {
 
@@ -55,7 +74,37 @@ public final class AlphaVantageQuotesTest {
 
         final val price = alphaVantageQuotes.getQuotedPriceOf(anySymbol(), anyMIC());
 
-        assertThat(price).isEqualTo(new BigDecimal("128.5000"));
+        assertThat(price).isEqualTo(Price.of(new BigDecimal("128.5000"), "USD"));
+    }
+
+    @Test
+    public void shouldPriceInQuoteCurrencyOfMarket() {
+        mockServer
+            .expect(requestTo(anything()))
+            .andRespond(
+                withSuccess("{\"Global Quote\":{\"05. price\":\"9121.0000\"}}", MediaType.APPLICATION_JSON)
+            );
+
+        final val price = alphaVantageQuotes.getQuotedPriceOf(
+            new StockSymbol("AZN"),
+            new MarketIdentifierCode("XLON")
+        );
+
+        assertThat(price).isEqualTo(Price.of(new BigDecimal("9121.0000"), "GBP"));
+    }
+
+    @Test
+    public void shouldNotPriceQuotesOfNotSupportedMarkets() {
+        mockServer
+            .expect(requestTo(anything()))
+            .andRespond(
+                withSuccess("{\"Global Quote\":{\"05. price\":\"128.5000\"}}", MediaType.APPLICATION_JSON)
+            );
+
+        assertThatExceptionOfType(StockExchangeNotSupported.class)
+            .isThrownBy(() ->
+                alphaVantageQuotes.getQuotedPriceOf(new StockSymbol("AMZN"), new MarketIdentifierCode("XMAD"))
+            );
     }
 
     @ParameterizedTest
@@ -137,6 +186,20 @@ public final class AlphaVantageQuotesTest {
             .isThrownBy(() -> alphaVantageQuotes.getQuotedPriceOf(anySymbol(), anyMIC()))
             .withMessage("Communication with server failed");
     }
+
+    @TestConfiguration
+    static class ClientConfig {
+
+        @Bean
+        public RestTemplate alphaVantageRestTemplate(final RestTemplateBuilder builder) {
+            return builder.messageConverters().build();
+        }
+
+        @Bean
+        public HttpClient alphaVantageAsyncHttpClient() {
+            return HttpClient.newHttpClient();
+        }
+    }
 }
 
 final class AlphaVantageCasesUnableToCoverWithSpringTest {
@@ -156,7 +219,8 @@ final class AlphaVantageCasesUnableToCoverWithSpringTest {
         );
         final val wireMockUrl = "http://localhost:" + WIREMOCK.getPort();
         final val alphaVantageQuotes = new AlphaVantageQuotes(
-            new RestTemplateBuilder(),
+            new RestTemplate(),
+            new AsyncQuoteClient(HttpClient.newHttpClient(), Duration.ofSeconds(1)),
             wireMockUrl,
             "anyApiKey"
         );
@@ -166,3 +230,205 @@ final class AlphaVantageCasesUnableToCoverWithSpringTest {
             .withMessage("Communication with server failed");
     }
 }
+
+@SuppressWarnings("checkstyle:magicnumber")
+final class AsynchronousAlphaVantageQuotesTest {
+
+    @RegisterExtension
+    private static final WireMockExtension WIREMOCK = WireMockExtension.newInstance().build();
+
+    private static final String QUERY = "/query";
+
+    private static final String QUOTE = "{\"Global Quote\":{\"05. price\":\"128.5000\"}}";
+
+    private final AlphaVantageQuotes alphaVantageQuotes = new AlphaVantageQuotes(
+        new RestTemplate(),
+        new AsyncQuoteClient(HttpClient.newHttpClient(), Duration.ofMillis(500)),
+        "http://localhost:" + WIREMOCK.getPort(),
+        "testApiKey"
+    );
+
+    @Test
+    public void shouldNotRetrieveForNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> alphaVantageQuotes.getQuotedPriceOfAsync(null, anyMIC()));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> alphaVantageQuotes.getQuotedPriceOfAsync(anySymbol(), null));
+    }
+
+    @Test
+    public void shouldRetrievePrice() {
+        WIREMOCK.stubFor(
+            get(urlPathEqualTo(QUERY))
+                .withQueryParam("function", equalTo("GLOBAL_QUOTE"))
+                .withQueryParam("symbol", equalTo("AMZN"))
+                .withQueryParam("apikey", equalTo("testApiKey"))
+                .willReturn(WireMock.okJson(QUOTE))
+        );
+
+        final val price = alphaVantageQuotes.getQuotedPriceOfAsync(
+            new StockSymbol("AMZN"),
+            new MarketIdentifierCode("XNAS")
+        );
+
+        assertThat(price)
+            .succeedsWithin(Duration.ofSeconds(1))
+            .isEqualTo(Price.of(new BigDecimal("128.5000"), "USD"));
+    }
+
+    @Test
+    public void shouldNotFindSymbol() {
+        WIREMOCK.stubFor(get(urlPathEqualTo(QUERY)).willReturn(WireMock.okJson("{\"Global Quote\":{}}")));
+
+        assertThat(
+            alphaVantageQuotes.getQuotedPriceOfAsync(new StockSymbol("A"), new MarketIdentifierCode("XNYS"))
+        )
+            .failsWithin(Duration.ofSeconds(1))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(StockSymbolNotSupportedInThisMarket.class)
+            .withMessageContaining("Stock symbol 'A' in market 'XNYS' is not supported by this service");
+    }
+
+    @Test
+    public void shouldFailOnRemoteServerConstrainsViolations() {
+        WIREMOCK.stubFor(
+            get(urlPathEqualTo(QUERY)).willReturn(WireMock.okJson("{\"Error Message\":\"underlying\"}"))
+        );
+
+        assertThat(alphaVantageQuotes.getQuotedPriceOfAsync(anySymbol(), anyMIC()))
+            .failsWithin(Duration.ofSeconds(1))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(QuoteRetrievalFailedException.class)
+            .withMessageContaining("Message from remote server: underlying");
+    }
+
+    @Test
+    public void shouldFailIfReceivedBodyIsNotJson() {
+        WIREMOCK.stubFor(get(urlPathEqualTo(QUERY)).willReturn(WireMock.okJson("not-valid-json")));
+
+        assertCommunicationFailed();
+    }
+
+    @Test
+    public void shouldFailIfResponseContentTypeUnexpected() {
+        WIREMOCK.stubFor(
+            get(urlPathEqualTo(QUERY))
+                .willReturn(WireMock.ok(QUOTE).withHeader("Content-Type", "application/octet-stream"))
+        );
+
+        assertCommunicationFailed();
+    }
+
+    @Test
+    public void shouldFailOnHttpServerError() {
+        WIREMOCK.stubFor(get(urlPathEqualTo(QUERY)).willReturn(WireMock.serverError()));
+
+        assertCommunicationFailed();
+    }
+
+    @Test
+    public void shouldFailOnceTotalTimeoutElapses() {
+        WIREMOCK.stubFor(get(urlPathEqualTo(QUERY)).willReturn(WireMock.okJson(QUOTE).withFixedDelay(2000)));
+
+        assertCommunicationFailed();
+    }
+
+    @Test
+    public void shouldRetrievePricesOfSeveralListingsInSingleCall() {
+        WIREMOCK.stubFor(
+            get(urlPathEqualTo(QUERY))
+                .withQueryParam("function", equalTo("BATCH_STOCK_QUOTES"))
+                .withQueryParam("symbols", equalTo("AMZN,MSFT"))
+                .withQueryParam("apikey", equalTo("testApiKey"))
+                .willReturn(
+                    WireMock.okJson(
+                        """
+                        {"Stock Quotes":[
+                            {"1. symbol":"AMZN","2. price":"128.5000"},
+                            {"1. symbol":"MSFT","2. price":"300.1000"}
+                        ]}"""
+                    )
+                )
+        );
+        final val amazon = new Listing(new StockSymbol("AMZN"), new MarketIdentifierCode("XNAS"));
+        final val microsoft = new Listing(new StockSymbol("MSFT"), new MarketIdentifierCode("XNAS"));
+
+        final val prices = alphaVantageQuotes.getQuotedPricesOf(List.of(amazon, microsoft, amazon));
+
+        assertThat(prices).containsOnlyKeys(amazon, microsoft);
+        assertThat(prices.get(amazon))
+            .succeedsWithin(Duration.ofSeconds(1))
+            .isEqualTo(Price.of(new BigDecimal("128.5000"), "USD"));
+        assertThat(prices.get(microsoft))
+            .succeedsWithin(Duration.ofSeconds(1))
+            .isEqualTo(Price.of(new BigDecimal("300.1000"), "USD"));
+        WIREMOCK.verify(1, getRequestedFor(urlPathEqualTo(QUERY)));
+    }
+
+    @Test
+    public void shouldNotFindSymbolsMissingOrUnpricedInBatch() {
+        WIREMOCK.stubFor(
+            get(urlPathEqualTo(QUERY))
+                .willReturn(WireMock.okJson("{\"Stock Quotes\":[{\"1. symbol\":\"AAAA\"}]}"))
+        );
+        final val unpriced = new Listing(new StockSymbol("AAAA"), new MarketIdentifierCode("XNYS"));
+        final val missing = new Listing(new StockSymbol("A"), new MarketIdentifierCode("XNYS"));
+
+        final val prices = alphaVantageQuotes.getQuotedPricesOf(List.of(unpriced, missing));
+
+        assertThat(prices.get(unpriced))
+            .failsWithin(Duration.ofSeconds(1))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(StockSymbolNotSupportedInThisMarket.class);
+        assertThat(prices.get(missing))
+            .failsWithin(Duration.ofSeconds(1))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(StockSymbolNotSupportedInThisMarket.class)
+            .withMessageContaining("Stock symbol 'A' in market 'XNYS' is not supported by this service");
+    }
+
+    @Test
+    public void shouldFailWholeBatchOnRemoteServerConstrainsViolations() {
+        WIREMOCK.stubFor(
+            get(urlPathEqualTo(QUERY)).willReturn(WireMock.okJson("{\"Error Message\":\"underlying\"}"))
+        );
+
+        final val prices = alphaVantageQuotes.getQuotedPricesOf(List.of(new Listing(anySymbol(), anyMIC())));
+
+        assertThat(prices.values())
+            .singleElement()
+            .satisfies(price ->
+                assertThat(price)
+                    .failsWithin(Duration.ofSeconds(1))
+                    .withThrowableOfType(ExecutionException.class)
+                    .withCauseInstanceOf(QuoteRetrievalFailedException.class)
+                    .withMessageContaining("Message from remote server: underlying")
+            );
+    }
+
+    @Test
+    public void shouldSplitBatchesExceedingUpstreamLimit() {
+        WIREMOCK.stubFor(get(urlPathEqualTo(QUERY)).willReturn(WireMock.okJson("{\"Stock Quotes\":[]}")));
+        final val listings = IntStream
+            .range(0, AlphaVantageQuotes.MAX_SYMBOLS_PER_CALL + 1)
+            .mapToObj(i -> new Listing(new StockSymbol("S" + i), anyMIC()))
+            .collect(Collectors.toList());
+
+        final val prices = alphaVantageQuotes.getQuotedPricesOf(listings);
+
+        prices.values().forEach(price -> assertThat(price).failsWithin(Duration.ofSeconds(1)));
+        WIREMOCK.verify(2, getRequestedFor(urlPathEqualTo(QUERY)));
+        WIREMOCK.verify(
+            1,
+            getRequestedFor(urlPathEqualTo(QUERY)).withQueryParam("symbols", matching("S100"))
+        );
+    }
+
+    private void assertCommunicationFailed() {
+        assertThat(alphaVantageQuotes.getQuotedPriceOfAsync(anySymbol(), anyMIC()))
+            .failsWithin(Duration.ofSeconds(2))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(QuoteRetrievalFailedException.class)
+            .withMessageContaining("Communication with server failed");
+    }
+}
@@ -0,0 +1,55 @@
+package org.ignast.stockinvesting.quotes.alphavantage;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+public final class BatchQuoteResponseDTOTest {
+
+    @Test
+    public void shouldPreserveError() {
+        final val error = new BatchQuoteResponseDTO(empty(), of("human-readable-message"));
+
+        assertThat(error.getError()).contains("human-readable-message");
+        assertThat(error.getPricesBySymbol()).isEmpty();
+    }
+
+    @Test
+    public void shouldRejectNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new BatchQuoteResponseDTO(null, empty()));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new BatchQuoteResponseDTO(empty(), null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new BatchQuoteDTO(null, empty()));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new BatchQuoteDTO("AMZN", null));
+    }
+
+    @Test
+    public void shouldIndexPricesBySymbolKeepingFirstOfDuplicates() {
+        final val response = new BatchQuoteResponseDTO(
+            of(
+                List.of(
+                    new BatchQuoteDTO("AMZN", of(BigDecimal.ONE)),
+                    new BatchQuoteDTO("AAAA", empty()),
+                    new BatchQuoteDTO("AMZN", of(BigDecimal.TEN))
+                )
+            ),
+            empty()
+        );
+
+        final val prices = response.getPricesBySymbol().get();
+
+        assertThat(prices).containsOnlyKeys("AMZN", "AAAA");
+        assertThat(prices.get("AMZN")).contains(BigDecimal.ONE);
+        assertThat(prices.get("AAAA")).isEmpty();
+        assertThat(response.toString()).contains("quotes").contains("AMZN");
+    }
+}
@@ -12,6 +12,6 @@ public final class DomainFactoryForTests {
     }
 
     public static MarketIdentifierCode anyMIC() {
-        return new MarketIdentifierCode("AANY");
+        return new MarketIdentifierCode("XNYS");
     }
 }
@@ -0,0 +1,169 @@
+package org.ignast.stockinvesting.quotes.alphavantage;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.alphavantage.batch.QuoteBatchingConfig;
+import org.ignast.stockinvesting.quotes.alphavantage.cache.QuotesCacheConfig;
+import org.ignast.stockinvesting.quotes.alphavantage.cache.SymbolDirectoryConfig;
+import org.ignast.stockinvesting.quotes.alphavantage.http.AlphaVantageHttpClientConfig;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.RateLimitConfig;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest(
+    classes = {
+        AlphaVantageQuotes.class,
+        AsyncQuoteClient.class,
+        AlphaVantageHttpClientConfig.class,
+        RateLimitConfig.class,
+        QuoteBatchingConfig.class,
+        QuotesCacheConfig.class,
+        SymbolDirectoryConfig.class,
+    }
+)
+@ImportAutoConfiguration(
+    {
+        RestTemplateAutoConfiguration.class,
+        MetricsAutoConfiguration.class,
+        SimpleMetricsExportAutoConfiguration.class,
+    }
+)
+@TestPropertySource(
+    properties = {
+        "alphavantage.apikey=testApiKey",
+        "alphavantage.batch.size=100",
+        "alphavantage.batch.window=1s",
+        "alphavantage.cache.refresh.queue=1",
+        "alphavantage.cache.refresh.threads=1",
+        "alphavantage.cache.size=10",
+        "alphavantage.cache.ttl.hard=5m",
+        "alphavantage.cache.ttl.soft=30s",
+        "alphavantage.http.idle.eviction=30s",
+        "alphavantage.http.pool.per.route=2",
+        "alphavantage.http.pool.size=2",
+        "alphavantage.http.timeout.connect=1s",
+        "alphavantage.http.timeout.pool=1s",
+        "alphavantage.http.timeout.read=1s",
+        "alphavantage.http.timeout.total=1s",
+        "alphavantage.ratelimit.burst=5",
+        "alphavantage.ratelimit.queue=5",
+        "alphavantage.ratelimit.requests.per.minute=75",
+        "alphavantage.symbols.size=10",
+        "alphavantage.symbols.ttl.supported=24h",
+        "alphavantage.symbols.ttl.unsupported=1h",
+    }
+)
+@SuppressWarnings("checkstyle:magicnumber")
+public final class QuotesWiringTest {
+
+    @RegisterExtension
+    private static final WireMockExtension WIREMOCK = WireMockExtension.newInstance().build();
+
+    private static final String QUERY = "/query";
+
+    private static final String FUNCTION = "function";
+
+    private static final String QUOTE = "{\"Global Quote\":{\"05. price\":\"128.5000\"}}";
+
+    private final MarketIdentifierCode nasdaq = new MarketIdentifierCode("XNAS");
+
+    @Autowired
+    private QuotesRepository quotes;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private RestTemplateBuilder restTemplateBuilder;
+
+    @DynamicPropertySource
+    public static void upstream(final DynamicPropertyRegistry registry) {
+        registry.add("alphavantage.url", () -> "http://localhost:" + WIREMOCK.getPort());
+    }
+
+    @Test
+    public void singleAsynchronousLookupShouldRetrieveGlobalQuoteWithoutWaitingForBatch() {
+        WIREMOCK.stubFor(get(urlPathEqualTo(QUERY)).willReturn(WireMock.okJson(QUOTE)));
+
+        final val quote = quotes.getQuoteOfAsync(new StockSymbol("AMZN"), nasdaq);
+
+        assertThat(quote)
+            .succeedsWithin(Duration.ofMillis(500))
+            .extracting(QuotesRepository.Quote::getPrice)
+            .isEqualTo(Price.of(new BigDecimal("128.5000"), "USD"));
+        WIREMOCK.verify(
+            1,
+            getRequestedFor(urlPathEqualTo(QUERY)).withQueryParam(FUNCTION, equalTo("GLOBAL_QUOTE"))
+        );
+        WIREMOCK.verify(
+            0,
+            getRequestedFor(urlPathEqualTo(QUERY)).withQueryParam(FUNCTION, equalTo("BATCH_STOCK_QUOTES"))
+        );
+    }
+
+    @Test
+    public void singleSynchronousLookupShouldJoinAsynchronousRetrievalOfGlobalQuote() {
+        WIREMOCK.stubFor(get(urlPathEqualTo(QUERY)).willReturn(WireMock.okJson(QUOTE)));
+        final val pooledBefore = pooledConnections();
+
+        final val quote = quotes.getQuoteOf(new StockSymbol("MSFT"), nasdaq);
+
+        assertThat(quote.getPrice()).isEqualTo(Price.of(new BigDecimal("128.5000"), "USD"));
+        assertThat(pooledConnections()).isEqualTo(pooledBefore);
+        WIREMOCK.verify(
+            1,
+            getRequestedFor(urlPathEqualTo(QUERY)).withQueryParam(FUNCTION, equalTo("GLOBAL_QUOTE"))
+        );
+        WIREMOCK.verify(
+            0,
+            getRequestedFor(urlPathEqualTo(QUERY)).withQueryParam(FUNCTION, equalTo("BATCH_STOCK_QUOTES"))
+        );
+    }
+
+    @Test
+    public void otherRestTemplatesShouldNotUseAlphaVantageConnectionPool() {
+        WIREMOCK.stubFor(get(urlPathEqualTo("/other")).willReturn(WireMock.ok("other")));
+        final val pooledBefore = pooledConnections();
+
+        restTemplateBuilder
+            .build()
+            .getForObject("http://localhost:" + WIREMOCK.getPort() + "/other", String.class);
+
+        assertThat(pooledConnections()).isEqualTo(pooledBefore);
+    }
+
+    private double pooledConnections() {
+        return registry
+            .get("httpcomponents.httpclient.pool.total.connections")
+            .tags("httpclient", "alphavantage")
+            .gauges()
+            .stream()
+            .mapToDouble(Gauge::value)
+            .sum();
+    }
+}
@@ -0,0 +1,297 @@
+package org.ignast.stockinvesting.quotes.alphavantage.batch;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority.BACKGROUND;
+import static org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority.INTERACTIVE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@SuppressWarnings("checkstyle:magicnumber")
+public final class MicroBatchingQuotesTest {
+
+    private static final Price ONE = Price.of(BigDecimal.ONE, "USD");
+
+    private static final Price TEN = Price.of(BigDecimal.TEN, "USD");
+
+    private static final Duration WINDOW = Duration.ofMillis(10);
+
+    private final StockSymbol amazon = new StockSymbol("AMZN");
+
+    private final StockSymbol microsoft = new StockSymbol("MSFT");
+
+    private final MarketIdentifierCode nasdaq = new MarketIdentifierCode("XNAS");
+
+    private final Listing amazonListing = new Listing(amazon, nasdaq);
+
+    private final Listing microsoftListing = new Listing(microsoft, nasdaq);
+
+    private final StockSymbol google = new StockSymbol("GOOG");
+
+    private final QuotesRepository underlyingQuotes = mock(QuotesRepository.class);
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final MicroBatchingQuotes quotes = new MicroBatchingQuotes(
+        underlyingQuotes,
+        WINDOW,
+        3,
+        registry,
+        scheduler
+    );
+
+    @Test
+    public void shouldNotBeCreatedWithNullsOrInvalidLimits() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new MicroBatchingQuotes(null, WINDOW, 1, registry));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new MicroBatchingQuotes(underlyingQuotes, null, 1, registry));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new MicroBatchingQuotes(underlyingQuotes, WINDOW, 1, null));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new MicroBatchingQuotes(underlyingQuotes, WINDOW, 0, registry));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new MicroBatchingQuotes(underlyingQuotes, Duration.ofMillis(-1), 1, registry))
+            .withMessage("Batching window must not be negative and batch size must be positive");
+    }
+
+    @Test
+    public void shouldNotRetrieveQuotesForNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOfAsync(null, nasdaq));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOfAsync(amazon, null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> quotes.getQuotedPricesOf(null));
+    }
+
+    @Test
+    public void shouldMergeRequestsArrivingWithinWindowIntoSingleUpstreamBatch() {
+        when(underlyingQuotes.getQuotedPricesOf(Set.of(amazonListing, microsoftListing)))
+            .thenReturn(Map.of(amazonListing, completedFuture(TEN), microsoftListing, completedFuture(ONE)));
+
+        windowIsOpened();
+        final val amazonPrice = quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+        final val microsoftPrice = quotes.getQuotedPriceOfAsync(microsoft, nasdaq);
+        assertThat(amazonPrice).isNotDone();
+        windowElapses();
+
+        assertThat(amazonPrice).isCompletedWithValue(TEN);
+        assertThat(microsoftPrice).isCompletedWithValue(ONE);
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(WINDOW.toNanos()), eq(NANOSECONDS));
+        assertThat(registry.get("quotes.upstream.batch.size").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldRetrieveLoneRequestImmediatelyWithoutBatching() {
+        when(underlyingQuotes.getQuotedPriceOfAsync(amazon, nasdaq)).thenReturn(completedFuture(TEN));
+
+        final val amazonPrice = quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+
+        assertThat(amazonPrice).isCompletedWithValue(TEN);
+        windowElapses();
+        verify(underlyingQuotes, never()).getQuotedPricesOf(any());
+        assertThat(registry.get("quotes.upstream.batch.size").summary().count()).isZero();
+    }
+
+    @Test
+    public void shouldRetrieveSingleRequestCollectedWithinWindowWithoutBatching() {
+        windowIsOpened();
+        when(underlyingQuotes.getQuotedPriceOfAsync(amazon, nasdaq)).thenReturn(completedFuture(TEN));
+
+        final val amazonPrice = quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+        assertThat(amazonPrice).isNotDone();
+        windowElapses();
+
+        assertThat(amazonPrice).isCompletedWithValue(TEN);
+        verify(underlyingQuotes, never()).getQuotedPricesOf(any());
+    }
+
+    @Test
+    public void shouldOpenNewWindowForRequestArrivingAfterPreviousOneElapsed() {
+        when(underlyingQuotes.getQuotedPriceOfAsync(any(), any())).thenReturn(completedFuture(TEN));
+
+        quotes.getQuotedPriceOfAsync(google, nasdaq);
+        windowElapses();
+        final val amazonPrice = quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+
+        assertThat(amazonPrice).isCompletedWithValue(TEN);
+        verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    public void shouldRequestRepeatedListingOnceWithinWindow() {
+        when(underlyingQuotes.getQuotedPriceOfAsync(amazon, nasdaq)).thenReturn(completedFuture(TEN));
+
+        windowIsOpened();
+        final val first = quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+        final val second = quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+        windowElapses();
+
+        assertThat(first).isCompletedWithValue(TEN);
+        assertThat(second).isCompletedWithValue(TEN);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOfAsync(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldDispatchFullBatchWithoutWaitingForWindow() {
+        final val aapl = new StockSymbol("AAPL");
+        final val apple = new Listing(aapl, nasdaq);
+        when(underlyingQuotes.getQuotedPricesOf(Set.of(amazonListing, microsoftListing, apple)))
+            .thenReturn(
+                Map.of(
+                    amazonListing,
+                    completedFuture(TEN),
+                    microsoftListing,
+                    completedFuture(TEN),
+                    apple,
+                    completedFuture(ONE)
+                )
+            );
+
+        windowIsOpened();
+        quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+        quotes.getQuotedPriceOfAsync(microsoft, nasdaq);
+        final val applePrice = quotes.getQuotedPriceOfAsync(aapl, nasdaq);
+
+        assertThat(applePrice).isCompletedWithValue(ONE);
+        windowElapses();
+        verify(underlyingQuotes, times(1)).getQuotedPricesOf(any());
+    }
+
+    @Test
+    public void shouldBatchBackgroundRequestsSeparatelyRetainingTheirPriority() {
+        final List<UpstreamPriority> dispatchedWith = new ArrayList<>();
+        when(underlyingQuotes.getQuotedPricesOf(any()))
+            .thenAnswer(invocation -> {
+                dispatchedWith.add(UpstreamPriority.current());
+                return Map.of();
+            });
+
+        windowIsOpened();
+        UpstreamPriority.runInBackground(this::windowIsOpened);
+        quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+        quotes.getQuotedPriceOfAsync(microsoft, nasdaq);
+        UpstreamPriority.runInBackground(() -> {
+            quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+            quotes.getQuotedPriceOfAsync(microsoft, nasdaq);
+        });
+        windowElapses();
+
+        assertThat(dispatchedWith).containsExactly(INTERACTIVE, BACKGROUND);
+    }
+
+    @Test
+    public void shouldPropagateFailuresOfIndividualListings() {
+        when(underlyingQuotes.getQuotedPricesOf(any()))
+            .thenReturn(
+                Map.of(
+                    amazonListing,
+                    CompletableFuture.failedFuture(new StockSymbolNotSupportedInThisMarket("not supported"))
+                )
+            );
+
+        windowIsOpened();
+        final val amazonPrice = quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+        final val microsoftPrice = quotes.getQuotedPriceOfAsync(microsoft, nasdaq);
+        windowElapses();
+
+        assertThat(amazonPrice)
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(StockSymbolNotSupportedInThisMarket.class);
+        assertThat(microsoftPrice)
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(QuoteRetrievalFailedException.class)
+            .withMessageContaining("Quote was not retrieved");
+    }
+
+    @Test
+    public void shouldFailWholeBatchIfUpstreamCannotBeCalled() {
+        when(underlyingQuotes.getQuotedPricesOf(any()))
+            .thenThrow(new QuoteRetrievalFailedException("failed"));
+
+        windowIsOpened();
+        final val amazonPrice = quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+        final val microsoftPrice = quotes.getQuotedPriceOfAsync(microsoft, nasdaq);
+        windowElapses();
+
+        assertThat(amazonPrice)
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(QuoteRetrievalFailedException.class);
+        assertThat(microsoftPrice).isCompletedExceptionally();
+    }
+
+    @Test
+    public void shouldRetrieveBatchesRequestedExplicitlyWithoutWaiting() {
+        final val listings = List.of(amazonListing, microsoftListing);
+        when(underlyingQuotes.getQuotedPricesOf(listings))
+            .thenReturn(Map.of(amazonListing, completedFuture(TEN)));
+
+        assertThat(quotes.getQuotedPricesOf(listings).get(amazonListing)).isCompletedWithValue(TEN);
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    public void shouldRetrieveSynchronousRequestsIndividuallyWithoutBatching() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        assertThat(quotes.getQuotedPriceOf(amazon, nasdaq)).isEqualTo(TEN);
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any());
+        verify(underlyingQuotes, never()).getQuotedPricesOf(any());
+    }
+
+    @Test
+    public void shouldStopSchedulerOnClose() {
+        quotes.close();
+
+        verify(scheduler).shutdown();
+    }
+
+    private void windowIsOpened() {
+        when(underlyingQuotes.getQuotedPriceOfAsync(google, nasdaq)).thenReturn(completedFuture(ONE));
+        quotes.getQuotedPriceOfAsync(google, nasdaq);
+    }
+
+    private void windowElapses() {
+        final val captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, atLeastOnce()).schedule(captor.capture(), anyLong(), any());
+        captor.getAllValues().forEach(Runnable::run);
+    }
+}
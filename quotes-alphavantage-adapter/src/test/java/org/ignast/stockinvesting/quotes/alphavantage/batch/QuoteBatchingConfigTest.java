@@ -0,0 +1,42 @@
+package org.ignast.stockinvesting.quotes.alphavantage.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.PriorityTokenBucket;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.RateLimitedQuotes;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.junit.jupiter.api.Test;
+
+public final class QuoteBatchingConfigTest {
+
+    @Test
+    public void shouldBatchRateLimitedQuotes() {
+        assertThat(
+            new QuoteBatchingConfig()
+                .batchedQuotes(rateLimitedQuotes(), Duration.ofMillis(1), 1, new SimpleMeterRegistry())
+        )
+            .isInstanceOf(MicroBatchingQuotes.class);
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldNotBatchMoreSymbolsThanUpstreamAcceptsPerCall() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() ->
+                new QuoteBatchingConfig()
+                    .batchedQuotes(rateLimitedQuotes(), Duration.ofMillis(1), 101, new SimpleMeterRegistry())
+            )
+            .withMessage("Batch size must not exceed 100 symbols per upstream call");
+    }
+
+    private RateLimitedQuotes rateLimitedQuotes() {
+        return new RateLimitedQuotes(
+            mock(QuotesRepository.class),
+            new PriorityTokenBucket(1, 1, 1, new SimpleMeterRegistry())
+        );
+    }
+}
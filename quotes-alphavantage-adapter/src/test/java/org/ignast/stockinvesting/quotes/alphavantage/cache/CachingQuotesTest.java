@@ -0,0 +1,653 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.Quote;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({ "checkstyle:classdataabstractioncoupling", "checkstyle:classfanoutcomplexity" })
+public final class CachingQuotesTest {
+
+    private static final Price ONE = Price.of(BigDecimal.ONE, "USD");
+
+    private static final Price TEN = Price.of(BigDecimal.TEN, "USD");
+
+    private static final Duration SOFT_TTL = Duration.ofSeconds(30);
+
+    private static final Duration PAST_SOFT_TTL = SOFT_TTL.plusSeconds(1);
+
+    private static final Duration HARD_TTL = Duration.ofMinutes(5);
+
+    private static final long SIZE = 100;
+
+    private final StockSymbol amazon = new StockSymbol("AMZN");
+
+    private final StockSymbol microsoft = new StockSymbol("MSFT");
+
+    private final MarketIdentifierCode nasdaq = new MarketIdentifierCode("XNAS");
+
+    private final MarketIdentifierCode nyse = new MarketIdentifierCode("XNYS");
+
+    private final QuotesRepository underlyingQuotes = mock(
+        QuotesRepository.class,
+        withSettings().defaultAnswer(CALLS_REAL_METHODS)
+    );
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final FakeTicker ticker = new FakeTicker();
+
+    private final PendingTasks refreshes = new PendingTasks();
+
+    private final SharedCache<Listing, Quote> sharedQuotes = new InMemorySharedCache<>(
+        new TickerClock(ticker)
+    );
+
+    private final CachingQuotes quotes = cachingQuotes(SIZE, registry);
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new CachingQuotes(
+                    null,
+                    SOFT_TTL,
+                    HARD_TTL,
+                    SIZE,
+                    refreshes,
+                    Optional.of(sharedQuotes),
+                    registry
+                )
+            );
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new CachingQuotes(
+                    underlyingQuotes,
+                    null,
+                    HARD_TTL,
+                    SIZE,
+                    refreshes,
+                    Optional.of(sharedQuotes),
+                    registry
+                )
+            );
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new CachingQuotes(
+                    underlyingQuotes,
+                    SOFT_TTL,
+                    null,
+                    SIZE,
+                    refreshes,
+                    Optional.of(sharedQuotes),
+                    registry
+                )
+            );
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new CachingQuotes(
+                    underlyingQuotes,
+                    SOFT_TTL,
+                    HARD_TTL,
+                    SIZE,
+                    null,
+                    Optional.of(sharedQuotes),
+                    registry
+                )
+            );
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new CachingQuotes(underlyingQuotes, SOFT_TTL, HARD_TTL, SIZE, refreshes, null, registry)
+            );
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new CachingQuotes(
+                    underlyingQuotes,
+                    SOFT_TTL,
+                    HARD_TTL,
+                    SIZE,
+                    refreshes,
+                    Optional.of(sharedQuotes),
+                    null
+                )
+            );
+    }
+
+    @Test
+    public void shouldNotBeCreatedWithSoftTimeToLiveExceedingHardTimeToLive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() ->
+                new CachingQuotes(
+                    underlyingQuotes,
+                    HARD_TTL,
+                    SOFT_TTL,
+                    SIZE,
+                    refreshes,
+                    Optional.of(sharedQuotes),
+                    registry
+                )
+            )
+            .withMessage("Soft time to live must not exceed hard time to live");
+    }
+
+    @Test
+    public void shouldNotRetrieveQuotesForNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOf(null, nasdaq));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOf(amazon, null));
+    }
+
+    @Test
+    public void shouldRetrievePriceFromUnderlyingQuotes() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        assertThat(quotes.getQuotedPriceOf(amazon, nasdaq)).isEqualTo(TEN);
+    }
+
+    @Test
+    public void shouldServeRepeatedRetrievalsFromCache() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        quotes.getQuotedPriceOf(amazon, nasdaq);
+        final val price = quotes.getQuotedPriceOf(amazon, nasdaq);
+
+        assertThat(price).isEqualTo(TEN);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldCacheEachListingSeparately() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nyse)).thenReturn(ONE);
+        when(underlyingQuotes.getQuotedPriceOf(microsoft, nasdaq)).thenReturn(ONE);
+
+        assertThat(quotes.getQuotedPriceOf(amazon, nasdaq)).isEqualTo(TEN);
+        assertThat(quotes.getQuotedPriceOf(amazon, nyse)).isEqualTo(ONE);
+        assertThat(quotes.getQuotedPriceOf(microsoft, nasdaq)).isEqualTo(ONE);
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldStampQuoteWithRetrievalTime() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+        ticker.advance(Duration.ofSeconds(3));
+
+        final val quote = quotes.getQuoteOf(amazon, nasdaq);
+
+        assertThat(quote.getPrice()).isEqualTo(TEN);
+        assertThat(quote.getRetrievedAt()).isEqualTo(Instant.EPOCH.plusSeconds(3));
+    }
+
+    @Test
+    public void shouldServeStaleQuoteWhileRefreshingInBackgroundOnceSoftTimeToLiveExpires() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(ONE, TEN);
+
+        quotes.getQuotedPriceOf(amazon, nasdaq);
+        ticker.advance(PAST_SOFT_TTL);
+        final val stale = quotes.getQuoteOf(amazon, nasdaq);
+
+        assertThat(stale.getPrice()).isEqualTo(ONE);
+        assertThat(stale.getRetrievedAt()).isEqualTo(Instant.EPOCH);
+        assertThat(refreshes.size()).isEqualTo(1);
+
+        refreshes.runAll();
+        final val refreshed = quotes.getQuoteOf(amazon, nasdaq);
+
+        assertThat(refreshed.getPrice()).isEqualTo(TEN);
+        assertThat(refreshed.getRetrievedAt()).isEqualTo(Instant.EPOCH.plus(PAST_SOFT_TTL));
+        verify(underlyingQuotes, times(2)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldKeepServingStaleQuoteWhenBackgroundRefreshFails() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq))
+            .thenReturn(ONE)
+            .thenThrow(new QuoteRetrievalFailedException("failed"));
+
+        quotes.getQuotedPriceOf(amazon, nasdaq);
+        ticker.advance(PAST_SOFT_TTL);
+        quotes.getQuotedPriceOf(amazon, nasdaq);
+        refreshes.runAll();
+
+        assertThat(quotes.getQuotedPriceOf(amazon, nasdaq)).isEqualTo(ONE);
+    }
+
+    @Test
+    public void shouldKeepServingStaleQuoteAndCountRejectionWhenRefreshPoolIsSaturated() {
+        final val saturated = new CachingQuotes(
+            underlyingQuotes,
+            SOFT_TTL,
+            HARD_TTL,
+            SIZE,
+            task -> {
+                throw new RejectedExecutionException("saturated");
+            },
+            Optional.empty(),
+            registry,
+            ticker,
+            new TickerClock(ticker)
+        );
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(ONE, TEN);
+
+        saturated.getQuotedPriceOf(amazon, nasdaq);
+        ticker.advance(PAST_SOFT_TTL);
+        final val stale = saturated.getQuotedPriceOf(amazon, nasdaq);
+
+        assertThat(stale).isEqualTo(ONE);
+        assertThat(saturated.getQuotedPriceOf(amazon, nasdaq)).isEqualTo(ONE);
+        assertThat(
+            registry.get("cache.refreshes.rejected").tags("cache", CachingQuotes.CACHE_NAME).counter().count()
+        )
+            .isEqualTo(1);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldRetrieveFreshPriceOnceHardTimeToLiveExpires() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(ONE, TEN);
+
+        quotes.getQuotedPriceOf(amazon, nasdaq);
+        ticker.advance(HARD_TTL);
+        final val price = quotes.getQuotedPriceOf(amazon, nasdaq);
+
+        assertThat(price).isEqualTo(TEN);
+        assertThat(refreshes.size()).isZero();
+        verify(underlyingQuotes, times(2)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldFailOnceHardTimeToLiveExpiresAndQuoteCannotBeRetrieved() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq))
+            .thenReturn(ONE)
+            .thenThrow(new QuoteRetrievalFailedException("failed"));
+
+        quotes.getQuotedPriceOf(amazon, nasdaq);
+        ticker.advance(HARD_TTL);
+
+        assertThatExceptionOfType(QuoteRetrievalFailedException.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOf(amazon, nasdaq))
+            .withMessage("failed");
+    }
+
+    @Test
+    public void shouldServeQuotesEvictedFromLocalCacheFromSharedCache() {
+        final val quotesOfSize1 = cachingQuotes(1, registry);
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+        when(underlyingQuotes.getQuotedPriceOf(microsoft, nasdaq)).thenReturn(ONE);
+
+        quotesOfSize1.getQuotedPriceOf(amazon, nasdaq);
+        quotesOfSize1.getQuotedPriceOf(microsoft, nasdaq);
+        final val price = quotesOfSize1.getQuotedPriceOf(amazon, nasdaq);
+
+        assertThat(price).isEqualTo(TEN);
+        assertThat(sharedGets("hit")).isEqualTo(1);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldShareRetrievedQuotes() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        quotes.getQuotedPriceOf(amazon, nasdaq);
+
+        assertThat(sharedQuotes.get(new Listing(amazon, nasdaq))).contains(new Quote(TEN, Instant.EPOCH));
+    }
+
+    @Test
+    public void shouldServeQuotesRetrievedByAnotherInstanceFromSharedCache() {
+        final val anotherInstance = cachingQuotes(SIZE, new SimpleMeterRegistry());
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        anotherInstance.getQuotedPriceOf(amazon, nasdaq);
+        final val quote = quotes.getQuoteOf(amazon, nasdaq);
+
+        assertThat(quote).isEqualTo(new Quote(TEN, Instant.EPOCH));
+        assertThat(sharedGets("hit")).isEqualTo(1);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldServeQuotesRetrievedByAnotherInstanceFromSharedCacheAsynchronously() {
+        final val anotherInstance = cachingQuotes(SIZE, new SimpleMeterRegistry());
+        doReturn(CompletableFuture.completedFuture(TEN))
+            .when(underlyingQuotes)
+            .getQuotedPriceOfAsync(amazon, nasdaq);
+
+        anotherInstance.getQuotedPriceOfAsync(amazon, nasdaq);
+
+        assertThat(quotes.getQuotedPriceOfAsync(amazon, nasdaq)).isCompletedWithValue(TEN);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOfAsync(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldRetrieveQuoteSharedByAnotherInstanceOnceSoftTimeToLiveExpires() {
+        final val anotherInstance = cachingQuotes(SIZE, new SimpleMeterRegistry());
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(ONE, TEN);
+
+        anotherInstance.getQuotedPriceOf(amazon, nasdaq);
+        ticker.advance(PAST_SOFT_TTL);
+        final val price = quotes.getQuotedPriceOf(amazon, nasdaq);
+
+        assertThat(price).isEqualTo(TEN);
+        assertThat(sharedGets("miss")).isEqualTo(1);
+        verify(underlyingQuotes, times(2)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldRetrieveUpstreamWithoutSharedCache() {
+        final val separateRegistry = new SimpleMeterRegistry();
+        final val unshared = new CachingQuotes(
+            underlyingQuotes,
+            SOFT_TTL,
+            HARD_TTL,
+            SIZE,
+            refreshes,
+            Optional.empty(),
+            separateRegistry
+        );
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        assertThat(unshared.getQuotedPriceOf(amazon, nasdaq)).isEqualTo(TEN);
+        assertThat(separateRegistry.get("cache.shared.gets").counters())
+            .allSatisfy(c -> assertThat(c.count()).isZero());
+        assertThat(sharedQuotes.get(new Listing(amazon, nasdaq))).isEmpty();
+    }
+
+    @Test
+    public void shouldExpireQuotesSharedByAnotherInstanceOnceTheyReachHardTimeToLive() {
+        sharedQuotes.put(new Listing(amazon, nasdaq), new Quote(ONE, Instant.EPOCH), HARD_TTL);
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        ticker.advance(HARD_TTL.minusSeconds(1));
+        final val sharedPrice = quotes.getQuotedPriceOf(amazon, nasdaq);
+        ticker.advance(Duration.ofSeconds(1));
+        final val price = quotes.getQuotedPriceOf(amazon, nasdaq);
+
+        assertThat(sharedPrice).isEqualTo(ONE);
+        assertThat(price).isEqualTo(TEN);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldNotShareFailures() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq))
+            .thenThrow(new QuoteRetrievalFailedException("failed"));
+
+        assertThatExceptionOfType(QuoteRetrievalFailedException.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOf(amazon, nasdaq));
+
+        assertThat(sharedQuotes.get(new Listing(amazon, nasdaq))).isEmpty();
+    }
+
+    @Test
+    public void shouldPropagateFailuresWithoutCachingThem() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq))
+            .thenThrow(new StockSymbolNotSupportedInThisMarket("not supported"))
+            .thenReturn(TEN);
+
+        assertThatExceptionOfType(StockSymbolNotSupportedInThisMarket.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOf(amazon, nasdaq))
+            .withMessage("not supported");
+        assertThat(quotes.getQuotedPriceOf(amazon, nasdaq)).isEqualTo(TEN);
+    }
+
+    @Test
+    public void shouldPropagateRetrievalFailures() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq))
+            .thenThrow(new QuoteRetrievalFailedException("failed"));
+
+        assertThatExceptionOfType(QuoteRetrievalFailedException.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOf(amazon, nasdaq))
+            .withMessage("failed");
+    }
+
+    @Test
+    public void shouldRetrievePriceAsynchronously() {
+        when(underlyingQuotes.getQuotedPriceOfAsync(amazon, nasdaq))
+            .thenReturn(CompletableFuture.completedFuture(TEN));
+
+        assertThat(quotes.getQuotedPriceOfAsync(amazon, nasdaq)).isCompletedWithValue(TEN);
+    }
+
+    @Test
+    public void shouldNotCompleteAsynchronousRetrievalBeforeUnderlyingQuotesRespond() {
+        final val pending = new CompletableFuture<Price>();
+        when(underlyingQuotes.getQuotedPriceOfAsync(amazon, nasdaq)).thenReturn(pending);
+
+        final val price = quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+
+        assertThat(price).isNotDone();
+        pending.complete(TEN);
+        assertThat(price).isCompletedWithValue(TEN);
+    }
+
+    @Test
+    public void shouldShareCacheBetweenSynchronousAndAsynchronousRetrievals() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        quotes.getQuotedPriceOf(amazon, nasdaq);
+
+        assertThat(quotes.getQuotedPriceOfAsync(amazon, nasdaq)).isCompletedWithValue(TEN);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldJoinAsynchronousRetrievalAlreadyInFlight() {
+        final val pending = new CompletableFuture<Price>();
+        doReturn(pending).when(underlyingQuotes).getQuotedPriceOfAsync(amazon, nasdaq);
+
+        final val first = quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+        final val second = quotes.getQuoteOfAsync(amazon, nasdaq);
+        pending.complete(TEN);
+
+        assertThat(first).isCompletedWithValue(TEN);
+        assertThat(second.join().getPrice()).isEqualTo(TEN);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOfAsync(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldRetrieveSynchronouslyThroughAsynchronousUnderlyingQuotes() {
+        doReturn(CompletableFuture.completedFuture(TEN))
+            .when(underlyingQuotes)
+            .getQuotedPriceOfAsync(amazon, nasdaq);
+
+        assertThat(quotes.getQuotedPriceOf(amazon, nasdaq)).isEqualTo(TEN);
+        verify(underlyingQuotes, never()).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldJoinSynchronousRetrievalToRetrievalAlreadyInFlight() throws Exception {
+        final val pending = new CompletableFuture<Price>();
+        doReturn(pending).when(underlyingQuotes).getQuotedPriceOfAsync(amazon, nasdaq);
+        quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+
+        final val price = CompletableFuture.supplyAsync(() -> quotes.getQuotedPriceOf(amazon, nasdaq));
+        pending.complete(TEN);
+
+        assertThat(price.get(1, SECONDS)).isEqualTo(TEN);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOfAsync(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldCountLookupsJoiningRetrievalAlreadyInFlight() throws Exception {
+        final val pending = new CompletableFuture<Price>();
+        doReturn(pending).when(underlyingQuotes).getQuotedPriceOfAsync(amazon, nasdaq);
+
+        final val first = CompletableFuture.supplyAsync(() -> quotes.getQuotedPriceOf(amazon, nasdaq));
+        awaitUnderlyingRetrieval();
+        final val second = quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+        pending.complete(TEN);
+        first.get(1, SECONDS);
+        quotes.getQuotedPriceOfAsync(amazon, nasdaq);
+
+        assertThat(second).isCompletedWithValue(TEN);
+        assertThat(registry.get("quotes.coalesced").counter().count()).isEqualTo(1);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOfAsync(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldPropagateAsynchronousFailuresWithoutCachingThem() {
+        when(underlyingQuotes.getQuotedPriceOfAsync(amazon, nasdaq))
+            .thenReturn(CompletableFuture.failedFuture(new QuoteRetrievalFailedException("failed")))
+            .thenReturn(CompletableFuture.completedFuture(TEN));
+
+        assertThat(quotes.getQuotedPriceOfAsync(amazon, nasdaq))
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(QuoteRetrievalFailedException.class);
+        assertThat(quotes.getQuotedPriceOfAsync(amazon, nasdaq)).isCompletedWithValue(TEN);
+    }
+
+    @Test
+    public void shouldCountHitsAndMisses() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        quotes.getQuotedPriceOf(amazon, nasdaq);
+        quotes.getQuotedPriceOf(amazon, nasdaq);
+        quotes.getQuotedPriceOf(amazon, nasdaq);
+
+        assertThat(cacheGets("hit")).isEqualTo(2);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCountEvictions() {
+        final val separateRegistry = new SimpleMeterRegistry();
+        final val quotesOfSize1 = cachingQuotes(1, separateRegistry);
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+        when(underlyingQuotes.getQuotedPriceOf(microsoft, nasdaq)).thenReturn(ONE);
+
+        quotesOfSize1.getQuotedPriceOf(amazon, nasdaq);
+        quotesOfSize1.getQuotedPriceOf(microsoft, nasdaq);
+
+        assertThat(separateRegistry.get("cache.evictions").functionCounter().count()).isEqualTo(1);
+    }
+
+    private CachingQuotes cachingQuotes(final long maximumSize, final MeterRegistry meterRegistry) {
+        return new CachingQuotes(
+            underlyingQuotes,
+            SOFT_TTL,
+            HARD_TTL,
+            maximumSize,
+            refreshes,
+            Optional.of(sharedQuotes),
+            meterRegistry,
+            ticker,
+            new TickerClock(ticker)
+        );
+    }
+
+    private void awaitUnderlyingRetrieval() throws InterruptedException {
+        while (mockingDetails(underlyingQuotes).getInvocations().isEmpty()) {
+            Thread.sleep(1);
+        }
+    }
+
+    private double sharedGets(final String result) {
+        return registry
+            .get("cache.shared.gets")
+            .tags("cache", CachingQuotes.CACHE_NAME, "result", result)
+            .counter()
+            .count();
+    }
+
+    private double cacheGets(final String result) {
+        return registry
+            .get("cache.gets")
+            .tags("cache", CachingQuotes.CACHE_NAME, "result", result)
+            .functionCounter()
+            .count();
+    }
+
+    private static final class FakeTicker implements Ticker {
+
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        void advance(final Duration duration) {
+            nanos += duration.toNanos();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class TickerClock extends Clock {
+
+        private final Ticker ticker;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.EPOCH.plusNanos(ticker.read());
+        }
+    }
+
+    private static final class PendingTasks implements Executor {
+
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(final Runnable task) {
+            tasks.add(task);
+        }
+
+        int size() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+public final class InMemorySharedCache<K, V> implements SharedCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final Clock clock;
+
+    public InMemorySharedCache() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemorySharedCache(@NonNull final Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<V> get(@NonNull final K key) {
+        final val entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt.isAfter(clock.instant())) {
+            return Optional.of(entry.value);
+        } else {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(@NonNull final K key, @NonNull final V value, @NonNull final Duration timeToLive) {
+        entries.put(key, new Entry<>(value, clock.instant().plus(timeToLive)));
+    }
+
+    @RequiredArgsConstructor
+    private static final class Entry<V> {
+
+        private final V value;
+
+        private final Instant expiresAt;
+    }
+}
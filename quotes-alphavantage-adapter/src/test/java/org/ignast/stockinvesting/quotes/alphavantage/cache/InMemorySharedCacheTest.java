@@ -0,0 +1,82 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+public final class InMemorySharedCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private static final String KEY = "key";
+
+    private final MutableClock clock = new MutableClock();
+
+    private final SharedCache<String, String> cache = new InMemorySharedCache<>(clock);
+
+    @Test
+    public void shouldNotBeCreatedWithNullClock() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new InMemorySharedCache<>(null));
+    }
+
+    @Test
+    public void shouldNotAcceptNulls() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> cache.get(null));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> cache.put(null, KEY, TTL));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> cache.put(KEY, null, TTL));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> cache.put(KEY, KEY, null));
+    }
+
+    @Test
+    public void shouldNotContainAbsentEntry() {
+        assertThat(cache.get(KEY)).isEmpty();
+    }
+
+    @Test
+    public void shouldContainEntryUntilItExpires() {
+        cache.put(KEY, "value", TTL);
+
+        assertThat(cache.get(KEY)).contains("value");
+        clock.advance(TTL);
+        assertThat(cache.get(KEY)).isEmpty();
+    }
+
+    @Test
+    public void shouldReplaceEntry() {
+        cache.put(KEY, "old", TTL);
+        cache.put(KEY, "new", TTL);
+
+        assertThat(cache.get(KEY)).contains("new");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.EPOCH;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        void advance(final Duration duration) {
+            now = now.plus(duration);
+        }
+    }
+}
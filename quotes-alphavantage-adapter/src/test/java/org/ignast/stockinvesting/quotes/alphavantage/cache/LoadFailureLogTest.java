@@ -0,0 +1,100 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.ignast.stockinvesting.quotes.alphavantage.cache.LoadFailureLog.logFailures;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import java.util.concurrent.CompletableFuture;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+public final class LoadFailureLogTest {
+
+    private final CacheKey key = new CacheKey(new StockSymbol("AMZN"), new MarketIdentifierCode("XNAS"));
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(CachingQuotes.class);
+
+    private final ListAppender<ILoggingEvent> logs = new ListAppender<>();
+
+    @BeforeEach
+    public void captureLogs() {
+        logger.setLevel(Level.DEBUG);
+        logger.addAppender(logs);
+        logs.start();
+    }
+
+    @AfterEach
+    public void releaseLogs() {
+        logger.detachAppender(logs);
+        logger.setLevel(null);
+    }
+
+    @Test
+    public void shouldNotLogSuccessfulRetrievals() {
+        assertThat(logFailures(key, completedFuture("quote"))).isCompletedWithValue("quote");
+
+        assertThat(logs.list).isEmpty();
+    }
+
+    @Test
+    public void shouldLogRetrievalFailuresWithoutStackTrace() {
+        logFailures(key, failedFuture(new QuoteRetrievalFailedException("failed")));
+
+        assertThat(logs.list)
+            .singleElement()
+            .satisfies(event -> {
+                assertThat(event.getLevel()).isEqualTo(Level.DEBUG);
+                assertThat(event.getFormattedMessage())
+                    .isEqualTo("Quote of AMZN in XNAS not retrieved: failed");
+                assertThat(event.getThrowableProxy()).isNull();
+            });
+    }
+
+    @Test
+    public void shouldLogUnsupportedSymbolsWrappedInCompletionWithoutStackTrace() {
+        logFailures(
+            key,
+            supplyAsync(
+                () -> {
+                    throw new StockSymbolNotSupportedInThisMarket("not supported");
+                },
+                Runnable::run
+            )
+        );
+
+        assertThat(logs.list)
+            .singleElement()
+            .satisfies(event -> {
+                assertThat(event.getLevel()).isEqualTo(Level.DEBUG);
+                assertThat(event.getFormattedMessage())
+                    .isEqualTo("Quote of AMZN in XNAS not retrieved: not supported");
+                assertThat(event.getThrowableProxy()).isNull();
+            });
+    }
+
+    @Test
+    public void shouldLogUnexpectedFailuresWithStackTrace() {
+        final CompletableFuture<String> retrieval = failedFuture(new IllegalStateException("unexpected"));
+
+        logFailures(key, retrieval);
+
+        assertThat(logs.list)
+            .singleElement()
+            .satisfies(event -> {
+                assertThat(event.getLevel()).isEqualTo(Level.WARN);
+                assertThat(event.getThrowableProxy().getMessage()).isEqualTo("unexpected");
+            });
+    }
+}
@@ -0,0 +1,62 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.alphavantage.AlphaVantageQuotes;
+import org.ignast.stockinvesting.quotes.alphavantage.batch.QuoteBatchingConfig;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.RateLimitConfig;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.junit.jupiter.api.Test;
+
+public final class QuotesCacheConfigTest {
+
+    private static final Price TEN = Price.of(BigDecimal.TEN, "USD");
+
+    @Test
+    public void shouldCacheBatchedAlphaVantageQuotes() {
+        final val alphaVantageQuotes = mock(AlphaVantageQuotes.class);
+        final val symbol = new StockSymbol("AMZN");
+        final val mic = new MarketIdentifierCode("XNAS");
+        when(alphaVantageQuotes.getQuotedPriceOfAsync(symbol, mic)).thenReturn(completedFuture(TEN));
+
+        final val registry = new SimpleMeterRegistry();
+        final val rateLimitConfig = new RateLimitConfig();
+        final val rateLimitedQuotes = rateLimitConfig.rateLimitedQuotes(
+            alphaVantageQuotes,
+            rateLimitConfig.upstreamTokenBucket(1, 1, 1, registry)
+        );
+
+        final val batchedQuotes = new QuoteBatchingConfig()
+            .batchedQuotes(rateLimitedQuotes, Duration.ofMillis(1), 1, registry);
+
+        final val quotes = new QuotesCacheConfig()
+            .quotes(
+                batchedQuotes,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(2),
+                1,
+                1,
+                1,
+                Optional.empty(),
+                registry
+            );
+        quotes.getQuotedPriceOf(symbol, mic);
+        final val quote = quotes.getQuoteOf(symbol, mic);
+
+        assertThat(quotes).isInstanceOf(CachingQuotes.class);
+        assertThat(quote.getPrice()).isEqualTo(TEN);
+        verify(alphaVantageQuotes, times(1)).getQuotedPriceOfAsync(symbol, mic);
+    }
+}
@@ -0,0 +1,55 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.junit.jupiter.api.Test;
+
+public final class SymbolDirectoryConfigTest {
+
+    private static final Price TEN = Price.of(BigDecimal.TEN, "USD");
+
+    @Test
+    public void shouldRememberSymbolsVerifiedThroughCachedQuotes() {
+        final val underlyingQuotes = mock(QuotesRepository.class);
+        final val symbol = new StockSymbol("AMZN");
+        final val mic = new MarketIdentifierCode("XNAS");
+        when(underlyingQuotes.getQuotedPriceOfAsync(symbol, mic)).thenReturn(completedFuture(TEN));
+        final val registry = new SimpleMeterRegistry();
+
+        final val directory = new SymbolDirectoryConfig()
+            .symbolDirectory(
+                new CachingQuotes(
+                    underlyingQuotes,
+                    Duration.ofSeconds(1),
+                    Duration.ofSeconds(2),
+                    1,
+                    Runnable::run,
+                    Optional.empty(),
+                    registry
+                ),
+                Duration.ofHours(1),
+                Duration.ofMinutes(1),
+                1,
+                registry
+            );
+        directory.verifySupported(symbol, mic);
+        directory.verifySupported(symbol, mic);
+
+        assertThat(directory).isInstanceOf(SymbolDirectory.class);
+        verify(underlyingQuotes, times(1)).getQuotedPriceOfAsync(symbol, mic);
+    }
+}
@@ -0,0 +1,242 @@
+package org.ignast.stockinvesting.quotes.alphavantage.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.Quote;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("checkstyle:classdataabstractioncoupling")
+public final class SymbolDirectoryTest {
+
+    private static final Price TEN = Price.of(BigDecimal.TEN, "USD");
+
+    private static final Duration SUPPORTED_TTL = Duration.ofHours(24);
+
+    private static final Duration UNSUPPORTED_TTL = Duration.ofHours(1);
+
+    private static final long SIZE = 100;
+
+    private static final String NOT_SUPPORTED = "not supported";
+
+    private final StockSymbol amazon = new StockSymbol("AMZN");
+
+    private final MarketIdentifierCode nasdaq = new MarketIdentifierCode("XNAS");
+
+    private final QuotesRepository quotes = mock(QuotesRepository.class);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final FakeTicker ticker = new FakeTicker();
+
+    private final SymbolDirectory directory = new SymbolDirectory(
+        quotes,
+        SUPPORTED_TTL,
+        UNSUPPORTED_TTL,
+        SIZE,
+        registry,
+        ticker
+    );
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new SymbolDirectory(null, SUPPORTED_TTL, UNSUPPORTED_TTL, SIZE, registry));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new SymbolDirectory(quotes, null, UNSUPPORTED_TTL, SIZE, registry));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new SymbolDirectory(quotes, SUPPORTED_TTL, null, SIZE, registry));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new SymbolDirectory(quotes, SUPPORTED_TTL, UNSUPPORTED_TTL, SIZE, null));
+    }
+
+    @Test
+    public void shouldNotVerifyNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> directory.verifySupported(null, nasdaq));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> directory.verifySupported(amazon, null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> directory.verifySupportedAsync(null, nasdaq));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> directory.verifySupportedAsync(amazon, null));
+    }
+
+    @Test
+    public void shouldVerifySupportedSymbolByRetrievingItsQuoteOnlyOnce() {
+        when(quotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        directory.verifySupported(amazon, nasdaq);
+        directory.verifySupported(amazon, nasdaq);
+
+        verify(quotes, times(1)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldVerifySupportedSymbolAgainOnceItExpires() {
+        when(quotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        directory.verifySupported(amazon, nasdaq);
+        ticker.advance(SUPPORTED_TTL);
+        directory.verifySupported(amazon, nasdaq);
+
+        verify(quotes, times(2)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldRememberUnsupportedSymbol() {
+        when(quotes.getQuotedPriceOf(amazon, nasdaq))
+            .thenThrow(new StockSymbolNotSupportedInThisMarket(NOT_SUPPORTED));
+
+        assertThatExceptionOfType(StockSymbolNotSupportedInThisMarket.class)
+            .isThrownBy(() -> directory.verifySupported(amazon, nasdaq));
+        assertThatExceptionOfType(StockSymbolNotSupportedInThisMarket.class)
+            .isThrownBy(() -> directory.verifySupported(amazon, nasdaq))
+            .withMessage(NOT_SUPPORTED);
+        verify(quotes, times(1)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldVerifyUnsupportedSymbolAgainOnceItExpires() {
+        when(quotes.getQuotedPriceOf(amazon, nasdaq))
+            .thenThrow(new StockSymbolNotSupportedInThisMarket(NOT_SUPPORTED))
+            .thenReturn(TEN);
+
+        assertThatExceptionOfType(StockSymbolNotSupportedInThisMarket.class)
+            .isThrownBy(() -> directory.verifySupported(amazon, nasdaq));
+        ticker.advance(UNSUPPORTED_TTL);
+        directory.verifySupported(amazon, nasdaq);
+
+        verify(quotes, times(2)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldNotRememberFailedVerification() {
+        when(quotes.getQuotedPriceOf(amazon, nasdaq))
+            .thenThrow(new QuoteRetrievalFailedException("failed"))
+            .thenReturn(TEN);
+
+        assertThatExceptionOfType(QuoteRetrievalFailedException.class)
+            .isThrownBy(() -> directory.verifySupported(amazon, nasdaq));
+        directory.verifySupported(amazon, nasdaq);
+
+        verify(quotes, times(2)).getQuotedPriceOf(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldVerifySupportedSymbolAsynchronously() {
+        when(quotes.getQuotedPriceOfAsync(amazon, nasdaq)).thenReturn(CompletableFuture.completedFuture(TEN));
+
+        assertThat(directory.verifySupportedAsync(amazon, nasdaq))
+            .isCompleted()
+            .isNotCompletedExceptionally();
+        directory.verifySupported(amazon, nasdaq);
+
+        verify(quotes, times(1)).getQuotedPriceOfAsync(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldRememberUnsupportedSymbolVerifiedAsynchronously() {
+        when(quotes.getQuotedPriceOfAsync(amazon, nasdaq))
+            .thenReturn(
+                CompletableFuture.failedFuture(new StockSymbolNotSupportedInThisMarket(NOT_SUPPORTED))
+            );
+
+        final val first = directory.verifySupportedAsync(amazon, nasdaq);
+        final val second = directory.verifySupportedAsync(amazon, nasdaq);
+
+        assertThat(first)
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(StockSymbolNotSupportedInThisMarket.class);
+        assertThat(second)
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(StockSymbolNotSupportedInThisMarket.class);
+        verify(quotes, times(1)).getQuotedPriceOfAsync(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldNotRememberFailedAsynchronousVerification() {
+        when(quotes.getQuotedPriceOfAsync(amazon, nasdaq))
+            .thenReturn(CompletableFuture.failedFuture(new QuoteRetrievalFailedException("failed")))
+            .thenReturn(CompletableFuture.completedFuture(TEN));
+
+        assertThat(directory.verifySupportedAsync(amazon, nasdaq)).isCompletedExceptionally();
+        assertThat(directory.verifySupportedAsync(amazon, nasdaq)).isNotCompletedExceptionally();
+        verify(quotes, times(2)).getQuotedPriceOfAsync(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldDelegateQuoteRetrievals() {
+        final val quote = new Quote(TEN, Instant.EPOCH);
+        final val listing = new Listing(amazon, nasdaq);
+        final val prices = Map.of(listing, CompletableFuture.completedFuture(TEN));
+        when(quotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+        when(quotes.getQuoteOf(amazon, nasdaq)).thenReturn(quote);
+        when(quotes.getQuotedPriceOfAsync(amazon, nasdaq)).thenReturn(CompletableFuture.completedFuture(TEN));
+        when(quotes.getQuoteOfAsync(amazon, nasdaq)).thenReturn(CompletableFuture.completedFuture(quote));
+        when(quotes.getQuotedPricesOf(List.of(listing))).thenReturn(prices);
+
+        assertThat(directory.getQuotedPriceOf(amazon, nasdaq)).isEqualTo(TEN);
+        assertThat(directory.getQuoteOf(amazon, nasdaq)).isEqualTo(quote);
+        assertThat(directory.getQuotedPriceOfAsync(amazon, nasdaq)).isCompletedWithValue(TEN);
+        assertThat(directory.getQuoteOfAsync(amazon, nasdaq)).isCompletedWithValue(quote);
+        assertThat(directory.getQuotedPricesOf(List.of(listing))).isSameAs(prices);
+    }
+
+    @Test
+    public void shouldCountHitsAndMisses() {
+        when(quotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        directory.verifySupported(amazon, nasdaq);
+        directory.verifySupported(amazon, nasdaq);
+
+        assertThat(cacheGets("hit")).isEqualTo(1);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+    }
+
+    private double cacheGets(final String result) {
+        return registry
+            .get("cache.gets")
+            .tags("cache", SymbolDirectory.CACHE_NAME, "result", result)
+            .functionCounter()
+            .count();
+    }
+
+    private static final class FakeTicker implements Ticker {
+
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        void advance(final Duration duration) {
+            nanos += duration.toNanos();
+        }
+    }
+}
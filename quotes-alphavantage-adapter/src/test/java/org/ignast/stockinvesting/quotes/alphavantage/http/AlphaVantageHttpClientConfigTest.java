@@ -0,0 +1,172 @@
+package org.ignast.stockinvesting.quotes.alphavantage.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.ignast.stockinvesting.quotes.alphavantage.DomainFactoryForTests.anyMIC;
+import static org.ignast.stockinvesting.quotes.alphavantage.DomainFactoryForTests.anySymbol;
+import static org.ignast.stockinvesting.quotes.alphavantage.http.AlphaVantageHttpClientConfig.POOL_NAME;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.ignast.stockinvesting.quotes.alphavantage.AlphaVantageQuotes;
+import org.ignast.stockinvesting.quotes.alphavantage.AsyncQuoteClient;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+@SuppressWarnings("checkstyle:magicnumber")
+public final class AlphaVantageHttpClientConfigTest {
+
+    @RegisterExtension
+    private static final WireMockExtension WIREMOCK = WireMockExtension.newInstance().build();
+
+    private static final String QUOTE = "{\"Global Quote\":{\"05. price\":\"128.5000\"}}";
+
+    private final AlphaVantageHttpClientConfig config = new AlphaVantageHttpClientConfig();
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final CloseableHttpClient httpClient = config.alphaVantageHttpClient(
+        3,
+        2,
+        Duration.ofSeconds(1),
+        Duration.ofSeconds(1),
+        Duration.ofMillis(200),
+        Duration.ofSeconds(30),
+        registry
+    );
+
+    private final ExecutorService asyncExecutor = config.alphaVantageAsyncExecutor(2, registry);
+
+    private final DeadlineRequestFactory requestFactory = config.alphaVantageRequestFactory(
+        httpClient,
+        Duration.ofSeconds(1)
+    );
+
+    private final AlphaVantageQuotes quotes = new AlphaVantageQuotes(
+        config.alphaVantageRestTemplate(new RestTemplateBuilder(), requestFactory),
+        new AsyncQuoteClient(
+            config.alphaVantageAsyncHttpClient(Duration.ofSeconds(1), asyncExecutor),
+            Duration.ofSeconds(1)
+        ),
+        "http://localhost:" + WIREMOCK.getPort(),
+        "anyApiKey"
+    );
+
+    @AfterEach
+    public void closeClients() throws IOException {
+        requestFactory.destroy();
+        httpClient.close();
+        asyncExecutor.shutdown();
+    }
+
+    @Test
+    public void shouldRetrieveQuotesThroughPooledClient() {
+        WIREMOCK.stubFor(get(urlPathEqualTo("/query")).willReturn(WireMock.okJson(QUOTE)));
+
+        assertThat(quotes.getQuotedPriceOf(anySymbol(), anyMIC()))
+            .isEqualTo(Price.of(new BigDecimal("128.5000"), "USD"));
+    }
+
+    @Test
+    public void shouldKeepConnectionAliveForReuse() {
+        WIREMOCK.stubFor(get(urlPathEqualTo("/query")).willReturn(WireMock.okJson(QUOTE)));
+
+        quotes.getQuotedPriceOf(anySymbol(), anyMIC());
+        quotes.getQuotedPriceOf(anySymbol(), anyMIC());
+
+        assertThat(connections("available")).isEqualTo(1);
+        assertThat(connections("leased")).isZero();
+    }
+
+    @Test
+    public void shouldExposePoolLimits() {
+        assertThat(pool("total.max")).isEqualTo(3);
+        assertThat(pool("route.max.default")).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldGiveUpOnUpstreamNotRespondingWithinReadTimeout() {
+        WIREMOCK.stubFor(
+            get(urlPathEqualTo("/query")).willReturn(WireMock.okJson(QUOTE).withFixedDelay(1000))
+        );
+
+        assertThatExceptionOfType(QuoteRetrievalFailedException.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOf(anySymbol(), anyMIC()))
+            .withMessage("Communication with server failed");
+        assertThat(connections("leased")).isZero();
+    }
+
+    @Test
+    public void shouldGiveUpOnUpstreamRespondingSlowerThanTotalTimeout() {
+        WIREMOCK.stubFor(
+            get(urlPathEqualTo("/query"))
+                .willReturn(WireMock.okJson(QUOTE).withChunkedDribbleDelay(QUOTE.length(), 4000))
+        );
+
+        assertThatExceptionOfType(QuoteRetrievalFailedException.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOf(anySymbol(), anyMIC()))
+            .withMessage("Communication with server failed");
+        assertThat(connections("leased")).isZero();
+    }
+
+    @Test
+    public void shouldKeepConnectionReusableAfterRequestCompletingBeforeTotalTimeout() throws Exception {
+        WIREMOCK.stubFor(get(urlPathEqualTo("/query")).willReturn(WireMock.okJson(QUOTE)));
+        quotes.getQuotedPriceOf(anySymbol(), anyMIC());
+
+        Thread.sleep(1200);
+
+        assertThat(quotes.getQuotedPriceOf(anySymbol(), anyMIC()))
+            .isEqualTo(Price.of(new BigDecimal("128.5000"), "USD"));
+        assertThat(connections("available")).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRetrieveQuotesAsynchronouslyOnBoundedExecutor() {
+        WIREMOCK.stubFor(get(urlPathEqualTo("/query")).willReturn(WireMock.okJson(QUOTE)));
+
+        assertThat(quotes.getQuotedPriceOfAsync(anySymbol(), anyMIC()))
+            .succeedsWithin(Duration.ofSeconds(1))
+            .isEqualTo(Price.of(new BigDecimal("128.5000"), "USD"));
+        assertThat(executor("executor.pool.max")).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNameAsynchronousExecutorThreads() throws Exception {
+        assertThat(asyncExecutor.submit(() -> Thread.currentThread().getName()).get())
+            .startsWith("alphavantage-async-");
+    }
+
+    private double executor(final String name) {
+        return registry.get(name).tags("name", POOL_NAME).gauge().value();
+    }
+
+    private double connections(final String state) {
+        return registry
+            .get("httpcomponents.httpclient.pool.total.connections")
+            .tags("httpclient", POOL_NAME, "state", state)
+            .gauge()
+            .value();
+    }
+
+    private double pool(final String name) {
+        return registry
+            .get("httpcomponents.httpclient.pool." + name)
+            .tags("httpclient", POOL_NAME)
+            .gauge()
+            .value();
+    }
+}
@@ -0,0 +1,59 @@
+package org.ignast.stockinvesting.quotes.alphavantage.http;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import org.apache.http.client.HttpClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+public final class DeadlineRequestFactoryTest {
+
+    private static final Duration DEADLINE = Duration.ofSeconds(2);
+
+    private final HttpClient httpClient = mock(HttpClient.class);
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+    private final DeadlineRequestFactory factory = new DeadlineRequestFactory(
+        httpClient,
+        DEADLINE,
+        scheduler
+    );
+
+    @Test
+    public void shouldNotBeCreatedWithNullsOrNonPositiveDeadline() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new DeadlineRequestFactory(null, DEADLINE));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new DeadlineRequestFactory(httpClient, null));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new DeadlineRequestFactory(httpClient, Duration.ZERO, scheduler))
+            .withMessage("Request deadline must be positive");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new DeadlineRequestFactory(httpClient, Duration.ofMillis(-1), scheduler));
+    }
+
+    @Test
+    public void shouldScheduleAbortOfEveryRequestAtDeadline() throws Exception {
+        factory.createRequest(URI.create("http://localhost/query"), HttpMethod.GET);
+
+        verify(scheduler).schedule(any(Runnable.class), eq(DEADLINE.toNanos()), eq(NANOSECONDS));
+    }
+
+    @Test
+    public void shouldStopSchedulingOnceDestroyed() {
+        factory.destroy();
+
+        verify(scheduler).shutdownNow();
+        verifyNoInteractions(httpClient);
+    }
+}
@@ -0,0 +1,224 @@
+package org.ignast.stockinvesting.quotes.alphavantage.ratelimit;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority.BACKGROUND;
+import static org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority.INTERACTIVE;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("checkstyle:magicnumber")
+public final class PriorityTokenBucketTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final ScheduledExecutorService dispatcher = mock(ScheduledExecutorService.class);
+
+    @Test
+    public void shouldNotBeCreatedWithNonPositiveLimits() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new PriorityTokenBucket(0, 1, 1, registry))
+            .withMessage("Rate, capacity and queue capacity must be positive");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new PriorityTokenBucket(1, 0, 1, registry));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new PriorityTokenBucket(1, 1, 0, registry));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new PriorityTokenBucket(1, 1, 1, null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new PriorityTokenBucket(1, 1, 1, registry, null));
+    }
+
+    @Test
+    public void shouldNotAcquireForNullPriority() {
+        final val bucket = new PriorityTokenBucket(1, 1, 1, registry);
+
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> bucket.acquire(null));
+    }
+
+    @Test
+    public void shouldServeBurstWithoutWaiting() {
+        final val bucket = new PriorityTokenBucket(1, 3, 1, registry);
+
+        bucket.acquire(INTERACTIVE);
+        bucket.acquire(INTERACTIVE);
+        bucket.acquire(BACKGROUND);
+
+        assertThat(waitTimer(INTERACTIVE).count()).isEqualTo(2);
+        assertThat(waitTimer(BACKGROUND).count()).isEqualTo(1);
+        assertThat(waitTimer(INTERACTIVE).max(SECONDS)).isLessThan(1);
+        assertThat(queueDepth()).isZero();
+    }
+
+    @Test
+    public void shouldRejectWhenQueueIsFull() throws Exception {
+        final val bucket = new PriorityTokenBucket(1, 1, 1, registry);
+        bucket.acquire(INTERACTIVE);
+        final val waiterFailure = new AtomicReference<Throwable>();
+        final val waiter = new Thread(() -> acquireCapturingFailure(bucket, waiterFailure));
+        waiter.start();
+        awaitQueueDepth(1);
+
+        assertThatExceptionOfType(QuoteRetrievalFailedException.class)
+            .isThrownBy(() -> bucket.acquire(INTERACTIVE))
+            .withMessage("Too many quote retrievals are waiting for upstream");
+        assertThat(registry.get("quotes.upstream.rejected").counter().count()).isEqualTo(1);
+
+        waiter.interrupt();
+        waiter.join(SECONDS.toMillis(1));
+        assertThat(waiterFailure.get())
+            .isInstanceOf(QuoteRetrievalFailedException.class)
+            .hasMessage("Interrupted while waiting for upstream");
+        assertThat(queueDepth()).isZero();
+    }
+
+    @Test
+    public void shouldServeInteractiveWaitersBeforeBackgroundWaiters() throws Exception {
+        final val bucket = new PriorityTokenBucket(120, 1, 2, registry);
+        bucket.acquire(INTERACTIVE);
+        final List<UpstreamPriority> served = new CopyOnWriteArrayList<>();
+
+        final val background = CompletableFuture.runAsync(() -> {
+            bucket.acquire(BACKGROUND);
+            served.add(BACKGROUND);
+        });
+        awaitQueueDepth(1);
+        final val interactive = CompletableFuture.runAsync(() -> {
+            bucket.acquire(INTERACTIVE);
+            served.add(INTERACTIVE);
+        });
+        awaitQueueDepth(2);
+        CompletableFuture.allOf(background, interactive).get(3, SECONDS);
+
+        assertThat(served).containsExactly(INTERACTIVE, BACKGROUND);
+        assertThat(queueDepth()).isZero();
+    }
+
+    @Test
+    public void shouldReplenishTokensAtConfiguredRate() {
+        final val bucket = new PriorityTokenBucket(600, 1, 1, registry);
+        bucket.acquire(INTERACTIVE);
+
+        bucket.acquire(INTERACTIVE);
+
+        assertThat(waitTimer(INTERACTIVE).max(SECONDS)).isGreaterThanOrEqualTo(0.09);
+    }
+
+    @Test
+    public void shouldGrantAsynchronousAcquisitionWithinBurstImmediately() {
+        final val bucket = new PriorityTokenBucket(1, 1, 1, registry);
+
+        assertThat(bucket.acquireAsync(INTERACTIVE)).isCompleted();
+        assertThat(waitTimer(INTERACTIVE).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldGrantAsynchronousAcquisitionOnceTokenIsReplenished() throws Exception {
+        final val bucket = new PriorityTokenBucket(600, 1, 1, registry);
+        bucket.acquire(INTERACTIVE);
+
+        final val acquisition = bucket.acquireAsync(INTERACTIVE);
+
+        assertThat(acquisition).isNotDone();
+        assertThat(queueDepth()).isEqualTo(1);
+        acquisition.get(1, SECONDS);
+        assertThat(queueDepth()).isZero();
+        assertThat(waitTimer(INTERACTIVE).max(SECONDS)).isGreaterThanOrEqualTo(0.09);
+    }
+
+    @Test
+    public void shouldFailAsynchronousAcquisitionWhenQueueIsFull() {
+        final val bucket = new PriorityTokenBucket(1, 1, 1, registry);
+        bucket.acquire(INTERACTIVE);
+        bucket.acquireAsync(BACKGROUND);
+
+        assertThat(bucket.acquireAsync(INTERACTIVE))
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(QuoteRetrievalFailedException.class);
+        assertThat(registry.get("quotes.upstream.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldWithdrawAbandonedWaiterWithoutAddingToken() {
+        final val bucket = new PriorityTokenBucket(1, 1, 1, registry);
+        bucket.acquire(INTERACTIVE);
+        final val abandoned = bucket.acquireAsync(BACKGROUND);
+
+        bucket.abandon(abandoned);
+
+        assertThat(queueDepth()).isZero();
+        assertThat(bucket.acquireAsync(INTERACTIVE)).isNotDone();
+    }
+
+    @Test
+    public void shouldReturnTokenGrantedToWaiterThatWasAbandonedMeanwhile() throws Exception {
+        final val bucket = new PriorityTokenBucket(600, 1, 1, registry);
+        bucket.acquire(INTERACTIVE);
+        final val abandoned = bucket.acquireAsync(BACKGROUND);
+        abandoned.get(1, SECONDS);
+
+        bucket.abandon(abandoned);
+
+        assertThat(bucket.acquireAsync(INTERACTIVE)).isCompleted();
+    }
+
+    @Test
+    public void shouldGrantReturnedTokenToNextWaiter() throws Exception {
+        final val bucket = new PriorityTokenBucket(1, 1, 1, registry, dispatcher);
+        final val abandoned = bucket.acquireAsync(BACKGROUND);
+        final val next = bucket.acquireAsync(INTERACTIVE);
+
+        bucket.abandon(abandoned);
+
+        assertThat(next).isCompleted();
+        assertThat(queueDepth()).isZero();
+    }
+
+    @Test
+    public void shouldShutDownDispatcherOnClose() {
+        new PriorityTokenBucket(1, 1, 1, registry, dispatcher).close();
+
+        verify(dispatcher).shutdown();
+    }
+
+    private void acquireCapturingFailure(
+        final PriorityTokenBucket bucket,
+        final AtomicReference<Throwable> failure
+    ) {
+        try {
+            bucket.acquire(BACKGROUND);
+        } catch (QuoteRetrievalFailedException e) {
+            failure.set(e);
+        }
+    }
+
+    private void awaitQueueDepth(final int expected) throws InterruptedException {
+        while (queueDepth() < expected) {
+            Thread.sleep(1);
+        }
+    }
+
+    private double queueDepth() {
+        return registry.get("quotes.upstream.queue").gauge().value();
+    }
+
+    private Timer waitTimer(final UpstreamPriority priority) {
+        return registry.get("quotes.upstream.wait").tags("priority", priority.name().toLowerCase()).timer();
+    }
+}
@@ -0,0 +1,140 @@
+package org.ignast.stockinvesting.quotes.alphavantage.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority.INTERACTIVE;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("checkstyle:magicnumber")
+public final class RateLimitedQuotesTest {
+
+    private static final Price TEN = Price.of(BigDecimal.TEN, "USD");
+
+    private final StockSymbol amazon = new StockSymbol("AMZN");
+
+    private final MarketIdentifierCode nasdaq = new MarketIdentifierCode("XNAS");
+
+    private final QuotesRepository underlyingQuotes = mock(QuotesRepository.class);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final PriorityTokenBucket tokenBucket = new PriorityTokenBucket(1, 2, 1, registry);
+
+    private final RateLimitedQuotes quotes = new RateLimitedQuotes(underlyingQuotes, tokenBucket);
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new RateLimitedQuotes(null, tokenBucket));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new RateLimitedQuotes(underlyingQuotes, null));
+    }
+
+    @Test
+    public void shouldNotRetrieveQuotesForNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOf(null, nasdaq));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> quotes.getQuotedPriceOf(amazon, null));
+    }
+
+    @Test
+    public void shouldRetrieveInteractivePriceWithinRateLimit() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        assertThat(quotes.getQuotedPriceOf(amazon, nasdaq)).isEqualTo(TEN);
+        assertThat(waits("interactive")).isEqualTo(1);
+        assertThat(waits("background")).isZero();
+    }
+
+    @Test
+    public void shouldRetrieveBackgroundPriceWithinRateLimit() {
+        when(underlyingQuotes.getQuotedPriceOf(amazon, nasdaq)).thenReturn(TEN);
+
+        UpstreamPriority.runInBackground(() -> quotes.getQuotedPriceOf(amazon, nasdaq));
+
+        assertThat(waits("interactive")).isZero();
+        assertThat(waits("background")).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRetrievePriceAsynchronouslyWithinRateLimit() {
+        when(underlyingQuotes.getQuotedPriceOfAsync(amazon, nasdaq))
+            .thenReturn(CompletableFuture.completedFuture(TEN));
+
+        assertThat(quotes.getQuotedPriceOfAsync(amazon, nasdaq)).isCompletedWithValue(TEN);
+        assertThat(waits("interactive")).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotCallUnderlyingQuotesAsynchronouslyWhenRateLimitRejects() {
+        final val exhaustedBucket = new PriorityTokenBucket(1, 1, 1, registry);
+        final val limitedQuotes = new RateLimitedQuotes(underlyingQuotes, exhaustedBucket);
+        exhaustedBucket.acquire(INTERACTIVE);
+        exhaustedBucket.acquireAsync(INTERACTIVE);
+
+        assertThat(limitedQuotes.getQuotedPriceOfAsync(amazon, nasdaq)).isCompletedExceptionally();
+        verify(underlyingQuotes, never()).getQuotedPriceOfAsync(amazon, nasdaq);
+    }
+
+    @Test
+    public void shouldRetrieveBatchOfPricesWithinSingleToken() {
+        final val amazonListing = new Listing(amazon, nasdaq);
+        final val microsoftListing = new Listing(new StockSymbol("MSFT"), nasdaq);
+        final val batch = List.of(amazonListing, microsoftListing);
+        when(underlyingQuotes.getQuotedPricesOf(batch))
+            .thenReturn(
+                Map.of(
+                    amazonListing,
+                    CompletableFuture.completedFuture(TEN),
+                    microsoftListing,
+                    CompletableFuture.completedFuture(TEN)
+                )
+            );
+
+        final val prices = quotes.getQuotedPricesOf(batch);
+
+        assertThat(prices.get(amazonListing)).isCompletedWithValue(TEN);
+        assertThat(prices.get(microsoftListing)).isCompletedWithValue(TEN);
+        assertThat(waits("interactive")).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldAcquireTokenPerUpstreamBatch() {
+        final val listings = IntStream
+            .range(0, 101)
+            .mapToObj(i -> new Listing(new StockSymbol("S" + i), nasdaq))
+            .collect(Collectors.toList());
+        final val plentifulBucket = new PriorityTokenBucket(1, 5, 1, registry);
+        final val limitedQuotes = new RateLimitedQuotes(underlyingQuotes, plentifulBucket);
+
+        limitedQuotes.getQuotedPricesOf(listings);
+
+        verify(underlyingQuotes).getQuotedPricesOf(listings.subList(0, 100));
+        verify(underlyingQuotes).getQuotedPricesOf(listings.subList(100, 101));
+        assertThat(waits("interactive")).isEqualTo(2);
+    }
+
+    private long waits(final String priority) {
+        return registry.get("quotes.upstream.wait").tags("priority", priority).timer().count();
+    }
+}
@@ -0,0 +1,73 @@
+package org.ignast.stockinvesting.quotes.alphavantage.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority.BACKGROUND;
+import static org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority.INTERACTIVE;
+
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+public final class UpstreamPriorityTest {
+
+    @Test
+    public void shouldBeInteractiveByDefault() {
+        assertThat(UpstreamPriority.current()).isEqualTo(INTERACTIVE);
+    }
+
+    @Test
+    public void shouldRunTaskInBackground() {
+        final val priority = new AtomicReference<UpstreamPriority>();
+
+        UpstreamPriority.runInBackground(() -> priority.set(UpstreamPriority.current()));
+
+        assertThat(priority.get()).isEqualTo(BACKGROUND);
+        assertThat(UpstreamPriority.current()).isEqualTo(INTERACTIVE);
+    }
+
+    @Test
+    public void shouldRunTaskWithGivenPriority() {
+        final val priority = new AtomicReference<UpstreamPriority>();
+
+        UpstreamPriority.runInBackground(() ->
+            UpstreamPriority.runAs(INTERACTIVE, () -> priority.set(UpstreamPriority.current()))
+        );
+
+        assertThat(priority.get()).isEqualTo(INTERACTIVE);
+    }
+
+    @Test
+    public void shouldRestorePriorityEvenIfTaskFails() {
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() ->
+                UpstreamPriority.runInBackground(() -> {
+                    throw new IllegalStateException();
+                })
+            );
+
+        assertThat(UpstreamPriority.current()).isEqualTo(INTERACTIVE);
+    }
+
+    @Test
+    public void shouldRunTasksOfExecutorInBackground() {
+        final val priority = new AtomicReference<UpstreamPriority>();
+
+        UpstreamPriority.inBackground(Runnable::run).execute(() -> priority.set(UpstreamPriority.current()));
+
+        assertThat(priority.get()).isEqualTo(BACKGROUND);
+        assertThat(UpstreamPriority.current()).isEqualTo(INTERACTIVE);
+    }
+
+    @Test
+    public void shouldNotAcceptNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> UpstreamPriority.runInBackground(null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> UpstreamPriority.inBackground(null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> UpstreamPriority.runAs(null, () -> {}));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> UpstreamPriority.runAs(BACKGROUND, null));
+    }
+}
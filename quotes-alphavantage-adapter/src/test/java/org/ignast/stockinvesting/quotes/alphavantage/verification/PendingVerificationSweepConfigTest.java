@@ -0,0 +1,67 @@
+package org.ignast.stockinvesting.quotes.alphavantage.verification;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.junit.jupiter.api.Test;
+
+public final class PendingVerificationSweepConfigTest {
+
+    @Test
+    public void shouldVerifyCompaniesPendingVerificationInConfiguredBatches() {
+        final val companies = mock(Companies.class);
+
+        new PendingVerificationSweepConfig().pendingVerificationSweep(companies, 1).sweep();
+
+        verify(companies).verifyPending(1);
+    }
+
+    @Test
+    public void shouldRecordVerificationOutcomesOnDedicatedThreads() throws Exception {
+        final val executor = new PendingVerificationSweepConfig()
+            .companyVerificationExecutor(1, 1, new SimpleMeterRegistry());
+        try {
+            final val threadName = CompletableFuture
+                .supplyAsync(() -> Thread.currentThread().getName(), executor)
+                .get(1, SECONDS);
+
+            assertThat(threadName).startsWith("company-verification-");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldRejectOutcomesBeyondQueueCapacity() {
+        final val executor = new PendingVerificationSweepConfig()
+            .companyVerificationExecutor(1, 1, new SimpleMeterRegistry());
+        final val release = new CountDownLatch(1);
+        try {
+            executor.execute(() -> awaitUninterruptibly(release));
+            executor.execute(() -> {});
+
+            assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> executor.execute(() -> {}));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package org.ignast.stockinvesting.quotes.alphavantage.verification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.junit.jupiter.api.Test;
+
+public final class PendingVerificationSweepTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private final Companies companies = mock(Companies.class);
+
+    @Test
+    public void shouldNotBeCreatedWithNullCompanies() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new PendingVerificationSweep(null, BATCH_SIZE));
+    }
+
+    @Test
+    public void shouldNotBeCreatedWithNonPositiveBatchSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new PendingVerificationSweep(companies, 0))
+            .withMessage("Batch size must be positive");
+    }
+
+    @Test
+    public void shouldVerifyBatchOfCompaniesPendingVerification() {
+        new PendingVerificationSweep(companies, BATCH_SIZE).sweep();
+
+        verify(companies).verifyPending(BATCH_SIZE);
+    }
+
+    @Test
+    public void shouldVerifyInBackground() {
+        final List<UpstreamPriority> priorities = new ArrayList<>();
+        doAnswer(i -> priorities.add(UpstreamPriority.current())).when(companies).verifyPending(BATCH_SIZE);
+
+        new PendingVerificationSweep(companies, BATCH_SIZE).sweep();
+
+        assertThat(priorities).containsExactly(UpstreamPriority.BACKGROUND);
+    }
+}
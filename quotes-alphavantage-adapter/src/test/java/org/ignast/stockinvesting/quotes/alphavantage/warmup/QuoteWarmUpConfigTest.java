@@ -0,0 +1,66 @@
+package org.ignast.stockinvesting.quotes.alphavantage.warmup;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+@SuppressWarnings("checkstyle:magicnumber")
+public final class QuoteWarmUpConfigTest {
+
+    private static final long TIMEOUT_MILLIS = 1000;
+
+    private final Companies companies = mock(Companies.class);
+
+    private final Company company = mock(Company.class);
+
+    @Test
+    public void shouldWarmUpQuotesOfAllCompanies() {
+        when(companies.count()).thenReturn(1L);
+        when(companies.streamAll(1)).thenReturn(Stream.of(company));
+        when(company.getQuoteAsync()).thenReturn(completedFuture(null));
+
+        try (final val warmUp = quoteWarmUp()) {
+            warmUp.warmUp();
+
+            verify(company).getQuoteAsync();
+            assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+        }
+    }
+
+    @Test
+    public void shouldWarmUpOnDedicatedThreadOnceStarted() {
+        final val threadName = new AtomicReference<String>();
+        when(companies.count()).thenReturn(1L);
+        when(companies.streamAll(1)).thenReturn(Stream.of(company));
+        when(company.getQuoteAsync())
+            .thenAnswer(i -> {
+                threadName.set(Thread.currentThread().getName());
+                return completedFuture(null);
+            });
+
+        try (final val warmUp = quoteWarmUp()) {
+            warmUp.start();
+
+            verify(company, timeout(TIMEOUT_MILLIS)).getQuoteAsync();
+            assertThat(threadName).hasValue("quote-warmup");
+        }
+    }
+
+    private QuoteWarmUp quoteWarmUp() {
+        return new QuoteWarmUpConfig()
+            .quoteWarmUp(companies, 1, 60, 100, 1, Duration.ofHours(1), new SimpleMeterRegistry());
+    }
+}
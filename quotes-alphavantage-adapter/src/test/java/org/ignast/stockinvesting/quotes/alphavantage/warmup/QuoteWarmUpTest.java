@@ -0,0 +1,325 @@
+package org.ignast.stockinvesting.quotes.alphavantage.warmup;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.ignast.stockinvesting.quotes.alphavantage.AlphaVantageQuotes.MAX_SYMBOLS_PER_CALL;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Stream;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.alphavantage.ratelimit.UpstreamPriority;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.QuotedPrice;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+public final class QuoteWarmUpTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private static final int ALL = 100;
+
+    private static final Duration INTERVAL = Duration.ofMinutes(4);
+
+    private static final long TIMEOUT_MILLIS = 1000;
+
+    private static final long AWAIT_MILLIS = 100;
+
+    private final Companies companies = mock(Companies.class);
+
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new QuoteWarmUp(null, PAGE_SIZE, rateLimiter, ALL, INTERVAL, registry));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new QuoteWarmUp(companies, PAGE_SIZE, null, ALL, INTERVAL, registry));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new QuoteWarmUp(companies, PAGE_SIZE, rateLimiter, ALL, null, registry));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new QuoteWarmUp(companies, PAGE_SIZE, rateLimiter, ALL, INTERVAL, null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new QuoteWarmUp(companies, PAGE_SIZE, rateLimiter, ALL, INTERVAL, registry, null)
+            );
+    }
+
+    @Test
+    public void shouldNotBeCreatedWithNonPositiveInterval() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new QuoteWarmUp(companies, PAGE_SIZE, rateLimiter, ALL, Duration.ZERO, registry)
+            )
+            .withMessage("Warm-up interval must be positive");
+    }
+
+    @Test
+    public void shouldNotBeCreatedWithReadinessPercentageOutOfRange() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> warmUp(-1))
+            .withMessage("Readiness percentage must be between 0 and 100");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> warmUp(ALL + 1))
+            .withMessage("Readiness percentage must be between 0 and 100");
+    }
+
+    @Test
+    public void shouldNotBeReadyBeforeWarmUp() {
+        final val warmUp = warmUp(ALL);
+
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    @Test
+    public void shouldBeReadyWhenThereAreNoCompaniesToWarmUp() {
+        stubCompanies();
+        final val warmUp = warmUp(ALL);
+
+        warmUp.warmUp();
+
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    public void shouldRetrieveQuoteOfEveryCompanyPacedByRateLimiter() {
+        final val amazon = mock(Company.class);
+        final val microsoft = mock(Company.class);
+        stubCompanies(amazon, microsoft);
+        final val warmUp = warmUp(ALL);
+
+        warmUp.warmUp();
+
+        verify(amazon).getQuoteAsync();
+        verify(microsoft).getQuoteAsync();
+        verify(rateLimiter, times(1)).acquire(1);
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(warmUp.health().getDetails()).containsEntry("warmedUp", 2L).containsEntry("total", 2L);
+        assertThat(warmCount("warmed")).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldAcquirePermitForEveryUpstreamCallPageNeeds() {
+        final val pageSize = MAX_SYMBOLS_PER_CALL + 1;
+        final val page = Stream.generate(() -> mock(Company.class)).limit(pageSize).collect(toList());
+        page.forEach(company -> when(company.getQuoteAsync()).thenReturn(completedFuture(null)));
+        when(companies.count()).thenReturn((long) pageSize);
+        when(companies.streamAll(pageSize)).thenAnswer(i -> page.stream());
+
+        new QuoteWarmUp(companies, pageSize, rateLimiter, ALL, INTERVAL, registry, scheduler).warmUp();
+
+        verify(rateLimiter).acquire(2);
+    }
+
+    @Test
+    public void shouldRequestQuotesOfWholePageTogetherAndWaitForThemBeforeNextPage() throws Exception {
+        final val amazon = mock(Company.class);
+        final val microsoft = mock(Company.class);
+        final val netflix = mock(Company.class);
+        stubCompanies(amazon, microsoft, netflix);
+        final val pending = new CompletableFuture<QuotedPrice>();
+        when(amazon.getQuoteAsync()).thenReturn(pending);
+        final val warmUp = warmUp(ALL);
+
+        final val cycle = CompletableFuture.runAsync(warmUp::warmUp);
+
+        verify(microsoft, timeout(TIMEOUT_MILLIS)).getQuoteAsync();
+        verify(netflix, after(AWAIT_MILLIS).never()).getQuoteAsync();
+        pending.complete(null);
+        cycle.get(1, SECONDS);
+        verify(netflix).getQuoteAsync();
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    public void shouldRetrieveQuotesWithBackgroundPriority() {
+        final val amazon = mock(Company.class);
+        stubCompanies(amazon);
+        final val warmUp = warmUp(ALL);
+        when(amazon.getQuoteAsync())
+            .thenAnswer(i -> {
+                assertThat(UpstreamPriority.current()).isEqualTo(UpstreamPriority.BACKGROUND);
+                return completedFuture(null);
+            });
+
+        warmUp.warmUp();
+
+        verify(amazon).getQuoteAsync();
+        assertThat(UpstreamPriority.current()).isEqualTo(UpstreamPriority.INTERACTIVE);
+    }
+
+    @Test
+    public void shouldBecomeReadyOnceReadinessPercentageIsReached() {
+        final val amazon = mock(Company.class);
+        final val microsoft = mock(Company.class);
+        stubCompanies(amazon, microsoft);
+        final val warmUp = warmUp(ALL / 2);
+        when(microsoft.getQuoteAsync())
+            .thenAnswer(i -> {
+                assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+                return completedFuture(null);
+            });
+
+        warmUp.warmUp();
+
+        verify(microsoft).getQuoteAsync();
+    }
+
+    @Test
+    public void shouldNotBeReadyBeforeReadinessPercentageIsReached() {
+        final val amazon = mock(Company.class);
+        final val microsoft = mock(Company.class);
+        stubCompanies(amazon, microsoft);
+        final val warmUp = warmUp(ALL);
+        when(microsoft.getQuoteAsync())
+            .thenAnswer(i -> {
+                assertThat(warmUp.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+                return completedFuture(null);
+            });
+
+        warmUp.warmUp();
+
+        verify(microsoft).getQuoteAsync();
+    }
+
+    @Test
+    public void shouldContinueWarmUpDespiteFailingQuotes() {
+        final val unsupported = mock(Company.class);
+        final val unavailable = mock(Company.class);
+        final val amazon = mock(Company.class);
+        stubCompanies(unsupported, unavailable, amazon);
+        when(unsupported.getQuoteAsync())
+            .thenReturn(failedFuture(new StockSymbolNotSupportedInThisMarket("not supported")));
+        when(unavailable.getQuoteAsync())
+            .thenReturn(failedFuture(new QuoteRetrievalFailedException("failed")));
+        final val warmUp = warmUp(ALL);
+
+        warmUp.warmUp();
+
+        verify(amazon).getQuoteAsync();
+        assertThat(warmCount("failed")).isEqualTo(2);
+        assertThat(warmCount("warmed")).isEqualTo(1);
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    public void shouldRemainReadyWhileWarmingUpAgain() {
+        final val amazon = mock(Company.class);
+        stubCompanies(amazon);
+        final val warmUp = warmUp(ALL);
+        warmUp.warmUp();
+        when(amazon.getQuoteAsync())
+            .thenAnswer(i -> {
+                assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+                return completedFuture(null);
+            });
+
+        warmUp.warmUp();
+
+        verify(amazon, times(2)).getQuoteAsync();
+    }
+
+    @Test
+    public void shouldWarmUpRightAwayAndThenAfterEveryIntervalOnOwnScheduler() {
+        final val warmUp = warmUp(ALL);
+
+        warmUp.start();
+
+        verify(scheduler).scheduleWithFixedDelay(any(), eq(0L), eq(INTERVAL.toNanos()), eq(NANOSECONDS));
+    }
+
+    @Test
+    public void shouldShutDownSchedulerOnClose() {
+        warmUp(ALL).close();
+
+        verify(scheduler).shutdown();
+    }
+
+    @Test
+    public void shouldNoLongerBeReadyOnceWarmUpFails() {
+        final val amazon = mock(Company.class);
+        stubCompanies(amazon);
+        final val warmUp = warmUp(ALL);
+        warmUp.warmUp();
+        when(companies.count()).thenThrow(new IllegalStateException("database unavailable"));
+
+        warmUp.warmUp();
+
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    @Test
+    public void shouldNoLongerBeReadyOnceWarmUpIsInterruptedBeforeReadinessPercentage() {
+        final val amazon = mock(Company.class);
+        final val microsoft = mock(Company.class);
+        stubCompanies(amazon, microsoft);
+        final val warmUp = warmUp(ALL);
+        warmUp.warmUp();
+        when(microsoft.getQuoteAsync()).thenReturn(failedFuture(new IllegalStateException("unexpected")));
+
+        warmUp.warmUp();
+
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(warmUp.health().getDetails()).containsEntry("warmedUp", 1L);
+    }
+
+    @Test
+    public void shouldBeReadyAgainOnceWarmUpRecovers() {
+        final val amazon = mock(Company.class);
+        stubCompanies(amazon);
+        final val warmUp = warmUp(ALL);
+        when(companies.count()).thenThrow(new IllegalStateException("database unavailable")).thenReturn(1L);
+        warmUp.warmUp();
+
+        warmUp.warmUp();
+
+        assertThat(warmUp.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    private QuoteWarmUp warmUp(final int readinessPercentage) {
+        return new QuoteWarmUp(
+            companies,
+            PAGE_SIZE,
+            rateLimiter,
+            readinessPercentage,
+            INTERVAL,
+            registry,
+            scheduler
+        );
+    }
+
+    private void stubCompanies(final Company... all) {
+        Stream.of(all).forEach(company -> when(company.getQuoteAsync()).thenReturn(completedFuture(null)));
+        when(companies.count()).thenReturn((long) all.length);
+        when(companies.streamAll(PAGE_SIZE)).thenAnswer(i -> List.of(all).stream());
+    }
+
+    private double warmCount(final String result) {
+        return registry.get("quotes.warmup").tags("result", result).counter().count();
+    }
+}
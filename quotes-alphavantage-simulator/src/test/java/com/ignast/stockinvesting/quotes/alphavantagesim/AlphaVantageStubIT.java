@@ -1,6 +1,7 @@
 package com.ignast.stockinvesting.quotes.alphavantagesim;
 
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.ignast.stockinvesting.quotes.alphavantagesim.QueryParams.validBatchParamsBuilder;
 import static com.ignast.stockinvesting.quotes.alphavantagesim.QueryParams.validParamsBuilder;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -12,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.extension.responsetemplating.ResponseTemplateTransformer;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import java.io.IOException;
 import java.net.URI;
@@ -38,7 +40,11 @@ public final class AlphaVantageStubIT {
     @RegisterExtension
     private static final WireMockExtension WIREMOCK = WireMockExtension
         .newInstance()
-        .options(wireMockConfig().usingFilesUnderDirectory("src/main/resources/wiremock/"))
+        .options(
+            wireMockConfig()
+                .usingFilesUnderDirectory("src/main/resources/wiremock/")
+                .extensions(new ResponseTemplateTransformer(false))
+        )
         .build();
 
     private final ObjectMapper mapper = new ObjectMapper();
@@ -61,6 +67,53 @@ public final class AlphaVantageStubIT {
         assertThat(response.headers().allValues("Content-Type")).contains("application/json");
     }
 
+    @Test
+    public void shouldReturnPricesOfAllSymbolsInBatch()
+        throws IOException, InterruptedException, JSONException {
+        final val response = query(
+            "/query?" + validBatchParamsBuilder().symbols("AMZN,MSFT").build().toString()
+        );
+
+        assertThat(response.statusCode()).isEqualTo(OK);
+        assertThatJson(response.body())
+            .isEqualTo(
+                """
+                {"Stock Quotes":[
+                    {"1. symbol":"AMZN","2. price":"128.5000"},
+                    {"1. symbol":"MSFT","2. price":"128.5000"}
+                ]}"""
+            );
+        assertThat(response.headers().allValues("Content-Type")).contains("application/json");
+    }
+
+    @Test
+    public void shouldReturnNoPriceForUnsupportedSymbolInBatch()
+        throws IOException, InterruptedException, JSONException {
+        final val response = query(
+            "/query?" + validBatchParamsBuilder().symbols("AAAA,AMZN").build().toString()
+        );
+
+        assertThat(response.statusCode()).isEqualTo(OK);
+        assertThatJson(response.body())
+            .isEqualTo(
+                """
+                {"Stock Quotes":[
+                    {"1. symbol":"AAAA"},
+                    {"1. symbol":"AMZN","2. price":"128.5000"}
+                ]}"""
+            );
+    }
+
+    @Test
+    public void queryingBatchWithoutSymbolsShouldReturnError() throws IOException, InterruptedException {
+        expectError(validBatchParamsBuilder().symbols(null).build());
+    }
+
+    @Test
+    public void queryingBatchWithEmptySymbolShouldReturnError() throws IOException, InterruptedException {
+        expectError(validBatchParamsBuilder().symbols("AMZN,,MSFT").build());
+    }
+
     @Test
     public void queryingWithoutApiKeyShouldReturnError() throws IOException, InterruptedException {
         expectError(validParamsBuilder().apikey(null).build());
@@ -144,23 +197,31 @@ final class DockerizedAlphaVantageStubIT {
 @Builder
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-@JsonPropertyOrder({ "function", "symbol", "apikey" })
+@JsonPropertyOrder({ "function", "symbol", "symbols", "apikey" })
 final class QueryParams {
 
     private static final String API_KEY = "1OFDQOSYMBH3NP";
 
     private static final String GLOBAL_QUOTE = "GLOBAL_QUOTE";
 
+    private static final String BATCH_STOCK_QUOTES = "BATCH_STOCK_QUOTES";
+
     private final String function;
 
     private final String apikey;
 
     private final String symbol;
 
+    private final String symbols;
+
     public static QueryParamsBuilder validParamsBuilder() {
         return new QueryParamsBuilder().apikey(API_KEY).symbol("AMZN").function(GLOBAL_QUOTE);
     }
 
+    public static QueryParamsBuilder validBatchParamsBuilder() {
+        return new QueryParamsBuilder().apikey(API_KEY).symbols("AMZN").function(BATCH_STOCK_QUOTES);
+    }
+
     @Override
     public String toString() {
         return new ObjectMapper()
@@ -212,6 +273,18 @@ final class QueryParamsBuilderTest {
         assertThat(queryParams).isEqualTo("function=function1&symbol=symbol1&apikey=apikey1");
     }
 
+    @Test
+    public void shouldBuildWithSymbols() {
+        final val queryParams = new QueryParams.QueryParamsBuilder().symbols("S1,S2").build().toString();
+        assertThat(queryParams).isEqualTo("symbols=S1,S2");
+    }
+
+    @Test
+    public void shouldProvideBuilderWithValidBatchParameters() {
+        final val queryParams = validBatchParamsBuilder().build().toString();
+        assertThat(queryParams).isEqualTo("function=BATCH_STOCK_QUOTES&symbols=AMZN&apikey=1OFDQOSYMBH3NP");
+    }
+
     @Test
     public void shouldProvideBuilderWithValidParameters() {
         final val queryParams = validParamsBuilder().build().toString();
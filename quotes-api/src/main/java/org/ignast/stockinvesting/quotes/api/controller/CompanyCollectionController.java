@@ -0,0 +1,120 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static java.util.stream.Collectors.toList;
+import static org.ignast.stockinvesting.quotes.api.controller.VersionedApiMediaTypes.NDJSON;
+import static org.ignast.stockinvesting.quotes.api.controller.VersionedApiMediaTypes.V1;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.PageSizeOutOfRange;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/companies")
+public class CompanyCollectionController {
+
+    public static final String AFTER = "after";
+
+    public static final String SIZE = "size";
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private static final String DEFAULT_PAGE_SIZE = "100";
+
+    private final Companies companies;
+
+    private final CompanyMapping mapping;
+
+    private final ObjectMapper objectMapper;
+
+    public CompanyCollectionController(
+        @NonNull final Companies companies,
+        @NonNull final StockExchanges stockExchanges,
+        @NonNull final ObjectMapper objectMapper
+    ) {
+        this.companies = companies;
+        this.mapping = new CompanyMapping(stockExchanges);
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(produces = V1)
+    public CollectionModel<EntityModel<CompanyDTO>> retrieveCompanies(
+        @RequestParam(name = AFTER, required = false) final Integer after,
+        @RequestParam(name = SIZE, defaultValue = DEFAULT_PAGE_SIZE) final int size
+    ) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new PageSizeOutOfRange(MAX_PAGE_SIZE);
+        }
+        final val page = findPage(after, size);
+
+        final List<Link> links = new ArrayList<>();
+        links.add(pageLink(after, size, IanaLinkRelations.SELF));
+        if (page.size() == size) {
+            final val lastId = page.get(page.size() - 1).getExternalId().get();
+            links.add(pageLink(lastId, size, IanaLinkRelations.NEXT));
+        }
+        return CollectionModel.of(page.stream().map(this::toModel).collect(toList()), links);
+    }
+
+    @GetMapping(produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamCompanies() {
+        return ResponseEntity.ok().contentType(MediaType.valueOf(NDJSON)).body(this::writeAll);
+    }
+
+    private List<Company> findPage(final Integer after, final int pageSize) {
+        if (after == null || after <= 0) {
+            return companies.findFirstPage(pageSize);
+        } else {
+            return companies.findPageAfter(new CompanyExternalId(after), pageSize);
+        }
+    }
+
+    private Link pageLink(final Integer after, final int pageSize, final LinkRelation relation) {
+        final val uri = linkTo(CompanyCollectionController.class)
+            .toUriComponentsBuilder()
+            .queryParamIfPresent(AFTER, Optional.ofNullable(after))
+            .queryParam(SIZE, pageSize);
+        return Link.of(uri.toUriString(), relation);
+    }
+
+    private EntityModel<CompanyDTO> toModel(final Company company) {
+        final val id = company.getExternalId().get();
+        final val selfLink = linkTo(CompanyController.class).slash(id).withSelfRel();
+        final val priceLink = linkTo(PriceController.class, id)
+            .slash("price")
+            .withRel("quotes:queryQuotedPrice");
+        return EntityModel.of(mapping.toDto(company), selfLink, priceLink);
+    }
+
+    private void writeAll(final OutputStream output) throws IOException {
+        try (final val all = companies.streamAll()) {
+            final val iterator = all.iterator();
+            while (iterator.hasNext()) {
+                output.write(objectMapper.writeValueAsBytes(mapping.toDto(iterator.next())));
+                output.write('\n');
+            }
+        }
+    }
+}
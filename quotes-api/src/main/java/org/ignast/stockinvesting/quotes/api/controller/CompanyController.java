@@ -4,25 +4,19 @@ import static org.ignast.stockinvesting.quotes.api.controller.VersionedApiMediaT
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
-import java.util.List;
 import javax.validation.Valid;
 import lombok.val;
 import org.ignast.stockinvesting.quotes.domain.Companies;
-import org.ignast.stockinvesting.quotes.domain.Company;
 import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
-import org.ignast.stockinvesting.quotes.domain.CompanyName;
-import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
 import org.ignast.stockinvesting.quotes.domain.StockExchanges;
-import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.hateoas.EntityModel;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseBody;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -31,29 +25,42 @@ public class CompanyController {
 
     private static final String QUOTED_PRICE_REL = "quotes:queryQuotedPrice";
 
+    private static final String PRICE = "price";
+
     private final Companies companies;
 
-    private final StockExchanges stockExchanges;
+    private final CompanyMapping mapping;
+
+    private final boolean verifyInBackground;
 
-    public CompanyController(final Companies companies, final StockExchanges stockExchanges) {
+    public CompanyController(
+        final Companies companies,
+        final StockExchanges stockExchanges,
+        @Value("${companies.verification.async}") final boolean verifyInBackground
+    ) {
         this.companies = companies;
-        this.stockExchanges = stockExchanges;
+        this.mapping = new CompanyMapping(stockExchanges);
+        this.verifyInBackground = verifyInBackground;
     }
 
-    @ResponseStatus(HttpStatus.CREATED)
-    @ResponseBody
     @PutMapping(consumes = V1, produces = V1)
-    public EntityModel<CompanyDTO> createCompany(@Valid @RequestBody final CompanyDTO companyDTO) {
+    public ResponseEntity<EntityModel<CompanyDTO>> createCompany(
+        @Valid @RequestBody final CompanyDTO companyDTO
+    ) {
         final val externalId = companyDTO.getId();
-        companies.create(mapFromDto(companyDTO));
-
         final val selfLink = linkTo(methodOn(CompanyController.class).retrieveCompanyById(externalId))
             .withSelfRel();
-        final val priceLink = linkTo(
-            methodOn(PriceController.class).retrievePriceForCompanyWithId(externalId)
-        )
+        final val priceLink = linkTo(PriceController.class, externalId)
+            .slash(PRICE)
             .withRel(QUOTED_PRICE_REL);
-        return EntityModel.of(companyDTO, selfLink, priceLink);
+        final val createdCompany = EntityModel.of(companyDTO, selfLink, priceLink);
+        if (verifyInBackground) {
+            companies.createPendingVerification(mapping.fromDto(companyDTO, true));
+            return ResponseEntity.accepted().body(createdCompany);
+        } else {
+            companies.create(mapping.fromDto(companyDTO, false));
+            return ResponseEntity.created(selfLink.toUri()).body(createdCompany);
+        }
     }
 
     @GetMapping(value = "/{id}", produces = V1)
@@ -61,37 +68,7 @@ public class CompanyController {
         final val company = companies.findByExternalId(new CompanyExternalId(id));
 
         final val selfLink = linkTo(CompanyController.class).slash(id).withSelfRel();
-        final val priceLink = linkTo(methodOn(PriceController.class).retrievePriceForCompanyWithId(id))
-            .withRel(QUOTED_PRICE_REL);
-        return EntityModel.of(mapToDto(company), selfLink, priceLink);
-    }
-
-    private Company mapFromDto(final CompanyDTO companyDTO) {
-        return companyDTO
-            .getListings()
-            .stream()
-            .findFirst()
-            .map(l -> {
-                final val externalId = new CompanyExternalId(companyDTO.getId());
-                final val name = new CompanyName(companyDTO.getName());
-                final val symbol = new StockSymbol(l.getStockSymbol());
-                final val stockExchange = stockExchanges.getFor(
-                    new MarketIdentifierCode(l.getMarketIdentifier())
-                );
-                return Company.create(externalId, name, symbol, stockExchange);
-            })
-            .orElseThrow(() ->
-                new IllegalArgumentException(
-                    "Company to be created was expected to have one listing, but zero was found"
-                )
-            );
-    }
-
-    private CompanyDTO mapToDto(final Company company) {
-        final val listingDto = new ListingDTO(
-            company.getStockExchange().getMarketIdentifierCode().get(),
-            company.getStockSymbol().get()
-        );
-        return new CompanyDTO(company.getExternalId().get(), company.getName().get(), List.of(listingDto));
+        final val priceLink = linkTo(PriceController.class, id).slash(PRICE).withRel(QUOTED_PRICE_REL);
+        return EntityModel.of(mapping.toDto(company), selfLink, priceLink);
     }
 }
@@ -12,9 +12,11 @@ import lombok.Getter;
 import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
 import org.ignast.stockinvesting.quotes.domain.CompanyName;
 import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.annotation.DomainClassConstraint;
+import org.springframework.hateoas.server.core.Relation;
 
 @EqualsAndHashCode
 @Getter
+@Relation(collectionRelation = "companies")
 public final class CompanyDTO {
 
     @NotNull
@@ -0,0 +1,18 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.InvalidCompanyId;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+
+final class CompanyIds {
+
+    private CompanyIds() {}
+
+    static CompanyExternalId toExternalId(final int id) {
+        final val error = CompanyExternalId.validate(id);
+        if (error.isPresent()) {
+            throw new InvalidCompanyId(error.get());
+        }
+        return new CompanyExternalId(id);
+    }
+}
@@ -0,0 +1,60 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.ignast.stockinvesting.quotes.api.controller.VersionedApiMediaTypes.NDJSON;
+import static org.ignast.stockinvesting.quotes.api.controller.VersionedApiMediaTypes.V1;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.List;
+import javax.validation.Validator;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.parsing.JacksonParsingErrorsExtractor;
+import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.AnnotationBasedValidationErrorsExtractor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/companies/imports")
+public class CompanyImportController {
+
+    private final CompanyImporter importer;
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    public CompanyImportController(
+        final ObjectMapper objectMapper,
+        final Validator validator,
+        final JacksonParsingErrorsExtractor parsingErrors,
+        final AnnotationBasedValidationErrorsExtractor validationErrors,
+        final Companies companies,
+        final StockExchanges stockExchanges,
+        @Value("${companies.verification.async}") final boolean verifyInBackground,
+        @Value("${companies.import.max.rows}") final int maxRows
+    ) {
+        this.importer =
+            new CompanyImporter(
+                new CompanyImportParser(objectMapper, validator, parsingErrors, validationErrors),
+                new CompanyMapping(stockExchanges),
+                companies,
+                verifyInBackground,
+                maxRows
+            );
+    }
+
+    @PostMapping(consumes = V1, produces = V1)
+    public CompanyImportDTO importCompanies(@RequestBody final List<JsonNode> companies) {
+        return importer.importAll(companies);
+    }
+
+    @PostMapping(consumes = NDJSON, produces = V1)
+    public CompanyImportDTO importCompaniesFromStream(final InputStream companies) {
+        return importer.importLines(new BufferedReader(new InputStreamReader(companies, UTF_8)));
+    }
+}
@@ -0,0 +1,14 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public final class CompanyImportDTO {
+
+    @NonNull
+    private final List<CompanyImportResultDTO> companies;
+}
@@ -0,0 +1,76 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO.createBodyNotParsable;
+import static org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO.createForBodyDoesNotMatchSchema;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.util.List;
+import javax.validation.Validator;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.parsing.JacksonParsingErrorsExtractor;
+import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.parsing.JacksonParsingErrorsExtractor.ExtractionException;
+import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.AnnotationBasedValidationErrorsExtractor;
+import org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO;
+import org.springframework.http.HttpStatus;
+
+@RequiredArgsConstructor
+final class CompanyImportParser {
+
+    @NonNull
+    private final ObjectMapper objectMapper;
+
+    @NonNull
+    private final Validator validator;
+
+    @NonNull
+    private final JacksonParsingErrorsExtractor parsingErrors;
+
+    @NonNull
+    private final AnnotationBasedValidationErrorsExtractor validationErrors;
+
+    CompanyImportRow parseLine(final int index, final String line) {
+        try {
+            return parse(index, objectMapper.readTree(line));
+        } catch (JsonProcessingException e) {
+            return CompanyImportRow.rejected(index, null, createBodyNotParsable());
+        }
+    }
+
+    CompanyImportRow parse(final int index, final JsonNode node) {
+        try {
+            return validate(index, objectMapper.treeToValue(node, CompanyDTO.class));
+        } catch (MismatchedInputException e) {
+            return CompanyImportRow.rejected(index, null, schemaMismatchOf(e));
+        } catch (JsonProcessingException e) {
+            return CompanyImportRow.rejected(index, null, createBodyNotParsable());
+        }
+    }
+
+    private CompanyImportRow validate(final int index, final CompanyDTO dto) {
+        final val violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return CompanyImportRow.parsed(index, dto);
+        } else {
+            return CompanyImportRow.rejected(
+                index,
+                dto.getId(),
+                createForBodyDoesNotMatchSchema(
+                    validationErrors.extractAnnotationBasedErrorsFromViolations(violations)
+                )
+            );
+        }
+    }
+
+    private StandardErrorDTO schemaMismatchOf(final MismatchedInputException exception) {
+        try {
+            return createForBodyDoesNotMatchSchema(List.of(parsingErrors.extractError(exception)));
+        } catch (ExtractionException e) {
+            return StandardErrorDTO.createNameless(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO;
+
+@Getter
+@JsonInclude(NON_NULL)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompanyImportResultDTO {
+
+    private final int row;
+
+    private final Integer id;
+
+    private final StandardErrorDTO error;
+
+    public static CompanyImportResultDTO imported(final int row, @NonNull final Integer id) {
+        return new CompanyImportResultDTO(row, id, null);
+    }
+
+    public static CompanyImportResultDTO failed(
+        final int row,
+        final Integer id,
+        @NonNull final StandardErrorDTO error
+    ) {
+        return new CompanyImportResultDTO(row, id, error);
+    }
+}
@@ -0,0 +1,56 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.BatchItemErrors;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompanyImportRow {
+
+    private final int index;
+
+    private final Integer id;
+
+    @Getter
+    private final Optional<CompanyDTO> dto;
+
+    @Getter
+    private final Optional<Company> company;
+
+    private final StandardErrorDTO error;
+
+    static CompanyImportRow parsed(final int index, @NonNull final CompanyDTO dto) {
+        return new CompanyImportRow(index, dto.getId(), Optional.of(dto), Optional.empty(), null);
+    }
+
+    static CompanyImportRow rejected(
+        final int index,
+        final Integer id,
+        @NonNull final StandardErrorDTO error
+    ) {
+        return new CompanyImportRow(index, id, Optional.empty(), Optional.empty(), error);
+    }
+
+    CompanyImportRow accepted(@NonNull final Company acceptedCompany) {
+        return new CompanyImportRow(index, id, Optional.empty(), Optional.of(acceptedCompany), null);
+    }
+
+    CompanyImportRow rejectedWith(@NonNull final StandardErrorDTO rejection) {
+        return rejected(index, id, rejection);
+    }
+
+    CompanyImportResultDTO saved(@NonNull final Optional<RuntimeException> failure) {
+        return failure
+            .map(e -> CompanyImportResultDTO.failed(index, id, BatchItemErrors.of(e)))
+            .orElseGet(() -> CompanyImportResultDTO.imported(index, id));
+    }
+
+    CompanyImportResultDTO notSaved() {
+        return CompanyImportResultDTO.failed(index, id, error);
+    }
+}
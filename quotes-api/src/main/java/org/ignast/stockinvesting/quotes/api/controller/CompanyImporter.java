@@ -0,0 +1,97 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toList;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.BufferedReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.BatchItemErrors;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.TooManyItems;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.StockExchangeNotSupported;
+
+@RequiredArgsConstructor
+final class CompanyImporter {
+
+    @NonNull
+    private final CompanyImportParser parser;
+
+    @NonNull
+    private final CompanyMapping mapping;
+
+    @NonNull
+    private final Companies companies;
+
+    private final boolean verifyInBackground;
+
+    private final int maxRows;
+
+    CompanyImportDTO importAll(@NonNull final List<JsonNode> companyNodes) {
+        requireAtMostMaxRows(companyNodes.size());
+        return importRows(
+            IntStream
+                .range(0, companyNodes.size())
+                .mapToObj(i -> parser.parse(i, companyNodes.get(i)))
+                .collect(toList())
+        );
+    }
+
+    CompanyImportDTO importLines(@NonNull final BufferedReader companyLines) {
+        final val lines = companyLines.lines().filter(not(String::isBlank)).iterator();
+        final List<CompanyImportRow> rows = new ArrayList<>();
+        while (lines.hasNext()) {
+            requireAtMostMaxRows(rows.size() + 1);
+            rows.add(parser.parseLine(rows.size(), lines.next()));
+        }
+        return importRows(rows);
+    }
+
+    private void requireAtMostMaxRows(final int rows) {
+        if (rows > maxRows) {
+            throw new TooManyItems(maxRows);
+        }
+    }
+
+    private CompanyImportDTO importRows(final List<CompanyImportRow> parsedRows) {
+        final val rows = parsedRows.stream().map(this::toCompany).collect(toList());
+        final val accepted = rows.stream().map(CompanyImportRow::getCompany).flatMap(Optional::stream);
+        final val failures = save(accepted.collect(toList())).iterator();
+        final List<CompanyImportResultDTO> results = new ArrayList<>();
+        for (final CompanyImportRow row : rows) {
+            if (row.getCompany().isPresent()) {
+                results.add(row.saved(failures.next()));
+            } else {
+                results.add(row.notSaved());
+            }
+        }
+        return new CompanyImportDTO(results);
+    }
+
+    private CompanyImportRow toCompany(final CompanyImportRow row) {
+        return row.getDto().map(dto -> toCompany(row, dto)).orElse(row);
+    }
+
+    private CompanyImportRow toCompany(final CompanyImportRow row, final CompanyDTO dto) {
+        try {
+            return row.accepted(mapping.fromDto(dto, true));
+        } catch (StockExchangeNotSupported e) {
+            return row.rejectedWith(BatchItemErrors.of(e));
+        }
+    }
+
+    private List<Optional<RuntimeException>> save(final List<Company> accepted) {
+        if (verifyInBackground) {
+            return companies.createAllPendingVerification(accepted);
+        } else {
+            return companies.verifyAndCreateAll(accepted);
+        }
+    }
+}
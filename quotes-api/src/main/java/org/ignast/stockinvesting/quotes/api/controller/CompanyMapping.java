@@ -0,0 +1,59 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import java.util.List;
+import lombok.NonNull;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.CompanyName;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+
+final class CompanyMapping {
+
+    private final StockExchanges stockExchanges;
+
+    CompanyMapping(@NonNull final StockExchanges stockExchanges) {
+        this.stockExchanges = stockExchanges;
+    }
+
+    Company fromDto(final CompanyDTO companyDTO, final boolean pendingVerification) {
+        return companyDTO
+            .getListings()
+            .stream()
+            .findFirst()
+            .map(l -> toCompany(companyDTO, l, pendingVerification))
+            .orElseThrow(() ->
+                new IllegalArgumentException(
+                    "Company to be created was expected to have one listing, but zero was found"
+                )
+            );
+    }
+
+    CompanyDTO toDto(final Company company) {
+        final val listingDto = new ListingDTO(
+            company.getStockExchange().getMarketIdentifierCode().get(),
+            company.getStockSymbol().get()
+        );
+        return new CompanyDTO(company.getExternalId().get(), company.getName().get(), List.of(listingDto));
+    }
+
+    private Company toCompany(
+        final CompanyDTO companyDTO,
+        final ListingDTO listing,
+        final boolean pendingVerification
+    ) {
+        final val externalId = new CompanyExternalId(companyDTO.getId());
+        final val name = new CompanyName(companyDTO.getName());
+        final val symbol = new StockSymbol(listing.getStockSymbol());
+        final val stockExchange = stockExchanges.getFor(
+            MarketIdentifierCode.of(listing.getMarketIdentifier())
+        );
+        if (pendingVerification) {
+            return Company.createPendingVerification(externalId, name, symbol, stockExchange);
+        } else {
+            return Company.create(externalId, name, symbol, stockExchange);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO;
+
+@Getter
+@JsonInclude(NON_NULL)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompanyPriceDTO {
+
+    private final int id;
+
+    private final PriceDTO price;
+
+    private final StandardErrorDTO error;
+
+    public static CompanyPriceDTO priced(final int id, @NonNull final PriceDTO price) {
+        return new CompanyPriceDTO(id, price, null);
+    }
+
+    public static CompanyPriceDTO failed(final int id, @NonNull final StandardErrorDTO error) {
+        return new CompanyPriceDTO(id, null, error);
+    }
+}
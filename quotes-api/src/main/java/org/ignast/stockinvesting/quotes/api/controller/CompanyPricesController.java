@@ -0,0 +1,81 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import lombok.NonNull;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.BatchItemErrors;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.TooManyItems;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.QuotedPrice;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/companies/prices")
+public class CompanyPricesController {
+
+    public static final String IDS = "ids";
+
+    static final int MAX_IDS = 100;
+
+    private final Companies companies;
+
+    public CompanyPricesController(@NonNull final Companies companies) {
+        this.companies = companies;
+    }
+
+    @GetMapping(produces = VersionedApiMediaTypes.V1)
+    public CompletableFuture<CompanyPricesDTO> retrievePricesForCompaniesWithIds(
+        @RequestParam(name = IDS) final List<Integer> companyIds
+    ) {
+        if (companyIds.size() > MAX_IDS) {
+            throw new TooManyItems(MAX_IDS);
+        }
+        final val requestedIds = companyIds.stream().filter(Objects::nonNull).distinct().collect(toList());
+        final val found = companies
+            .findByExternalIds(requestedIds.stream().map(CompanyIds::toExternalId).collect(toList()))
+            .stream()
+            .collect(toMap(c -> c.getExternalId().get(), identity()));
+        final List<CompletableFuture<CompanyPriceDTO>> prices = requestedIds
+            .stream()
+            .map(id -> Optional.ofNullable(found.get(id)).map(this::priceOf).orElseGet(() -> notFound(id)))
+            .collect(toList());
+        return CompletableFuture
+            .allOf(prices.toArray(CompletableFuture[]::new))
+            .thenApply(done ->
+                new CompanyPricesDTO(prices.stream().map(CompletableFuture::join).collect(toList()))
+            );
+    }
+
+    private CompletableFuture<CompanyPriceDTO> priceOf(final Company company) {
+        final val id = company.getExternalId().get();
+        return completedFuture(company)
+            .thenCompose(Company::getQuoteAsync)
+            .handle((quote, failure) -> {
+                if (failure == null) {
+                    return CompanyPriceDTO.priced(id, toPrice(quote));
+                } else {
+                    return CompanyPriceDTO.failed(id, BatchItemErrors.of(failure));
+                }
+            });
+    }
+
+    private CompletableFuture<CompanyPriceDTO> notFound(final int id) {
+        return completedFuture(CompanyPriceDTO.failed(id, BatchItemErrors.companyNotFound()));
+    }
+
+    private PriceDTO toPrice(final QuotedPrice quote) {
+        return new PriceDTO(quote.getPrice());
+    }
+}
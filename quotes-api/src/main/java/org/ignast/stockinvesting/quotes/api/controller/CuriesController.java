@@ -1,21 +1,57 @@
 package org.ignast.stockinvesting.quotes.api.controller;
 
 import static java.lang.String.format;
+import static org.ignast.stockinvesting.quotes.api.controller.VersionedApiMediaTypes.NDJSON;
 import static org.ignast.stockinvesting.quotes.api.controller.VersionedApiMediaTypes.V1;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 public final class CuriesController {
 
+    private static final String GET_ONLY = "{\"mediaType\":\"%s\",\"methods\":[{\"method\":\"GET\"}]}";
+
+    private static final RenderedDocument COMPANY_CREATION = new RenderedDocument(
+        format("{\"mediaType\":\"%s\",\"methods\":[{\"method\":\"PUT\"}]}", V1)
+    );
+
+    private static final RenderedDocument COMPANY_IMPORT = new RenderedDocument(
+        format("{\"mediaType\":\"%s\",\"methods\":[{\"method\":\"POST\"}]}", V1)
+    );
+
+    private static final RenderedDocument RETRIEVAL = new RenderedDocument(format(GET_ONLY, V1));
+
+    private static final RenderedDocument STREAMING = new RenderedDocument(format(GET_ONLY, NDJSON));
+
     @GetMapping(value = "/rels/quotes/createCompany", produces = V1)
-    public String getCuriesForCompanyCreation() {
-        return format("{\"mediaType\":\"%s\",\"methods\":[{\"method\":\"PUT\"}]}", V1);
+    public ResponseEntity<byte[]> getCuriesForCompanyCreation() {
+        return COMPANY_CREATION.toResponse();
+    }
+
+    @GetMapping(value = "/rels/quotes/importCompanies", produces = V1)
+    public ResponseEntity<byte[]> getCuriesForCompanyImport() {
+        return COMPANY_IMPORT.toResponse();
+    }
+
+    @GetMapping(value = "/rels/quotes/listCompanies", produces = V1)
+    public ResponseEntity<byte[]> getCuriesForListingCompanies() {
+        return RETRIEVAL.toResponse();
+    }
+
+    @GetMapping(value = "/rels/quotes/streamCompanies", produces = V1)
+    public ResponseEntity<byte[]> getCuriesForStreamingCompanies() {
+        return STREAMING.toResponse();
     }
 
     @GetMapping(value = "/rels/quotes/queryQuotedPrice", produces = V1)
-    public String getCuriesForRetrievingQuotedPrice() {
-        return format("{\"mediaType\":\"%s\",\"methods\":[{\"method\":\"GET\"}]}", V1);
+    public ResponseEntity<byte[]> getCuriesForRetrievingQuotedPrice() {
+        return RETRIEVAL.toResponse();
+    }
+
+    @GetMapping(value = "/rels/quotes/queryQuotedPrices", produces = V1)
+    public ResponseEntity<byte[]> getCuriesForRetrievingQuotedPrices() {
+        return RETRIEVAL.toResponse();
     }
 }
@@ -0,0 +1,62 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static org.ignast.stockinvesting.quotes.api.controller.VersionedApiMediaTypes.V1;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+import lombok.NonNull;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.InvalidListing;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/listings")
+public class ListingController {
+
+    private final Companies companies;
+
+    private final CompanyMapping mapping;
+
+    public ListingController(
+        @NonNull final Companies companies,
+        @NonNull final StockExchanges stockExchanges
+    ) {
+        this.companies = companies;
+        this.mapping = new CompanyMapping(stockExchanges);
+    }
+
+    @GetMapping(value = "/{mic}/{symbol}", produces = V1)
+    public EntityModel<CompanyDTO> retrieveCompanyByListing(
+        @PathVariable final String mic,
+        @PathVariable final String symbol
+    ) {
+        final val company = companies.findByListing(toListing(mic, symbol));
+
+        final val id = company.getExternalId().get();
+        final val selfLink = linkTo(ListingController.class).slash(mic).slash(symbol).withSelfRel();
+        final val companyLink = linkTo(CompanyController.class)
+            .slash(id)
+            .withRel(IanaLinkRelations.CANONICAL);
+        final val priceLink = linkTo(PriceController.class, id)
+            .slash("price")
+            .withRel("quotes:queryQuotedPrice");
+        return EntityModel.of(mapping.toDto(company), selfLink, companyLink, priceLink);
+    }
+
+    private static Listing toListing(final String mic, final String symbol) {
+        final val error = MarketIdentifierCode.validate(mic).or(() -> StockSymbol.validate(symbol));
+        if (error.isPresent()) {
+            throw new InvalidListing(error.get());
+        }
+        return new Listing(new StockSymbol(symbol), MarketIdentifierCode.of(mic));
+    }
+}
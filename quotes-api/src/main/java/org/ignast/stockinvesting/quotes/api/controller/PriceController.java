@@ -1,9 +1,14 @@
 package org.ignast.stockinvesting.quotes.api.controller;
 
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
-import lombok.val;
 import org.ignast.stockinvesting.quotes.domain.Companies;
 import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.QuotedPrice;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,13 +20,32 @@ public class PriceController {
 
     private Companies companies;
 
+    private Clock clock;
+
+    @Autowired
     public PriceController(@NonNull final Companies companies) {
+        this(companies, Clock.systemUTC());
+    }
+
+    PriceController(@NonNull final Companies companies, @NonNull final Clock clock) {
         this.companies = companies;
+        this.clock = clock;
     }
 
     @GetMapping(value = "/price", produces = VersionedApiMediaTypes.V1)
-    public PriceDTO retrievePriceForCompanyWithId(@PathVariable(name = "id") final int companyId) {
-        final val price = companies.findByExternalId(new CompanyExternalId(companyId)).getQuotedPrice();
-        return new PriceDTO(price.getNumberStripped(), price.getCurrency().getCurrencyCode());
+    public CompletableFuture<ResponseEntity<PriceDTO>> retrievePriceForCompanyWithId(
+        @PathVariable(name = "id") final int companyId
+    ) {
+        return companies
+            .findByExternalId(new CompanyExternalId(companyId))
+            .getQuoteAsync()
+            .thenApply(this::toResponse);
+    }
+
+    private ResponseEntity<PriceDTO> toResponse(final QuotedPrice quote) {
+        return ResponseEntity
+            .ok()
+            .header(HttpHeaders.AGE, String.valueOf(quote.getAgeAt(clock.instant()).getSeconds()))
+            .body(new PriceDTO(quote.getPrice()));
     }
 }
@@ -2,18 +2,22 @@ package org.ignast.stockinvesting.quotes.api.controller;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.math.BigDecimal;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.ignast.stockinvesting.quotes.domain.Price;
 
-@Getter
 @RequiredArgsConstructor
 public class PriceDTO {
 
     @NonNull
+    private final Price price;
+
     @JsonFormat(shape = JsonFormat.Shape.STRING)
-    private final BigDecimal amount;
+    public BigDecimal getAmount() {
+        return price.getAmount();
+    }
 
-    @NonNull
-    private final String currency;
+    public String getCurrency() {
+        return price.getCurrencyCode();
+    }
 }
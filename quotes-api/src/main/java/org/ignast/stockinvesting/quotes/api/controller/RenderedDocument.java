@@ -0,0 +1,46 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.ignast.stockinvesting.quotes.api.controller.VersionedApiMediaTypes.V1;
+
+import java.time.Duration;
+import lombok.NonNull;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+public final class RenderedDocument {
+
+    private static final MediaType MEDIA_TYPE = MediaType.valueOf(V1);
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+
+    private final byte[] content;
+
+    private final String eTag;
+
+    public RenderedDocument(@NonNull final String json) {
+        this.content = json.getBytes(UTF_8);
+        this.eTag = String.format("\"%s\"", DigestUtils.md5DigestAsHex(content));
+    }
+
+    public ResponseEntity<byte[]> toResponse() {
+        return ResponseEntity
+            .ok()
+            .contentType(MEDIA_TYPE)
+            .eTag(eTag)
+            .cacheControl(CACHE_CONTROL)
+            .body(content);
+    }
+
+    public ResponseEntity<byte[]> toResponseVaryingBy(@NonNull final String... requestHeaders) {
+        return ResponseEntity
+            .ok()
+            .contentType(MEDIA_TYPE)
+            .eTag(eTag)
+            .cacheControl(CACHE_CONTROL)
+            .varyBy(requestHeaders)
+            .body(content);
+    }
+}
@@ -4,5 +4,7 @@ public final class VersionedApiMediaTypes {
 
     public static final String V1 = "application/vnd.stockinvesting.quotes-v1.hal+json";
 
+    public static final String NDJSON = "application/x-ndjson";
+
     private VersionedApiMediaTypes() {}
 }
@@ -1,5 +1,6 @@
 package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
 
+import static org.springframework.http.HttpStatus.BAD_GATEWAY;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
 import org.ignast.stockinvesting.util.errorhandling.api.dto.BusinessErrorDTO;
@@ -36,6 +37,26 @@ public final class AppBusinessErrorDTO implements BusinessErrorDTO {
         return new AppBusinessErrorDTO("marketNotSupported", BAD_REQUEST);
     }
 
+    public static AppBusinessErrorDTO createForTooManyItems() {
+        return new AppBusinessErrorDTO("tooManyItems", BAD_REQUEST);
+    }
+
+    public static AppBusinessErrorDTO createForPageSizeOutOfRange() {
+        return new AppBusinessErrorDTO("pageSizeOutOfRange", BAD_REQUEST);
+    }
+
+    public static AppBusinessErrorDTO createForInvalidCompanyId() {
+        return new AppBusinessErrorDTO("invalidCompanyId", BAD_REQUEST);
+    }
+
+    public static AppBusinessErrorDTO createForInvalidListing() {
+        return new AppBusinessErrorDTO("invalidListing", BAD_REQUEST);
+    }
+
+    public static AppBusinessErrorDTO createForQuoteRetrievalFailed() {
+        return new AppBusinessErrorDTO("quoteRetrievalFailed", BAD_GATEWAY);
+    }
+
     @Override
     public String getErrorName() {
         return errorName;
@@ -20,17 +20,29 @@ public class AppErrorsHandlingConfiguration {
 
     @Bean
     public DomainClassConstraint.SupportedTypes apiValidationSupportedTypes() {
-        return DomainClassConstraint.SupportedTypes.supporting(
-            Map.of(
-                MarketIdentifierCode.class,
-                MarketIdentifierCode::new,
-                StockSymbol.class,
-                StockSymbol::new,
-                CompanyName.class,
-                CompanyName::new
-            ),
-            Map.of(CompanyExternalId.class, CompanyExternalId::new)
-        );
+        return DomainClassConstraint.SupportedTypes
+            .supporting(
+                Map.of(
+                    MarketIdentifierCode.class,
+                    MarketIdentifierCode::of,
+                    StockSymbol.class,
+                    StockSymbol::new,
+                    CompanyName.class,
+                    CompanyName::new
+                ),
+                Map.of(CompanyExternalId.class, CompanyExternalId::new)
+            )
+            .validatingWithoutExceptions(
+                Map.of(
+                    MarketIdentifierCode.class,
+                    MarketIdentifierCode::validate,
+                    StockSymbol.class,
+                    StockSymbol::validate,
+                    CompanyName.class,
+                    CompanyName::validate
+                ),
+                Map.of(CompanyExternalId.class, CompanyExternalId::validate)
+            );
     }
 
     @Bean
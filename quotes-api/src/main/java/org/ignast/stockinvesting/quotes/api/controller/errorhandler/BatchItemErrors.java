@@ -0,0 +1,37 @@
+package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
+
+import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForCompanyNotFound;
+import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForQuoteRetrievalFailed;
+import static org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO.createForBusinessError;
+
+import java.util.concurrent.CompletionException;
+import lombok.NonNull;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO;
+
+public final class BatchItemErrors {
+
+    private BatchItemErrors() {}
+
+    public static StandardErrorDTO companyNotFound() {
+        return createForBusinessError(createForCompanyNotFound());
+    }
+
+    public static StandardErrorDTO of(@NonNull final Throwable failure) {
+        final val cause = unwrap(failure);
+        if (cause instanceof QuoteRetrievalFailedException) {
+            return createForBusinessError(createForQuoteRetrievalFailed());
+        } else {
+            return BusinessErrors.toError(cause);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            return failure.getCause();
+        } else {
+            return failure;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
+
+import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForCompanyAlreadyExists;
+import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForCompanyNotFound;
+import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForInvalidCompanyId;
+import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForInvalidListing;
+import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForListingAlreadyExists;
+import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForMarketNotSupported;
+import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForPageSizeOutOfRange;
+import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForStockSymbolNotSupportedInThisMarket;
+import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForTooManyItems;
+import static org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO.createForBusinessError;
+import static org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO.createNameless;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+
+import lombok.NonNull;
+import org.ignast.stockinvesting.quotes.domain.CompanyNotFound;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository.CompanyAlreadyExists;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository.ListingAlreadyExists;
+import org.ignast.stockinvesting.quotes.domain.StockExchangeNotSupported;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+import org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO;
+
+final class BusinessErrors {
+
+    private BusinessErrors() {}
+
+    @SuppressWarnings({ "checkstyle:returncount", "checkstyle:cyclomaticcomplexity" })
+    static StandardErrorDTO toError(@NonNull final Throwable failure) {
+        if (failure instanceof CompanyNotFound) {
+            return createForBusinessError(createForCompanyNotFound());
+        } else if (failure instanceof StockSymbolNotSupportedInThisMarket) {
+            return createForBusinessError(createForStockSymbolNotSupportedInThisMarket());
+        } else if (failure instanceof CompanyAlreadyExists) {
+            return createForBusinessError(createForCompanyAlreadyExists());
+        } else if (failure instanceof ListingAlreadyExists) {
+            return createForBusinessError(createForListingAlreadyExists());
+        } else if (failure instanceof StockExchangeNotSupported) {
+            return createForBusinessError(createForMarketNotSupported());
+        } else if (failure instanceof TooManyItems) {
+            return createForBusinessError(createForTooManyItems());
+        } else if (failure instanceof PageSizeOutOfRange) {
+            return createForBusinessError(createForPageSizeOutOfRange());
+        } else if (failure instanceof InvalidCompanyId) {
+            return createForBusinessError(createForInvalidCompanyId());
+        } else if (failure instanceof InvalidListing) {
+            return createForBusinessError(createForInvalidListing());
+        } else {
+            return createNameless(INTERNAL_SERVER_ERROR);
+        }
+    }
+}
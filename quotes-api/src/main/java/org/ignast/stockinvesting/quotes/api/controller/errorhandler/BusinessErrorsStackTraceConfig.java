@@ -0,0 +1,30 @@
+package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
+
+import org.ignast.stockinvesting.quotes.domain.BusinessExceptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BusinessErrorsStackTraceConfig implements AutoCloseable {
+
+    public BusinessErrorsStackTraceConfig(
+        @Value("${errors.business.stacktraces:true}") final boolean stackTraces
+    ) {
+        this(stackTraces, LoggerFactory.getLogger(BusinessExceptions.class));
+    }
+
+    BusinessErrorsStackTraceConfig(final boolean stackTraces, final Logger log) {
+        if (stackTraces) {
+            BusinessExceptions.captureStackTracesAlways();
+        } else {
+            BusinessExceptions.captureStackTracesWhen(log::isDebugEnabled);
+        }
+    }
+
+    @Override
+    public void close() {
+        BusinessExceptions.captureStackTracesAlways();
+    }
+}
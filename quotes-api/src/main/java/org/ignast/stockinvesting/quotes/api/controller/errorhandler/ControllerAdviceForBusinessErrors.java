@@ -1,12 +1,5 @@
 package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
 
-import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForCompanyAlreadyExists;
-import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForCompanyNotFound;
-import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForListingAlreadyExists;
-import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForMarketNotSupported;
-import static org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppBusinessErrorDTO.createForStockSymbolNotSupportedInThisMarket;
-import static org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO.createForBusinessError;
-
 import org.ignast.stockinvesting.quotes.domain.CompanyNotFound;
 import org.ignast.stockinvesting.quotes.domain.CompanyRepository.CompanyAlreadyExists;
 import org.ignast.stockinvesting.quotes.domain.CompanyRepository.ListingAlreadyExists;
@@ -26,34 +19,62 @@ public final class ControllerAdviceForBusinessErrors {
     @ExceptionHandler
     @ResponseBody
     public StandardErrorDTO handleCompanyNotFound(final CompanyNotFound e) {
-        return createForBusinessError(createForCompanyNotFound());
+        return BusinessErrors.toError(e);
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler
     @ResponseBody
     public StandardErrorDTO handleSymbolNotSupportedInMarket(final StockSymbolNotSupportedInThisMarket e) {
-        return createForBusinessError(createForStockSymbolNotSupportedInThisMarket());
+        return BusinessErrors.toError(e);
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler
     @ResponseBody
     public StandardErrorDTO handleCompanyAlreadyExists(final CompanyAlreadyExists e) {
-        return createForBusinessError(createForCompanyAlreadyExists());
+        return BusinessErrors.toError(e);
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler
     @ResponseBody
     public StandardErrorDTO handleListingAlreadyExists(final ListingAlreadyExists e) {
-        return createForBusinessError(createForListingAlreadyExists());
+        return BusinessErrors.toError(e);
     }
 
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler
     @ResponseBody
     public StandardErrorDTO handleMarketNotSupported(final StockExchangeNotSupported e) {
-        return createForBusinessError(createForMarketNotSupported());
+        return BusinessErrors.toError(e);
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler
+    @ResponseBody
+    public StandardErrorDTO handleTooManyItems(final TooManyItems e) {
+        return BusinessErrors.toError(e);
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler
+    @ResponseBody
+    public StandardErrorDTO handlePageSizeOutOfRange(final PageSizeOutOfRange e) {
+        return BusinessErrors.toError(e);
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler
+    @ResponseBody
+    public StandardErrorDTO handleInvalidCompanyId(final InvalidCompanyId e) {
+        return BusinessErrors.toError(e);
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler
+    @ResponseBody
+    public StandardErrorDTO handleInvalidListing(final InvalidListing e) {
+        return BusinessErrors.toError(e);
     }
 }
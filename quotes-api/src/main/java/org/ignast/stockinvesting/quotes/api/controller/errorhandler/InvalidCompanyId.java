@@ -0,0 +1,8 @@
+package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
+
+public final class InvalidCompanyId extends RuntimeException {
+
+    public InvalidCompanyId(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
+
+public final class InvalidListing extends RuntimeException {
+
+    public InvalidListing(final String message) {
+        super(message);
+    }
+}
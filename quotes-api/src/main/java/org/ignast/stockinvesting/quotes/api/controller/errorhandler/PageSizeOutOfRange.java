@@ -0,0 +1,10 @@
+package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
+
+import static java.lang.String.format;
+
+public final class PageSizeOutOfRange extends RuntimeException {
+
+    public PageSizeOutOfRange(final int maxPageSize) {
+        super(format("Page size must be between 1 and %d", maxPageSize));
+    }
+}
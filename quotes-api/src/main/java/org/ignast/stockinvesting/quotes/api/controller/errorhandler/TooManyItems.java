@@ -0,0 +1,10 @@
+package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
+
+import static java.lang.String.format;
+
+public final class TooManyItems extends RuntimeException {
+
+    public TooManyItems(final int limit) {
+        super(format("At most %d items are accepted in a single request", limit));
+    }
+}
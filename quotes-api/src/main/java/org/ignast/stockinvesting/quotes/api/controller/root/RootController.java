@@ -3,27 +3,91 @@ package org.ignast.stockinvesting.quotes.api.controller.root;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.CompanyCollectionController;
 import org.ignast.stockinvesting.quotes.api.controller.CompanyController;
 import org.ignast.stockinvesting.quotes.api.controller.CompanyDTO;
+import org.ignast.stockinvesting.quotes.api.controller.CompanyImportController;
+import org.ignast.stockinvesting.quotes.api.controller.CompanyPricesController;
+import org.ignast.stockinvesting.quotes.api.controller.RenderedDocument;
 import org.ignast.stockinvesting.quotes.api.controller.VersionedApiMediaTypes;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpStatus;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.TemplateVariable;
+import org.springframework.hateoas.TemplateVariable.VariableType;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.mediatype.hal.HalMediaTypeConfiguration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 public final class RootController {
 
+    private static final int MAX_CACHED_BASE_URIS = 64;
+
+    private static final String[] BASE_URI_HEADERS = {
+        HttpHeaders.HOST,
+        "Forwarded",
+        "X-Forwarded-Host",
+        "X-Forwarded-Port",
+        "X-Forwarded-Proto",
+        "X-Forwarded-Prefix",
+    };
+
+    private final ObjectMapper halMapper;
+
+    private final Map<String, RenderedDocument> rootsByBaseUri = new ConcurrentHashMap<>();
+
+    public RootController(final ObjectMapper objectMapper, final HalMediaTypeConfiguration hal) {
+        this.halMapper = hal.configureObjectMapper(objectMapper.copy());
+    }
+
     @GetMapping(value = "/", produces = VersionedApiMediaTypes.V1)
-    public HttpEntity<Root> getRoot() {
+    public ResponseEntity<byte[]> getRoot() throws JsonProcessingException {
+        final val baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+        final val cached = rootsByBaseUri.get(baseUri);
+        if (cached != null) {
+            return cached.toResponseVaryingBy(BASE_URI_HEADERS);
+        }
+        final val rendered = new RenderedDocument(halMapper.writeValueAsString(root()));
+        if (rootsByBaseUri.size() < MAX_CACHED_BASE_URIS) {
+            rootsByBaseUri.putIfAbsent(baseUri, rendered);
+        }
+        return rendered.toResponseVaryingBy(BASE_URI_HEADERS);
+    }
+
+    private static Root root() {
         final val root = new Root();
         root.add(
             linkTo(methodOn(CompanyController.class).createCompany(new CompanyDTO(1, "any", List.of())))
                 .withRel("quotes:createCompany")
         );
-        return new ResponseEntity<>(root, HttpStatus.OK);
+        root.add(linkTo(CompanyImportController.class).withRel("quotes:importCompanies"));
+        root.add(
+            Link.of(
+                UriTemplate
+                    .of(linkTo(CompanyCollectionController.class).toUri().toString())
+                    .with(new TemplateVariable(CompanyCollectionController.AFTER, VariableType.REQUEST_PARAM))
+                    .with(new TemplateVariable(CompanyCollectionController.SIZE, VariableType.REQUEST_PARAM)),
+                "quotes:listCompanies"
+            )
+        );
+        root.add(linkTo(CompanyCollectionController.class).withRel("quotes:streamCompanies"));
+        root.add(
+            Link.of(
+                UriTemplate
+                    .of(linkTo(CompanyPricesController.class).toUri().toString())
+                    .with(new TemplateVariable(CompanyPricesController.IDS, VariableType.REQUEST_PARAM)),
+                "quotes:queryQuotedPrices"
+            )
+        );
+        return root;
     }
 }
@@ -0,0 +1,145 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.ignast.stockinvesting.quotes.api.controller.CompanyCollectionController.MAX_PAGE_SIZE;
+import static org.ignast.stockinvesting.quotes.api.controller.TestDtos.amazonDto;
+import static org.ignast.stockinvesting.quotes.api.testutil.DomainFactoryForTests.amazon;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.PageSizeOutOfRange;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.CompanyName;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("checkstyle:classdataabstractioncoupling")
+public final class CompanyCollectionControllerTest {
+
+    private final Companies companies = mock(Companies.class);
+
+    private final StockExchanges stockExchanges = mock(StockExchanges.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final CompanyCollectionController controller = new CompanyCollectionController(
+        companies,
+        stockExchanges,
+        objectMapper
+    );
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> new CompanyCollectionController(null, stockExchanges, objectMapper));
+        assertThatNullPointerException()
+            .isThrownBy(() -> new CompanyCollectionController(companies, null, objectMapper));
+        assertThatNullPointerException()
+            .isThrownBy(() -> new CompanyCollectionController(companies, stockExchanges, null));
+    }
+
+    @Test
+    public void shouldRetrieveFirstPageLinkingToNextOne() {
+        when(companies.findFirstPage(1)).thenReturn(List.of(amazon()));
+
+        final val page = controller.retrieveCompanies(null, 1);
+
+        assertThat(page.getContent()).extracting("content").containsExactly(amazonDto());
+        assertThat(page.getRequiredLink("self").getHref()).endsWith("/companies?size=1");
+        assertThat(page.getRequiredLink("next").getHref()).endsWith("/companies?after=6&size=1");
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldRetrievePageAfterGivenIdWithoutLinkingBeyondLastPage() {
+        when(companies.findPageAfter(new CompanyExternalId(6), 2)).thenReturn(List.of(microsoft()));
+
+        final val page = controller.retrieveCompanies(6, 2);
+
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getRequiredLink("self").getHref()).endsWith("/companies?after=6&size=2");
+        assertThat(page.getLink("next")).isEmpty();
+    }
+
+    @Test
+    public void shouldRetrieveFirstPageForNonPositiveId() {
+        when(companies.findFirstPage(2)).thenReturn(List.of());
+
+        assertThat(controller.retrieveCompanies(0, 2).getContent()).isEmpty();
+    }
+
+    @Test
+    public void shouldRejectPageSizeOutOfBounds() {
+        assertThatExceptionOfType(PageSizeOutOfRange.class)
+            .isThrownBy(() -> controller.retrieveCompanies(null, 0))
+            .withMessage("Page size must be between 1 and 500");
+        assertThatExceptionOfType(PageSizeOutOfRange.class)
+            .isThrownBy(() -> controller.retrieveCompanies(null, MAX_PAGE_SIZE + 1));
+
+        verify(companies, never()).findFirstPage(anyInt());
+    }
+
+    @Test
+    public void shouldAcceptPageSizesAtBounds() {
+        controller.retrieveCompanies(null, 1);
+        controller.retrieveCompanies(null, MAX_PAGE_SIZE);
+
+        verify(companies).findFirstPage(1);
+        verify(companies).findFirstPage(MAX_PAGE_SIZE);
+    }
+
+    @Test
+    public void retrievedCompaniesShouldLinkToThemselvesAndTheirPrices() {
+        when(companies.findFirstPage(1)).thenReturn(List.of(amazon()));
+
+        final val company = controller.retrieveCompanies(null, 1).getContent().iterator().next();
+
+        assertThat(company.getRequiredLink("self").getHref()).endsWith("/companies/6");
+        assertThat(company.getRequiredLink("quotes:queryQuotedPrice").getHref())
+            .endsWith("/companies/6/price");
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldStreamAllCompaniesAsJsonLinesClosingTheCursor() throws Exception {
+        final val closed = new AtomicBoolean();
+        when(companies.streamAll())
+            .thenReturn(Stream.of(amazon(), microsoft()).onClose(() -> closed.set(true)));
+        final val output = new ByteArrayOutputStream();
+
+        controller.streamCompanies().getBody().writeTo(output);
+
+        assertThat(output.toString().lines())
+            .containsExactly(
+                objectMapper.writeValueAsString(amazonDto()),
+                objectMapper.writeValueAsString(
+                    new CompanyDTO(7, "Microsoft", List.of(new ListingDTO("XNAS", "MSFT")))
+                )
+            );
+        assertThat(closed).isTrue();
+    }
+
+    @SuppressWarnings("checkstyle:magicnumber")
+    private static Company microsoft() {
+        return Company.createPendingVerification(
+            new CompanyExternalId(7),
+            new CompanyName("Microsoft"),
+            new StockSymbol("MSFT"),
+            amazon().getStockExchange()
+        );
+    }
+}
@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.ignast.stockinvesting.quotes.api.controller.TestDtos.amazonDto;
 import static org.ignast.stockinvesting.quotes.api.testutil.DomainFactoryForTests.amazon;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -21,6 +23,7 @@ import org.ignast.stockinvesting.quotes.domain.StockExchanges;
 import org.ignast.stockinvesting.quotes.domain.StockSymbol;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
 
 public final class CompanyControllerTest {
 
@@ -28,7 +31,7 @@ public final class CompanyControllerTest {
 
     private final Companies companies = mock(Companies.class);
 
-    private final CompanyController controller = new CompanyController(companies, stockExchanges);
+    private final CompanyController controller = new CompanyController(companies, stockExchanges, false);
 
     @Test
     public void shouldCreateCompany() {
@@ -56,7 +59,7 @@ public final class CompanyControllerTest {
 
         final val createdCompanyDto = controller.createCompany(dto);
 
-        assertThat(createdCompanyDto.getRequiredLink("self").getHref())
+        assertThat(createdCompanyDto.getBody().getRequiredLink("self").getHref())
             .endsWith(format("/companies/%d", amazonDto().getId()));
     }
 
@@ -68,10 +71,37 @@ public final class CompanyControllerTest {
 
         final val createdCompanyDto = controller.createCompany(dto);
 
-        assertThat(createdCompanyDto.getRequiredLink("quotes:queryQuotedPrice").getHref())
+        assertThat(createdCompanyDto.getBody().getRequiredLink("quotes:queryQuotedPrice").getHref())
             .endsWith(format("/companies/%d/price", amazonDto().getId()));
     }
 
+    @Test
+    public void shouldRespondCreatedOnceCompanyIsCreated() {
+        when(stockExchanges.getFor(new MarketIdentifierCode("XNAS"))).thenReturn(mock(StockExchange.class));
+
+        final val response = controller.createCompany(amazonDto());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getHeaders().getLocation()).hasPath(format("/companies/%d", amazonDto().getId()));
+        assertThat(response.getBody().getContent()).isEqualTo(amazonDto());
+    }
+
+    @Test
+    public void shouldCreateCompanyPendingVerificationInBackgroundMode() {
+        final val backgroundController = new CompanyController(companies, stockExchanges, true);
+        final val stockExchange = mock(StockExchange.class);
+        when(stockExchanges.getFor(new MarketIdentifierCode("XNAS"))).thenReturn(stockExchange);
+        final val captor = ArgumentCaptor.forClass(Company.class);
+
+        final val response = backgroundController.createCompany(amazonDto());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        verify(companies).createPendingVerification(captor.capture());
+        verify(companies, never()).create(any());
+        verify(stockExchange, never()).verifySupported(any());
+        assertThat(captor.getValue().getExternalId()).isEqualTo(new CompanyExternalId(amazonDto().getId()));
+    }
+
     @Test
     public void shouldRejectDtoWithoutListings() {
         final val company = new CompanyDTO(1, "Microsoft", List.of());
@@ -0,0 +1,244 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.ignast.stockinvesting.quotes.api.testutil.DomainFactoryForTests.exchangeNotSupportingAnySymbol;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.TooManyItems;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository.CompanyAlreadyExists;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.StockExchange;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+import org.ignast.stockinvesting.quotes.domain.VerificationStatus;
+import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.parsing.JacksonParsingErrorsExtractor;
+import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.postparsed.AnnotationBasedValidationErrorsExtractor;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@SuppressWarnings("checkstyle:classdataabstractioncoupling")
+public final class CompanyImporterTest {
+
+    private static final String AMAZON =
+        "{\"id\":6,\"name\":\"Amazon\",\"listings\":[{\"marketIdentifier\":\"XNAS\",\"stockSymbol\":\"AMZN\"}]}";
+
+    private static final String MICROSOFT =
+        "{\"id\":7,\"name\":\"Microsoft\",\"listings\":[{\"marketIdentifier\":\"XNAS\",\"stockSymbol\":\"MSFT\"}]}";
+
+    private static final int MAX_ROWS = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Companies companies = mock(Companies.class);
+
+    private final StockExchanges stockExchanges = mock(StockExchanges.class);
+
+    private final Validator validator = mock(Validator.class);
+
+    private final AnnotationBasedValidationErrorsExtractor validationErrors = mock(
+        AnnotationBasedValidationErrorsExtractor.class
+    );
+
+    private final CompanyImporter importer = importer(false);
+
+    @Test
+    public void shouldNotImportNulls() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> importer.importAll(null));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> importer.importLines(null));
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldImportAllCompaniesInOneBatch() throws Exception {
+        stockExchangesSupportingAnySymbol();
+        when(companies.verifyAndCreateAll(anyList())).thenReturn(List.of(Optional.empty(), Optional.empty()));
+        final val captor = ArgumentCaptor.forClass(List.class);
+
+        final val imported = importer.importAll(List.of(json(AMAZON), json(MICROSOFT)));
+
+        verify(companies).verifyAndCreateAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        assertThat(imported.getCompanies()).extracting("row").containsExactly(0, 1);
+        assertThat(imported.getCompanies()).extracting("id").containsExactly(6, 7);
+        assertThat(imported.getCompanies()).extracting("error").containsOnlyNulls();
+    }
+
+    @Test
+    public void shouldReportCompaniesFailedToBeSavedWithoutFailingOthers() throws Exception {
+        stockExchangesSupportingAnySymbol();
+        when(companies.verifyAndCreateAll(anyList()))
+            .thenReturn(
+                List.of(
+                    Optional.empty(),
+                    Optional.of(
+                        new CompanyAlreadyExists(new CompanyExternalId(1), new IllegalStateException())
+                    )
+                )
+            );
+
+        final val imported = importer.importAll(List.of(json(AMAZON), json(MICROSOFT)));
+
+        assertThat(imported.getCompanies().get(0).getError()).isNull();
+        assertThat(imported.getCompanies().get(1).getError().getErrorName())
+            .isEqualTo("companyAlreadyExists");
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldReportInvalidCompaniesWithoutSavingThem() throws Exception {
+        stockExchangesSupportingAnySymbol();
+        when(companies.verifyAndCreateAll(anyList())).thenReturn(List.of(Optional.empty()));
+        final Set<ConstraintViolation<Object>> violations = Set.of(mock(ConstraintViolation.class));
+        when(validator.validate(any())).thenReturn(violations, Set.of());
+        when(validationErrors.extractAnnotationBasedErrorsFromViolations(violations)).thenReturn(List.of());
+        final val captor = ArgumentCaptor.forClass(List.class);
+
+        final val imported = importer.importAll(List.of(json(MICROSOFT), json(AMAZON)));
+
+        verify(companies).verifyAndCreateAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        final val invalid = imported.getCompanies().get(0);
+        assertThat(invalid.getId()).isEqualTo(7);
+        assertThat(invalid.getError().getErrorName()).isEqualTo("bodyDoesNotMatchSchema");
+        assertThat(imported.getCompanies().get(1).getError()).isNull();
+    }
+
+    @Test
+    public void shouldReportCompaniesNotMatchingSchema() throws Exception {
+        when(companies.verifyAndCreateAll(anyList())).thenReturn(List.of());
+
+        final val imported = importer.importAll(List.of(json("\"Amazon\"")));
+
+        assertThat(imported.getCompanies().get(0).getId()).isNull();
+        assertThat(imported.getCompanies().get(0).getError().getErrorName())
+            .isEqualTo("bodyDoesNotMatchSchema");
+    }
+
+    @Test
+    public void shouldReportCompaniesWithUnsupportedSymbols() throws Exception {
+        stockExchangesSupportingAnySymbol();
+        when(companies.verifyAndCreateAll(anyList()))
+            .thenReturn(List.of(Optional.of(new StockSymbolNotSupportedInThisMarket("not supported"))));
+
+        final val imported = importer.importAll(List.of(json(AMAZON)));
+
+        assertThat(imported.getCompanies().get(0).getError().getErrorName())
+            .isEqualTo("stockSymbolNotSupportedInThisMarket");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldLeaveVerificationOfAllCompaniesToSingleBulkCall() throws Exception {
+        final val exchange = exchangeNotSupportingAnySymbol();
+        when(stockExchanges.getFor(any())).thenReturn(exchange);
+        when(companies.verifyAndCreateAll(anyList())).thenReturn(List.of(Optional.empty(), Optional.empty()));
+        final ArgumentCaptor<List<Company>> captor = ArgumentCaptor.forClass(List.class);
+
+        importer.importAll(List.of(json(AMAZON), json(MICROSOFT)));
+
+        verify(companies).verifyAndCreateAll(captor.capture());
+        assertThat(captor.getValue())
+            .extracting(Company::getVerificationStatus)
+            .containsOnly(VerificationStatus.PENDING);
+        verify(exchange, never()).verifySupported(any());
+    }
+
+    @Test
+    public void shouldRejectMoreCompaniesThanAllowed() throws Exception {
+        assertThatExceptionOfType(TooManyItems.class)
+            .isThrownBy(() -> importer.importAll(Collections.nCopies(MAX_ROWS + 1, json(AMAZON))));
+        verify(companies, never()).verifyAndCreateAll(any());
+    }
+
+    @Test
+    public void shouldStopReadingLinesOnceMoreCompaniesThanAllowed() throws Exception {
+        final val lines = lines(String.join("\n", Collections.nCopies(MAX_ROWS + 1, AMAZON)) + "\nrest");
+
+        assertThatExceptionOfType(TooManyItems.class).isThrownBy(() -> importer.importLines(lines));
+        assertThat(lines.readLine()).isEqualTo("rest");
+        verify(companies, never()).verifyAndCreateAll(any());
+    }
+
+    @Test
+    public void shouldNotCountBlankLinesTowardsAllowedCompanies() {
+        stockExchangesSupportingAnySymbol();
+        when(companies.verifyAndCreateAll(anyList())).thenReturn(List.of(Optional.empty(), Optional.empty()));
+
+        final val imported = importer.importLines(lines(AMAZON + "\n\n\n" + MICROSOFT + "\n\n"));
+
+        assertThat(imported.getCompanies()).extracting("row").containsExactly(0, 1);
+    }
+
+    @Test
+    public void shouldImportCompaniesFromLinesReportingUnparsableOnes() {
+        stockExchangesSupportingAnySymbol();
+        when(companies.verifyAndCreateAll(anyList())).thenReturn(List.of(Optional.empty(), Optional.empty()));
+
+        final val imported = importer.importLines(lines(AMAZON + "\n\n{\"id\":\n" + MICROSOFT + "\n"));
+
+        assertThat(imported.getCompanies()).extracting("row").containsExactly(0, 1, 2);
+        assertThat(imported.getCompanies().get(0).getError()).isNull();
+        assertThat(imported.getCompanies().get(1).getError().getErrorName()).isEqualTo("bodyNotParsable");
+        assertThat(imported.getCompanies().get(2).getError()).isNull();
+    }
+
+    @Test
+    public void shouldImportCompaniesPendingVerificationInBackgroundMode() throws Exception {
+        stockExchangesSupportingAnySymbol();
+        when(companies.createAllPendingVerification(anyList())).thenReturn(List.of(Optional.empty()));
+
+        final val imported = importer(true).importAll(List.of(json(AMAZON)));
+
+        assertThat(imported.getCompanies().get(0).getError()).isNull();
+        verify(companies, never()).verifyAndCreateAll(any());
+    }
+
+    private void stockExchangesSupportingAnySymbol() {
+        final val exchange = mock(StockExchange.class);
+        when(exchange.getMarketIdentifierCode()).thenReturn(new MarketIdentifierCode("XNAS"));
+        when(stockExchanges.getFor(any())).thenReturn(exchange);
+    }
+
+    private BufferedReader lines(final String content) {
+        return new BufferedReader(new StringReader(content));
+    }
+
+    private JsonNode json(final String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+
+    private CompanyImporter importer(final boolean verifyInBackground) {
+        return new CompanyImporter(
+            new CompanyImportParser(
+                objectMapper,
+                validator,
+                new JacksonParsingErrorsExtractor(),
+                validationErrors
+            ),
+            new CompanyMapping(stockExchanges),
+            companies,
+            verifyInBackground,
+            MAX_ROWS
+        );
+    }
+}
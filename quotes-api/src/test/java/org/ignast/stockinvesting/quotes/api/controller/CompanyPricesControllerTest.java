@@ -0,0 +1,152 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static java.math.BigDecimal.ONE;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.ignast.stockinvesting.quotes.api.controller.CompanyPricesController.MAX_IDS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.InvalidCompanyId;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.TooManyItems;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotedPrice;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+import org.ignast.stockinvesting.testutil.MockitoUtils;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("checkstyle:magicnumber")
+final class CompanyPricesControllerTest {
+
+    private static final QuotedPrice ONE_USD = new QuotedPrice(
+        Price.of(ONE, "USD"),
+        Instant.parse("2022-03-01T10:15:30Z")
+    );
+
+    private final Companies companies = mock(Companies.class);
+
+    private final CompanyPricesController controller = new CompanyPricesController(companies);
+
+    @Test
+    public void shouldNotBeCreatedWithNullArgument() {
+        assertThatNullPointerException().isThrownBy(() -> new CompanyPricesController(null));
+    }
+
+    @Test
+    public void shouldRetrievePricesOfAllCompaniesInSingleLookup() {
+        final val first = company(1, completedFuture(ONE_USD));
+        final val second = company(2, completedFuture(ONE_USD));
+        when(companies.findByExternalIds(List.of(new CompanyExternalId(1), new CompanyExternalId(2))))
+            .thenReturn(List.of(second, first));
+
+        final val prices = controller.retrievePricesForCompaniesWithIds(List.of(1, 2)).join().getPrices();
+
+        assertThat(prices).extracting(CompanyPriceDTO::getId).containsExactly(1, 2);
+        assertThat(prices).extracting(p -> p.getPrice().getAmount()).containsExactly(ONE, ONE);
+        assertThat(prices).extracting(CompanyPriceDTO::getError).containsOnlyNulls();
+        verify(companies, times(1)).findByExternalIds(any());
+    }
+
+    @Test
+    public void shouldRetrievePriceOfRepeatedCompanyOnce() {
+        final val company = company(1, completedFuture(ONE_USD));
+        when(companies.findByExternalIds(List.of(new CompanyExternalId(1)))).thenReturn(List.of(company));
+
+        final val prices = controller.retrievePricesForCompaniesWithIds(List.of(1, 1)).join().getPrices();
+
+        assertThat(prices).extracting(CompanyPriceDTO::getId).containsExactly(1);
+        verify(company, times(1)).getQuoteAsync();
+    }
+
+    @Test
+    public void shouldReportCompaniesNotFound() {
+        when(companies.findByExternalIds(List.of(new CompanyExternalId(3)))).thenReturn(List.of());
+
+        final val prices = controller.retrievePricesForCompaniesWithIds(List.of(3)).join().getPrices();
+
+        assertThat(prices).extracting(CompanyPriceDTO::getId).containsExactly(3);
+        assertThat(prices).extracting(CompanyPriceDTO::getPrice).containsOnlyNulls();
+        assertThat(prices).extracting(p -> p.getError().getHttpStatus()).containsExactly(404);
+    }
+
+    @Test
+    public void shouldRejectNonPositiveIds() {
+        assertThatExceptionOfType(InvalidCompanyId.class)
+            .isThrownBy(() -> controller.retrievePricesForCompaniesWithIds(List.of(3, -1)))
+            .withMessage("Must be positive");
+        verify(companies, never()).findByExternalIds(any());
+    }
+
+    @Test
+    public void shouldRejectTooManyIds() {
+        final val ids = Collections.nCopies(MAX_IDS + 1, 1);
+
+        assertThatExceptionOfType(TooManyItems.class)
+            .isThrownBy(() -> controller.retrievePricesForCompaniesWithIds(ids));
+        verify(companies, never()).findByExternalIds(any());
+    }
+
+    @Test
+    public void shouldAcceptIdsUpToLimit() {
+        when(companies.findByExternalIds(any())).thenReturn(List.of());
+
+        final val prices = controller.retrievePricesForCompaniesWithIds(Collections.nCopies(MAX_IDS, 1));
+
+        assertThat(prices.join().getPrices()).hasSize(1);
+    }
+
+    @Test
+    public void shouldReportFailedQuotesWithoutFailingOthers() {
+        final val supported = company(1, completedFuture(ONE_USD));
+        final val unsupported = company(
+            2,
+            failedFuture(new StockSymbolNotSupportedInThisMarket("not supported"))
+        );
+        when(companies.findByExternalIds(any())).thenReturn(List.of(supported, unsupported));
+
+        final val prices = controller.retrievePricesForCompaniesWithIds(List.of(1, 2)).join().getPrices();
+
+        assertThat(prices.get(0).getPrice().getCurrency()).isEqualTo("USD");
+        assertThat(prices.get(1).getPrice()).isNull();
+        assertThat(prices.get(1).getError().getErrorName()).isEqualTo("stockSymbolNotSupportedInThisMarket");
+    }
+
+    @Test
+    public void shouldNotCompleteBeforeAllQuotesAreRetrieved() {
+        final val pendingQuote = new CompletableFuture<QuotedPrice>();
+        final val retrieved = company(1, completedFuture(ONE_USD));
+        final val pending = company(2, pendingQuote);
+        when(companies.findByExternalIds(any())).thenReturn(List.of(retrieved, pending));
+
+        final val prices = controller.retrievePricesForCompaniesWithIds(List.of(1, 2));
+
+        assertThat(prices).isNotDone();
+        pendingQuote.complete(ONE_USD);
+        assertThat(prices.join().getPrices()).hasSize(2);
+    }
+
+    private Company company(final int externalId, final CompletableFuture<QuotedPrice> quote) {
+        return MockitoUtils.mock(
+            Company.class,
+            c -> {
+                when(c.getExternalId()).thenReturn(new CompanyExternalId(externalId));
+                when(c.getQuoteAsync()).thenReturn(quote);
+            }
+        );
+    }
+}
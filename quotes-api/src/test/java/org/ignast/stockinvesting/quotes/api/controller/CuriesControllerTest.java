@@ -3,7 +3,11 @@ package org.ignast.stockinvesting.quotes.api.controller;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.charset.StandardCharsets;
+import lombok.val;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 
 class CuriesControllerTest {
 
@@ -11,15 +15,69 @@ class CuriesControllerTest {
 
     @Test
     public void shouldIndicateAttributesRequiredForCompanyCreation() {
-        assertThat(new CuriesController().getCuriesForCompanyCreation())
+        assertThat(bodyOf(new CuriesController().getCuriesForCompanyCreation()))
             .isEqualTo(format("""
                 {"mediaType":"%s","methods":[{"method":"PUT"}]}""", APP_V1));
     }
 
+    @Test
+    public void shouldIndicateAttributesRequiredForCompanyImport() {
+        assertThat(bodyOf(new CuriesController().getCuriesForCompanyImport()))
+            .isEqualTo(
+                format("""
+                {"mediaType":"%s","methods":[{"method":"POST"}]}""", APP_V1)
+            );
+    }
+
+    @Test
+    public void shouldIndicateAttributesRequiredForListingCompanies() {
+        assertThat(bodyOf(new CuriesController().getCuriesForListingCompanies()))
+            .isEqualTo(format("""
+                {"mediaType":"%s","methods":[{"method":"GET"}]}""", APP_V1));
+    }
+
+    @Test
+    public void shouldIndicateAttributesRequiredForStreamingCompanies() {
+        assertThat(bodyOf(new CuriesController().getCuriesForStreamingCompanies()))
+            .isEqualTo(
+                """
+                {"mediaType":"application/x-ndjson","methods":[{"method":"GET"}]}"""
+            );
+    }
+
     @Test
     public void shouldIndicateAttributesRequiredForRetrievingPrice() {
-        assertThat(new CuriesController().getCuriesForRetrievingQuotedPrice())
+        assertThat(bodyOf(new CuriesController().getCuriesForRetrievingQuotedPrice()))
+            .isEqualTo(format("""
+                {"mediaType":"%s","methods":[{"method":"GET"}]}""", APP_V1));
+    }
+
+    @Test
+    public void shouldIndicateAttributesRequiredForRetrievingPrices() {
+        assertThat(bodyOf(new CuriesController().getCuriesForRetrievingQuotedPrices()))
             .isEqualTo(format("""
                 {"mediaType":"%s","methods":[{"method":"GET"}]}""", APP_V1));
     }
+
+    @Test
+    public void shouldServeDocumentsWithStrongEntityTagAndCacheControl() {
+        final val response = new CuriesController().getCuriesForCompanyCreation();
+
+        assertThat(response.getHeaders().getETag()).matches("\"[0-9a-f]{32}\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=3600, public");
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.valueOf(APP_V1));
+    }
+
+    @Test
+    public void shouldServeSameEntityTagForSameDocument() {
+        final val controller = new CuriesController();
+
+        assertThat(controller.getCuriesForListingCompanies().getHeaders().getETag())
+            .isEqualTo(controller.getCuriesForRetrievingQuotedPrices().getHeaders().getETag())
+            .isNotEqualTo(controller.getCuriesForStreamingCompanies().getHeaders().getETag());
+    }
+
+    private String bodyOf(final ResponseEntity<byte[]> response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
 }
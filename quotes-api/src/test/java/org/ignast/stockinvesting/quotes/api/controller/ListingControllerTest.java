@@ -0,0 +1,84 @@
+package org.ignast.stockinvesting.quotes.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.ignast.stockinvesting.quotes.api.controller.TestDtos.amazonDto;
+import static org.ignast.stockinvesting.quotes.api.testutil.DomainFactoryForTests.amazon;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.InvalidListing;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.CompanyNotFound;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.junit.jupiter.api.Test;
+
+public final class ListingControllerTest {
+
+    private final Listing amazonListing = new Listing(
+        new StockSymbol("AMZN"),
+        new MarketIdentifierCode("XNAS")
+    );
+
+    private final Companies companies = mock(Companies.class);
+
+    private final ListingController controller = new ListingController(companies, mock(StockExchanges.class));
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatNullPointerException()
+            .isThrownBy(() -> new ListingController(null, mock(StockExchanges.class)));
+        assertThatNullPointerException().isThrownBy(() -> new ListingController(companies, null));
+    }
+
+    @Test
+    public void shouldRetrieveCompanyByListing() {
+        when(companies.findByListing(amazonListing)).thenReturn(amazon());
+
+        final val company = controller.retrieveCompanyByListing("XNAS", "AMZN");
+
+        assertThat(company.getContent()).isEqualTo(amazonDto());
+    }
+
+    @Test
+    public void retrievedCompanyShouldLinkToItselfAndToCompanyResource() {
+        when(companies.findByListing(amazonListing)).thenReturn(amazon());
+
+        final val company = controller.retrieveCompanyByListing("XNAS", "AMZN");
+
+        assertThat(company.getRequiredLink("self").getHref()).endsWith("/listings/XNAS/AMZN");
+        assertThat(company.getRequiredLink("canonical").getHref()).endsWith("/companies/6");
+        assertThat(company.getRequiredLink("quotes:queryQuotedPrice").getHref())
+            .endsWith("/companies/6/price");
+    }
+
+    @Test
+    public void shouldRejectMalformedMarketIdentifierCode() {
+        assertThatExceptionOfType(InvalidListing.class)
+            .isThrownBy(() -> controller.retrieveCompanyByListing("XNA", "AMZN"))
+            .withMessage("Market Identifier is not 4 characters long (ISO 10383 standard)");
+        verifyNoInteractions(companies);
+    }
+
+    @Test
+    public void shouldRejectMalformedStockSymbol() {
+        assertThatExceptionOfType(InvalidListing.class)
+            .isThrownBy(() -> controller.retrieveCompanyByListing("XNAS", "amzn"))
+            .withMessage("Stock Symbol must contain only uppercase alphanumeric characters");
+        verifyNoInteractions(companies);
+    }
+
+    @Test
+    public void shouldNotFindUnknownListing() {
+        when(companies.findByListing(amazonListing)).thenThrow(new CompanyNotFound(amazonListing));
+
+        assertThatExceptionOfType(CompanyNotFound.class)
+            .isThrownBy(() -> controller.retrieveCompanyByListing("XNAS", "AMZN"));
+    }
+}
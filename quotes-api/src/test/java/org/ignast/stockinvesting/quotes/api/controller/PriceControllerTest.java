@@ -1,26 +1,36 @@
 package org.ignast.stockinvesting.quotes.api.controller;
 
 import static java.math.BigDecimal.ONE;
+import static java.time.ZoneOffset.UTC;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 import lombok.val;
 import org.ignast.stockinvesting.quotes.domain.Companies;
 import org.ignast.stockinvesting.quotes.domain.Company;
 import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.QuotedPrice;
 import org.ignast.stockinvesting.testutil.MockitoUtils;
-import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 
 final class PriceControllerTest {
 
-    private static final Money ONE_USD = Money.of(ONE, "USD");
+    private static final Price ONE_USD = Price.of(ONE, "USD");
+
+    private static final Instant RETRIEVED_AT = Instant.parse("2022-03-01T10:15:30Z");
 
     @Test
     public void shouldNotBeCreatedWithNullArgument() {
         assertThatNullPointerException().isThrownBy(() -> new PriceController(null));
+        assertThatNullPointerException().isThrownBy(() -> new PriceController(mock(Companies.class), null));
         new PriceController(mock(Companies.class));
     }
 
@@ -30,14 +40,52 @@ final class PriceControllerTest {
         final val companies = mock(Companies.class);
         final val company = MockitoUtils.mock(
             Company.class,
-            c -> when(c.getQuotedPrice()).thenReturn(ONE_USD)
+            c -> when(c.getQuoteAsync()).thenReturn(completedFuture(new QuotedPrice(ONE_USD, RETRIEVED_AT)))
         );
         when(companies.findByExternalId(new CompanyExternalId(companyId))).thenReturn(company);
-        final val controller = new PriceController(companies);
+        final val controller = new PriceController(companies, Clock.fixed(RETRIEVED_AT, UTC));
 
-        final val priceDto = controller.retrievePriceForCompanyWithId(companyId);
+        final val priceDto = controller.retrievePriceForCompanyWithId(companyId).join().getBody();
 
         assertThat(priceDto.getAmount()).isEqualTo("1");
+        assertThat(priceDto.getCurrency()).isEqualTo("USD");
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldExposeAgeOfQuotedPriceInSeconds() {
+        final val companyId = any();
+        final val companies = mock(Companies.class);
+        final val company = MockitoUtils.mock(
+            Company.class,
+            c -> when(c.getQuoteAsync()).thenReturn(completedFuture(new QuotedPrice(ONE_USD, RETRIEVED_AT)))
+        );
+        when(companies.findByExternalId(new CompanyExternalId(companyId))).thenReturn(company);
+        final val now = RETRIEVED_AT.plusMillis(42_500);
+        final val controller = new PriceController(companies, Clock.fixed(now, UTC));
+
+        final val response = controller.retrievePriceForCompanyWithId(companyId).join();
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.AGE)).isEqualTo("42");
+    }
+
+    @Test
+    public void shouldNotCompleteBeforeQuoteIsRetrieved() {
+        final val companyId = any();
+        final val companies = mock(Companies.class);
+        final val pendingQuote = new CompletableFuture<QuotedPrice>();
+        final val company = MockitoUtils.mock(
+            Company.class,
+            c -> when(c.getQuoteAsync()).thenReturn(pendingQuote)
+        );
+        when(companies.findByExternalId(new CompanyExternalId(companyId))).thenReturn(company);
+        final val controller = new PriceController(companies, Clock.fixed(RETRIEVED_AT, UTC));
+
+        final val response = controller.retrievePriceForCompanyWithId(companyId);
+
+        assertThat(response).isNotDone();
+        pendingQuote.complete(new QuotedPrice(ONE_USD, RETRIEVED_AT));
+        assertThat(response.join().getBody().getAmount()).isEqualTo("1");
     }
 
     @SuppressWarnings("checkstyle:magicnumber")
@@ -5,29 +5,25 @@ import static org.ignast.stockinvesting.testutil.ExceptionAssert.assertThatNullP
 
 import java.math.BigDecimal;
 import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Price;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 class PriceDTOTest {
 
-    private static final BigDecimal TWO = new BigDecimal("2");
-
     private static final BigDecimal SIX = new BigDecimal("6");
 
     @Test
-    public void shouldNotBeCreatedWithNullArguments() {
-        assertThatNullPointerExceptionIsThrownBy(
-            () -> new PriceDTO(TWO, null),
-            () -> new PriceDTO(null, "USD")
-        );
-        new PriceDTO(TWO, "USD");
+    public void shouldNotBeCreatedWithNullPrice() {
+        assertThatNullPointerExceptionIsThrownBy(() -> new PriceDTO(null));
+        new PriceDTO(Price.of(SIX, "USD"));
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "3", "4" })
+    @ValueSource(strings = { "3", "4", "91.21" })
     public void shouldPreserveAmount(final String amount) {
-        final val price = new PriceDTO(new BigDecimal(amount), "any");
+        final val price = new PriceDTO(Price.of(new BigDecimal(amount), "USD"));
 
         assertThat(price.getAmount()).isEqualTo(amount);
     }
@@ -35,12 +31,8 @@ class PriceDTOTest {
     @ParameterizedTest
     @ValueSource(strings = { "USD", "EUR" })
     public void shouldPreserveCurrency(final String currency) {
-        final val price = new PriceDTO(any(), currency);
+        final val price = new PriceDTO(Price.of(SIX, currency));
 
         assertThat(price.getCurrency()).isEqualTo(currency);
     }
-
-    private BigDecimal any() {
-        return SIX;
-    }
 }
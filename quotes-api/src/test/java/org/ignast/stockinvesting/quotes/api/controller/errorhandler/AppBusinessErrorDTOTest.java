@@ -1,6 +1,7 @@
 package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.BAD_GATEWAY;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
@@ -48,4 +49,44 @@ public final class AppBusinessErrorDTOTest {
         assertThat(error.getErrorName()).isEqualTo("marketNotSupported");
         assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST);
     }
+
+    @Test
+    public void shouldCreateForTooManyItems() {
+        final val error = AppBusinessErrorDTO.createForTooManyItems();
+
+        assertThat(error.getErrorName()).isEqualTo("tooManyItems");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST);
+    }
+
+    @Test
+    public void shouldCreateForInvalidCompanyId() {
+        final val error = AppBusinessErrorDTO.createForInvalidCompanyId();
+
+        assertThat(error.getErrorName()).isEqualTo("invalidCompanyId");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST);
+    }
+
+    @Test
+    public void shouldCreateForInvalidListing() {
+        final val error = AppBusinessErrorDTO.createForInvalidListing();
+
+        assertThat(error.getErrorName()).isEqualTo("invalidListing");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST);
+    }
+
+    @Test
+    public void shouldCreateForQuoteRetrievalFailed() {
+        final val error = AppBusinessErrorDTO.createForQuoteRetrievalFailed();
+
+        assertThat(error.getErrorName()).isEqualTo("quoteRetrievalFailed");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_GATEWAY);
+    }
+
+    @Test
+    public void shouldCreateForPageSizeOutOfRange() {
+        final val error = AppBusinessErrorDTO.createForPageSizeOutOfRange();
+
+        assertThat(error.getErrorName()).isEqualTo("pageSizeOutOfRange");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST);
+    }
 }
@@ -0,0 +1,115 @@
+package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.mock;
+import static org.springframework.http.HttpStatus.BAD_GATEWAY;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+import java.util.concurrent.CompletionException;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.CompanyNotFound;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository.CompanyAlreadyExists;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository.ListingAlreadyExists;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.ignast.stockinvesting.quotes.domain.StockExchangeNotSupported;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("checkstyle:classdataabstractioncoupling")
+public final class BatchItemErrorsTest {
+
+    @Test
+    public void shouldCreateForCompanyNotFound() {
+        final val error = BatchItemErrors.companyNotFound();
+
+        assertThat(error.getErrorName()).isNull();
+        assertThat(error.getHttpStatus()).isEqualTo(NOT_FOUND.value());
+    }
+
+    @Test
+    public void shouldMapCompanyNotFound() {
+        final val error = BatchItemErrors.of(mock(CompanyNotFound.class));
+
+        assertThat(error.getErrorName()).isNull();
+        assertThat(error.getHttpStatus()).isEqualTo(NOT_FOUND.value());
+    }
+
+    @Test
+    public void shouldMapSymbolNotSupportedInMarketWrappedByAsyncCompletion() {
+        final val error = BatchItemErrors.of(
+            new CompletionException(new StockSymbolNotSupportedInThisMarket("not supported"))
+        );
+
+        assertThat(error.getErrorName()).isEqualTo("stockSymbolNotSupportedInThisMarket");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
+    }
+
+    @Test
+    public void shouldMapCompanyAlreadyExists() {
+        final val error = BatchItemErrors.of(
+            new CompanyAlreadyExists(new CompanyExternalId(1), new IllegalStateException())
+        );
+
+        assertThat(error.getErrorName()).isEqualTo("companyAlreadyExists");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
+    }
+
+    @Test
+    public void shouldMapListingAlreadyExists() {
+        final val error = BatchItemErrors.of(
+            new ListingAlreadyExists(
+                new StockSymbol("AMZN"),
+                new MarketIdentifierCode("XNAS"),
+                new IllegalStateException()
+            )
+        );
+
+        assertThat(error.getErrorName()).isEqualTo("listingAlreadyExists");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
+    }
+
+    @Test
+    public void shouldMapMarketNotSupported() {
+        final val error = BatchItemErrors.of(new StockExchangeNotSupported(new MarketIdentifierCode("XXXX")));
+
+        assertThat(error.getErrorName()).isEqualTo("marketNotSupported");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
+    }
+
+    @Test
+    public void shouldMapQuoteRetrievalFailedToBadGateway() {
+        final val error = BatchItemErrors.of(
+            new CompletionException(new QuoteRetrievalFailedException("failed"))
+        );
+
+        assertThat(error.getErrorName()).isEqualTo("quoteRetrievalFailed");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_GATEWAY.value());
+    }
+
+    @Test
+    public void shouldMapInvalidCompanyId() {
+        final val error = BatchItemErrors.of(new InvalidCompanyId("Must be positive"));
+
+        assertThat(error.getErrorName()).isEqualTo("invalidCompanyId");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
+    }
+
+    @Test
+    public void shouldMapOtherFailuresToNamelessServerError() {
+        final val error = BatchItemErrors.of(new IllegalStateException("failed"));
+
+        assertThat(error.getErrorName()).isNull();
+        assertThat(error.getHttpStatus()).isEqualTo(INTERNAL_SERVER_ERROR.value());
+    }
+
+    @Test
+    public void shouldNotMapNullFailure() {
+        assertThatNullPointerException().isThrownBy(() -> BatchItemErrors.of(null));
+    }
+}
@@ -0,0 +1,97 @@
+package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ch.qos.logback.classic.Level;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.BusinessExceptions;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.CompanyNotFound;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+public final class BusinessErrorsStackTraceConfigTest {
+
+    private final Logger log = mock(Logger.class);
+
+    @AfterEach
+    public void restoreDefault() {
+        BusinessExceptions.captureStackTracesAlways();
+    }
+
+    @Test
+    public void shouldCaptureStackTracesWhenEnabled() {
+        new BusinessErrorsStackTraceConfig(true, log);
+
+        assertThat(companyNotFound().getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    public void shouldOmitStackTracesWhenDisabled() {
+        when(log.isDebugEnabled()).thenReturn(false);
+
+        new BusinessErrorsStackTraceConfig(false, log);
+
+        assertThat(companyNotFound().getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void shouldCaptureStackTracesWhenDisabledButDebugging() {
+        when(log.isDebugEnabled()).thenReturn(true);
+
+        new BusinessErrorsStackTraceConfig(false, log);
+
+        assertThat(companyNotFound().getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    public void shouldCaptureStackTracesAgainOnceClosed() {
+        when(log.isDebugEnabled()).thenReturn(false);
+
+        new BusinessErrorsStackTraceConfig(false, log).close();
+
+        assertThat(companyNotFound().getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    public void shouldRestoreStackTracesWhenApplicationContextCloses() {
+        final val context = new AnnotationConfigApplicationContext();
+        context.registerBean(
+            BusinessErrorsStackTraceConfig.class,
+            () -> new BusinessErrorsStackTraceConfig(false)
+        );
+        context.refresh();
+        final val stackless = companyNotFound();
+
+        context.close();
+
+        assertThat(stackless.getStackTrace()).isEmpty();
+        assertThat(companyNotFound().getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    public void shouldDecideByDedicatedLogger() {
+        final val config = new BusinessErrorsStackTraceConfig(false);
+        final val logger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(BusinessExceptions.class);
+        final val level = logger.getLevel();
+        try {
+            logger.setLevel(Level.DEBUG);
+            assertThat(companyNotFound().getStackTrace()).isNotEmpty();
+            logger.setLevel(Level.INFO);
+            assertThat(companyNotFound().getStackTrace()).isEmpty();
+        } finally {
+            logger.setLevel(level);
+            config.close();
+        }
+    }
+
+    private CompanyNotFound companyNotFound() {
+        final val anyId = 5;
+        return new CompanyNotFound(new CompanyExternalId(anyId));
+    }
+}
@@ -0,0 +1,53 @@
+package org.ignast.stockinvesting.quotes.api.controller.errorhandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.mock;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.CompanyNotFound;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.junit.jupiter.api.Test;
+
+public final class BusinessErrorsTest {
+
+    @Test
+    public void shouldMapCompanyNotFound() {
+        final val error = BusinessErrors.toError(mock(CompanyNotFound.class));
+
+        assertThat(error.getErrorName()).isNull();
+        assertThat(error.getHttpStatus()).isEqualTo(NOT_FOUND.value());
+    }
+
+    @Test
+    public void shouldMapTooManyItems() {
+        final val error = BusinessErrors.toError(new TooManyItems(1));
+
+        assertThat(error.getErrorName()).isEqualTo("tooManyItems");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
+    }
+
+    @Test
+    public void shouldMapPageSizeOutOfRange() {
+        final val error = BusinessErrors.toError(new PageSizeOutOfRange(1));
+
+        assertThat(error.getErrorName()).isEqualTo("pageSizeOutOfRange");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
+    }
+
+    @Test
+    public void shouldNotMapQuoteRetrievalFailureOfSingleRequests() {
+        final val error = BusinessErrors.toError(new QuoteRetrievalFailedException("failed"));
+
+        assertThat(error.getErrorName()).isNull();
+        assertThat(error.getHttpStatus()).isEqualTo(INTERNAL_SERVER_ERROR.value());
+    }
+
+    @Test
+    public void shouldNotMapNullFailure() {
+        assertThatNullPointerException().isThrownBy(() -> BusinessErrors.toError(null));
+    }
+}
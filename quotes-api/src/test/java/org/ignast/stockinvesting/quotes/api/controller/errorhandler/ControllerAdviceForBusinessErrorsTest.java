@@ -57,4 +57,36 @@ public final class ControllerAdviceForBusinessErrorsTest {
         assertThat(error.getErrorName()).isEqualTo("listingAlreadyExists");
         assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
     }
+
+    @Test
+    public void shouldHandleTooManyItems() {
+        final val error = handler.handleTooManyItems(new TooManyItems(1));
+
+        assertThat(error.getErrorName()).isEqualTo("tooManyItems");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
+    }
+
+    @Test
+    public void shouldHandleInvalidCompanyId() {
+        final val error = handler.handleInvalidCompanyId(new InvalidCompanyId("Must be positive"));
+
+        assertThat(error.getErrorName()).isEqualTo("invalidCompanyId");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
+    }
+
+    @Test
+    public void shouldHandleInvalidListing() {
+        final val error = handler.handleInvalidListing(new InvalidListing("malformed"));
+
+        assertThat(error.getErrorName()).isEqualTo("invalidListing");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
+    }
+
+    @Test
+    public void shouldHandlePageSizeOutOfRange() {
+        final val error = handler.handlePageSizeOutOfRange(new PageSizeOutOfRange(1));
+
+        assertThat(error.getErrorName()).isEqualTo("pageSizeOutOfRange");
+        assertThat(error.getHttpStatus()).isEqualTo(BAD_REQUEST.value());
+    }
 }
@@ -0,0 +1,106 @@
+package org.ignast.stockinvesting.quotes.api.controller.integration.company;
+
+import static org.ignast.stockinvesting.quotes.api.testutil.DomainFactoryForTests.amazon;
+import static org.ignast.stockinvesting.testutil.api.NonExtensibleContentMatchers.bodyMatchesJson;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.CompanyCollectionController;
+import org.ignast.stockinvesting.quotes.api.controller.HalConfig;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppErrorsHandlingConfiguration;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest({ CompanyCollectionController.class, HalConfig.class, AppErrorsHandlingConfiguration.class })
+@TestPropertySource(properties = { "documentation.url=http://documentation:8081" })
+public class CompanyCollectionControllerIT {
+
+    private static final String APP_V1 = "application/vnd.stockinvesting.quotes-v1.hal+json";
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    @MockBean
+    private Companies companies;
+
+    @MockBean
+    private StockExchanges stockExchanges;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void shouldRetrievePageOfCompanies() throws Exception {
+        when(companies.findFirstPage(1)).thenReturn(List.of(amazon()));
+
+        mockMvc
+            .perform(get("/companies?size=1").accept(APP_V1))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", APP_V1))
+            .andExpect(
+                bodyMatchesJson(
+                    """
+                    {"_embedded":{"quotes:companies":[{
+                        "id":6,
+                        "name":"Amazon",
+                        "listings":[{"marketIdentifier":"XNAS","stockSymbol":"AMZN"}],
+                        "_links":{
+                            "self":{"href":"http://localhost/companies/6"},
+                            "quotes:queryQuotedPrice":{"href":"http://localhost/companies/6/price"}
+                        }
+                    }]},
+                    "_links":{
+                        "self":{"href":"http://localhost/companies?size=1"},
+                        "next":{"href":"http://localhost/companies?after=6&size=1"},
+                        "curies":[{
+                            "name":"quotes",
+                            "href":"http://documentation:8081/rels/quotes/{rel}",
+                            "templated":true
+                        }]
+                    }}"""
+                )
+            );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "501" })
+    public void shouldRejectPageSizeOutOfRange(final String size) throws Exception {
+        mockMvc
+            .perform(get("/companies?size=" + size).accept(APP_V1))
+            .andExpect(status().isBadRequest())
+            .andExpect(bodyMatchesJson("{\"httpStatus\":400,\"errorName\":\"pageSizeOutOfRange\"}"));
+    }
+
+    @Test
+    public void shouldStreamAllCompaniesAsJsonLines() throws Exception {
+        when(companies.streamAll()).thenReturn(Stream.of(amazon(), amazon()));
+        final val amazonLine =
+            "{\"id\":6,\"name\":\"Amazon\",\"listings\":[{\"marketIdentifier\":\"XNAS\",\"stockSymbol\":\"AMZN\"}]}\n";
+
+        final val started = mockMvc
+            .perform(get("/companies").accept(NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc
+            .perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", NDJSON))
+            .andExpect(content().string(amazonLine + amazonLine));
+    }
+}
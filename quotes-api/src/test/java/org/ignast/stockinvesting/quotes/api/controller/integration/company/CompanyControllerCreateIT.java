@@ -18,7 +18,7 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -153,9 +153,9 @@ public final class CompanyControllerCreateIT extends CompanyControllerITBase {
     }
 
     @Test
-    public void shouldIndicateResourceNotReadable() throws Exception {
+    public void shouldIndicateResourceNotDeletable() throws Exception {
         mockMvc
-            .perform(get("/companies/").contentType(HAL_JSON))
+            .perform(delete("/companies/").contentType(HAL_JSON))
             .andExpect(status().isMethodNotAllowed())
             .andExpect(bodyMatchesJson("{\"httpStatus\":405,\"errorName\":\"methodNotAllowed\"}"));
     }
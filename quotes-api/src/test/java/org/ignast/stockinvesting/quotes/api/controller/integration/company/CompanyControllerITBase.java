@@ -20,11 +20,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 @WebMvcTest
 @Import({ AppErrorsHandlingConfiguration.class, HalConfig.class })
+@TestPropertySource(properties = { "companies.verification.async=false", "companies.import.max.rows=3" })
 abstract class CompanyControllerITBase {
 
     protected static final String APP_V1 = "application/vnd.stockinvesting.quotes-v1.hal+json";
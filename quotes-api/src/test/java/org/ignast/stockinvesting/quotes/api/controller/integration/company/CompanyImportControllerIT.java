@@ -0,0 +1,140 @@
+package org.ignast.stockinvesting.quotes.api.controller.integration.company;
+
+import static org.ignast.stockinvesting.testutil.api.NonExtensibleContentMatchers.bodyMatchesJson;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Optional;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.CompanyImportController;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppErrorsHandlingConfiguration;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository.ListingAlreadyExists;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.StockExchange;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest({ CompanyImportController.class, AppErrorsHandlingConfiguration.class })
+@TestPropertySource(properties = { "companies.verification.async=false", "companies.import.max.rows=3" })
+public class CompanyImportControllerIT {
+
+    private static final String APP_V1 = "application/vnd.stockinvesting.quotes-v1.hal+json";
+
+    private static final String URI = "/companies/imports";
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private static final String AMAZON =
+        "{\"id\":6,\"name\":\"Amazon\",\"listings\":[{\"marketIdentifier\":\"XNAS\",\"stockSymbol\":\"AMZN\"}]}";
+
+    private static final String INVALID_ID =
+        "{\"id\":-1,\"name\":\"Amazon\",\"listings\":[{\"marketIdentifier\":\"XNAS\",\"stockSymbol\":\"AMZN\"}]}";
+
+    @MockBean
+    private Companies companies;
+
+    @MockBean
+    private StockExchanges stockExchanges;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        when(stockExchanges.getFor(any())).thenReturn(mock(StockExchange.class));
+    }
+
+    @Test
+    public void shouldImportArrayReportingErrorsPerCompany() throws Exception {
+        when(companies.verifyAndCreateAll(anyList()))
+            .thenReturn(List.of(Optional.empty(), Optional.of(listingAlreadyExists())));
+        final val body = "[%s,%s,%s]".formatted(AMAZON, INVALID_ID, AMAZON);
+
+        mockMvc
+            .perform(post(URI).contentType(APP_V1).accept(APP_V1).content(body))
+            .andExpect(status().isOk())
+            .andExpect(
+                bodyMatchesJson(
+                    """
+                    {"companies":[
+                        {"row":0,"id":6},
+                        {"row":1,"id":-1,"error":{"httpStatus":400,"errorName":"bodyDoesNotMatchSchema",
+                            "validationErrors":[{"errorName":"valueIsInvalid","jsonPath":"$.id",
+                                "message":"Must be positive"}]}},
+                        {"row":2,"id":6,"error":{"httpStatus":400,"errorName":"listingAlreadyExists"}}
+                    ]}"""
+                )
+            );
+    }
+
+    @Test
+    public void shouldImportNewlineDelimitedStream() throws Exception {
+        when(companies.verifyAndCreateAll(anyList())).thenReturn(List.of(Optional.empty()));
+        final val body = AMAZON + "\nnot json\n";
+
+        mockMvc
+            .perform(post(URI).contentType(NDJSON).accept(APP_V1).content(body))
+            .andExpect(status().isOk())
+            .andExpect(
+                bodyMatchesJson(
+                    """
+                    {"companies":[
+                        {"row":0,"id":6},
+                        {"row":1,"error":{"httpStatus":400,"errorName":"bodyNotParsable"}}
+                    ]}"""
+                )
+            );
+    }
+
+    @Test
+    public void shouldRejectArrayWithMoreCompaniesThanAllowed() throws Exception {
+        final val body = "[%s,%s,%s,%s]".formatted(AMAZON, AMAZON, AMAZON, AMAZON);
+
+        mockMvc
+            .perform(post(URI).contentType(APP_V1).accept(APP_V1).content(body))
+            .andExpect(status().isBadRequest())
+            .andExpect(bodyMatchesJson("{\"httpStatus\":400,\"errorName\":\"tooManyItems\"}"));
+        verify(companies, never()).verifyAndCreateAll(anyList());
+    }
+
+    @Test
+    public void shouldRejectStreamWithMoreCompaniesThanAllowed() throws Exception {
+        final val body = String.join("\n", AMAZON, AMAZON, AMAZON, AMAZON);
+
+        mockMvc
+            .perform(post(URI).contentType(NDJSON).accept(APP_V1).content(body))
+            .andExpect(status().isBadRequest())
+            .andExpect(bodyMatchesJson("{\"httpStatus\":400,\"errorName\":\"tooManyItems\"}"));
+        verify(companies, never()).verifyAndCreateAll(anyList());
+    }
+
+    private static ListingAlreadyExists listingAlreadyExists() {
+        return new ListingAlreadyExists(
+            new StockSymbol("AMZN"),
+            new MarketIdentifierCode("XNAS"),
+            new IllegalStateException()
+        );
+    }
+
+    @Test
+    public void shouldRejectBodyOtherThanArray() throws Exception {
+        mockMvc
+            .perform(post(URI).contentType(APP_V1).accept(APP_V1).content(AMAZON))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,112 @@
+package org.ignast.stockinvesting.quotes.api.controller.integration.company;
+
+import static org.ignast.stockinvesting.quotes.api.testutil.DomainFactoryForTests.amazon;
+import static org.ignast.stockinvesting.testutil.api.NonExtensibleContentMatchers.bodyMatchesJson;
+import static org.ignast.stockinvesting.testutil.api.NonExtensibleContentMatchers.resourceContentMatchesJson;
+import static org.ignast.stockinvesting.testutil.api.NonExtensibleContentMatchers.resourceLinksMatchesJson;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.HalConfig;
+import org.ignast.stockinvesting.quotes.api.controller.ListingController;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppErrorsHandlingConfiguration;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.CompanyNotFound;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest({ ListingController.class, HalConfig.class, AppErrorsHandlingConfiguration.class })
+@TestPropertySource(properties = { "documentation.url=http://documentation:8081" })
+public class ListingControllerIT {
+
+    private static final String APP_V1 = "application/vnd.stockinvesting.quotes-v1.hal+json";
+
+    private static final String URI = "/listings/XNAS/AMZN";
+
+    private final CompanyJsonBodyFactory bodyFactory = new CompanyJsonBodyFactory();
+
+    @MockBean
+    private Companies companies;
+
+    @MockBean
+    private StockExchanges stockExchanges;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    public void shouldRetrieveCompanyByListing() throws Exception {
+        when(companies.findByListing(any())).thenReturn(amazon());
+
+        mockMvc
+            .perform(get(URI).accept(APP_V1))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", APP_V1))
+            .andExpect(resourceContentMatchesJson(bodyFactory.createAmazon()));
+    }
+
+    @Test
+    public void retrievedCompanyShouldContainLinks() throws Exception {
+        when(companies.findByListing(any())).thenReturn(amazon());
+
+        mockMvc
+            .perform(get(URI).accept(APP_V1))
+            .andExpect(status().isOk())
+            .andExpect(
+                resourceLinksMatchesJson(
+                    """
+                    {"_links":{
+                        "self":{"href":"http://localhost/listings/XNAS/AMZN"},
+                        "canonical":{"href":"http://localhost/companies/6"},
+                        "quotes:queryQuotedPrice":{"href":"http://localhost/companies/6/price"},
+                        "curies":[{
+                            "name":"quotes",
+                            "href":"http://documentation:8081/rels/quotes/{rel}",
+                            "templated":true
+                        }]
+                    }}"""
+                )
+            );
+    }
+
+    @Test
+    public void shouldRejectMalformedMarketIdentifierCode() throws Exception {
+        mockMvc
+            .perform(get("/listings/xnas/AMZN").accept(APP_V1))
+            .andExpect(status().isBadRequest())
+            .andExpect(header().string("Content-Type", APP_V1))
+            .andExpect(bodyMatchesJson("{\"httpStatus\":400,\"errorName\":\"invalidListing\"}"));
+    }
+
+    @Test
+    public void shouldRejectMalformedStockSymbol() throws Exception {
+        mockMvc
+            .perform(get("/listings/XNAS/AMZN-TOO-LONG").accept(APP_V1))
+            .andExpect(status().isBadRequest())
+            .andExpect(header().string("Content-Type", APP_V1))
+            .andExpect(bodyMatchesJson("{\"httpStatus\":400,\"errorName\":\"invalidListing\"}"));
+    }
+
+    @Test
+    public void shouldNotFindUnknownListing() throws Exception {
+        final val listing = new Listing(new StockSymbol("AMZN"), new MarketIdentifierCode("XNAS"));
+        when(companies.findByListing(listing)).thenThrow(new CompanyNotFound(listing));
+
+        mockMvc
+            .perform(get(URI).accept(APP_V1))
+            .andExpect(status().isNotFound())
+            .andExpect(bodyMatchesJson("{\"httpStatus\":404}"));
+    }
+}
@@ -33,6 +33,33 @@ public class CuriesControllerIT {
             .andExpect(bodyMatchesJson(format("{'mediaType':'%s','methods':[{'method':'PUT'}]}", APP_V1)));
     }
 
+    @Test
+    public void shouldGetCuriesForCompanyImport() throws Exception {
+        mockMvc
+            .perform(get("/rels/quotes/importCompanies").accept(APP_V1))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", APP_V1))
+            .andExpect(bodyMatchesJson(format("{'mediaType':'%s','methods':[{'method':'POST'}]}", APP_V1)));
+    }
+
+    @Test
+    public void shouldGetCuriesForListingCompanies() throws Exception {
+        mockMvc
+            .perform(get("/rels/quotes/listCompanies").accept(APP_V1))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", APP_V1))
+            .andExpect(bodyMatchesJson(format("{'mediaType':'%s','methods':[{'method':'GET'}]}", APP_V1)));
+    }
+
+    @Test
+    public void shouldGetCuriesForStreamingCompanies() throws Exception {
+        mockMvc
+            .perform(get("/rels/quotes/streamCompanies").accept(APP_V1))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", APP_V1))
+            .andExpect(bodyMatchesJson("{'mediaType':'application/x-ndjson','methods':[{'method':'GET'}]}"));
+    }
+
     @Test
     public void shouldGetCuriesForQuotedPriceRetrieval() throws Exception {
         mockMvc
@@ -42,8 +69,26 @@ public class CuriesControllerIT {
             .andExpect(bodyMatchesJson(format("{'mediaType':'%s','methods':[{'method':'GET'}]}", APP_V1)));
     }
 
+    @Test
+    public void shouldGetCuriesForQuotedPricesRetrieval() throws Exception {
+        mockMvc
+            .perform(get("/rels/quotes/queryQuotedPrices").accept(APP_V1))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", APP_V1))
+            .andExpect(bodyMatchesJson(format("{'mediaType':'%s','methods':[{'method':'GET'}]}", APP_V1)));
+    }
+
     @ParameterizedTest
-    @ValueSource(strings = { "createCompany", "queryQuotedPrice" })
+    @ValueSource(
+        strings = {
+            "createCompany",
+            "importCompanies",
+            "listCompanies",
+            "streamCompanies",
+            "queryQuotedPrice",
+            "queryQuotedPrices",
+        }
+    )
     public void shouldRejectNonHalRequests(final String action) throws Exception {
         mockMvc
             .perform(get("/rels/quotes/" + action).accept("application/json"))
@@ -52,7 +97,16 @@ public class CuriesControllerIT {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "createCompany", "queryQuotedPrice" })
+    @ValueSource(
+        strings = {
+            "createCompany",
+            "importCompanies",
+            "listCompanies",
+            "streamCompanies",
+            "queryQuotedPrice",
+            "queryQuotedPrices",
+        }
+    )
     public void shouldRejectUnversionedRequests(final String action) throws Exception {
         mockMvc
             .perform(get("/rels/quotes/" + action).accept("application/hal+json"))
@@ -61,7 +115,7 @@ public class CuriesControllerIT {
     }
 
     @ParameterizedTest
-    @ValueSource(strings = { "createCompany", "queryQuotedPrice" })
+    @ValueSource(strings = { "createCompany", "importCompanies", "queryQuotedPrice" })
     public void shouldIndicateResourceNotModifiable(final String action) throws Exception {
         mockMvc
             .perform(put("/rels/quotes/" + action).contentType(APP_V1))
@@ -0,0 +1,139 @@
+package org.ignast.stockinvesting.quotes.api.controller.integration.price;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.ignast.stockinvesting.quotes.api.testutil.DomainFactoryForTests.amazon;
+import static org.ignast.stockinvesting.testutil.MockitoUtils.mock;
+import static org.ignast.stockinvesting.testutil.api.NonExtensibleContentMatchers.bodyMatchesJson;
+import static org.ignast.stockinvesting.testutil.api.NonExtensibleContentMatchers.resourceContentMatchesJson;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.api.controller.CompanyPricesController;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppErrorsHandlingConfiguration;
+import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest({ CompanyPricesController.class, AppErrorsHandlingConfiguration.class })
+public class CompanyPricesControllerIT {
+
+    private static final String APP_V1 = "application/vnd.stockinvesting.quotes-v1.hal+json";
+
+    private static final String URI = "/companies/prices";
+
+    @MockBean
+    private Companies companies;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldGetPricesReportingFailuresPerCompany() throws Exception {
+        final val amazonId = amazon().getExternalId().get();
+        final val unsupported = mock(
+            Company.class,
+            c -> {
+                when(c.getExternalId()).thenReturn(new CompanyExternalId(2));
+                when(c.getQuoteAsync())
+                    .thenReturn(failedFuture(new StockSymbolNotSupportedInThisMarket("not supported")));
+            }
+        );
+        final val unavailable = mock(
+            Company.class,
+            c -> {
+                when(c.getExternalId()).thenReturn(new CompanyExternalId(4));
+                when(c.getQuoteAsync()).thenReturn(failedFuture(new QuoteRetrievalFailedException("failed")));
+            }
+        );
+        when(companies.findByExternalIds(any())).thenReturn(List.of(amazon(), unsupported, unavailable));
+
+        final val asyncResult = mockMvc
+            .perform(get(URI).param("ids", amazonId + ",2,3,4").accept(APP_V1))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc
+            .perform(asyncDispatch(asyncResult))
+            .andExpect(status().isOk())
+            .andExpect(
+                resourceContentMatchesJson(
+                    """
+                    {"prices":[
+                        {"id":%d,"price":{"amount":"3000","currency":"USD"}},
+                        {"id":2,"error":{"httpStatus":400,"errorName":"stockSymbolNotSupportedInThisMarket"}},
+                        {"id":3,"error":{"httpStatus":404}},
+                        {"id":4,"error":{"httpStatus":502,"errorName":"quoteRetrievalFailed"}}
+                    ]}""".formatted(
+                            amazonId
+                        )
+                )
+            );
+    }
+
+    @Test
+    public void shouldRejectNonPositiveIds() throws Exception {
+        mockMvc
+            .perform(get(URI).param("ids", "1,0").accept(APP_V1))
+            .andExpect(status().isBadRequest())
+            .andExpect(bodyMatchesJson("{\"httpStatus\":400,\"errorName\":\"invalidCompanyId\"}"));
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldRejectTooManyIds() throws Exception {
+        final val ids = String.join(",", Collections.nCopies(101, "1"));
+
+        mockMvc
+            .perform(get(URI).param("ids", ids).accept(APP_V1))
+            .andExpect(status().isBadRequest())
+            .andExpect(bodyMatchesJson("{\"httpStatus\":400,\"errorName\":\"tooManyItems\"}"));
+    }
+
+    @Test
+    public void shouldRejectRequestsWithoutIds() throws Exception {
+        mockMvc.perform(get(URI).accept(APP_V1)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void shouldRejectNonNumericIds() throws Exception {
+        mockMvc.perform(get(URI).param("ids", "one").accept(APP_V1)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void shouldNotAcceptNonHalJson() throws Exception {
+        mockMvc
+            .perform(get(URI).param("ids", "1").accept("application/json"))
+            .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    public void shouldNotAcceptUnversionedHalJson() throws Exception {
+        mockMvc
+            .perform(get(URI).param("ids", "1").accept(MediaTypes.HAL_JSON))
+            .andExpect(status().isNotAcceptable());
+    }
+
+    @Test
+    public void shouldNotBeModifiable() throws Exception {
+        mockMvc
+            .perform(put(URI).accept(MediaTypes.HAL_JSON).content("any"))
+            .andExpect(status().isMethodNotAllowed());
+    }
+}
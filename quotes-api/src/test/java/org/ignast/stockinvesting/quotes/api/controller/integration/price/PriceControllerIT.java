@@ -1,11 +1,16 @@
 package org.ignast.stockinvesting.quotes.api.controller.integration.price;
 
 import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.ignast.stockinvesting.quotes.api.testutil.DomainFactoryForTests.amazon;
+import static org.ignast.stockinvesting.testutil.MockitoUtils.mock;
 import static org.ignast.stockinvesting.testutil.api.NonExtensibleContentMatchers.resourceContentMatchesJson;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,11 +18,15 @@ import lombok.val;
 import org.ignast.stockinvesting.quotes.api.controller.PriceController;
 import org.ignast.stockinvesting.quotes.api.controller.errorhandler.AppErrorsHandlingConfiguration;
 import org.ignast.stockinvesting.quotes.domain.Companies;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.StockSymbolNotSupportedInThisMarket;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest({ PriceController.class, AppErrorsHandlingConfiguration.class })
@@ -40,15 +49,39 @@ public class PriceControllerIT {
         final val uri = format("/companies/%d/price", amazonId.get());
         when(companies.findByExternalId(amazonId)).thenReturn(amazon());
 
-        mockMvc
+        final val asyncResult = mockMvc
             .perform(get(uri).accept(APP_V1))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc
+            .perform(asyncDispatch(asyncResult))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.AGE, "0"))
             .andExpect(
                 resourceContentMatchesJson("""
                         {"amount":"3000","currency":"USD"}""")
             );
     }
 
+    @Test
+    public void shouldReportQuoteFailureOfSymbolNotSupportedInMarket() throws Exception {
+        final val company = mock(
+            Company.class,
+            c ->
+                when(c.getQuoteAsync())
+                    .thenReturn(failedFuture(new StockSymbolNotSupportedInThisMarket("not supported")))
+        );
+        when(companies.findByExternalId(new CompanyExternalId(1))).thenReturn(company);
+
+        final val asyncResult = mockMvc
+            .perform(get("/companies/1/price").accept(APP_V1))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult)).andExpect(status().isBadRequest());
+    }
+
     @Test
     public void shouldNotAcceptNonHalJson() throws Exception {
         final val uri = format("/companies/%d/price", amazon().getExternalId().get());
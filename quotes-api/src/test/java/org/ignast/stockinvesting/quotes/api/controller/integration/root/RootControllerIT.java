@@ -16,7 +16,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
-@TestPropertySource("documentation.url=" + DOCS_URL)
+@TestPropertySource(properties = { "documentation.url=" + DOCS_URL })
 @WebMvcTest({ RootController.class, HalConfig.class, AppErrorsHandlingConfiguration.class })
 public class RootControllerIT {
 
@@ -39,9 +39,19 @@ public class RootControllerIT {
                         """
                         {"_links":{
                             "quotes:createCompany":{"href":"http://localhost/companies"},
+                            "quotes:importCompanies":{"href":"http://localhost/companies/imports"},
+                            "quotes:listCompanies":{
+                                "href":"http://localhost/companies{?after,size}",
+                                "templated":true
+                            },
+                            "quotes:streamCompanies":{"href":"http://localhost/companies"},
+                            "quotes:queryQuotedPrices":{
+                                "href":"http://localhost/companies/prices{?ids}",
+                                "templated":true
+                            },
                             "curies":[{
                                 "name":"quotes",
-                                "href":"http://localhost:8081/rels/quotes/{rel}",
+                                "href":"%s/rels/quotes/{rel}",
                                 "templated":true
                             }]
                         }}""",
@@ -1,8 +1,16 @@
 package org.ignast.stockinvesting.quotes.api.controller.root;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
 import static org.ignast.stockinvesting.testutil.api.HateoasJsonMatchers.hasRel;
 import static org.ignast.stockinvesting.testutil.api.NonExtensibleContentMatchers.bodyMatchesJson;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.HOST;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.VARY;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -17,8 +25,10 @@ import org.ignast.stockinvesting.util.errorhandling.api.bodyvalidation.BodyValid
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
+@TestPropertySource(properties = { "documentation.url=http://documentation:8081" })
 @WebMvcTest(
     {
         RootController.class,
@@ -29,6 +39,8 @@ import org.springframework.test.web.servlet.MockMvc;
 )
 public final class RootControllerTest {
 
+    private static final String ROOT = "/";
+
     private static final String V1_MEDIA_TYPE = "application/vnd.stockinvesting.quotes-v1.hal+json";
 
     @Autowired
@@ -36,17 +48,90 @@ public final class RootControllerTest {
 
     @Test
     public void rootResourceShouldLinkToCompanies() throws Exception {
-        final val root = mockMvc.perform(get("/").accept(V1_MEDIA_TYPE));
+        final val root = mockMvc.perform(get(ROOT).accept(V1_MEDIA_TYPE));
         root
             .andExpect(status().isOk())
             .andExpect(header().string(CONTENT_TYPE, V1_MEDIA_TYPE))
             .andExpect(content().string(hasRel("quotes:createCompany").withHrefContaining("/companies")));
     }
 
+    @Test
+    public void rootResourceShouldLinkToCompanyPrices() throws Exception {
+        mockMvc
+            .perform(get(ROOT).accept(V1_MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(
+                content()
+                    .string(hasRel("quotes:queryQuotedPrices").withHrefContaining("/companies/prices{?ids}"))
+            );
+    }
+
+    @Test
+    public void rootResourceShouldLinkToCompanyImports() throws Exception {
+        mockMvc
+            .perform(get(ROOT).accept(V1_MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(
+                content().string(hasRel("quotes:importCompanies").withHrefContaining("/companies/imports"))
+            );
+    }
+
+    @Test
+    public void rootResourceShouldLinkToCompanyCollection() throws Exception {
+        mockMvc
+            .perform(get(ROOT).accept(V1_MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(
+                content().string(hasRel("quotes:listCompanies").withHrefContaining("/companies{?after,size}"))
+            )
+            .andExpect(content().string(hasRel("quotes:streamCompanies").withHrefContaining("/companies")));
+    }
+
+    @Test
+    public void rootResourceShouldBeCacheable() throws Exception {
+        mockMvc
+            .perform(get(ROOT).accept(V1_MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(header().string(ETAG, matchesPattern("\"[0-9a-f]{32}\"")))
+            .andExpect(header().string(CACHE_CONTROL, "max-age=3600, public"))
+            .andExpect(header().string(VARY, containsString(HOST)));
+    }
+
+    @Test
+    public void shouldNotResendUnmodifiedRootResource() throws Exception {
+        final val eTag = mockMvc
+            .perform(get(ROOT).accept(V1_MEDIA_TYPE))
+            .andReturn()
+            .getResponse()
+            .getHeader(ETAG);
+
+        mockMvc
+            .perform(get(ROOT).accept(V1_MEDIA_TYPE).header(IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    public void rootResourceShouldLinkRelativeToRequestedBaseUri() throws Exception {
+        final val local = mockMvc.perform(get(ROOT).accept(V1_MEDIA_TYPE)).andReturn().getResponse();
+
+        mockMvc
+            .perform(get("http://quotes.example.com/").accept(V1_MEDIA_TYPE))
+            .andExpect(status().isOk())
+            .andExpect(
+                content()
+                    .string(
+                        hasRel("quotes:importCompanies")
+                            .withHrefContaining("http://quotes.example.com/companies/imports")
+                    )
+            )
+            .andExpect(header().string(ETAG, not(local.getHeader(ETAG))));
+    }
+
     @Test
     public void shouldRejectUnversionedRequests() throws Exception {
         mockMvc
-            .perform(get("/").accept("application/hal+json"))
+            .perform(get(ROOT).accept("application/hal+json"))
             .andExpect(status().isNotAcceptable())
             .andExpect(content().string(new StringContains("mediaTypeNotAcceptable")));
     }
@@ -54,7 +139,7 @@ public final class RootControllerTest {
     @Test
     public void shouldRejectNonHalRequests() throws Exception {
         mockMvc
-            .perform(get("/").accept("application/json"))
+            .perform(get(ROOT).accept("application/json"))
             .andExpect(status().isNotAcceptable())
             .andExpect(content().string(new StringContains("mediaTypeNotAcceptable")));
     }
@@ -62,7 +147,7 @@ public final class RootControllerTest {
     @Test
     public void shouldNotBeModifiableResource() throws Exception {
         mockMvc
-            .perform(post("/"))
+            .perform(post(ROOT))
             .andExpect(status().isMethodNotAllowed())
             .andExpect(bodyMatchesJson("{\"httpStatus\":405,\"errorName\":\"methodNotAllowed\"}"));
     }
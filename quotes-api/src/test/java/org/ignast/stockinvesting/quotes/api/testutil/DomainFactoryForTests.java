@@ -6,6 +6,7 @@ import static org.ignast.stockinvesting.quotes.api.testutil.DomainFactoryForTest
 import static org.ignast.stockinvesting.quotes.api.testutil.DomainFactoryForTests.exchangeNotSupportingAnySymbol;
 import static org.ignast.stockinvesting.testutil.MockitoUtils.mock;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -14,6 +15,7 @@ import org.ignast.stockinvesting.quotes.domain.Company;
 import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
 import org.ignast.stockinvesting.quotes.domain.CompanyName;
 import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
 import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
 import org.ignast.stockinvesting.quotes.domain.StockExchange;
 import org.ignast.stockinvesting.quotes.domain.StockExchanges;
@@ -32,21 +34,25 @@ public final class DomainFactoryForTests {
             new CompanyExternalId(6),
             new CompanyName("Amazon"),
             new StockSymbol("AMZN"),
-            new StockExchanges((s, m) -> new BigDecimal("3000")).getFor(new MarketIdentifierCode("XNAS"))
+            new StockExchanges((s, m) -> Price.of(new BigDecimal("3000"), "USD"))
+                .getFor(new MarketIdentifierCode("XNAS"))
         );
     }
 
     public static StockExchange exchangeNotSupportingAnySymbol() {
         return mock(
             StockExchange.class,
-            e -> when(e.getQuotedPrice(any())).thenThrow(StockSymbolNotSupportedInThisMarket.class)
+            e -> {
+                when(e.getQuotedPrice(any())).thenThrow(StockSymbolNotSupportedInThisMarket.class);
+                doThrow(StockSymbolNotSupportedInThisMarket.class).when(e).verifySupported(any());
+            }
         );
     }
 
     private static class StubQuotesRepository implements QuotesRepository {
 
         @Override
-        public BigDecimal getQuotedPriceOf(final StockSymbol stockSymbol, final MarketIdentifierCode mic) {
+        public Price getQuotedPriceOf(final StockSymbol stockSymbol, final MarketIdentifierCode mic) {
             return null;
         }
     }
@@ -70,4 +76,10 @@ final class DomainFactoryForTestsTest {
         assertThatExceptionOfType(StockSymbolNotSupportedInThisMarket.class)
             .isThrownBy(() -> exchangeNotSupportingAnySymbol().getQuotedPrice(new StockSymbol("AAAA")));
     }
+
+    @Test
+    public void shouldCreateStockExchangeRejectingVerificationOfAnySymbol() {
+        assertThatExceptionOfType(StockSymbolNotSupportedInThisMarket.class)
+            .isThrownBy(() -> exchangeNotSupportingAnySymbol().verifySupported(new StockSymbol("AAAA")));
+    }
 }
@@ -0,0 +1,82 @@
+package org.ignast.stockinvesting.quotes.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import lombok.val;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.connector.Request;
+import org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("checkstyle:magicnumber")
+public class AcceptHeaderCheckBenchmark {
+
+    private static final String GET = "GET";
+
+    private static final String COMPANY = "/companies/5";
+
+    private static final String HAL_JSON = "application/hal+json";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private HttpServletRequest acceptingRequest;
+
+    @Setup
+    public void setUp() {
+        acceptingRequest = tomcatRequest();
+    }
+
+    private HttpServletRequest tomcatRequest() {
+        final val coyoteRequest = new org.apache.coyote.Request();
+        coyoteRequest.method().setString(GET);
+        coyoteRequest.requestURI().setString(COMPANY);
+        coyoteRequest.getMimeHeaders().addValue("Host").setString("localhost");
+        coyoteRequest.getMimeHeaders().addValue("User-Agent").setString("curl/7.79.1");
+        coyoteRequest.getMimeHeaders().addValue("Accept").setString(HAL_JSON);
+        final val request = new Request(new Connector());
+        request.setCoyoteRequest(coyoteRequest);
+        return request;
+    }
+
+    @Benchmark
+    public boolean legacyAcceptHeaderCheck() {
+        final val containsAccept = Collections
+            .list(acceptingRequest.getHeaderNames())
+            .stream()
+            .map(String::toLowerCase)
+            .collect(Collectors.toUnmodifiableList())
+            .contains("accept");
+        return GET.equals(acceptingRequest.getMethod()) && !containsAccept;
+    }
+
+    @Benchmark
+    public boolean acceptHeaderCheck() {
+        final val missingAccept = acceptingRequest.getHeader(HttpHeaders.ACCEPT) == null;
+        return GET.equals(acceptingRequest.getMethod()) && missingAccept;
+    }
+
+    @Benchmark
+    public String perRejectionSerialization() throws IOException {
+        return mapper.writeValueAsString(StandardErrorDTO.createForNotAcceptableNoHeader());
+    }
+}
@@ -0,0 +1,67 @@
+package org.ignast.stockinvesting.quotes.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.ignast.stockinvesting.quotes.api.controller.errorhandler.ControllerAdviceForBusinessErrors;
+import org.ignast.stockinvesting.quotes.domain.BusinessExceptions;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.CompanyNotFound;
+import org.ignast.stockinvesting.util.errorhandling.api.dto.StandardErrorDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("checkstyle:magicnumber")
+public class CompanyNotFoundBenchmark {
+
+    @Param({ "true", "false" })
+    private boolean stackTraces;
+
+    @Param({ "10", "100" })
+    private int callDepth;
+
+    private final ControllerAdviceForBusinessErrors advice = new ControllerAdviceForBusinessErrors();
+
+    private final CompanyExternalId externalId = new CompanyExternalId(404);
+
+    @Setup
+    public void setUp() {
+        final boolean capture = stackTraces;
+        BusinessExceptions.captureStackTracesWhen(() -> capture);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BusinessExceptions.captureStackTracesAlways();
+    }
+
+    @Benchmark
+    public StandardErrorDTO notFoundResponse() {
+        try {
+            return findAt(callDepth);
+        } catch (CompanyNotFound e) {
+            return advice.handleCompanyNotFound(e);
+        }
+    }
+
+    private StandardErrorDTO findAt(final int depth) {
+        if (depth == 0) {
+            throw new CompanyNotFound(externalId);
+        }
+        return findAt(depth - 1);
+    }
+}
@@ -0,0 +1,43 @@
+package org.ignast.stockinvesting.quotes.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("checkstyle:magicnumber")
+public class DomainValidationBenchmark {
+
+    @Param({ "AMZN", "amzn" })
+    private String symbol;
+
+    @Benchmark
+    public Optional<String> constructAndCatch() {
+        try {
+            new StockSymbol(symbol);
+            return Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.of(e.getMessage());
+        }
+    }
+
+    @Benchmark
+    public Optional<String> validate() {
+        return StockSymbol.validate(symbol);
+    }
+}
@@ -0,0 +1,52 @@
+package org.ignast.stockinvesting.quotes.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import org.ignast.stockinvesting.quotes.api.controller.PriceDTO;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("checkstyle:magicnumber")
+public class PriceBenchmark {
+
+    private static final String POUNDS = "GBP";
+
+    private static final BigDecimal QUOTED_PENCE = new BigDecimal("9121.0000");
+
+    private CurrencyUnit pounds;
+
+    @Setup
+    public void setUp() {
+        pounds = Monetary.getCurrency(POUNDS);
+    }
+
+    @Benchmark
+    public PriceDTO moneyToDto() {
+        final Money price = Money.of(QUOTED_PENCE, POUNDS).divide(100);
+        return new PriceDTO(Price.of(price.getNumberStripped(), price.getCurrency()));
+    }
+
+    @Benchmark
+    public PriceDTO compactPriceToDto() {
+        final Price price = Price.of(QUOTED_PENCE, pounds).movePointLeft(2);
+        return new PriceDTO(price);
+    }
+}
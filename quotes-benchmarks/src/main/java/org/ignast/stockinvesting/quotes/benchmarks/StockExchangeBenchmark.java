@@ -0,0 +1,68 @@
+package org.ignast.stockinvesting.quotes.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.StockExchange;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.javamoney.moneta.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("checkstyle:magicnumber")
+public class StockExchangeBenchmark {
+
+    private static final BigDecimal QUOTED_PRICE = new BigDecimal("9121.0000");
+
+    @Param({ "XNAS", "XLON" })
+    private String marketIdentifierCode;
+
+    private StockExchange stockExchange;
+
+    private StockSymbol symbol;
+
+    private String currency;
+
+    @Setup
+    public void setUp() {
+        stockExchange =
+            new StockExchanges((stockSymbol, mic) ->
+                Price.of(QUOTED_PRICE, StockExchanges.quoteCurrencyOf(mic))
+            )
+                .getFor(new MarketIdentifierCode(marketIdentifierCode));
+        symbol = new StockSymbol("AZN");
+        currency = stockExchange.getQuotedPrice(symbol).getCurrency().getCurrencyCode();
+    }
+
+    @Benchmark
+    public Money quotedPrice() {
+        return stockExchange.getQuotedPrice(symbol);
+    }
+
+    @Benchmark
+    public Money perCallCurrencyLookupAndDivision() {
+        final Money price = Money.of(QUOTED_PRICE, currency);
+        if ("XLON".equals(marketIdentifierCode)) {
+            return price.divide(100);
+        } else {
+            return price;
+        }
+    }
+}
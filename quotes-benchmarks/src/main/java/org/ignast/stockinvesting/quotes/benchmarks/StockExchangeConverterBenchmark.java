@@ -0,0 +1,55 @@
+package org.ignast.stockinvesting.quotes.benchmarks;
+
+import static java.math.BigDecimal.TEN;
+
+import java.util.concurrent.TimeUnit;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
+import org.ignast.stockinvesting.quotes.domain.StockExchange;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.ignast.stockinvesting.quotes.persistence.repositories.StockExchangeConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("checkstyle:magicnumber")
+public class StockExchangeConverterBenchmark {
+
+    @Param({ "XNAS", "XLON", "XHKG" })
+    private String marketIdentifierCode;
+
+    private StockExchanges stockExchanges;
+
+    private StockExchangeConverter converter;
+
+    @Setup
+    public void setUp() {
+        stockExchanges =
+            new StockExchanges((symbol, mic) -> Price.of(TEN, StockExchanges.quoteCurrencyOf(mic)));
+        converter = new StockExchangeConverter(stockExchanges);
+    }
+
+    @Benchmark
+    public StockExchange validatingLookup() {
+        return stockExchanges.getFor(new MarketIdentifierCode(marketIdentifierCode));
+    }
+
+    @Benchmark
+    public StockExchange persistedLookup() {
+        return converter.convertToEntityAttribute(marketIdentifierCode);
+    }
+}
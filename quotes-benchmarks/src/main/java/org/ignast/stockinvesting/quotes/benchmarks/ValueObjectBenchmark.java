@@ -0,0 +1,82 @@
+package org.ignast.stockinvesting.quotes.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.CompanyName;
+import org.ignast.stockinvesting.quotes.domain.CurrencyCode;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("checkstyle:magicnumber")
+public class ValueObjectBenchmark {
+
+    private String symbol = "AMZN";
+
+    private String marketIdentifierCode = "XNAS";
+
+    private String currencyCode = "USD";
+
+    private String companyName = "Amazon";
+
+    private int externalId = 6;
+
+    @Benchmark
+    public StockSymbol stockSymbol() {
+        return new StockSymbol(symbol);
+    }
+
+    @Benchmark
+    public boolean stockSymbolRegexBaseline() {
+        return symbol.matches("^[A-Z0-9]*$");
+    }
+
+    @Benchmark
+    public MarketIdentifierCode marketIdentifierCode() {
+        return new MarketIdentifierCode(marketIdentifierCode);
+    }
+
+    @Benchmark
+    public MarketIdentifierCode internedMarketIdentifierCode() {
+        return MarketIdentifierCode.of(marketIdentifierCode);
+    }
+
+    @Benchmark
+    public boolean marketIdentifierCodeRegexBaseline() {
+        return marketIdentifierCode.matches("^[A-Z]*$");
+    }
+
+    @Benchmark
+    public CurrencyCode currencyCode() {
+        return new CurrencyCode(currencyCode);
+    }
+
+    @Benchmark
+    public CurrencyCode internedCurrencyCode() {
+        return CurrencyCode.of(currencyCode);
+    }
+
+    @Benchmark
+    public CompanyName companyName() {
+        return new CompanyName(companyName);
+    }
+
+    @Benchmark
+    public CompanyExternalId companyExternalId() {
+        return new CompanyExternalId(externalId);
+    }
+}
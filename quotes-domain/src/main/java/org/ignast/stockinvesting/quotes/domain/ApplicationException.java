@@ -3,6 +3,6 @@ package org.ignast.stockinvesting.quotes.domain;
 public class ApplicationException extends RuntimeException {
 
     ApplicationException(final String message) {
-        super(message);
+        super(message, null, true, BusinessExceptions.capturesStackTraces());
     }
 }
@@ -0,0 +1,25 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import java.util.function.BooleanSupplier;
+import lombok.NonNull;
+
+public final class BusinessExceptions {
+
+    private static final BooleanSupplier ALWAYS = () -> true;
+
+    private static volatile BooleanSupplier stackTraceCapture = ALWAYS;
+
+    private BusinessExceptions() {}
+
+    public static void captureStackTracesWhen(@NonNull final BooleanSupplier condition) {
+        stackTraceCapture = condition;
+    }
+
+    public static void captureStackTracesAlways() {
+        stackTraceCapture = ALWAYS;
+    }
+
+    static boolean capturesStackTraces() {
+        return stackTraceCapture.getAsBoolean();
+    }
+}
@@ -1,21 +1,186 @@
 package org.ignast.stockinvesting.quotes.domain;
 
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class Companies {
 
-    @NonNull
-    private CompanyRepository repository;
+    private final CompanyRepository repository;
+
+    private final Executor verificationExecutor;
+
+    private final Set<CompanyExternalId> verifying = ConcurrentHashMap.newKeySet();
+
+    public Companies(
+        @NonNull final CompanyRepository repository,
+        @NonNull @Qualifier("companyVerificationExecutor") final Executor verificationExecutor
+    ) {
+        this.repository = repository;
+        this.verificationExecutor = verificationExecutor;
+    }
 
     public void create(@NonNull final Company company) {
         repository.save(company);
     }
 
+    public CompletableFuture<Void> createPendingVerification(@NonNull final Company company) {
+        repository.save(company);
+        return verifyInBackground(company);
+    }
+
+    public List<Optional<RuntimeException>> createAll(@NonNull final List<Company> companies) {
+        return repository.saveAll(companies);
+    }
+
+    public List<Optional<RuntimeException>> createAllPendingVerification(
+        @NonNull final List<Company> companies
+    ) {
+        final val failures = repository.saveAll(companies);
+        IntStream
+            .range(0, companies.size())
+            .filter(i -> failures.get(i).isEmpty())
+            .forEach(i -> verifyInBackground(companies.get(i)));
+        return failures;
+    }
+
+    public List<Optional<RuntimeException>> verifyAndCreateAll(@NonNull final List<Company> companies) {
+        final val rejections = companies
+            .stream()
+            .map(Company::verifyStockSymbolIsSupported)
+            .collect(toList())
+            .stream()
+            .map(this::rejectionOf)
+            .collect(toList());
+        final val saveFailures = repository
+            .saveAll(
+                IntStream
+                    .range(0, companies.size())
+                    .filter(i -> rejections.get(i).isEmpty())
+                    .mapToObj(i -> companies.get(i).verified())
+                    .collect(toList())
+            )
+            .iterator();
+        final List<Optional<RuntimeException>> failures = new ArrayList<>();
+        for (final Optional<RuntimeException> rejection : rejections) {
+            failures.add(rejection.or(saveFailures::next));
+        }
+        return failures;
+    }
+
     public Company findByExternalId(@NonNull final CompanyExternalId id) {
         return repository.findByExternalId(id).orElseThrow(() -> new CompanyNotFound(id));
     }
+
+    public List<Company> findByExternalIds(@NonNull final Collection<CompanyExternalId> ids) {
+        return repository.findByExternalIds(ids);
+    }
+
+    public Company findByListing(@NonNull final Listing listing) {
+        return repository.findByListing(listing).orElseThrow(() -> new CompanyNotFound(listing));
+    }
+
+    public List<Company> findFirstPage(final int pageSize) {
+        requirePositive(pageSize);
+        return repository.findFirstPage(pageSize);
+    }
+
+    public List<Company> findPageAfter(@NonNull final CompanyExternalId lastId, final int pageSize) {
+        requirePositive(pageSize);
+        return repository.findPageAfter(lastId, pageSize);
+    }
+
+    public Stream<Company> streamAll() {
+        return repository.streamAll();
+    }
+
+    public Stream<Company> streamAll(final int pageSize) {
+        requirePositive(pageSize);
+        return Stream
+            .iterate(
+                repository.findFirstPage(pageSize),
+                page -> !page.isEmpty(),
+                page -> nextPage(page, pageSize)
+            )
+            .flatMap(List::stream);
+    }
+
+    public long count() {
+        return repository.count();
+    }
+
+    public void verifyPending(final int limit) {
+        requirePositive(limit);
+        repository.findPendingVerification(limit).forEach(this::verifyInBackground);
+    }
+
+    private CompletableFuture<Void> verifyInBackground(final Company company) {
+        final val id = company.getExternalId();
+        if (!verifying.add(id)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return company
+            .verifyStockSymbolIsSupported()
+            .whenCompleteAsync(
+                (verified, failure) -> {
+                    if (failure == null) {
+                        repository.markVerified(company);
+                    } else if (unwrap(failure) instanceof StockSymbolNotSupportedInThisMarket) {
+                        repository.delete(company);
+                    }
+                },
+                verificationExecutor
+            )
+            .whenComplete((outcome, failure) -> verifying.remove(id));
+    }
+
+    private Optional<RuntimeException> rejectionOf(final CompletableFuture<Void> verification) {
+        try {
+            verification.join();
+            return Optional.empty();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                return Optional.of((RuntimeException) e.getCause());
+            } else {
+                return Optional.of(e);
+            }
+        }
+    }
+
+    private Throwable unwrap(final Throwable failure) {
+        if (failure instanceof CompletionException) {
+            return failure.getCause();
+        } else {
+            return failure;
+        }
+    }
+
+    private void requirePositive(final int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+    }
+
+    private List<Company> nextPage(final List<Company> page, final int pageSize) {
+        if (page.size() < pageSize) {
+            return List.of();
+        } else {
+            return repository.findPageAfter(page.get(page.size() - 1).getExternalId(), pageSize);
+        }
+    }
 }
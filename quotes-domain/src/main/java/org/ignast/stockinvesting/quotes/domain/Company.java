@@ -1,9 +1,15 @@
 package org.ignast.stockinvesting.quotes.domain;
 
+import static org.ignast.stockinvesting.quotes.domain.VerificationStatus.PENDING;
+import static org.ignast.stockinvesting.quotes.domain.VerificationStatus.VERIFIED;
+
+import java.util.concurrent.CompletableFuture;
 import javax.persistence.AttributeOverride;
 import javax.persistence.Column;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
@@ -19,6 +25,7 @@ import org.javamoney.moneta.Money;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED) //JPA requirement for entities
 @Entity
+@SuppressWarnings("checkstyle:classfanoutcomplexity")
 public class Company {
 
     @Id
@@ -47,22 +54,62 @@ public class Company {
     @Column(name = "market_identifier_code")
     private StockExchange stockExchange;
 
+    @NonNull
+    @Getter
+    @Enumerated(EnumType.STRING)
+    private VerificationStatus verificationStatus;
+
     public static Company create(
         final CompanyExternalId externalId,
         final CompanyName name,
         final StockSymbol stockSymbol,
         final StockExchange stockExchange
     ) {
-        final val company = new Company(externalId, name, stockSymbol, stockExchange);
-        verifyStockSymbolIsSupported(company);
+        final val company = new Company(externalId, name, stockSymbol, stockExchange, VERIFIED);
+        stockExchange.verifySupported(stockSymbol);
         return company;
     }
 
-    private static void verifyStockSymbolIsSupported(final Company company) {
-        company.getQuotedPrice();
+    public static Company createPendingVerification(
+        final CompanyExternalId externalId,
+        final CompanyName name,
+        final StockSymbol stockSymbol,
+        final StockExchange stockExchange
+    ) {
+        return new Company(externalId, name, stockSymbol, stockExchange, PENDING);
+    }
+
+    public static Company restore(
+        final CompanyExternalId externalId,
+        final CompanyName name,
+        final StockSymbol stockSymbol,
+        final StockExchange stockExchange,
+        final VerificationStatus verificationStatus
+    ) {
+        return new Company(externalId, name, stockSymbol, stockExchange, verificationStatus);
+    }
+
+    public Company verified() {
+        return new Company(externalId, name, stockSymbol, stockExchange, VERIFIED);
+    }
+
+    public Listing getListing() {
+        return new Listing(stockSymbol, stockExchange.getMarketIdentifierCode());
+    }
+
+    public CompletableFuture<Void> verifyStockSymbolIsSupported() {
+        return stockExchange.verifySupportedAsync(stockSymbol);
     }
 
     public Money getQuotedPrice() {
         return stockExchange.getQuotedPrice(stockSymbol);
     }
+
+    public QuotedPrice getQuote() {
+        return stockExchange.getQuote(stockSymbol);
+    }
+
+    public CompletableFuture<QuotedPrice> getQuoteAsync() {
+        return stockExchange.getQuoteAsync(stockSymbol);
+    }
 }
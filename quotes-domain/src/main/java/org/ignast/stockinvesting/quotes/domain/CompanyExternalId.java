@@ -1,15 +1,19 @@
 package org.ignast.stockinvesting.quotes.domain;
 
 import java.io.Serializable;
+import java.util.Optional;
 import javax.persistence.Embeddable;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import lombok.val;
 
 @EqualsAndHashCode
 @Embeddable
 @ToString
 public class CompanyExternalId implements Serializable {
 
+    private static final Optional<String> NOT_POSITIVE = Optional.of("Must be positive");
+
     private int number;
 
     protected CompanyExternalId() {
@@ -18,8 +22,17 @@ public class CompanyExternalId implements Serializable {
 
     public CompanyExternalId(final int number) {
         this.number = number;
+        final val error = validate(number);
+        if (error.isPresent()) {
+            throw new IllegalArgumentException(error.get());
+        }
+    }
+
+    public static Optional<String> validate(final int number) {
         if (number <= 0) {
-            throw new IllegalArgumentException("Must be positive");
+            return NOT_POSITIVE;
+        } else {
+            return Optional.empty();
         }
     }
 
@@ -2,6 +2,7 @@ package org.ignast.stockinvesting.quotes.domain;
 
 import static java.lang.String.format;
 
+import java.util.Optional;
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import lombok.EqualsAndHashCode;
@@ -14,6 +15,10 @@ public class CompanyName {
 
     private static final int MAX_LENGTH_FOUND_IN_UK = 160;
 
+    private static final Optional<String> WRONG_LENGTH = Optional.of(
+        format("Company name must be between 1-%s characters", MAX_LENGTH_FOUND_IN_UK)
+    );
+
     @Column(name = "company_name")
     private String name;
 
@@ -22,16 +27,21 @@ public class CompanyName {
     }
 
     public CompanyName(@NonNull final String name) {
-        if (name.isEmpty() || name.length() > MAX_LENGTH_FOUND_IN_UK) {
-            final val message = format(
-                "Company name must be between 1-%s characters",
-                MAX_LENGTH_FOUND_IN_UK
-            );
-            throw new IllegalArgumentException(message);
+        final val error = validate(name);
+        if (error.isPresent()) {
+            throw new IllegalArgumentException(error.get());
         }
         this.name = name;
     }
 
+    public static Optional<String> validate(@NonNull final String name) {
+        if (name.isEmpty() || name.length() > MAX_LENGTH_FOUND_IN_UK) {
+            return WRONG_LENGTH;
+        } else {
+            return Optional.empty();
+        }
+    }
+
     public String get() {
         return name;
     }
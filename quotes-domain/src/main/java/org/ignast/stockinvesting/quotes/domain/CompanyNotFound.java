@@ -7,4 +7,14 @@ public class CompanyNotFound extends ApplicationException {
     public CompanyNotFound(final CompanyExternalId externalId) {
         super(format("Company with id '%d' was not found", externalId.get()));
     }
+
+    public CompanyNotFound(final Listing listing) {
+        super(
+            format(
+                "Company with stock symbol '%s' in the market identified by '%s' code was not found",
+                listing.getStockSymbol().get(),
+                listing.getMarketIdentifierCode().get()
+            )
+        );
+    }
 }
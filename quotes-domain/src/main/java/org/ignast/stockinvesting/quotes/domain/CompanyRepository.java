@@ -2,17 +2,46 @@ package org.ignast.stockinvesting.quotes.domain;
 
 import static java.lang.String.format;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CompanyRepository {
     public void save(Company company);
 
+    public List<Optional<RuntimeException>> saveAll(List<Company> companies);
+
+    public void delete(Company company);
+
+    public void markVerified(Company company);
+
     public Optional<Company> findByExternalId(CompanyExternalId externalId);
 
+    public List<Company> findByExternalIds(Collection<CompanyExternalId> externalIds);
+
+    public Optional<Company> findByListing(Listing listing);
+
+    public List<Company> findFirstPage(int pageSize);
+
+    public List<Company> findPageAfter(CompanyExternalId lastExternalId, int pageSize);
+
+    public Stream<Company> streamAll();
+
+    public List<Company> findPendingVerification(int limit);
+
+    public long count();
+
     public static final class CompanyAlreadyExists extends RuntimeException {
 
         public CompanyAlreadyExists(final CompanyExternalId externalId, final RuntimeException e) {
-            super(format("Company with external id '%d' already exists", externalId.get()), e);
+            super(
+                format("Company with external id '%d' already exists", externalId.get()),
+                e,
+                true,
+                BusinessExceptions.capturesStackTraces()
+            );
         }
     }
 
@@ -29,7 +58,9 @@ public interface CompanyRepository {
                     symbol.get(),
                     marketIdentifier.get()
                 ),
-                e
+                e,
+                true,
+                BusinessExceptions.capturesStackTraces()
             );
         }
     }
@@ -37,7 +68,7 @@ public interface CompanyRepository {
     public static final class CompanyCreationFailed extends RuntimeException {
 
         public CompanyCreationFailed(final RuntimeException e) {
-            super(e);
+            super(Objects.toString(e, null), e, true, BusinessExceptions.capturesStackTraces());
         }
     }
 }
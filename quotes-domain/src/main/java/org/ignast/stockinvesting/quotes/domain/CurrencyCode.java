@@ -1,31 +1,55 @@
 package org.ignast.stockinvesting.quotes.domain;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
 import java.util.Currency;
+import java.util.Map;
+import java.util.Set;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
+import lombok.val;
 
 @EqualsAndHashCode
 public final class CurrencyCode {
 
     private static final int ISO_4217_LENGTH = 3;
 
+    private static final Set<String> ISO_4217_CODES = Currency
+        .getAvailableCurrencies()
+        .stream()
+        .map(Currency::getCurrencyCode)
+        .collect(toUnmodifiableSet());
+
+    private static final Map<String, CurrencyCode> INTERNED = ISO_4217_CODES
+        .stream()
+        .collect(toUnmodifiableMap(identity(), CurrencyCode::new));
+
     private final String code;
 
     public CurrencyCode(@NonNull final String code) {
         if (code.length() != ISO_4217_LENGTH) {
             throw new IllegalArgumentException("Currency must have 3 letters");
         }
-        if (!code.matches("^[A-Z]*$")) {
+        if (!Latin.isUppercase(code)) {
             throw new IllegalArgumentException("Currency must contain only uppercase latin characters");
         }
-        try {
-            Currency.getInstance(code);
-        } catch (IllegalArgumentException e) {
+        if (!ISO_4217_CODES.contains(code)) {
             throw new IllegalArgumentException("Currency must be a valid ISO 4217 code");
         }
         this.code = code;
     }
 
+    public static CurrencyCode of(@NonNull final String code) {
+        final val interned = INTERNED.get(code);
+        if (interned == null) {
+            return new CurrencyCode(code);
+        } else {
+            return interned;
+        }
+    }
+
     public String get() {
         return code;
     }
@@ -0,0 +1,33 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+final class Latin {
+
+    private Latin() {}
+
+    static boolean isUppercase(final String text) {
+        for (int mutableIndex = 0; mutableIndex < text.length(); mutableIndex++) {
+            if (!isUppercaseLetter(text.charAt(mutableIndex))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isUppercaseOrDigit(final String text) {
+        for (int mutableIndex = 0; mutableIndex < text.length(); mutableIndex++) {
+            final char character = text.charAt(mutableIndex);
+            if (!isUppercaseLetter(character) && !isDigit(character)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUppercaseLetter(final char character) {
+        return character >= 'A' && character <= 'Z';
+    }
+
+    private static boolean isDigit(final char character) {
+        return character >= '0' && character <= '9';
+    }
+}
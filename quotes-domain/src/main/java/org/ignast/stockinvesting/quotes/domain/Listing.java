@@ -0,0 +1,20 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public final class Listing {
+
+    @NonNull
+    private final StockSymbol stockSymbol;
+
+    @NonNull
+    private final MarketIdentifierCode marketIdentifierCode;
+}
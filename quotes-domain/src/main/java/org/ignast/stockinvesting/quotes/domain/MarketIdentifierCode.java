@@ -1,27 +1,58 @@
 package org.ignast.stockinvesting.quotes.domain;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import java.util.Map;
+import java.util.Optional;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
+import lombok.val;
 
 @EqualsAndHashCode
 public final class MarketIdentifierCode {
 
     private static final int ISO_10383_LENGTH = 4;
 
+    private static final Map<String, MarketIdentifierCode> INTERNED = StockExchanges
+        .supportedMarkets()
+        .stream()
+        .collect(toUnmodifiableMap(identity(), MarketIdentifierCode::new));
+
+    private static final Optional<String> NOT_4_CHARACTERS = Optional.of(
+        "Market Identifier is not 4 characters long (ISO 10383 standard)"
+    );
+
+    private static final Optional<String> NOT_UPPERCASE_LATIN = Optional.of(
+        "Market Identifier must contain only latin uppercase alphanumeric characters (ISO 10383 standard)"
+    );
+
     private final String code;
 
     public MarketIdentifierCode(@NonNull final String code) {
+        final val error = validate(code);
+        if (error.isPresent()) {
+            throw new IllegalArgumentException(error.get());
+        }
+        this.code = code;
+    }
+
+    public static Optional<String> validate(@NonNull final String code) {
         if (code.length() != ISO_10383_LENGTH) {
-            throw new IllegalArgumentException(
-                "Market Identifier is not 4 characters long (ISO 10383 standard)"
-            );
+            return NOT_4_CHARACTERS;
+        } else if (!Latin.isUppercase(code)) {
+            return NOT_UPPERCASE_LATIN;
+        } else {
+            return Optional.empty();
         }
-        if (!code.matches("^[A-Z]*$")) {
-            throw new IllegalArgumentException(
-                "Market Identifier must contain only latin uppercase alphanumeric characters (ISO 10383 standard)"
-            );
+    }
+
+    public static MarketIdentifierCode of(@NonNull final String code) {
+        final val interned = INTERNED.get(code);
+        if (interned != null) {
+            return interned;
         }
-        this.code = code;
+        return new MarketIdentifierCode(code);
     }
 
     public String get() {
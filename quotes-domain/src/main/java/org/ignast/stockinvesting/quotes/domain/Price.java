@@ -0,0 +1,80 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+import org.javamoney.moneta.Money;
+
+@EqualsAndHashCode
+@ToString
+public final class Price {
+
+    private static final int RADIX = 10;
+
+    private static final int MAX_INTEGER_DIGITS = 19;
+
+    private final long unscaledAmount;
+
+    private final int scale;
+
+    private final CurrencyUnit currency;
+
+    private Price(final long unscaledAmount, final int scale, final CurrencyUnit currency) {
+        long mutableUnscaledAmount = unscaledAmount;
+        int mutableScale = scale;
+        while (mutableScale > 0 && mutableUnscaledAmount % RADIX == 0) {
+            mutableUnscaledAmount /= RADIX;
+            mutableScale--;
+        }
+        this.unscaledAmount = mutableUnscaledAmount;
+        this.scale = mutableScale;
+        this.currency = currency;
+    }
+
+    public static Price of(@NonNull final BigDecimal amount, @NonNull final CurrencyUnit currency) {
+        if ((long) amount.precision() - amount.scale() > MAX_INTEGER_DIGITS) {
+            throw new PriceOutOfRange(amount);
+        }
+        if (amount.scale() < 0) {
+            return new Price(toLong(amount.setScale(0).unscaledValue(), amount), 0, currency);
+        } else {
+            return new Price(toLong(amount.unscaledValue(), amount), amount.scale(), currency);
+        }
+    }
+
+    public static Price of(@NonNull final BigDecimal amount, @NonNull final String currencyCode) {
+        return of(amount, Monetary.getCurrency(currencyCode));
+    }
+
+    private static long toLong(final BigInteger unscaledAmount, final BigDecimal amount) {
+        if (unscaledAmount.bitLength() >= Long.SIZE) {
+            throw new PriceOutOfRange(amount);
+        }
+        return unscaledAmount.longValue();
+    }
+
+    public Price movePointLeft(final int digits) {
+        if (digits < 0) {
+            throw new IllegalArgumentException(
+                "Decimal point can only be moved by positive number of digits"
+            );
+        }
+        return new Price(unscaledAmount, scale + digits, currency);
+    }
+
+    public BigDecimal getAmount() {
+        return BigDecimal.valueOf(unscaledAmount, scale);
+    }
+
+    public String getCurrencyCode() {
+        return currency.getCurrencyCode();
+    }
+
+    public Money toMoney() {
+        return Money.of(getAmount(), currency);
+    }
+}
@@ -0,0 +1,12 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import static java.lang.String.format;
+
+import java.math.BigDecimal;
+
+public class PriceOutOfRange extends ApplicationException {
+
+    public PriceOutOfRange(final BigDecimal amount) {
+        super(format("Price '%s' is out of supported range", amount.toString()));
+    }
+}
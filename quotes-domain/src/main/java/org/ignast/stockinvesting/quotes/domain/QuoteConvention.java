@@ -0,0 +1,7 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+public interface QuoteConvention {
+    public void checkSupports(MarketIdentifierCode marketIdentifierCode, CurrencyCode quoteCurrency);
+
+    public Price toMajorUnits(Price quotedPrice);
+}
@@ -0,0 +1,99 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import static java.lang.String.format;
+
+import java.util.Map;
+import lombok.NonNull;
+
+public final class QuoteConventions {
+
+    private static final int CENTS_DIGITS = 2;
+
+    private static final QuoteConvention MAJOR_UNITS = new MajorUnits();
+
+    private static final QuoteConventions STANDARD = new QuoteConventions(
+        Map.of(
+            MarketIdentifierCode.of("XLON"),
+            minorUnits(CurrencyCode.of("GBP"), CENTS_DIGITS),
+            MarketIdentifierCode.of("XJSE"),
+            minorUnits(CurrencyCode.of("ZAR"), CENTS_DIGITS),
+            MarketIdentifierCode.of("XTAE"),
+            minorUnits(CurrencyCode.of("ILS"), CENTS_DIGITS)
+        )
+    );
+
+    private final Map<MarketIdentifierCode, QuoteConvention> conventions;
+
+    public QuoteConventions(@NonNull final Map<MarketIdentifierCode, QuoteConvention> conventions) {
+        this.conventions = Map.copyOf(conventions);
+    }
+
+    public static QuoteConventions standard() {
+        return STANDARD;
+    }
+
+    public static QuoteConvention majorUnits() {
+        return MAJOR_UNITS;
+    }
+
+    public static QuoteConvention minorUnits(
+        @NonNull final CurrencyCode currency,
+        final int minorUnitDigits
+    ) {
+        return new MinorUnits(currency, minorUnitDigits);
+    }
+
+    public QuoteConvention getFor(@NonNull final MarketIdentifierCode marketIdentifierCode) {
+        return conventions.getOrDefault(marketIdentifierCode, MAJOR_UNITS);
+    }
+
+    private static final class MajorUnits implements QuoteConvention {
+
+        @Override
+        public void checkSupports(
+            final MarketIdentifierCode marketIdentifierCode,
+            final CurrencyCode quoteCurrency
+        ) {}
+
+        @Override
+        public Price toMajorUnits(final Price quotedPrice) {
+            return quotedPrice;
+        }
+    }
+
+    private static final class MinorUnits implements QuoteConvention {
+
+        private final CurrencyCode currency;
+
+        private final int minorUnitDigits;
+
+        private MinorUnits(final CurrencyCode currency, final int minorUnitDigits) {
+            if (minorUnitDigits <= 0) {
+                throw new IllegalArgumentException("Minor unit digits must be positive");
+            }
+            this.currency = currency;
+            this.minorUnitDigits = minorUnitDigits;
+        }
+
+        @Override
+        public void checkSupports(
+            final MarketIdentifierCode marketIdentifierCode,
+            final CurrencyCode quoteCurrency
+        ) {
+            if (!currency.equals(quoteCurrency)) {
+                throw new IllegalArgumentException(
+                    format(
+                        "'%s' currency is not supported in stock exchange identified with market identifier '%s'",
+                        quoteCurrency.get(),
+                        marketIdentifierCode.get()
+                    )
+                );
+            }
+        }
+
+        @Override
+        public Price toMajorUnits(final Price quotedPrice) {
+            return quotedPrice.movePointLeft(minorUnitDigits);
+        }
+    }
+}
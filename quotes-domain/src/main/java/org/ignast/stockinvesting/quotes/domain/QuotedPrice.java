@@ -0,0 +1,32 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public final class QuotedPrice {
+
+    @NonNull
+    private final Price price;
+
+    @NonNull
+    private final Instant retrievedAt;
+
+    public Duration getAgeAt(@NonNull final Instant instant) {
+        final val age = Duration.between(retrievedAt, instant);
+        if (age.isNegative()) {
+            return Duration.ZERO;
+        } else {
+            return age;
+        }
+    }
+}
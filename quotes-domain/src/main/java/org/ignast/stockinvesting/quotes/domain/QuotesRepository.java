@@ -1,18 +1,85 @@
 package org.ignast.stockinvesting.quotes.domain;
 
-import java.math.BigDecimal;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 
 public interface QuotesRepository {
-    public BigDecimal getQuotedPriceOf(StockSymbol stockSymbol, MarketIdentifierCode mic);
+    public Price getQuotedPriceOf(StockSymbol stockSymbol, MarketIdentifierCode mic);
+
+    public default Quote getQuoteOf(final StockSymbol stockSymbol, final MarketIdentifierCode mic) {
+        return new Quote(getQuotedPriceOf(stockSymbol, mic), Instant.now());
+    }
+
+    public default CompletableFuture<Price> getQuotedPriceOfAsync(
+        final StockSymbol stockSymbol,
+        final MarketIdentifierCode mic
+    ) {
+        return CompletableFuture.supplyAsync(() -> getQuotedPriceOf(stockSymbol, mic), Runnable::run);
+    }
+
+    public default CompletableFuture<Quote> getQuoteOfAsync(
+        final StockSymbol stockSymbol,
+        final MarketIdentifierCode mic
+    ) {
+        return getQuotedPriceOfAsync(stockSymbol, mic).thenApply(price -> new Quote(price, Instant.now()));
+    }
+
+    public default Map<Listing, CompletableFuture<Price>> getQuotedPricesOf(
+        final Collection<Listing> listings
+    ) {
+        return listings
+            .stream()
+            .distinct()
+            .collect(
+                toUnmodifiableMap(
+                    identity(),
+                    l -> getQuotedPriceOfAsync(l.getStockSymbol(), l.getMarketIdentifierCode())
+                )
+            );
+    }
+
+    public default void verifySupported(final StockSymbol stockSymbol, final MarketIdentifierCode mic) {
+        getQuotedPriceOf(stockSymbol, mic);
+    }
+
+    public default CompletableFuture<Void> verifySupportedAsync(
+        final StockSymbol stockSymbol,
+        final MarketIdentifierCode mic
+    ) {
+        return getQuotedPriceOfAsync(stockSymbol, mic).thenAccept(price -> {});
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    @RequiredArgsConstructor
+    public static final class Quote {
+
+        @NonNull
+        private final Price price;
+
+        @NonNull
+        private final Instant retrievedAt;
+    }
 
     public static class QuoteRetrievalFailedException extends RuntimeException {
 
         public QuoteRetrievalFailedException(final String message, final Exception e) {
-            super(message, e);
+            super(message, e, true, BusinessExceptions.capturesStackTraces());
         }
 
         public QuoteRetrievalFailedException(final String message) {
-            super(message);
+            super(message, null, true, BusinessExceptions.capturesStackTraces());
         }
     }
 }
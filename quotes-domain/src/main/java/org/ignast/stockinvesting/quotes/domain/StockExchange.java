@@ -2,91 +2,93 @@ package org.ignast.stockinvesting.quotes.domain;
 
 import static java.lang.String.format;
 
+import java.util.concurrent.CompletableFuture;
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
 import lombok.NonNull;
 import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
 import org.javamoney.moneta.Money;
 
 public final class StockExchange {
 
-    private static final int PENCE_IN_POUND = 100;
-
     private final MarketIdentifierCode marketIdentifierCode;
 
-    private final CurrencyCode quoteCurrency;
+    private final CurrencyUnit quoteCurrency;
+
+    private final QuoteConvention quoteConvention;
 
     private final QuotesRepository quotes;
 
     private StockExchange(
         @NonNull final MarketIdentifierCode marketIdentifierCode,
         @NonNull final CurrencyCode quoteCurrency,
-        @NonNull final QuotesRepository quotes
+        @NonNull final QuotesRepository quotes,
+        @NonNull final QuoteConventions quoteConventions
     ) {
         this.marketIdentifierCode = marketIdentifierCode;
-        this.quoteCurrency = quoteCurrency;
+        this.quoteCurrency = Monetary.getCurrency(quoteCurrency.get());
+        this.quoteConvention = quoteConventions.getFor(marketIdentifierCode);
         this.quotes = quotes;
-        getStockExchangeSpecificBehaviour().checkRequirements();
+        quoteConvention.checkSupports(marketIdentifierCode, quoteCurrency);
     }
 
-    private StockExchangeSpecificBehaviour getStockExchangeSpecificBehaviour() {
-        if (marketIdentifierCode.get().equals("XLON")) {
-            return new LondonStockExchangeBehaviour();
-        } else {
-            return new StandardBehaviour();
-        }
+    static StockExchange create(
+        final MarketIdentifierCode marketIdentifierCode,
+        final CurrencyCode quoteCurrency,
+        final QuotesRepository quotes
+    ) {
+        return create(marketIdentifierCode, quoteCurrency, quotes, QuoteConventions.standard());
     }
 
     static StockExchange create(
         final MarketIdentifierCode marketIdentifierCode,
         final CurrencyCode quoteCurrency,
-        final QuotesRepository quotes
+        final QuotesRepository quotes,
+        final QuoteConventions quoteConventions
     ) {
-        return new StockExchange(marketIdentifierCode, quoteCurrency, quotes);
+        return new StockExchange(marketIdentifierCode, quoteCurrency, quotes, quoteConventions);
     }
 
     public Money getQuotedPrice(@NonNull final StockSymbol symbol) {
-        final val numericPriceValue = quotes.getQuotedPriceOf(symbol, marketIdentifierCode);
-        final val price = Money.of(numericPriceValue, quoteCurrency.get());
-        return getStockExchangeSpecificBehaviour().transformPrice(price);
+        final val quotedPrice = quotes.getQuotedPriceOf(symbol, marketIdentifierCode);
+        return toMajorUnits(quotedPrice).toMoney();
     }
 
-    public MarketIdentifierCode getMarketIdentifierCode() {
-        return marketIdentifierCode;
+    public QuotedPrice getQuote(@NonNull final StockSymbol symbol) {
+        final val quote = quotes.getQuoteOf(symbol, marketIdentifierCode);
+        return new QuotedPrice(toMajorUnits(quote.getPrice()), quote.getRetrievedAt());
     }
 
-    private static interface StockExchangeSpecificBehaviour {
-        public void checkRequirements();
+    public CompletableFuture<QuotedPrice> getQuoteAsync(@NonNull final StockSymbol symbol) {
+        return quotes
+            .getQuoteOfAsync(symbol, marketIdentifierCode)
+            .thenApply(quote -> new QuotedPrice(toMajorUnits(quote.getPrice()), quote.getRetrievedAt()));
+    }
 
-        public Money transformPrice(Money price);
+    public void verifySupported(@NonNull final StockSymbol symbol) {
+        quotes.verifySupported(symbol, marketIdentifierCode);
     }
 
-    private class LondonStockExchangeBehaviour implements StockExchangeSpecificBehaviour {
-
-        @Override
-        public void checkRequirements() {
-            if (!quoteCurrency.equals(new CurrencyCode("GBP"))) {
-                throw new IllegalArgumentException(
-                    format(
-                        "'%s' currency is not supported in stock exchange identified with market identifier 'XLON'",
-                        quoteCurrency.get()
-                    )
-                );
-            }
-        }
+    public CompletableFuture<Void> verifySupportedAsync(@NonNull final StockSymbol symbol) {
+        return quotes.verifySupportedAsync(symbol, marketIdentifierCode);
+    }
 
-        @Override
-        public Money transformPrice(final Money priceInPounds) {
-            return priceInPounds.divide(PENCE_IN_POUND);
+    private Price toMajorUnits(final Price quotedPrice) {
+        if (!quoteCurrency.getCurrencyCode().equals(quotedPrice.getCurrencyCode())) {
+            throw new QuoteRetrievalFailedException(
+                format(
+                    "Price quoted in '%s' while market '%s' quotes in '%s'",
+                    quotedPrice.getCurrencyCode(),
+                    marketIdentifierCode.get(),
+                    quoteCurrency.getCurrencyCode()
+                )
+            );
         }
+        return quoteConvention.toMajorUnits(quotedPrice);
     }
 
-    private static final class StandardBehaviour implements StockExchangeSpecificBehaviour {
-
-        @Override
-        public void checkRequirements() {}
-
-        @Override
-        public Money transformPrice(final Money price) {
-            return price;
-        }
+    public MarketIdentifierCode getMarketIdentifierCode() {
+        return marketIdentifierCode;
     }
 }
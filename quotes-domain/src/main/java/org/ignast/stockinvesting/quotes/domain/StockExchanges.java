@@ -1,8 +1,16 @@
 package org.ignast.stockinvesting.quotes.domain;
 
-import java.util.AbstractMap;
+import static java.util.Map.entry;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import javax.money.CurrencyUnit;
+import javax.money.Monetary;
 import lombok.NonNull;
+import lombok.val;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -10,34 +18,105 @@ public class StockExchanges {
 
     private static final String USD = "USD";
 
-    private final Map<MarketIdentifierCode, StockExchange> supportedStockExchanges;
+    private static final Map<String, String> CURRENCIES_BY_MARKET = Map.ofEntries(
+        entry("XFRA", "EUR"),
+        entry("XNYS", USD),
+        entry("XTSE", "CAD"),
+        entry("XHKG", "HKD"),
+        entry("XASX", "AUD"),
+        entry("XNAS", USD),
+        entry("XLON", "GBP")
+    );
+
+    private static final Map<String, CurrencyUnit> QUOTE_CURRENCIES = CURRENCIES_BY_MARKET
+        .entrySet()
+        .stream()
+        .collect(toUnmodifiableMap(Map.Entry::getKey, market -> Monetary.getCurrency(market.getValue())));
+
+    private final String[] codes;
+
+    private final StockExchange[] supportedStockExchanges;
+
+    private final int mask;
 
     public StockExchanges(final QuotesRepository quotes) {
-        supportedStockExchanges =
-            Map.ofEntries(
-                newStockExchange(new MarketIdentifierCode("XFRA"), new CurrencyCode("EUR"), quotes),
-                newStockExchange(new MarketIdentifierCode("XNYS"), new CurrencyCode(USD), quotes),
-                newStockExchange(new MarketIdentifierCode("XTSE"), new CurrencyCode("CAD"), quotes),
-                newStockExchange(new MarketIdentifierCode("XHKG"), new CurrencyCode("HKD"), quotes),
-                newStockExchange(new MarketIdentifierCode("XASX"), new CurrencyCode("AUD"), quotes),
-                newStockExchange(new MarketIdentifierCode("XNAS"), new CurrencyCode(USD), quotes),
-                newStockExchange(new MarketIdentifierCode("XLON"), new CurrencyCode("GBP"), quotes)
-            );
-    }
-
-    private AbstractMap.SimpleEntry<MarketIdentifierCode, StockExchange> newStockExchange(
-        final MarketIdentifierCode mic,
-        final CurrencyCode currency,
-        final QuotesRepository quotes
-    ) {
-        return new AbstractMap.SimpleEntry<>(mic, StockExchange.create(mic, currency, quotes));
+        final val exchanges = CURRENCIES_BY_MARKET
+            .entrySet()
+            .stream()
+            .map(market ->
+                StockExchange.create(
+                    MarketIdentifierCode.of(market.getKey()),
+                    CurrencyCode.of(market.getValue()),
+                    quotes
+                )
+            )
+            .collect(toList());
+        final val size = collisionFreeSize(exchanges);
+        mask = size - 1;
+        codes = new String[size];
+        supportedStockExchanges = new StockExchange[size];
+        for (final StockExchange exchange : exchanges) {
+            final val code = exchange.getMarketIdentifierCode().get();
+            codes[slot(code)] = code;
+            supportedStockExchanges[slot(code)] = exchange;
+        }
+    }
+
+    static Set<String> supportedMarkets() {
+        return CURRENCIES_BY_MARKET.keySet();
+    }
+
+    public static CurrencyUnit quoteCurrencyOf(@NonNull final MarketIdentifierCode mic) {
+        final val currency = QUOTE_CURRENCIES.get(mic.get());
+        if (currency == null) {
+            throw new StockExchangeNotSupported(mic);
+        }
+        return currency;
+    }
+
+    private static int collisionFreeSize(final List<StockExchange> exchanges) {
+        int mutableSize = Integer.highestOneBit(exchanges.size()) << 1;
+        while (!isCollisionFree(exchanges, mutableSize - 1)) {
+            mutableSize <<= 1;
+        }
+        return mutableSize;
+    }
+
+    private static boolean isCollisionFree(final List<StockExchange> exchanges, final int mask) {
+        final val slots = exchanges
+            .stream()
+            .mapToInt(e -> e.getMarketIdentifierCode().get().hashCode() & mask)
+            .distinct()
+            .count();
+        return slots == exchanges.size();
     }
 
     public StockExchange getFor(@NonNull final MarketIdentifierCode mic) {
-        if (supportedStockExchanges.containsKey(mic)) {
-            return supportedStockExchanges.get(mic);
-        } else {
+        final val exchange = find(mic.get());
+        if (exchange == null) {
             throw new StockExchangeNotSupported(mic);
         }
+        return exchange;
+    }
+
+    public StockExchange getForPersisted(@NonNull final String marketIdentifierCode) {
+        final val exchange = find(marketIdentifierCode);
+        if (exchange == null) {
+            return getFor(MarketIdentifierCode.of(marketIdentifierCode));
+        }
+        return exchange;
+    }
+
+    private StockExchange find(final String code) {
+        final val slot = slot(code);
+        if (code.equals(codes[slot])) {
+            return supportedStockExchanges[slot];
+        } else {
+            return null;
+        }
+    }
+
+    private int slot(final String code) {
+        return code.hashCode() & mask;
     }
 }
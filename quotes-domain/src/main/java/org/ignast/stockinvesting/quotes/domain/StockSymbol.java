@@ -1,9 +1,11 @@
 package org.ignast.stockinvesting.quotes.domain;
 
+import java.util.Optional;
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
+import lombok.val;
 
 @EqualsAndHashCode
 @Embeddable
@@ -11,6 +13,14 @@ public class StockSymbol {
 
     private static final int MAX_LENGTH_FOUND_IN_SHANGHAI_EXCHANGE = 6;
 
+    private static final Optional<String> WRONG_LENGTH = Optional.of(
+        "Stock Symbol must contain between 1-6 characters"
+    );
+
+    private static final Optional<String> NOT_UPPERCASE_ALPHANUMERIC = Optional.of(
+        "Stock Symbol must contain only uppercase alphanumeric characters"
+    );
+
     @Column(name = "stock_symbol")
     private String symbol;
 
@@ -19,17 +29,23 @@ public class StockSymbol {
     }
 
     public StockSymbol(@NonNull final String symbol) {
-        if (symbol.isEmpty() || symbol.length() > MAX_LENGTH_FOUND_IN_SHANGHAI_EXCHANGE) {
-            throw new IllegalArgumentException("Stock Symbol must contain between 1-6 characters");
-        }
-        if (!symbol.matches("^[A-Z0-9]*$")) {
-            throw new IllegalArgumentException(
-                "Stock Symbol must contain only uppercase alphanumeric characters"
-            );
+        final val error = validate(symbol);
+        if (error.isPresent()) {
+            throw new IllegalArgumentException(error.get());
         }
         this.symbol = symbol;
     }
 
+    public static Optional<String> validate(@NonNull final String symbol) {
+        if (symbol.isEmpty() || symbol.length() > MAX_LENGTH_FOUND_IN_SHANGHAI_EXCHANGE) {
+            return WRONG_LENGTH;
+        } else if (!Latin.isUppercaseOrDigit(symbol)) {
+            return NOT_UPPERCASE_ALPHANUMERIC;
+        } else {
+            return Optional.empty();
+        }
+    }
+
     public String get() {
         return symbol;
     }
@@ -0,0 +1,10 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+public enum VerificationStatus {
+    VERIFIED,
+    PENDING;
+
+    public boolean isVerified() {
+        return this == VERIFIED;
+    }
+}
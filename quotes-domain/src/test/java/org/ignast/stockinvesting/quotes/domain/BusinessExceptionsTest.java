@@ -0,0 +1,91 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository.CompanyAlreadyExists;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository.CompanyCreationFailed;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository.ListingAlreadyExists;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("checkstyle:classdataabstractioncoupling")
+public final class BusinessExceptionsTest {
+
+    private final RuntimeException cause = new IllegalStateException("cause");
+
+    @AfterEach
+    public void restoreDefault() {
+        BusinessExceptions.captureStackTracesAlways();
+    }
+
+    @Test
+    public void shouldNotAcceptNullCondition() {
+        assertThatNullPointerException().isThrownBy(() -> BusinessExceptions.captureStackTracesWhen(null));
+    }
+
+    @Test
+    public void shouldCaptureStackTracesByDefault() {
+        assertThat(businessExceptions()).allSatisfy(e -> assertThat(e.getStackTrace()).isNotEmpty());
+    }
+
+    @Test
+    public void shouldOmitStackTracesWhenConditionDoesNotHold() {
+        BusinessExceptions.captureStackTracesWhen(() -> false);
+
+        assertThat(businessExceptions()).allSatisfy(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    public void shouldCaptureStackTracesAgainOnceRestored() {
+        BusinessExceptions.captureStackTracesWhen(() -> false);
+
+        BusinessExceptions.captureStackTracesAlways();
+
+        assertThat(businessExceptions()).allSatisfy(e -> assertThat(e.getStackTrace()).isNotEmpty());
+    }
+
+    @Test
+    public void shouldPreserveMessageAndCauseOfStacklessExceptions() {
+        BusinessExceptions.captureStackTracesWhen(() -> false);
+
+        final val exception = new CompanyCreationFailed(cause);
+
+        assertThat(exception.getMessage()).isEqualTo(cause.toString());
+        assertThat(exception.getCause()).isSameAs(cause);
+        assertThat(exception.getCause().getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    public void shouldEvaluateConditionForEveryException() {
+        final val debugging = new boolean[] { false };
+        BusinessExceptions.captureStackTracesWhen(() -> debugging[0]);
+        final val stackless = new CompanyNotFound(new CompanyExternalId(1));
+        debugging[0] = true;
+
+        final val traced = new CompanyNotFound(new CompanyExternalId(1));
+
+        assertThat(stackless.getStackTrace()).isEmpty();
+        assertThat(traced.getStackTrace()).isNotEmpty();
+    }
+
+    private List<RuntimeException> businessExceptions() {
+        final val symbol = new StockSymbol("AMZN");
+        final val mic = new MarketIdentifierCode("XNAS");
+        return List.of(
+            new CompanyNotFound(new CompanyExternalId(1)),
+            new StockSymbolNotSupportedInThisMarket("not supported"),
+            new StockExchangeNotSupported(mic),
+            new QuoteRetrievalFailedException("failed"),
+            new QuoteRetrievalFailedException("failed", cause),
+            new CompanyAlreadyExists(new CompanyExternalId(1), cause),
+            new ListingAlreadyExists(symbol, mic, cause),
+            new CompanyCreationFailed(cause),
+            new PriceOutOfRange(BigDecimal.TEN)
+        );
+    }
+}
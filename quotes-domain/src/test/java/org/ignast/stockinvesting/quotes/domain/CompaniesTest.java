@@ -4,22 +4,40 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
 import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository.CompanyAlreadyExists;
 import org.junit.jupiter.api.Test;
 
+@SuppressWarnings("checkstyle:classdataabstractioncoupling")
 public final class CompaniesTest {
 
     private final CompanyRepository repository = mock(CompanyRepository.class);
 
-    private final Companies companies = new Companies(repository);
+    private final Companies companies = new Companies(repository, Runnable::run);
+
+    private int lastExternalId;
 
     @Test
-    public void shouldNotBeCreatedWithNullRepository() {
-        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> new Companies(null));
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new Companies(null, Runnable::run));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new Companies(repository, null));
     }
 
     @Test
@@ -36,6 +54,230 @@ public final class CompaniesTest {
         verify(repository).save(company);
     }
 
+    @Test
+    public void companyPendingVerificationShouldBePersistedBeforeVerification() {
+        final val verification = new CompletableFuture<Void>();
+        final val company = companyVerifiedBy(verification);
+
+        companies.createPendingVerification(company);
+
+        verify(repository).save(company);
+        verify(repository, never()).delete(any());
+    }
+
+    @Test
+    public void shouldKeepCompanyWithSupportedStockSymbol() {
+        final val company = companyVerifiedBy(CompletableFuture.completedFuture(null));
+
+        assertThat(companies.createPendingVerification(company)).isCompleted().isNotCompletedExceptionally();
+        verify(repository, never()).delete(any());
+        verify(repository).markVerified(company);
+    }
+
+    @Test
+    public void shouldDeleteCompanyWithUnsupportedStockSymbol() {
+        final val verification = new CompletableFuture<Void>();
+        final val company = companyVerifiedBy(verification);
+
+        final val outcome = companies.createPendingVerification(company);
+        verification.completeExceptionally(new StockSymbolNotSupportedInThisMarket("not supported"));
+
+        assertThat(outcome).isCompletedExceptionally();
+        verify(repository).delete(company);
+    }
+
+    @Test
+    public void shouldKeepCompanyWhoseVerificationCouldNotBeCompleted() {
+        final val company = companyVerifiedBy(
+            CompletableFuture.failedFuture(new QuotesRepository.QuoteRetrievalFailedException("failed"))
+        );
+
+        assertThat(companies.createPendingVerification(company)).isCompletedExceptionally();
+        verify(repository, never()).delete(any());
+        verify(repository, never()).markVerified(any());
+    }
+
+    @Test
+    public void shouldReverifyCompaniesPendingVerification() {
+        final val supported = companyVerifiedBy(CompletableFuture.completedFuture(null));
+        final val unsupported = companyVerifiedBy(
+            CompletableFuture.failedFuture(new StockSymbolNotSupportedInThisMarket("not supported"))
+        );
+        when(repository.findPendingVerification(2)).thenReturn(List.of(supported, unsupported));
+
+        companies.verifyPending(2);
+
+        verify(repository).markVerified(supported);
+        verify(repository).delete(unsupported);
+    }
+
+    @Test
+    public void shouldRecordVerificationOutcomeOnVerificationExecutor() {
+        final val verificationExecutor = new ArrayDeque<Runnable>();
+        final val companiesRecordingLater = new Companies(repository, verificationExecutor::add);
+        final val company = companyVerifiedBy(CompletableFuture.completedFuture(null));
+
+        final val outcome = companiesRecordingLater.createPendingVerification(company);
+
+        assertThat(outcome).isNotDone();
+        verify(repository, never()).markVerified(any());
+        verificationExecutor.forEach(Runnable::run);
+        assertThat(outcome).isCompleted();
+        verify(repository).markVerified(company);
+    }
+
+    @Test
+    public void shouldNotReverifyCompanyWhoseVerificationIsInFlight() {
+        final val company = companyVerifiedBy(new CompletableFuture<>());
+        when(repository.findPendingVerification(1)).thenReturn(List.of(company));
+
+        companies.createPendingVerification(company);
+        companies.verifyPending(1);
+
+        verify(company, times(1)).verifyStockSymbolIsSupported();
+    }
+
+    @Test
+    public void shouldReverifyCompanyOnceEarlierVerificationCompleted() {
+        final val company = companyVerifiedBy(
+            CompletableFuture.failedFuture(new QuotesRepository.QuoteRetrievalFailedException("failed"))
+        );
+        when(repository.findPendingVerification(1)).thenReturn(List.of(company));
+
+        companies.createPendingVerification(company);
+        companies.verifyPending(1);
+
+        verify(company, times(2)).verifyStockSymbolIsSupported();
+    }
+
+    @Test
+    public void shouldLeaveCompanyPendingForNextSweepWhenVerificationExecutorIsSaturated() {
+        final val saturatedCompanies = new Companies(
+            repository,
+            task -> {
+                throw new RejectedExecutionException("saturated");
+            }
+        );
+        final val company = companyVerifiedBy(CompletableFuture.completedFuture(null));
+        when(repository.findPendingVerification(1)).thenReturn(List.of(company));
+
+        assertThat(saturatedCompanies.createPendingVerification(company)).isCompletedExceptionally();
+        saturatedCompanies.verifyPending(1);
+
+        verify(repository, never()).markVerified(any());
+        verify(company, times(2)).verifyStockSymbolIsSupported();
+    }
+
+    @Test
+    public void shouldNotReverifyNonPositiveNumberOfCompanies() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> companies.verifyPending(0));
+    }
+
+    @Test
+    public void shouldNotCreateNullCompaniesPendingVerification() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> companies.createPendingVerification(null));
+    }
+
+    @Test
+    public void shouldCreateAllCompaniesReportingFailuresOfEach() {
+        final val created = mock(Company.class);
+        final val duplicate = mock(Company.class);
+        final List<Optional<RuntimeException>> failures = List.of(
+            empty(),
+            of(new CompanyAlreadyExists(new CompanyExternalId(1), new IllegalStateException()))
+        );
+        when(repository.saveAll(List.of(created, duplicate))).thenReturn(failures);
+
+        assertThat(companies.createAll(List.of(created, duplicate))).isSameAs(failures);
+    }
+
+    @Test
+    public void shouldNotCreateAllOfNullCompanies() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> companies.createAll(null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> companies.createAllPendingVerification(null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> companies.verifyAndCreateAll(null));
+    }
+
+    @Test
+    public void shouldCreateOnlyCompaniesVerifiedTogetherReportingFailuresOfEach() {
+        final val supported = companyVerifiedBy(CompletableFuture.completedFuture(null));
+        final val unsupported = companyVerifiedBy(
+            CompletableFuture.failedFuture(new StockSymbolNotSupportedInThisMarket("not supported"))
+        );
+        final val duplicate = companyVerifiedBy(CompletableFuture.completedFuture(null));
+        final val verifiedSupported = mock(Company.class);
+        final val verifiedDuplicate = mock(Company.class);
+        when(supported.verified()).thenReturn(verifiedSupported);
+        when(duplicate.verified()).thenReturn(verifiedDuplicate);
+        final val alreadyExists = new CompanyAlreadyExists(
+            new CompanyExternalId(1),
+            new IllegalStateException()
+        );
+        when(repository.saveAll(List.of(verifiedSupported, verifiedDuplicate)))
+            .thenReturn(List.of(empty(), of(alreadyExists)));
+
+        final val failures = companies.verifyAndCreateAll(List.of(supported, unsupported, duplicate));
+
+        assertThat(failures).hasSameSizeAs(List.of(supported, unsupported, duplicate));
+        assertThat(failures.get(0)).isEmpty();
+        assertThat(failures.get(1)).containsInstanceOf(StockSymbolNotSupportedInThisMarket.class);
+        assertThat(failures.get(2)).containsSame(alreadyExists);
+        verify(unsupported, never()).verified();
+    }
+
+    @Test
+    public void shouldStartVerifyingAllCompaniesBeforeWaitingForAny() {
+        final val firstVerification = new CompletableFuture<Void>();
+        final val first = companyVerifiedBy(firstVerification);
+        final val second = mock(Company.class);
+        when(second.verifyStockSymbolIsSupported())
+            .thenAnswer(invocation -> {
+                firstVerification.complete(null);
+                return CompletableFuture.completedFuture(null);
+            });
+        when(first.verified()).thenReturn(first);
+        when(second.verified()).thenReturn(second);
+        when(repository.saveAll(List.of(first, second))).thenReturn(List.of(empty(), empty()));
+
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(1),
+            () ->
+                assertThat(companies.verifyAndCreateAll(List.of(first, second)))
+                    .containsExactly(empty(), empty())
+        );
+    }
+
+    @Test
+    public void shouldVerifyOnlyCompaniesThatWereCreatedPendingVerification() {
+        final val created = companyVerifiedBy(new CompletableFuture<>());
+        final val duplicate = companyVerifiedBy(new CompletableFuture<>());
+        final List<Optional<RuntimeException>> failures = List.of(
+            empty(),
+            of(new CompanyAlreadyExists(new CompanyExternalId(1), new IllegalStateException()))
+        );
+        when(repository.saveAll(List.of(created, duplicate))).thenReturn(failures);
+
+        assertThat(companies.createAllPendingVerification(List.of(created, duplicate))).isSameAs(failures);
+        verify(created).verifyStockSymbolIsSupported();
+        verify(duplicate, never()).verifyStockSymbolIsSupported();
+    }
+
+    @Test
+    public void shouldDeleteCompanyCreatedPendingVerificationWithUnsupportedStockSymbol() {
+        final val verification = new CompletableFuture<Void>();
+        final val company = companyVerifiedBy(verification);
+        when(repository.saveAll(List.of(company))).thenReturn(List.of(empty()));
+
+        companies.createAllPendingVerification(List.of(company));
+        verification.completeExceptionally(new StockSymbolNotSupportedInThisMarket("not supported"));
+
+        verify(repository).delete(company);
+    }
+
     @Test
     public void shouldFindCreatedCompanyByExternalId() {
         final val company = mock(Company.class);
@@ -63,4 +305,137 @@ public final class CompaniesTest {
         assertThatExceptionOfType(NullPointerException.class)
             .isThrownBy(() -> companies.findByExternalId(null));
     }
+
+    @Test
+    public void shouldRetrieveCompanyByListing() {
+        final val company = mock(Company.class);
+        final val listing = new Listing(new StockSymbol("AMZN"), new MarketIdentifierCode("XNAS"));
+        when(repository.findByListing(listing)).thenReturn(of(company));
+
+        assertThat(companies.findByListing(listing)).isSameAs(company);
+    }
+
+    @Test
+    public void shouldNotFindNonexistentCompanyByListing() {
+        final val listing = new Listing(new StockSymbol("AMZN"), new MarketIdentifierCode("XNAS"));
+        when(repository.findByListing(listing)).thenReturn(empty());
+
+        assertThatExceptionOfType(CompanyNotFound.class)
+            .isThrownBy(() -> companies.findByListing(listing))
+            .withMessage(
+                "Company with stock symbol 'AMZN' in the market identified by 'XNAS' code was not found"
+            );
+    }
+
+    @Test
+    public void shouldNotRetrieveCompanyByNullListing() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> companies.findByListing(null));
+    }
+
+    @Test
+    public void shouldFindCompaniesByExternalIds() {
+        final val company = mock(Company.class);
+        final val externalIds = List.of(new CompanyExternalId(5), new CompanyExternalId(6));
+        when(repository.findByExternalIds(externalIds)).thenReturn(List.of(company));
+
+        assertThat(companies.findByExternalIds(externalIds)).containsExactly(company);
+    }
+
+    @Test
+    public void shouldNotRetrieveCompaniesByNullIds() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> companies.findByExternalIds(null));
+    }
+
+    @Test
+    public void shouldNotRetrieveNonPositivePages() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> companies.findFirstPage(0))
+            .withMessage("Page size must be positive");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> companies.findPageAfter(new CompanyExternalId(1), 0))
+            .withMessage("Page size must be positive");
+    }
+
+    @Test
+    public void shouldNotRetrievePageAfterNullId() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> companies.findPageAfter(null, 2));
+    }
+
+    @Test
+    public void shouldRetrievePagesOfCompanies() {
+        final val first = companyWithExternalId(1);
+        final val second = companyWithExternalId(2);
+        when(repository.findFirstPage(1)).thenReturn(List.of(first));
+        when(repository.findPageAfter(new CompanyExternalId(1), 1)).thenReturn(List.of(second));
+
+        assertThat(companies.findFirstPage(1)).containsExactly(first);
+        assertThat(companies.findPageAfter(new CompanyExternalId(1), 1)).containsExactly(second);
+    }
+
+    @Test
+    public void shouldStreamAllCompaniesFromRepository() {
+        final val company = companyWithExternalId(1);
+        when(repository.streamAll()).thenReturn(Stream.of(company));
+
+        assertThat(companies.streamAll()).containsExactly(company);
+    }
+
+    @Test
+    public void shouldNotStreamCompaniesInNonPositivePages() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> companies.streamAll(0))
+            .withMessage("Page size must be positive");
+    }
+
+    @Test
+    public void shouldStreamNoCompaniesIfNoneExist() {
+        when(repository.findFirstPage(2)).thenReturn(List.of());
+
+        assertThat(companies.streamAll(2)).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldStreamAllCompaniesPageByPage() {
+        final val first = companyWithExternalId(1);
+        final val second = companyWithExternalId(2);
+        final val third = companyWithExternalId(3);
+        when(repository.findFirstPage(2)).thenReturn(List.of(first, second));
+        when(repository.findPageAfter(new CompanyExternalId(2), 2)).thenReturn(List.of(third));
+
+        assertThat(companies.streamAll(2)).containsExactly(first, second, third);
+        verify(repository, never()).findPageAfter(new CompanyExternalId(3), 2);
+    }
+
+    @Test
+    public void shouldStopStreamingAfterEmptyPage() {
+        final val first = companyWithExternalId(1);
+        final val second = companyWithExternalId(2);
+        when(repository.findFirstPage(2)).thenReturn(List.of(first, second));
+        when(repository.findPageAfter(new CompanyExternalId(2), 2)).thenReturn(List.of());
+
+        assertThat(companies.streamAll(2)).containsExactly(first, second);
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldCountCompanies() {
+        when(repository.count()).thenReturn(3L);
+
+        assertThat(companies.count()).isEqualTo(3);
+    }
+
+    private Company companyVerifiedBy(final CompletableFuture<Void> verification) {
+        final val company = companyWithExternalId(++lastExternalId);
+        when(company.verifyStockSymbolIsSupported()).thenReturn(verification);
+        return company;
+    }
+
+    private Company companyWithExternalId(final int externalId) {
+        final val company = mock(Company.class);
+        when(company.getExternalId()).thenReturn(new CompanyExternalId(externalId));
+        return company;
+    }
 }
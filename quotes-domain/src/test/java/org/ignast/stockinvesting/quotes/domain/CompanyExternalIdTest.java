@@ -38,6 +38,12 @@ public final class CompanyExternalIdTest {
             .withMessage("Must be positive");
     }
 
+    @Test
+    public void shouldValidateWithoutThrowing() {
+        assertThat(CompanyExternalId.validate(1)).isEmpty();
+        assertThat(CompanyExternalId.validate(0)).contains("Must be positive");
+    }
+
     @Test
     public void shouldEqualToTheSameExternalId() {
         EqualsVerifier.forClass(CompanyExternalId.class).verify();
@@ -44,6 +44,13 @@ public final class CompanyNameTest {
         new CompanyName(notTooLongName);
     }
 
+    @Test
+    public void shouldValidateWithoutThrowing() {
+        assertThat(CompanyName.validate("Amazon")).isEmpty();
+        assertThat(CompanyName.validate("")).contains("Company name must be between 1-160 characters");
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> CompanyName.validate(null));
+    }
+
     @Test
     public void shouldEqualToTheSameCurrency() {
         EqualsVerifier.forClass(CompanyName.class).verify();
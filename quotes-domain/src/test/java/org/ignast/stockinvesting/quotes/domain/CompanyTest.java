@@ -7,9 +7,13 @@ import static org.ignast.stockinvesting.quotes.domain.DomainFactoryForTests.anyI
 import static org.ignast.stockinvesting.quotes.domain.DomainFactoryForTests.anyStockExchange;
 import static org.ignast.stockinvesting.quotes.domain.DomainFactoryForTests.anySymbol;
 import static org.ignast.stockinvesting.testutil.MockitoUtils.mock;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 import lombok.val;
 import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.Test;
@@ -24,12 +28,80 @@ public final class CompanyTest {
         final val symbol = new StockSymbol("NONO");
         final val exchange = mock(
             StockExchange.class,
-            e -> when(e.getQuotedPrice(symbol)).thenThrow(StockSymbolNotSupportedInThisMarket.class)
+            e -> doThrow(StockSymbolNotSupportedInThisMarket.class).when(e).verifySupported(symbol)
         );
         assertThatExceptionOfType(StockSymbolNotSupportedInThisMarket.class)
             .isThrownBy(() -> Company.create(anyId(), anyCompanyName(), symbol, exchange).getExternalId());
     }
 
+    @Test
+    public void shouldBeCreatedPendingVerificationWithoutConsultingStockExchange() {
+        final val symbol = new StockSymbol("NONO");
+        final val exchange = Mockito.mock(StockExchange.class);
+
+        final val company = Company.createPendingVerification(anyId(), anyCompanyName(), symbol, exchange);
+
+        assertThat(company.getStockSymbol()).isEqualTo(symbol);
+        assertThat(company.getVerificationStatus()).isEqualTo(VerificationStatus.PENDING);
+        verifyNoInteractions(exchange);
+    }
+
+    @Test
+    public void shouldBeVerifiedWhenCreated() {
+        final val company = Company.create(anyId(), anyCompanyName(), anySymbol(), anyStockExchange());
+
+        assertThat(company.getVerificationStatus()).isEqualTo(VerificationStatus.VERIFIED);
+    }
+
+    @Test
+    public void shouldBeRestoredWithoutConsultingStockExchange() {
+        final val exchange = Mockito.mock(StockExchange.class);
+
+        final val company = Company.restore(
+            anyId(),
+            anyCompanyName(),
+            anySymbol(),
+            exchange,
+            VerificationStatus.VERIFIED
+        );
+
+        assertThat(company.getVerificationStatus()).isEqualTo(VerificationStatus.VERIFIED);
+        verifyNoInteractions(exchange);
+    }
+
+    @Test
+    public void shouldBecomeVerifiedWithoutConsultingStockExchange() {
+        final val exchange = Mockito.mock(StockExchange.class);
+        final val pending = Company.createPendingVerification(
+            anyId(),
+            anyCompanyName(),
+            anySymbol(),
+            exchange
+        );
+
+        final val verified = pending.verified();
+
+        assertThat(verified.getVerificationStatus()).isEqualTo(VerificationStatus.VERIFIED);
+        assertThat(verified.getExternalId()).isEqualTo(pending.getExternalId());
+        assertThat(verified.getStockSymbol()).isEqualTo(pending.getStockSymbol());
+        assertThat(verified.getStockExchange()).isSameAs(exchange);
+        assertThat(pending.getVerificationStatus()).isEqualTo(VerificationStatus.PENDING);
+        verifyNoInteractions(exchange);
+    }
+
+    @Test
+    public void shouldVerifyStockSymbolIsSupportedAsynchronously() {
+        final val symbol = new StockSymbol("AMZN");
+        final val verification = CompletableFuture.<Void>completedFuture(null);
+        final val exchange = mock(
+            StockExchange.class,
+            e -> when(e.verifySupportedAsync(symbol)).thenReturn(verification)
+        );
+        final val company = Company.createPendingVerification(anyId(), anyCompanyName(), symbol, exchange);
+
+        assertThat(company.verifyStockSymbolIsSupported()).isSameAs(verification);
+    }
+
     @ParameterizedTest
     @ValueSource(ints = { 2, 5 })
     @SuppressWarnings("checkstyle:magicnumber")
@@ -60,6 +132,20 @@ public final class CompanyTest {
             .isEqualTo(new StockSymbol(symbol));
     }
 
+    @Test
+    public void shouldBeListedWithStockSymbolInMarketOfStockExchange() {
+        final val symbol = new StockSymbol("AMZN");
+        final val mic = new MarketIdentifierCode("XNAS");
+        final val exchange = mock(
+            StockExchange.class,
+            e -> when(e.getMarketIdentifierCode()).thenReturn(mic)
+        );
+
+        final val company = Company.create(anyId(), anyCompanyName(), symbol, exchange);
+
+        assertThat(company.getListing()).isEqualTo(new Listing(symbol, mic));
+    }
+
     @Test
     public void shouldHaveStockExchange() {
         final val stockExchange = Mockito.mock(StockExchange.class);
@@ -80,6 +166,38 @@ public final class CompanyTest {
         assertThat(company.getQuotedPrice()).isEqualTo(tenUsd);
     }
 
+    @Test
+    public void shouldConsultStockExchangeForQuote() {
+        final StockSymbol symbol = new StockSymbol("AMZN");
+        final val quote = new QuotedPrice(Price.of(BigDecimal.TEN, "USD"), Instant.EPOCH);
+        final val stockExchange = mock(StockExchange.class, e -> when(e.getQuote(symbol)).thenReturn(quote));
+        final val company = Company.create(anyId(), anyCompanyName(), symbol, stockExchange);
+
+        assertThat(company.getQuote()).isEqualTo(quote);
+    }
+
+    @Test
+    public void shouldConsultStockExchangeForQuoteAsynchronously() {
+        final StockSymbol symbol = new StockSymbol("AMZN");
+        final val quote = CompletableFuture.completedFuture(
+            new QuotedPrice(Price.of(BigDecimal.TEN, "USD"), Instant.EPOCH)
+        );
+        final val stockExchange = mock(
+            StockExchange.class,
+            e -> when(e.getQuoteAsync(symbol)).thenReturn(quote)
+        );
+        final val company = Company.create(anyId(), anyCompanyName(), symbol, stockExchange);
+
+        assertThat(company.getQuoteAsync()).isSameAs(quote);
+    }
+
+    @Test
+    public void shouldNotHaveNullFieldWhenPendingVerification() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> Company.createPendingVerification(anyId(), anyCompanyName(), anySymbol(), null)
+            );
+    }
+
     @Test
     public void shouldNotHaveNullField() {
         assertThatExceptionOfType(NullPointerException.class)
@@ -91,4 +209,12 @@ public final class CompanyTest {
         assertThatExceptionOfType(NullPointerException.class)
             .isThrownBy(() -> Company.create(anyId(), anyCompanyName(), anySymbol(), null));
     }
+
+    @Test
+    public void shouldNotBeRestoredWithoutVerificationStatus() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                Company.restore(anyId(), anyCompanyName(), anySymbol(), anyStockExchange(), null)
+            );
+    }
 }
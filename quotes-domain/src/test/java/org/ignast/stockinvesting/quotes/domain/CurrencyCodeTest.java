@@ -46,6 +46,27 @@ public final class CurrencyCodeTest {
             .withMessage("Currency must be a valid ISO 4217 code");
     }
 
+    @Test
+    public void shouldInternIso4217Codes() {
+        assertThat(CurrencyCode.of("GBP"))
+            .isSameAs(CurrencyCode.of("GBP"))
+            .isEqualTo(new CurrencyCode("GBP"));
+    }
+
+    @Test
+    public void shouldValidateCodesThatAreNotInterned() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> CurrencyCode.of(null));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> CurrencyCode.of("GB"))
+            .withMessage("Currency must have 3 letters");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> CurrencyCode.of("gbp"))
+            .withMessage("Currency must contain only uppercase latin characters");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> CurrencyCode.of("AAA"))
+            .withMessage("Currency must be a valid ISO 4217 code");
+    }
+
     @Test
     public void shouldEqualToTheSameCurrency() {
         EqualsVerifier.forClass(CurrencyCode.class).verify();
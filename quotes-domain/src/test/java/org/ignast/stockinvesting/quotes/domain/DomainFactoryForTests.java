@@ -1,6 +1,6 @@
 package org.ignast.stockinvesting.quotes.domain;
 
-import java.math.BigDecimal;
+import static java.math.BigDecimal.ONE;
 
 public final class DomainFactoryForTests {
 
@@ -32,6 +32,6 @@ public final class DomainFactoryForTests {
     }
 
     public static QuotesRepository anyQuotes() {
-        return (stockSymbol, mic) -> BigDecimal.ONE;
+        return (stockSymbol, mic) -> Price.of(ONE, StockExchanges.quoteCurrencyOf(mic));
     }
 }
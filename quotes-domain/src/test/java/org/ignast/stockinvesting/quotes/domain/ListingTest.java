@@ -0,0 +1,37 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import lombok.val;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+public final class ListingTest {
+
+    private final StockSymbol amazon = new StockSymbol("AMZN");
+
+    private final MarketIdentifierCode nasdaq = new MarketIdentifierCode("XNAS");
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> new Listing(null, nasdaq));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> new Listing(amazon, null));
+    }
+
+    @Test
+    public void shouldPreserveValues() {
+        final val listing = new Listing(amazon, nasdaq);
+
+        assertThat(listing.getStockSymbol()).isEqualTo(amazon);
+        assertThat(listing.getMarketIdentifierCode()).isEqualTo(nasdaq);
+    }
+
+    @Test
+    public void shouldBeEqualToSameListing() {
+        EqualsVerifier
+            .forClass(Listing.class)
+            .withNonnullFields("stockSymbol", "marketIdentifierCode")
+            .verify();
+    }
+}
@@ -42,6 +42,46 @@ public final class MarketIdentifierCodeTest {
             );
     }
 
+    @Test
+    public void shouldInternCodesOfSupportedMarkets() {
+        assertThat(MarketIdentifierCode.of("XNYS"))
+            .isSameAs(MarketIdentifierCode.of("XNYS"))
+            .isEqualTo(new MarketIdentifierCode("XNYS"));
+    }
+
+    @Test
+    public void shouldNotInternCodesOfUnsupportedMarkets() {
+        assertThat(MarketIdentifierCode.of("XXXX"))
+            .isNotSameAs(MarketIdentifierCode.of("XXXX"))
+            .isEqualTo(new MarketIdentifierCode("XXXX"));
+    }
+
+    @Test
+    public void shouldValidateCodesBeforeInterningThem() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> MarketIdentifierCode.of(null));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> MarketIdentifierCode.of("XNY"))
+            .withMessage("Market Identifier is not 4 characters long (ISO 10383 standard)");
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> MarketIdentifierCode.of("XNY1"))
+            .withMessage(
+                "Market Identifier must contain only latin uppercase alphanumeric characters (ISO 10383 standard)"
+            );
+    }
+
+    @Test
+    public void shouldValidateWithoutThrowing() {
+        assertThat(MarketIdentifierCode.validate("XNYS")).isEmpty();
+        assertThat(MarketIdentifierCode.validate("XNY"))
+            .contains("Market Identifier is not 4 characters long (ISO 10383 standard)");
+        assertThat(MarketIdentifierCode.validate("XNYs"))
+            .contains(
+                "Market Identifier must contain only latin uppercase alphanumeric characters (ISO 10383 standard)"
+            );
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> MarketIdentifierCode.validate(null));
+    }
+
     @Test
     public void shouldEqualToSameMic() {
         EqualsVerifier.forClass(MarketIdentifierCode.class).verify();
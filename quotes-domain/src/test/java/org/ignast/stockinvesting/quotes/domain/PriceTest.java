@@ -0,0 +1,78 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.math.BigDecimal;
+import javax.money.Monetary;
+import lombok.val;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.javamoney.moneta.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public final class PriceTest {
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> Price.of(null, "USD"));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> Price.of(BigDecimal.ONE, (String) null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> Price.of(null, Monetary.getCurrency("USD")));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "128.5000,128.5", "10.00,10", "0.000,0", "1E+3,1000", "-0.50,-0.5", "91.21,91.21" })
+    public void shouldPreserveAmountWithoutTrailingZeros(final String amount, final String stripped) {
+        final val price = Price.of(new BigDecimal(amount), "USD");
+
+        assertThat(price.getAmount().toPlainString()).isEqualTo(stripped);
+        assertThat(price.getCurrencyCode()).isEqualTo("USD");
+    }
+
+    @Test
+    public void shouldBeEqualRegardlessOfTrailingZeros() {
+        assertThat(Price.of(new BigDecimal("91.210000"), "GBP"))
+            .isEqualTo(Price.of(new BigDecimal("91.21"), "GBP"))
+            .isNotEqualTo(Price.of(new BigDecimal("91.21"), "USD"));
+    }
+
+    @Test
+    public void shouldMoveDecimalPointLeft() {
+        final val pence = Price.of(new BigDecimal("9121.0000"), "GBP");
+
+        assertThat(pence.movePointLeft(2)).isEqualTo(Price.of(new BigDecimal("91.21"), "GBP"));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> pence.movePointLeft(-1))
+            .withMessage("Decimal point can only be moved by positive number of digits");
+    }
+
+    @Test
+    public void shouldConvertToMoney() {
+        assertThat(Price.of(new BigDecimal("91.21"), "GBP").toMoney())
+            .isEqualTo(Money.of(new BigDecimal("91.21"), "GBP"));
+    }
+
+    @Test
+    public void shouldNotRepresentAmountsExceedingLongPrecision() {
+        assertThatExceptionOfType(PriceOutOfRange.class)
+            .isThrownBy(() -> Price.of(new BigDecimal("92233720368547758.080"), "USD"))
+            .withMessage("Price '92233720368547758.080' is out of supported range")
+            .isInstanceOf(ApplicationException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1E+30", "1E+999999999", "-1E+19" })
+    public void shouldNotRepresentAmountsWithExcessiveExponent(final String amount) {
+        assertThatExceptionOfType(PriceOutOfRange.class)
+            .isThrownBy(() -> Price.of(new BigDecimal(amount), "USD"));
+    }
+
+    @Test
+    public void shouldBeEqualToSamePrice() {
+        EqualsVerifier.forClass(Price.class).withNonnullFields("currency").verify();
+    }
+}
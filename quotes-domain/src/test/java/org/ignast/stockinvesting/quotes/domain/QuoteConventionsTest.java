@@ -0,0 +1,75 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import static java.math.BigDecimal.TEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.ignast.stockinvesting.quotes.domain.QuoteConventions.majorUnits;
+import static org.ignast.stockinvesting.quotes.domain.QuoteConventions.minorUnits;
+import static org.ignast.stockinvesting.quotes.domain.QuoteConventions.standard;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public final class QuoteConventionsTest {
+
+    private final CurrencyCode pounds = new CurrencyCode("GBP");
+
+    @ParameterizedTest
+    @CsvSource({ "XLON,GBP", "XJSE,ZAR", "XTAE,ILS" })
+    public void shouldQuoteInMinorUnitsOnExchangesUsingThem(final String mic, final String currency) {
+        final val convention = standard().getFor(new MarketIdentifierCode(mic));
+
+        convention.checkSupports(new MarketIdentifierCode(mic), new CurrencyCode(currency));
+        assertThat(convention.toMajorUnits(Price.of(new BigDecimal("9121.5"), currency)))
+            .isEqualTo(Price.of(new BigDecimal("91.215"), currency));
+    }
+
+    @Test
+    public void shouldQuoteInMajorUnitsElsewhere() {
+        final val convention = standard().getFor(new MarketIdentifierCode("XNYS"));
+
+        final val price = Price.of(TEN, "USD");
+
+        assertThat(convention).isSameAs(majorUnits());
+        assertThat(convention.toMajorUnits(price)).isSameAs(price);
+    }
+
+    @Test
+    public void shouldRejectCurrencyOtherThanOneQuotedInMinorUnits() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() ->
+                minorUnits(pounds, 2).checkSupports(new MarketIdentifierCode("XLON"), new CurrencyCode("EUR"))
+            )
+            .withMessage(
+                "'EUR' currency is not supported in stock exchange identified with market identifier 'XLON'"
+            );
+    }
+
+    @Test
+    public void shouldRequireMinorUnitsToBeSmallerThanMajorOnes() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> minorUnits(pounds, 0))
+            .withMessage("Minor unit digits must be positive");
+    }
+
+    @Test
+    public void shouldUsePluggedInConventions() {
+        final val mic = new MarketIdentifierCode("XNYS");
+        final val convention = minorUnits(new CurrencyCode("USD"), 2);
+
+        assertThat(new QuoteConventions(Map.of(mic, convention)).getFor(mic)).isSameAs(convention);
+        assertThat(new QuoteConventions(Map.of()).getFor(new MarketIdentifierCode("XLON")))
+            .isSameAs(majorUnits());
+    }
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> new QuoteConventions(null));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> minorUnits(null, 2));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> standard().getFor(null));
+    }
+}
@@ -0,0 +1,60 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import static java.math.BigDecimal.TEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.val;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+
+public final class QuotedPriceTest {
+
+    private static final Price TEN_USD = Price.of(TEN, "USD");
+
+    private static final Instant RETRIEVED_AT = Instant.parse("2022-03-01T10:15:30Z");
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new QuotedPrice(null, RETRIEVED_AT));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new QuotedPrice(TEN_USD, null));
+    }
+
+    @Test
+    public void shouldPreserveValues() {
+        final val quote = new QuotedPrice(TEN_USD, RETRIEVED_AT);
+
+        assertThat(quote.getPrice()).isEqualTo(TEN_USD);
+        assertThat(quote.getRetrievedAt()).isEqualTo(RETRIEVED_AT);
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldBeAgedByTimeElapsedSinceRetrieval() {
+        final val quote = new QuotedPrice(TEN_USD, RETRIEVED_AT);
+
+        assertThat(quote.getAgeAt(RETRIEVED_AT.plusSeconds(7))).isEqualTo(Duration.ofSeconds(7));
+    }
+
+    @Test
+    public void shouldNotHaveNegativeAge() {
+        final val quote = new QuotedPrice(TEN_USD, RETRIEVED_AT);
+
+        assertThat(quote.getAgeAt(RETRIEVED_AT.minusSeconds(1))).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void shouldNotCalculateAgeAtNullInstant() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new QuotedPrice(TEN_USD, RETRIEVED_AT).getAgeAt(null));
+    }
+
+    @Test
+    public void shouldBeEqualToSameQuotedPrice() {
+        EqualsVerifier.forClass(QuotedPrice.class).withNonnullFields("price", "retrievedAt").verify();
+    }
+}
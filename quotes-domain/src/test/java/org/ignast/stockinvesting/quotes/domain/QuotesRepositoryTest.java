@@ -0,0 +1,129 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import lombok.val;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.Quote;
+import org.junit.jupiter.api.Test;
+
+public final class QuotesRepositoryTest {
+
+    private static final Price TEN = Price.of(BigDecimal.TEN, "USD");
+
+    @Test
+    public void quoteShouldBeStampedWithRetrievalTimeByDefault() {
+        final QuotesRepository quotes = (s, m) -> TEN;
+        final val before = Instant.now();
+
+        final val quote = quotes.getQuoteOf(new StockSymbol("AMZN"), new MarketIdentifierCode("XNAS"));
+
+        assertThat(quote.getPrice()).isEqualTo(TEN);
+        assertThat(quote.getRetrievedAt()).isBetween(before, Instant.now());
+    }
+
+    @Test
+    public void shouldRetrievePriceAsynchronouslyByDefault() {
+        final QuotesRepository quotes = (s, m) -> TEN;
+
+        final val price = quotes.getQuotedPriceOfAsync(
+            new StockSymbol("AMZN"),
+            new MarketIdentifierCode("XNAS")
+        );
+
+        assertThat(price).isCompletedWithValue(TEN);
+    }
+
+    @Test
+    public void shouldCaptureFailureOfAsynchronousRetrievalByDefault() {
+        final QuotesRepository quotes = (s, m) -> {
+            throw new StockSymbolNotSupportedInThisMarket("not supported");
+        };
+
+        final val price = quotes.getQuotedPriceOfAsync(
+            new StockSymbol("AMZN"),
+            new MarketIdentifierCode("XNAS")
+        );
+
+        assertThat(price)
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(StockSymbolNotSupportedInThisMarket.class);
+    }
+
+    @Test
+    public void shouldVerifySymbolIsSupportedByRetrievingItsPriceByDefault() {
+        final QuotesRepository quotes = (s, m) -> {
+            throw new StockSymbolNotSupportedInThisMarket("not supported");
+        };
+
+        assertThatExceptionOfType(StockSymbolNotSupportedInThisMarket.class)
+            .isThrownBy(() ->
+                quotes.verifySupported(new StockSymbol("AMZN"), new MarketIdentifierCode("XNAS"))
+            );
+    }
+
+    @Test
+    public void shouldVerifySymbolIsSupportedAsynchronouslyByDefault() {
+        final QuotesRepository quotes = (s, m) -> TEN;
+
+        final val verification = quotes.verifySupportedAsync(
+            new StockSymbol("AMZN"),
+            new MarketIdentifierCode("XNAS")
+        );
+
+        assertThat(verification).isCompleted().isNotCompletedExceptionally();
+    }
+
+    @Test
+    public void asynchronousQuoteShouldBeStampedWithRetrievalTimeByDefault() {
+        final QuotesRepository quotes = (s, m) -> TEN;
+        final val before = Instant.now();
+
+        final val quote = quotes
+            .getQuoteOfAsync(new StockSymbol("AMZN"), new MarketIdentifierCode("XNAS"))
+            .join();
+
+        assertThat(quote.getPrice()).isEqualTo(TEN);
+        assertThat(quote.getRetrievedAt()).isBetween(before, Instant.now());
+    }
+
+    @Test
+    public void shouldRetrievePricesOfEachDistinctListingByDefault() {
+        final QuotesRepository quotes = (s, m) -> {
+            if (s.get().equals("AAAA")) {
+                throw new StockSymbolNotSupportedInThisMarket("not supported");
+            }
+            return TEN;
+        };
+        final val amazon = new Listing(new StockSymbol("AMZN"), new MarketIdentifierCode("XNAS"));
+        final val unsupported = new Listing(new StockSymbol("AAAA"), new MarketIdentifierCode("XNAS"));
+
+        final val prices = quotes.getQuotedPricesOf(List.of(amazon, unsupported, amazon));
+
+        assertThat(prices).containsOnlyKeys(amazon, unsupported);
+        assertThat(prices.get(amazon)).isCompletedWithValue(TEN);
+        assertThat(prices.get(unsupported))
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(StockSymbolNotSupportedInThisMarket.class);
+    }
+
+    @Test
+    public void quoteShouldNotBeCreatedWithNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> new Quote(null, Instant.now()));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> new Quote(TEN, null));
+    }
+
+    @Test
+    public void quoteShouldBeEqualToSameQuote() {
+        EqualsVerifier.forClass(Quote.class).withNonnullFields("price", "retrievedAt").verify();
+    }
+}
@@ -6,11 +6,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.ignast.stockinvesting.quotes.domain.StockExchange.create;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.Quote;
+import org.ignast.stockinvesting.quotes.domain.QuotesRepository.QuoteRetrievalFailedException;
 import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -18,23 +26,25 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 public final class StockExchangeTest {
 
+    private static final String USD = "USD";
+
     private final QuotesRepository quotes = mock(QuotesRepository.class);
 
     @Test
     public void shouldNotBeInitializedWithNulls() {
         assertThatExceptionOfType(NullPointerException.class)
-            .isThrownBy(() -> create(null, new CurrencyCode("USD"), quotes));
+            .isThrownBy(() -> create(null, new CurrencyCode(USD), quotes));
         assertThatExceptionOfType(NullPointerException.class)
             .isThrownBy(() -> create(new MarketIdentifierCode("XNYS"), null, quotes));
         assertThatExceptionOfType(NullPointerException.class)
-            .isThrownBy(() -> create(new MarketIdentifierCode("XNYS"), new CurrencyCode("USD"), null));
+            .isThrownBy(() -> create(new MarketIdentifierCode("XNYS"), new CurrencyCode(USD), null));
     }
 
     @Test
     public void shouldNotCalculatePriceForNullSymbol() {
-        when(quotes.getQuotedPriceOf(any(), any())).thenReturn(ZERO);
+        when(quotes.getQuotedPriceOf(any(), any())).thenReturn(Price.of(ZERO, USD));
 
-        final val stockExchange = create(new MarketIdentifierCode("XNYS"), new CurrencyCode("USD"), quotes);
+        final val stockExchange = create(new MarketIdentifierCode("XNYS"), new CurrencyCode(USD), quotes);
 
         assertThatExceptionOfType(NullPointerException.class)
             .isThrownBy(() -> stockExchange.getQuotedPrice(null));
@@ -43,7 +53,7 @@ public final class StockExchangeTest {
     @Test
     public void shouldFailOnNullPrice() {
         when(quotes.getQuotedPriceOf(any(), any())).thenReturn(null);
-        final val stockExchange = create(new MarketIdentifierCode("XNYS"), new CurrencyCode("USD"), quotes);
+        final val stockExchange = create(new MarketIdentifierCode("XNYS"), new CurrencyCode(USD), quotes);
 
         assertThatExceptionOfType(NullPointerException.class)
             .isThrownBy(() -> stockExchange.getQuotedPrice(new StockSymbol("AMZN")));
@@ -54,16 +64,16 @@ public final class StockExchangeTest {
     public void shouldPreserveMarketIdentifierCode(final String micStr) {
         final val mic = new MarketIdentifierCode(micStr);
 
-        assertThat(create(mic, new CurrencyCode("USD"), quotes).getMarketIdentifierCode()).isEqualTo(mic);
+        assertThat(create(mic, new CurrencyCode(USD), quotes).getMarketIdentifierCode()).isEqualTo(mic);
     }
 
     @Test
     public void shouldGetQuotedPriceForNyseListedCompany() {
         final val amazonSymbol = new StockSymbol("AMZN");
         final val nyseMic = new MarketIdentifierCode("XNYS");
-        when(quotes.getQuotedPriceOf(amazonSymbol, nyseMic)).thenReturn(TEN);
+        when(quotes.getQuotedPriceOf(amazonSymbol, nyseMic)).thenReturn(Price.of(TEN, USD));
 
-        shouldGetQuotedPriceOfListedCompany(amazonSymbol, nyseMic, TEN, "USD");
+        shouldGetQuotedPriceOfListedCompany(amazonSymbol, nyseMic, TEN, USD);
     }
 
     @Test
@@ -71,11 +81,108 @@ public final class StockExchangeTest {
         final val bankOfChinaSymbol = new StockSymbol("601988");
         final val sseMic = new MarketIdentifierCode("XSHG");
         final val priceNumericAmount = BigDecimal.valueOf(3);
-        when(quotes.getQuotedPriceOf(bankOfChinaSymbol, sseMic)).thenReturn(priceNumericAmount);
+        when(quotes.getQuotedPriceOf(bankOfChinaSymbol, sseMic))
+            .thenReturn(Price.of(priceNumericAmount, "CNY"));
 
         shouldGetQuotedPriceOfListedCompany(bankOfChinaSymbol, sseMic, priceNumericAmount, "CNY");
     }
 
+    @Test
+    public void shouldConvertQuotedPriceFromCentsForJseListedCompany() {
+        final val naspersSymbol = new StockSymbol("NPN");
+        final val jseMic = new MarketIdentifierCode("XJSE");
+        when(quotes.getQuotedPriceOf(naspersSymbol, jseMic))
+            .thenReturn(Price.of(new BigDecimal("213456"), "ZAR"));
+
+        final val price = create(jseMic, new CurrencyCode("ZAR"), quotes).getQuotedPrice(naspersSymbol);
+
+        assertThat(price).isEqualTo(Money.of(new BigDecimal("2134.56"), "ZAR"));
+    }
+
+    @Test
+    public void shouldApplyPluggedInQuoteConvention() {
+        final val amazonSymbol = new StockSymbol("AMZN");
+        final val nyseMic = new MarketIdentifierCode("XNYS");
+        final val usd = new CurrencyCode(USD);
+        final val conventions = new QuoteConventions(Map.of(nyseMic, QuoteConventions.minorUnits(usd, 2)));
+        when(quotes.getQuotedPriceOf(amazonSymbol, nyseMic)).thenReturn(Price.of(TEN, USD));
+
+        final val price = create(nyseMic, usd, quotes, conventions).getQuotedPrice(amazonSymbol);
+
+        assertThat(price).isEqualTo(Money.of(new BigDecimal("0.10"), usd.get()));
+    }
+
+    @Test
+    public void shouldGetQuoteRetainingRetrievalTime() {
+        final val amazonSymbol = new StockSymbol("AMZN");
+        final val nyseMic = new MarketIdentifierCode("XNYS");
+        final val retrievedAt = Instant.parse("2022-03-01T10:15:30Z");
+        when(quotes.getQuoteOf(amazonSymbol, nyseMic)).thenReturn(new Quote(Price.of(TEN, USD), retrievedAt));
+        final val exchange = create(nyseMic, new CurrencyCode(USD), quotes);
+
+        final val quote = exchange.getQuote(amazonSymbol);
+
+        assertThat(quote.getPrice().toMoney()).isEqualTo(Money.of(TEN, USD));
+        assertThat(quote.getRetrievedAt()).isEqualTo(retrievedAt);
+    }
+
+    @Test
+    public void shouldRejectPriceQuotedInOtherCurrencyThanMarketQuotes() {
+        final val amazonSymbol = new StockSymbol("AMZN");
+        final val nyseMic = new MarketIdentifierCode("XNYS");
+        when(quotes.getQuotedPriceOf(amazonSymbol, nyseMic)).thenReturn(Price.of(TEN, "EUR"));
+        when(quotes.getQuoteOf(amazonSymbol, nyseMic))
+            .thenReturn(new Quote(Price.of(TEN, "EUR"), Instant.EPOCH));
+        final val exchange = create(nyseMic, new CurrencyCode(USD), quotes);
+
+        assertThatExceptionOfType(QuoteRetrievalFailedException.class)
+            .isThrownBy(() -> exchange.getQuotedPrice(amazonSymbol))
+            .withMessage("Price quoted in 'EUR' while market 'XNYS' quotes in 'USD'");
+        assertThatExceptionOfType(QuoteRetrievalFailedException.class)
+            .isThrownBy(() -> exchange.getQuote(amazonSymbol));
+    }
+
+    @Test
+    public void shouldNotGetQuoteForNullSymbol() {
+        final val stockExchange = create(new MarketIdentifierCode("XNYS"), new CurrencyCode(USD), quotes);
+
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> stockExchange.getQuote(null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> stockExchange.getQuoteAsync(null));
+    }
+
+    @Test
+    public void shouldVerifySymbolIsSupportedByQuotes() {
+        final val symbol = new StockSymbol("NONO");
+        final val mic = new MarketIdentifierCode("XFRA");
+        final val stockExchange = create(mic, new CurrencyCode("EUR"), quotes);
+        doThrow(StockSymbolNotSupportedInThisMarket.class).when(quotes).verifySupported(symbol, mic);
+
+        assertThatExceptionOfType(StockSymbolNotSupportedInThisMarket.class)
+            .isThrownBy(() -> stockExchange.verifySupported(symbol));
+    }
+
+    @Test
+    public void shouldVerifySymbolIsSupportedByQuotesAsynchronously() {
+        final val symbol = new StockSymbol("AMZN");
+        final val mic = new MarketIdentifierCode("XFRA");
+        final val stockExchange = create(mic, new CurrencyCode("EUR"), quotes);
+        final val verification = CompletableFuture.<Void>completedFuture(null);
+        when(quotes.verifySupportedAsync(symbol, mic)).thenReturn(verification);
+
+        assertThat(stockExchange.verifySupportedAsync(symbol)).isSameAs(verification);
+    }
+
+    @Test
+    public void shouldNotVerifyNullSymbol() {
+        final val stockExchange = create(new MarketIdentifierCode("XFRA"), new CurrencyCode("EUR"), quotes);
+
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> stockExchange.verifySupported(null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> stockExchange.verifySupportedAsync(null));
+    }
+
     private void shouldGetQuotedPriceOfListedCompany(
         final StockSymbol symbol,
         final MarketIdentifierCode mic,
@@ -107,13 +214,45 @@ final class LondonStockExchangeTest {
     @Test
     public void shouldConvertQuotedPriceFromPenceToGbpForCompanyListedInLse() {
         final val priceNumericAmount = new BigDecimal("9121.0000");
-        when(quotes.getQuotedPriceOf(astrazenecaSymbol, lseMic)).thenReturn(priceNumericAmount);
+        when(quotes.getQuotedPriceOf(astrazenecaSymbol, lseMic))
+            .thenReturn(Price.of(priceNumericAmount, "GBP"));
 
         final val price = lse.getQuotedPrice(astrazenecaSymbol);
 
         assertThat(price).isEqualTo(Money.of(new BigDecimal("91.210000"), "GBP"));
     }
 
+    @Test
+    public void shouldGetQuoteAsynchronously() {
+        final val symbol = new StockSymbol("AZN");
+        final val retrievedAt = Instant.parse("2022-03-01T10:15:30Z");
+        when(quotes.getQuoteOfAsync(symbol, lseMic))
+            .thenReturn(
+                CompletableFuture.completedFuture(
+                    new Quote(Price.of(new BigDecimal("9121"), "GBP"), retrievedAt)
+                )
+            );
+
+        final val quote = lse.getQuoteAsync(symbol).join();
+
+        assertThat(quote.getPrice().toMoney()).isEqualTo(Money.of(new BigDecimal("91.21"), "GBP"));
+        assertThat(quote.getRetrievedAt()).isEqualTo(retrievedAt);
+    }
+
+    @Test
+    public void shouldPropagateFailureOfAsynchronousQuote() {
+        final val symbol = new StockSymbol("AZN");
+        when(quotes.getQuoteOfAsync(symbol, lseMic))
+            .thenReturn(
+                CompletableFuture.failedFuture(new StockSymbolNotSupportedInThisMarket("not supported"))
+            );
+
+        assertThat(lse.getQuoteAsync(symbol))
+            .failsWithin(Duration.ZERO)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(StockSymbolNotSupportedInThisMarket.class);
+    }
+
     @Test
     public void shouldNotBeInitializedWithNulls() {
         assertThatExceptionOfType(NullPointerException.class)
@@ -133,9 +272,20 @@ final class LondonStockExchangeTest {
             );
     }
 
+    @Test
+    public void shouldConvertQuoteFromPenceToGbpForCompanyListedInLse() {
+        final val priceNumericAmount = new BigDecimal("9121.0000");
+        when(quotes.getQuoteOf(astrazenecaSymbol, lseMic))
+            .thenReturn(new Quote(Price.of(priceNumericAmount, "GBP"), Instant.EPOCH));
+
+        final val quote = lse.getQuote(astrazenecaSymbol);
+
+        assertThat(quote.getPrice().toMoney()).isEqualTo(Money.of(new BigDecimal("91.210000"), "GBP"));
+    }
+
     @Test
     public void shouldNotCalculatePriceForNullSymbol() {
-        when(quotes.getQuotedPriceOf(any(), any())).thenReturn(ZERO);
+        when(quotes.getQuotedPriceOf(any(), any())).thenReturn(Price.of(ZERO, "GBP"));
 
         assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> lse.getQuotedPrice(null));
     }
@@ -11,6 +11,9 @@ import java.math.BigDecimal;
 import lombok.val;
 import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public final class StockExchangesTest {
 
@@ -22,7 +25,7 @@ public final class StockExchangesTest {
     public void frankfurtExchangeShouldBeSupported() {
         final val volkswagenSymbol = new StockSymbol("VOW3");
         final val fraMic = new MarketIdentifierCode("XFRA");
-        when(quotes.getQuotedPriceOf(volkswagenSymbol, fraMic)).thenReturn(TEN);
+        when(quotes.getQuotedPriceOf(volkswagenSymbol, fraMic)).thenReturn(Price.of(TEN, "EUR"));
 
         final val price = stockExchanges.getFor(fraMic).getQuotedPrice(volkswagenSymbol);
 
@@ -33,7 +36,7 @@ public final class StockExchangesTest {
     public void newYorkExchangeShouldBeSupported() {
         final val amazonSymbol = new StockSymbol("AMZN");
         final val nyseMic = new MarketIdentifierCode("XNYS");
-        when(quotes.getQuotedPriceOf(amazonSymbol, nyseMic)).thenReturn(ONE);
+        when(quotes.getQuotedPriceOf(amazonSymbol, nyseMic)).thenReturn(Price.of(ONE, "USD"));
 
         final val price = stockExchanges.getFor(nyseMic).getQuotedPrice(amazonSymbol);
 
@@ -44,7 +47,7 @@ public final class StockExchangesTest {
     public void torontoExchangeShouldBeSupported() {
         final val royalBankOfCanadaSymbol = new StockSymbol("RY");
         final val tsxMic = new MarketIdentifierCode("XTSE");
-        when(quotes.getQuotedPriceOf(royalBankOfCanadaSymbol, tsxMic)).thenReturn(ONE);
+        when(quotes.getQuotedPriceOf(royalBankOfCanadaSymbol, tsxMic)).thenReturn(Price.of(ONE, "CAD"));
 
         final val price = stockExchanges.getFor(tsxMic).getQuotedPrice(royalBankOfCanadaSymbol);
 
@@ -55,7 +58,7 @@ public final class StockExchangesTest {
     public void hongKongStockExchangeShouldBeSupported() {
         final val alibabaSymbol = new StockSymbol("9988");
         final val hkexMic = new MarketIdentifierCode("XHKG");
-        when(quotes.getQuotedPriceOf(alibabaSymbol, hkexMic)).thenReturn(ONE);
+        when(quotes.getQuotedPriceOf(alibabaSymbol, hkexMic)).thenReturn(Price.of(ONE, "HKD"));
 
         final val price = stockExchanges.getFor(hkexMic).getQuotedPrice(alibabaSymbol);
 
@@ -66,7 +69,7 @@ public final class StockExchangesTest {
     public void australianSecuritiesExchangeShouldBeSupported() {
         final val telsraSymbol = new StockSymbol("TLS");
         final val asxMic = new MarketIdentifierCode("XASX");
-        when(quotes.getQuotedPriceOf(telsraSymbol, asxMic)).thenReturn(ONE);
+        when(quotes.getQuotedPriceOf(telsraSymbol, asxMic)).thenReturn(Price.of(ONE, "AUD"));
 
         final val price = stockExchanges.getFor(asxMic).getQuotedPrice(telsraSymbol);
 
@@ -77,7 +80,7 @@ public final class StockExchangesTest {
     public void nasdaqShouldBeSupported() {
         final val appleSymbol = new StockSymbol("AAPL");
         final val nasdaqMic = new MarketIdentifierCode("XNAS");
-        when(quotes.getQuotedPriceOf(appleSymbol, nasdaqMic)).thenReturn(ONE);
+        when(quotes.getQuotedPriceOf(appleSymbol, nasdaqMic)).thenReturn(Price.of(ONE, "USD"));
 
         final val price = stockExchanges.getFor(nasdaqMic).getQuotedPrice(appleSymbol);
 
@@ -90,13 +93,30 @@ public final class StockExchangesTest {
         final val penceInPound = 100;
         final val astrazenecaSymbol = new StockSymbol("AZN");
         final val lseMic = new MarketIdentifierCode("XLON");
-        when(quotes.getQuotedPriceOf(astrazenecaSymbol, lseMic)).thenReturn(new BigDecimal(penceInPound));
+        when(quotes.getQuotedPriceOf(astrazenecaSymbol, lseMic))
+            .thenReturn(Price.of(new BigDecimal(penceInPound), "GBP"));
 
         final val price = stockExchanges.getFor(lseMic).getQuotedPrice(astrazenecaSymbol);
 
         assertThat(price).isEqualTo(Money.of(ONE, "GBP"));
     }
 
+    @ParameterizedTest
+    @CsvSource({ "XFRA,EUR", "XNYS,USD", "XTSE,CAD", "XHKG,HKD", "XASX,AUD", "XNAS,USD", "XLON,GBP" })
+    public void shouldProvideQuoteCurrencyOfSupportedMarkets(final String code, final String currency) {
+        final val mic = new MarketIdentifierCode(code);
+
+        assertThat(StockExchanges.quoteCurrencyOf(mic).getCurrencyCode()).isEqualTo(currency);
+    }
+
+    @Test
+    public void shouldNotProvideQuoteCurrencyOfNotSupportedMarkets() {
+        assertThatExceptionOfType(StockExchangeNotSupported.class)
+            .isThrownBy(() -> StockExchanges.quoteCurrencyOf(new MarketIdentifierCode("XMAD")));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> StockExchanges.quoteCurrencyOf(null));
+    }
+
     @Test
     public void shouldThrowForNotSupportedStockExchanges() {
         final val madridMic = new MarketIdentifierCode("XMAD");
@@ -107,8 +127,40 @@ public final class StockExchangesTest {
             .isInstanceOf(ApplicationException.class);
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = { "XFRA", "XNYS", "XTSE", "XHKG", "XASX", "XNAS", "XLON" })
+    public void shouldResolvePersistedCodesToSameExchanges(final String code) {
+        final val exchange = stockExchanges.getForPersisted(code);
+
+        assertThat(exchange).isSameAs(stockExchanges.getFor(new MarketIdentifierCode(code)));
+        assertThat(exchange.getMarketIdentifierCode().get()).isEqualTo(code);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "XFRA", "XNYS", "XTSE", "XHKG", "XASX", "XNAS", "XLON" })
+    public void shouldInternCodesOfSupportedMarkets(final String code) {
+        assertThat(StockExchanges.supportedMarkets()).contains(code);
+        assertThat(stockExchanges.getForPersisted(code).getMarketIdentifierCode())
+            .isSameAs(MarketIdentifierCode.of(code));
+    }
+
+    @Test
+    public void shouldThrowForNotSupportedPersistedCodes() {
+        assertThatExceptionOfType(StockExchangeNotSupported.class)
+            .isThrownBy(() -> stockExchanges.getForPersisted("XMAD"))
+            .withMessage("Market Identifier Code 'XMAD' is not supported");
+    }
+
+    @Test
+    public void shouldValidatePersistedCodesThatAreNotSupported() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> stockExchanges.getForPersisted("xnas"));
+    }
+
     @Test
     public void shouldNotSupportNullMarketIdentifierCodes() {
         assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> stockExchanges.getFor(null));
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> stockExchanges.getForPersisted(null));
     }
 }
@@ -51,6 +51,15 @@ public final class StockSymbolTest {
         assertThat(new StockSymbol(symbol).get()).isEqualTo(symbol);
     }
 
+    @Test
+    public void shouldValidateWithoutThrowing() {
+        assertThat(StockSymbol.validate("AMZN")).isEmpty();
+        assertThat(StockSymbol.validate("")).contains("Stock Symbol must contain between 1-6 characters");
+        assertThat(StockSymbol.validate("amzn"))
+            .contains("Stock Symbol must contain only uppercase alphanumeric characters");
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> StockSymbol.validate(null));
+    }
+
     @Test
     public void shouldBeEqualToSameStockSymbol() {
         EqualsVerifier.forClass(StockSymbol.class).verify();
@@ -0,0 +1,14 @@
+package org.ignast.stockinvesting.quotes.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public final class VerificationStatusTest {
+
+    @Test
+    public void onlyVerifiedStatusShouldBeVerified() {
+        assertThat(VerificationStatus.VERIFIED.isVerified()).isTrue();
+        assertThat(VerificationStatus.PENDING.isVerified()).isFalse();
+    }
+}
@@ -0,0 +1,39 @@
+package org.ignast.stockinvesting.quotes.performance.simulation
+
+import io.gatling.core.Predef.intToFiniteDuration
+import io.gatling.core.CoreDsl
+import io.gatling.core.scenario.Simulation
+import io.gatling.http.HttpDsl
+
+import scala.util.Random
+
+class ConcurrencySimulation extends Simulation with CoreDsl with HttpDsl {
+    implicit val configuration = io.gatling.core.Predef.configuration
+
+    val threadMode = System.getProperty("threadMode", "platform")
+    val concurrentUsers = Integer.getInteger("concurrentUsers", 1000).intValue
+    val durationSeconds = Integer.getInteger("durationSeconds", 120).intValue
+
+    val companiesFeed = Iterator.continually {
+        Map("id" -> (Random.nextInt(7) + 1))
+    }
+
+    val queryQuotedPrice = feed(companiesFeed)
+      .exec(http(s"RetrieveCompany-$threadMode")
+        .get("http://localhost:8081/companies/#{id}")
+        .header("Accept", "application/vnd.stockinvesting.quotes-v1.hal+json")
+        .check(jsonPath("$._links.quotes:queryQuotedPrice.href").saveAs("quotedPrice")))
+      .exec(http(s"RetrieveQuotedPrice-$threadMode")
+        .get("#{quotedPrice}")
+        .header("Accept", "application/vnd.stockinvesting.quotes-v1.hal+json"))
+
+    val users = scenario(s"ConcurrentPriceQueries-$threadMode").exec(queryQuotedPrice)
+
+    setUp(new Setup().adminSetsUpCompaniesForUsers.inject(atOnceUsers(8))
+      .andThen(users.inject(
+        rampConcurrentUsers(0).to(concurrentUsers).during(30),
+        constantConcurrentUsers(concurrentUsers).during(durationSeconds))))
+      .assertions(
+        global.failedRequests.percent.lte(1)
+      )
+}
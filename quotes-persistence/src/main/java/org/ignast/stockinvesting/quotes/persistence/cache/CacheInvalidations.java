@@ -0,0 +1,9 @@
+package org.ignast.stockinvesting.quotes.persistence.cache;
+
+import java.util.function.Consumer;
+
+public interface CacheInvalidations<K> {
+    public void publish(K key);
+
+    public void subscribe(Consumer<K> listener);
+}
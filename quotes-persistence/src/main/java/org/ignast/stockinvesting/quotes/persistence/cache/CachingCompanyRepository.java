@@ -0,0 +1,262 @@
+package org.ignast.stockinvesting.quotes.persistence.cache;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+
+public final class CachingCompanyRepository implements CompanyRepository {
+
+    static final String CACHE_NAME = "companies";
+
+    static final String LISTINGS_CACHE_NAME = "listings";
+
+    private final CompanyRepository repository;
+
+    private final CacheInvalidations<CompanyExternalId> invalidations;
+
+    private final Cache<CompanyExternalId, Optional<Company>> cache;
+
+    private final Cache<Listing, Optional<CompanyExternalId>> listings;
+
+    public CachingCompanyRepository(
+        @NonNull final CompanyRepository repository,
+        @NonNull final Duration foundTimeToLive,
+        @NonNull final Duration notFoundTimeToLive,
+        final long maximumSize,
+        @NonNull final CacheInvalidations<CompanyExternalId> invalidations,
+        @NonNull final MeterRegistry meterRegistry
+    ) {
+        this(
+            repository,
+            foundTimeToLive,
+            notFoundTimeToLive,
+            maximumSize,
+            invalidations,
+            meterRegistry,
+            Ticker.systemTicker()
+        );
+    }
+
+    CachingCompanyRepository(
+        @NonNull final CompanyRepository repository,
+        @NonNull final Duration foundTimeToLive,
+        @NonNull final Duration notFoundTimeToLive,
+        final long maximumSize,
+        @NonNull final CacheInvalidations<CompanyExternalId> invalidations,
+        @NonNull final MeterRegistry meterRegistry,
+        @NonNull final Ticker ticker
+    ) {
+        if (notFoundTimeToLive.compareTo(foundTimeToLive) > 0) {
+            throw new IllegalArgumentException("Not found time to live must not exceed found time to live");
+        }
+        this.repository = repository;
+        this.invalidations = invalidations;
+        this.cache = buildCache(foundTimeToLive, notFoundTimeToLive, maximumSize, ticker);
+        this.listings = buildCache(foundTimeToLive, notFoundTimeToLive, maximumSize, ticker);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, listings, LISTINGS_CACHE_NAME);
+        invalidations.subscribe(this::forgetChangedElsewhere);
+    }
+
+    private static <K, V> Cache<K, Optional<V>> buildCache(
+        final Duration foundTimeToLive,
+        final Duration notFoundTimeToLive,
+        final long maximumSize,
+        final Ticker ticker
+    ) {
+        return Caffeine
+            .newBuilder()
+            .expireAfter(
+                new FoundOrNotFoundExpiry<K, V>(foundTimeToLive.toNanos(), notFoundTimeToLive.toNanos())
+            )
+            .maximumSize(maximumSize)
+            .ticker(ticker)
+            .executor(Runnable::run)
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public void save(@NonNull final Company company) {
+        repository.save(company);
+        invalidations.publish(company.getExternalId());
+        remember(company);
+    }
+
+    @Override
+    public List<Optional<RuntimeException>> saveAll(@NonNull final List<Company> companies) {
+        final val failures = repository.saveAll(companies);
+        IntStream
+            .range(0, companies.size())
+            .filter(i -> failures.get(i).isEmpty())
+            .mapToObj(companies::get)
+            .forEach(company -> {
+                invalidations.publish(company.getExternalId());
+                remember(company);
+            });
+        return failures;
+    }
+
+    @Override
+    public void delete(@NonNull final Company company) {
+        repository.delete(company);
+        forget(company);
+        invalidations.publish(company.getExternalId());
+    }
+
+    @Override
+    public void markVerified(@NonNull final Company company) {
+        repository.markVerified(company);
+        forget(company);
+        invalidations.publish(company.getExternalId());
+    }
+
+    @Override
+    public Optional<Company> findByExternalId(@NonNull final CompanyExternalId externalId) {
+        return cache.get(externalId, repository::findByExternalId);
+    }
+
+    @Override
+    public List<Company> findByExternalIds(@NonNull final Collection<CompanyExternalId> externalIds) {
+        return cache
+            .getAll(externalIds, this::retrieve)
+            .values()
+            .stream()
+            .flatMap(Optional::stream)
+            .collect(toList());
+    }
+
+    @Override
+    public Optional<Company> findByListing(@NonNull final Listing listing) {
+        final val cachedExternalId = listings.getIfPresent(listing);
+        if (cachedExternalId == null) {
+            return retrieveByListing(listing);
+        }
+        return cachedExternalId.flatMap(externalId ->
+            findByExternalId(externalId)
+                .filter(company -> listing.equals(company.getListing()))
+                .or(() -> retrieveByListing(listing))
+        );
+    }
+
+    @Override
+    public List<Company> findFirstPage(final int pageSize) {
+        return repository.findFirstPage(pageSize);
+    }
+
+    @Override
+    public List<Company> findPageAfter(@NonNull final CompanyExternalId lastExternalId, final int pageSize) {
+        return repository.findPageAfter(lastExternalId, pageSize);
+    }
+
+    @Override
+    public Stream<Company> streamAll() {
+        return repository.streamAll();
+    }
+
+    @Override
+    public List<Company> findPendingVerification(final int limit) {
+        return repository.findPendingVerification(limit);
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    private void remember(final Company company) {
+        if (company.getVerificationStatus().isVerified()) {
+            cache.put(company.getExternalId(), Optional.of(company));
+            listings.put(company.getListing(), Optional.of(company.getExternalId()));
+        } else {
+            forget(company);
+        }
+    }
+
+    private void forget(final Company company) {
+        cache.invalidate(company.getExternalId());
+        listings.invalidate(company.getListing());
+    }
+
+    private void forgetChangedElsewhere(final CompanyExternalId externalId) {
+        cache.invalidate(externalId);
+        listings.asMap().values().removeIf(cached -> cached.map(externalId::equals).orElse(true));
+    }
+
+    private Optional<Company> retrieveByListing(final Listing listing) {
+        final val company = repository.findByListing(listing);
+        company.ifPresentOrElse(this::remember, () -> listings.put(listing, Optional.empty()));
+        return company;
+    }
+
+    private Map<CompanyExternalId, Optional<Company>> retrieve(
+        final Iterable<? extends CompanyExternalId> externalIds
+    ) {
+        final List<CompanyExternalId> ids = new ArrayList<>();
+        externalIds.forEach(ids::add);
+        final val found = repository
+            .findByExternalIds(ids)
+            .stream()
+            .collect(toMap(Company::getExternalId, identity()));
+        return ids.stream().collect(toMap(identity(), id -> Optional.ofNullable(found.get(id))));
+    }
+
+    @RequiredArgsConstructor
+    private static final class FoundOrNotFoundExpiry<K, V> implements Expiry<K, Optional<V>> {
+
+        private final long foundNanos;
+
+        private final long notFoundNanos;
+
+        @Override
+        public long expireAfterCreate(final K key, final Optional<V> value, final long currentTime) {
+            if (value.isPresent()) {
+                return foundNanos;
+            } else {
+                return notFoundNanos;
+            }
+        }
+
+        @Override
+        public long expireAfterUpdate(
+            final K key,
+            final Optional<V> value,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(
+            final K key,
+            final Optional<V> value,
+            final long currentTime,
+            final long currentDuration
+        ) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.ignast.stockinvesting.quotes.persistence.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository;
+import org.ignast.stockinvesting.quotes.persistence.repositories.ExceptionMappingCompanyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class CompanyCacheConfig {
+
+    @Bean
+    @Primary
+    public CompanyRepository cachedCompanies(
+        final ExceptionMappingCompanyRepository companies,
+        @Value("${companies.cache.ttl.found}") final Duration foundTimeToLive,
+        @Value("${companies.cache.ttl.notfound}") final Duration notFoundTimeToLive,
+        @Value("${companies.cache.size}") final long maximumSize,
+        final Optional<CacheInvalidations<CompanyExternalId>> invalidations,
+        final MeterRegistry meterRegistry
+    ) {
+        return new CachingCompanyRepository(
+            companies,
+            foundTimeToLive,
+            notFoundTimeToLive,
+            maximumSize,
+            invalidations.orElseGet(NoCacheInvalidations::new),
+            meterRegistry
+        );
+    }
+}
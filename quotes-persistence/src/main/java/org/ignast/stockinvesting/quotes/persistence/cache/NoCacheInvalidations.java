@@ -0,0 +1,13 @@
+package org.ignast.stockinvesting.quotes.persistence.cache;
+
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+final class NoCacheInvalidations<K> implements CacheInvalidations<K> {
+
+    @Override
+    public void publish(@NonNull final K key) {}
+
+    @Override
+    public void subscribe(@NonNull final Consumer<K> listener) {}
+}
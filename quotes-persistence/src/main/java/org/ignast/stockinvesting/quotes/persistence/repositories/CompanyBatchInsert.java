@@ -0,0 +1,93 @@
+package org.ignast.stockinvesting.quotes.persistence.repositories;
+
+import static java.lang.Math.min;
+import static java.util.stream.Collectors.toSet;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import lombok.NonNull;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class CompanyBatchInsert {
+
+    private static final String INSERT =
+        "INSERT INTO company " +
+        "(external_id, company_name, stock_symbol, market_identifier_code, verification_status) " +
+        "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int batchSize;
+
+    public CompanyBatchInsert(
+        @NonNull final JdbcTemplate jdbcTemplate,
+        @Value("${companies.import.batch.size}") final int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    @SuppressWarnings("checkstyle:designforextension")
+    public Set<Integer> insert(@NonNull final List<Company> companies) {
+        return IntStream
+            .iterate(0, from -> from < companies.size(), from -> from + batchSize)
+            .boxed()
+            .flatMap(from ->
+                insertBatch(companies.subList(from, min(from + batchSize, companies.size())))
+                    .stream()
+                    .map(row -> from + row)
+            )
+            .collect(toSet());
+    }
+
+    private Set<Integer> insertBatch(final List<Company> batch) {
+        return jdbcTemplate.execute(INSERT, (final PreparedStatement statement) -> execute(statement, batch));
+    }
+
+    private Set<Integer> execute(final PreparedStatement statement, final List<Company> batch)
+        throws SQLException {
+        for (final Company company : batch) {
+            bind(statement, company);
+            statement.addBatch();
+        }
+        try {
+            statement.executeBatch();
+            return Set.of();
+        } catch (BatchUpdateException e) {
+            return failedRows(e.getUpdateCounts(), batch.size());
+        }
+    }
+
+    @SuppressWarnings("checkstyle:magicnumber")
+    private void bind(final PreparedStatement statement, final Company company) throws SQLException {
+        statement.setInt(1, company.getExternalId().get());
+        statement.setString(2, company.getName().get());
+        statement.setString(3, company.getStockSymbol().get());
+        statement.setString(4, company.getStockExchange().getMarketIdentifierCode().get());
+        statement.setString(5, company.getVerificationStatus().name());
+    }
+
+    private Set<Integer> failedRows(final int[] updateCounts, final int rows) {
+        final val executed = updateCounts.length;
+        return IntStream
+            .range(0, rows)
+            .filter(row -> row >= executed || updateCounts[row] == Statement.EXECUTE_FAILED)
+            .boxed()
+            .collect(toSet());
+    }
+}
@@ -0,0 +1,99 @@
+package org.ignast.stockinvesting.quotes.persistence.repositories;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.stream.Stream;
+import lombok.NonNull;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.CompanyName;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.ignast.stockinvesting.quotes.domain.VerificationStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+@Repository
+public class CompanyCursor {
+
+    private static final String SELECT =
+        "SELECT external_id, company_name, stock_symbol, market_identifier_code, verification_status " +
+        "FROM company WHERE verification_status = 'VERIFIED' ORDER BY external_id";
+
+    private static final TransactionDefinition READ_ONLY = readOnly();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PlatformTransactionManager transactions;
+
+    private final StockExchanges stockExchanges;
+
+    private final int fetchSize;
+
+    public CompanyCursor(
+        @NonNull final JdbcTemplate jdbcTemplate,
+        @NonNull final PlatformTransactionManager transactions,
+        @NonNull final StockExchanges stockExchanges,
+        @Value("${companies.stream.fetch.size}") final int fetchSize
+    ) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("Fetch size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactions = transactions;
+        this.stockExchanges = stockExchanges;
+        this.fetchSize = fetchSize;
+    }
+
+    private static TransactionDefinition readOnly() {
+        final val definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        return definition;
+    }
+
+    @SuppressWarnings({ "checkstyle:designforextension", "checkstyle:illegalcatch" })
+    public Stream<Company> stream() {
+        final val transaction = transactions.getTransaction(READ_ONLY);
+        try {
+            return jdbcTemplate
+                .queryForStream(this::prepare, (final ResultSet row, final int i) -> toCompany(row))
+                .onClose(() -> transactions.commit(transaction));
+        } catch (RuntimeException e) {
+            transactions.rollback(transaction);
+            throw e;
+        }
+    }
+
+    private PreparedStatement prepare(final Connection connection) throws SQLException {
+        final val statement = connection.prepareStatement(
+            SELECT,
+            ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY
+        );
+        if (statement.isWrapperFor(JdbcStatement.class)) {
+            statement.unwrap(JdbcStatement.class).enableStreamingResults();
+        } else {
+            statement.setFetchSize(fetchSize);
+        }
+        return statement;
+    }
+
+    @SuppressWarnings("checkstyle:magicnumber")
+    private Company toCompany(final ResultSet row) throws SQLException {
+        return Company.restore(
+            new CompanyExternalId(row.getInt(1)),
+            new CompanyName(row.getString(2)),
+            new StockSymbol(row.getString(3)),
+            stockExchanges.getForPersisted(row.getString(4)),
+            VerificationStatus.valueOf(row.getString(5))
+        );
+    }
+}
@@ -1,14 +1,25 @@
 package org.ignast.stockinvesting.quotes.persistence.repositories;
 
 import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+import static org.ignast.stockinvesting.quotes.domain.VerificationStatus.PENDING;
+import static org.ignast.stockinvesting.quotes.domain.VerificationStatus.VERIFIED;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.val;
 import org.ignast.stockinvesting.quotes.domain.Company;
 import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
 import org.ignast.stockinvesting.quotes.domain.CompanyRepository;
+import org.ignast.stockinvesting.quotes.domain.Listing;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,6 +29,12 @@ public class ExceptionMappingCompanyRepository implements CompanyRepository {
     @NonNull
     private final SpringCompanyRepository underlyingRepository;
 
+    @NonNull
+    private final CompanyBatchInsert batchInsert;
+
+    @NonNull
+    private final CompanyCursor cursor;
+
     @Override
     public void save(final Company company) {
         try {
@@ -27,6 +44,30 @@ public class ExceptionMappingCompanyRepository implements CompanyRepository {
         }
     }
 
+    @Override
+    public List<Optional<RuntimeException>> saveAll(@NonNull final List<Company> companies) {
+        final val notInserted = batchInsert.insert(companies);
+        return IntStream
+            .range(0, companies.size())
+            .mapToObj(row -> {
+                if (notInserted.contains(row)) {
+                    return saveIndividually(companies.get(row));
+                } else {
+                    return Optional.<RuntimeException>empty();
+                }
+            })
+            .collect(toList());
+    }
+
+    private Optional<RuntimeException> saveIndividually(final Company company) {
+        try {
+            save(company);
+            return Optional.empty();
+        } catch (CompanyAlreadyExists | ListingAlreadyExists | CompanyCreationFailed e) {
+            return Optional.of(e);
+        }
+    }
+
     private void mapToBusinessError(final Company company, final DataIntegrityViolationException e) {
         if (isNull(e.getMessage())) {
             throw new CompanyCreationFailed(e);
@@ -43,8 +84,67 @@ public class ExceptionMappingCompanyRepository implements CompanyRepository {
         }
     }
 
+    @Override
+    public void delete(@NonNull final Company company) {
+        underlyingRepository.deleteByExternalId(company.getExternalId().get());
+    }
+
+    @Override
+    public void markVerified(@NonNull final Company company) {
+        underlyingRepository.updateVerificationStatus(company.getExternalId().get(), VERIFIED);
+    }
+
     @Override
     public Optional<Company> findByExternalId(final CompanyExternalId externalId) {
-        return underlyingRepository.findByExternalId(externalId);
+        return underlyingRepository.findByExternalIdAndVerificationStatus(externalId, VERIFIED);
+    }
+
+    @Override
+    public List<Company> findByExternalIds(@NonNull final Collection<CompanyExternalId> externalIds) {
+        if (externalIds.isEmpty()) {
+            return List.of();
+        }
+        return underlyingRepository.findByExternalIds(
+            externalIds.stream().map(CompanyExternalId::get).collect(toUnmodifiableSet()),
+            VERIFIED
+        );
+    }
+
+    @Override
+    public Optional<Company> findByListing(@NonNull final Listing listing) {
+        return underlyingRepository.findByListing(
+            listing.getStockSymbol().get(),
+            listing.getMarketIdentifierCode().get(),
+            VERIFIED.name()
+        );
+    }
+
+    @Override
+    public List<Company> findFirstPage(final int pageSize) {
+        return underlyingRepository.findFirstPage(VERIFIED, PageRequest.ofSize(pageSize));
+    }
+
+    @Override
+    public List<Company> findPageAfter(@NonNull final CompanyExternalId lastExternalId, final int pageSize) {
+        return underlyingRepository.findPageAfter(
+            lastExternalId.get(),
+            VERIFIED,
+            PageRequest.ofSize(pageSize)
+        );
+    }
+
+    @Override
+    public Stream<Company> streamAll() {
+        return cursor.stream();
+    }
+
+    @Override
+    public List<Company> findPendingVerification(final int limit) {
+        return underlyingRepository.findFirstPage(PENDING, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    public long count() {
+        return underlyingRepository.countByVerificationStatus(VERIFIED);
     }
 }
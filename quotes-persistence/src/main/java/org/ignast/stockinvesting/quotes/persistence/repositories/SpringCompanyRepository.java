@@ -1,12 +1,76 @@
 package org.ignast.stockinvesting.quotes.persistence.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.ignast.stockinvesting.quotes.domain.Company;
 import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.VerificationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface SpringCompanyRepository extends Repository<Company, Integer> {
     public void save(Company company);
 
-    public Optional<Company> findByExternalId(CompanyExternalId externalId);
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Company c WHERE c.externalId.number = :externalId")
+    public void deleteByExternalId(@Param("externalId") int externalId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Company c SET c.verificationStatus = :status WHERE c.externalId.number = :externalId")
+    public void updateVerificationStatus(
+        @Param("externalId") int externalId,
+        @Param("status") VerificationStatus status
+    );
+
+    @Transactional(readOnly = true)
+    public Optional<Company> findByExternalIdAndVerificationStatus(
+        CompanyExternalId externalId,
+        VerificationStatus status
+    );
+
+    @Transactional(readOnly = true)
+    @Query(
+        "SELECT c FROM Company c WHERE c.externalId.number IN :externalIds AND c.verificationStatus = :status"
+    )
+    public List<Company> findByExternalIds(
+        @Param("externalIds") Collection<Integer> externalIds,
+        @Param("status") VerificationStatus status
+    );
+
+    @Transactional(readOnly = true)
+    @Query(
+        value = "SELECT * FROM company WHERE stock_symbol = :symbol AND market_identifier_code = :mic " +
+        "AND verification_status = :status",
+        nativeQuery = true
+    )
+    public Optional<Company> findByListing(
+        @Param("symbol") String stockSymbol,
+        @Param("mic") String marketIdentifierCode,
+        @Param("status") String status
+    );
+
+    @Transactional(readOnly = true)
+    @Query("SELECT c FROM Company c WHERE c.verificationStatus = :status ORDER BY c.externalId.number")
+    public List<Company> findFirstPage(@Param("status") VerificationStatus status, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(
+        "SELECT c FROM Company c WHERE c.externalId.number > :after AND c.verificationStatus = :status " +
+        "ORDER BY c.externalId.number"
+    )
+    public List<Company> findPageAfter(
+        @Param("after") int lastExternalId,
+        @Param("status") VerificationStatus status,
+        Pageable pageable
+    );
+
+    @Transactional(readOnly = true)
+    public long countByVerificationStatus(VerificationStatus status);
 }
@@ -3,7 +3,6 @@ package org.ignast.stockinvesting.quotes.persistence.repositories;
 import javax.persistence.AttributeConverter;
 import javax.persistence.Converter;
 import lombok.NonNull;
-import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
 import org.ignast.stockinvesting.quotes.domain.StockExchange;
 import org.ignast.stockinvesting.quotes.domain.StockExchanges;
 
@@ -23,6 +22,6 @@ public final class StockExchangeConverter implements AttributeConverter<StockExc
 
     @Override
     public StockExchange convertToEntityAttribute(final String marketIdentifierCode) {
-        return stockExchanges.getFor(new MarketIdentifierCode(marketIdentifierCode));
+        return stockExchanges.getForPersisted(marketIdentifierCode);
     }
 }
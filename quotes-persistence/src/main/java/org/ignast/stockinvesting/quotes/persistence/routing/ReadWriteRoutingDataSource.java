@@ -0,0 +1,76 @@
+package org.ignast.stockinvesting.quotes.persistence.routing;
+
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isActualTransactionActive;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isCurrentTransactionReadOnly;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+import lombok.NonNull;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+public final class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private static final String REPLICA = "replica";
+
+    private final long maxReplicaLagNanos;
+
+    private final LongSupplier nanoTime;
+
+    private final AtomicLong lastWriteNanos;
+
+    public ReadWriteRoutingDataSource(
+        @NonNull final DataSource primary,
+        @NonNull final DataSource replica,
+        @NonNull final Duration maxReplicaLag
+    ) {
+        this(primary, replica, maxReplicaLag, System::nanoTime);
+    }
+
+    ReadWriteRoutingDataSource(
+        @NonNull final DataSource primary,
+        @NonNull final DataSource replica,
+        @NonNull final Duration maxReplicaLag,
+        @NonNull final LongSupplier nanoTime
+    ) {
+        this.maxReplicaLagNanos = maxReplicaLag.toNanos();
+        this.nanoTime = nanoTime;
+        this.lastWriteNanos = new AtomicLong(nanoTime.getAsLong() - maxReplicaLagNanos);
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!isCurrentTransactionReadOnly()) {
+            rememberWriteOnCommit();
+            return PRIMARY;
+        } else if (nanoTime.getAsLong() - lastWriteNanos.get() < maxReplicaLagNanos) {
+            return PRIMARY;
+        } else {
+            return REPLICA;
+        }
+    }
+
+    private void rememberWriteOnCommit() {
+        if (isActualTransactionActive() && isSynchronizationActive()) {
+            registerSynchronization(new WriteCommitted());
+        }
+    }
+
+    private final class WriteCommitted implements TransactionSynchronization {
+
+        @Override
+        public void afterCommit() {
+            lastWriteNanos.set(nanoTime.getAsLong());
+        }
+    }
+}
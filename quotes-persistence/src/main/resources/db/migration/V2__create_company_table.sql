@@ -1 +1 @@
-CREATE TABLE IF NOT EXISTS company (id integer AUTO_INCREMENT PRIMARY KEY, external_id integer, company_name varchar(160), stock_symbol varchar(6), market_identifier_code varchar(4), CONSTRAINT unique_external_id UNIQUE(external_id), CONSTRAINT unique_listing UNIQUE(stock_symbol, market_identifier_code));
\ No newline at end of file
+CREATE TABLE IF NOT EXISTS company (id integer AUTO_INCREMENT PRIMARY KEY, external_id integer, company_name varchar(160), stock_symbol varchar(6), market_identifier_code varchar(4), verification_status varchar(8) NOT NULL DEFAULT 'VERIFIED', CONSTRAINT unique_external_id UNIQUE(external_id), CONSTRAINT unique_listing UNIQUE(stock_symbol, market_identifier_code));
\ No newline at end of file
@@ -0,0 +1,507 @@
+package org.ignast.stockinvesting.quotes.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository;
+import org.ignast.stockinvesting.quotes.domain.CompanyRepository.CompanyAlreadyExists;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
+import org.ignast.stockinvesting.quotes.domain.VerificationStatus;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("checkstyle:classdataabstractioncoupling")
+public final class CachingCompanyRepositoryTest {
+
+    private static final Duration FOUND_TTL = Duration.ofHours(1);
+
+    private static final Duration NOT_FOUND_TTL = Duration.ofSeconds(5);
+
+    private static final long SIZE = 100;
+
+    private final CompanyExternalId amazonId = new CompanyExternalId(1);
+
+    private final CompanyExternalId microsoftId = new CompanyExternalId(2);
+
+    private final Listing amazonListing = new Listing(
+        new StockSymbol("AMZN"),
+        new MarketIdentifierCode("XNAS")
+    );
+
+    private final Company amazon = companyWithExternalId(amazonId, amazonListing);
+
+    private final Company microsoft = companyWithExternalId(
+        microsoftId,
+        new Listing(new StockSymbol("MSFT"), new MarketIdentifierCode("XNAS"))
+    );
+
+    private final CompanyRepository underlyingRepository = mock(CompanyRepository.class);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final FakeTicker ticker = new FakeTicker();
+
+    private final CacheInvalidations<CompanyExternalId> invalidations = new InMemoryCacheInvalidations<>();
+
+    private final CachingCompanyRepository repository = new CachingCompanyRepository(
+        underlyingRepository,
+        FOUND_TTL,
+        NOT_FOUND_TTL,
+        SIZE,
+        invalidations,
+        registry,
+        ticker
+    );
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new CachingCompanyRepository(null, FOUND_TTL, NOT_FOUND_TTL, SIZE, invalidations, registry)
+            );
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new CachingCompanyRepository(
+                    underlyingRepository,
+                    null,
+                    NOT_FOUND_TTL,
+                    SIZE,
+                    invalidations,
+                    registry
+                )
+            );
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new CachingCompanyRepository(
+                    underlyingRepository,
+                    FOUND_TTL,
+                    null,
+                    SIZE,
+                    invalidations,
+                    registry
+                )
+            );
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new CachingCompanyRepository(
+                    underlyingRepository,
+                    FOUND_TTL,
+                    NOT_FOUND_TTL,
+                    SIZE,
+                    null,
+                    registry
+                )
+            );
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() ->
+                new CachingCompanyRepository(
+                    underlyingRepository,
+                    FOUND_TTL,
+                    NOT_FOUND_TTL,
+                    SIZE,
+                    invalidations,
+                    null
+                )
+            );
+    }
+
+    @Test
+    public void shouldNotCacheAbsenceLongerThanPresence() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() ->
+                new CachingCompanyRepository(
+                    underlyingRepository,
+                    NOT_FOUND_TTL,
+                    FOUND_TTL,
+                    SIZE,
+                    invalidations,
+                    registry
+                )
+            )
+            .withMessage("Not found time to live must not exceed found time to live");
+    }
+
+    @Test
+    public void shouldRetrieveCompanyOnlyOnce() {
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.of(amazon));
+
+        repository.findByExternalId(amazonId);
+        final val company = repository.findByExternalId(amazonId);
+
+        assertThat(company).containsSame(amazon);
+        verify(underlyingRepository, times(1)).findByExternalId(amazonId);
+    }
+
+    @Test
+    public void shouldRetrieveCompanyAgainAfterItExpires() {
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.of(amazon));
+
+        repository.findByExternalId(amazonId);
+        ticker.advance(FOUND_TTL.plusSeconds(1));
+        repository.findByExternalId(amazonId);
+
+        verify(underlyingRepository, times(2)).findByExternalId(amazonId);
+    }
+
+    @Test
+    public void shouldRememberAbsentCompanyBriefly() {
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.empty());
+
+        repository.findByExternalId(amazonId);
+        final val company = repository.findByExternalId(amazonId);
+        ticker.advance(NOT_FOUND_TTL.plusSeconds(1));
+        repository.findByExternalId(amazonId);
+
+        assertThat(company).isEmpty();
+        verify(underlyingRepository, times(2)).findByExternalId(amazonId);
+    }
+
+    @Test
+    public void shouldFindSavedCompanyWithoutRetrievingIt() {
+        repository.save(amazon);
+
+        assertThat(repository.findByExternalId(amazonId)).containsSame(amazon);
+        verify(underlyingRepository).save(amazon);
+        verify(underlyingRepository, never()).findByExternalId(any());
+    }
+
+    @Test
+    public void shouldForgetAbsenceOfCompanyOnceSaved() {
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.empty());
+        repository.findByExternalId(amazonId);
+
+        repository.save(amazon);
+
+        assertThat(repository.findByExternalId(amazonId)).containsSame(amazon);
+    }
+
+    @Test
+    public void shouldNotCacheCompanyPendingVerification() {
+        final val pending = companyWithExternalId(amazonId, amazonListing, VerificationStatus.PENDING);
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.empty());
+        when(underlyingRepository.findByListing(amazonListing)).thenReturn(Optional.empty());
+
+        repository.save(pending);
+
+        assertThat(repository.findByExternalId(amazonId)).isEmpty();
+        assertThat(repository.findByListing(amazonListing)).isEmpty();
+    }
+
+    @Test
+    public void shouldForgetAbsenceOfCompanyOnceVerified() {
+        final val pending = companyWithExternalId(amazonId, amazonListing, VerificationStatus.PENDING);
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.empty());
+        repository.findByExternalId(amazonId);
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.of(amazon));
+
+        repository.markVerified(pending);
+
+        assertThat(repository.findByExternalId(amazonId)).containsSame(amazon);
+        verify(underlyingRepository).markVerified(pending);
+    }
+
+    @Test
+    public void shouldPublishInvalidationOfVerifiedCompany() {
+        final List<CompanyExternalId> invalidated = new ArrayList<>();
+        invalidations.subscribe(invalidated::add);
+
+        repository.markVerified(amazon);
+
+        assertThat(invalidated).containsExactly(amazonId);
+    }
+
+    @Test
+    public void shouldNotCacheCompanyThatFailedToBeSaved() {
+        final val failure = new CompanyAlreadyExists(amazonId, new IllegalStateException());
+        doThrow(failure).when(underlyingRepository).save(amazon);
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.empty());
+
+        assertThatExceptionOfType(CompanyAlreadyExists.class).isThrownBy(() -> repository.save(amazon));
+
+        assertThat(repository.findByExternalId(amazonId)).isEmpty();
+    }
+
+    @Test
+    public void shouldRetrieveOnlyUncachedCompaniesByExternalIds() {
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.of(amazon));
+        when(underlyingRepository.findByExternalIds(List.of(microsoftId))).thenReturn(List.of(microsoft));
+        repository.findByExternalId(amazonId);
+
+        final val companies = repository.findByExternalIds(List.of(amazonId, microsoftId));
+
+        assertThat(companies).containsExactly(amazon, microsoft);
+        verify(underlyingRepository).findByExternalIds(List.of(microsoftId));
+    }
+
+    @Test
+    public void shouldRememberCompaniesAbsentFromBatchRetrieval() {
+        when(underlyingRepository.findByExternalIds(any())).thenReturn(List.of(amazon));
+
+        repository.findByExternalIds(List.of(amazonId, microsoftId));
+        final val companies = repository.findByExternalIds(List.of(amazonId, microsoftId));
+
+        assertThat(companies).containsExactly(amazon);
+        assertThat(repository.findByExternalId(microsoftId)).isEmpty();
+        verify(underlyingRepository, times(1)).findByExternalIds(any());
+        verify(underlyingRepository, never()).findByExternalId(any());
+    }
+
+    @Test
+    public void shouldForgetAbsenceOfCompanySavedByAnotherInstance() {
+        final val anotherInstance = new CachingCompanyRepository(
+            mock(CompanyRepository.class),
+            FOUND_TTL,
+            NOT_FOUND_TTL,
+            SIZE,
+            invalidations,
+            new SimpleMeterRegistry()
+        );
+        when(underlyingRepository.findByExternalId(amazonId))
+            .thenReturn(Optional.empty(), Optional.of(amazon));
+        repository.findByExternalId(amazonId);
+
+        anotherInstance.save(amazon);
+
+        assertThat(repository.findByExternalId(amazonId)).containsSame(amazon);
+    }
+
+    @Test
+    public void shouldPublishInvalidationOfSavedCompany() {
+        final List<CompanyExternalId> invalidated = new ArrayList<>();
+        invalidations.subscribe(invalidated::add);
+
+        repository.save(amazon);
+
+        assertThat(invalidated).containsExactly(amazonId);
+    }
+
+    @Test
+    public void shouldNotPublishInvalidationOfCompanyThatFailedToBeSaved() {
+        final List<CompanyExternalId> invalidated = new ArrayList<>();
+        invalidations.subscribe(invalidated::add);
+        doThrow(new CompanyAlreadyExists(amazonId, new IllegalStateException()))
+            .when(underlyingRepository)
+            .save(amazon);
+
+        assertThatExceptionOfType(CompanyAlreadyExists.class).isThrownBy(() -> repository.save(amazon));
+
+        assertThat(invalidated).isEmpty();
+    }
+
+    @Test
+    public void shouldForgetDeletedCompany() {
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.empty());
+        repository.save(amazon);
+
+        repository.delete(amazon);
+
+        assertThat(repository.findByExternalId(amazonId)).isEmpty();
+        verify(underlyingRepository).delete(amazon);
+    }
+
+    @Test
+    public void shouldPublishInvalidationOfDeletedCompany() {
+        final List<CompanyExternalId> invalidated = new ArrayList<>();
+        invalidations.subscribe(invalidated::add);
+
+        repository.delete(amazon);
+
+        assertThat(invalidated).containsExactly(amazonId);
+    }
+
+    @Test
+    public void shouldRetrieveCompanyByListingOnlyOnce() {
+        when(underlyingRepository.findByListing(amazonListing)).thenReturn(Optional.of(amazon));
+
+        repository.findByListing(amazonListing);
+        final val company = repository.findByListing(amazonListing);
+
+        assertThat(company).containsSame(amazon);
+        assertThat(repository.findByExternalId(amazonId)).containsSame(amazon);
+        verify(underlyingRepository, times(1)).findByListing(amazonListing);
+        verify(underlyingRepository, never()).findByExternalId(any());
+    }
+
+    @Test
+    public void shouldRememberAbsentListingBriefly() {
+        when(underlyingRepository.findByListing(amazonListing)).thenReturn(Optional.empty());
+
+        repository.findByListing(amazonListing);
+        final val company = repository.findByListing(amazonListing);
+        ticker.advance(NOT_FOUND_TTL.plusSeconds(1));
+        repository.findByListing(amazonListing);
+
+        assertThat(company).isEmpty();
+        verify(underlyingRepository, times(2)).findByListing(amazonListing);
+    }
+
+    @Test
+    public void shouldFindSavedCompanyByListingWithoutRetrievingIt() {
+        repository.save(amazon);
+
+        assertThat(repository.findByListing(amazonListing)).containsSame(amazon);
+        verify(underlyingRepository, never()).findByListing(any());
+    }
+
+    @Test
+    public void shouldForgetListingOfDeletedCompany() {
+        repository.save(amazon);
+        when(underlyingRepository.findByListing(amazonListing)).thenReturn(Optional.empty());
+
+        repository.delete(amazon);
+
+        assertThat(repository.findByListing(amazonListing)).isEmpty();
+        verify(underlyingRepository).findByListing(amazonListing);
+    }
+
+    @Test
+    public void shouldRetrieveListingAgainOnceCompanyItReferredToIsGone() {
+        repository.save(amazon);
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.empty());
+        when(underlyingRepository.findByListing(amazonListing)).thenReturn(Optional.of(microsoft));
+
+        invalidations.publish(amazonId);
+
+        assertThat(repository.findByListing(amazonListing)).containsSame(microsoft);
+    }
+
+    @Test
+    public void shouldForgetAbsenceOfListingOnceCompanyChangesElsewhere() {
+        when(underlyingRepository.findByListing(amazonListing)).thenReturn(Optional.empty());
+        repository.findByListing(amazonListing);
+        when(underlyingRepository.findByListing(amazonListing)).thenReturn(Optional.of(amazon));
+
+        invalidations.publish(amazonId);
+
+        assertThat(repository.findByListing(amazonListing)).containsSame(amazon);
+        verify(underlyingRepository, times(2)).findByListing(amazonListing);
+    }
+
+    @Test
+    public void shouldKeepListingsOfOtherCompaniesOnceCompanyChangesElsewhere() {
+        repository.save(microsoft);
+
+        invalidations.publish(amazonId);
+
+        assertThat(repository.findByListing(microsoft.getListing())).containsSame(microsoft);
+        verify(underlyingRepository, never()).findByListing(any());
+    }
+
+    @Test
+    public void shouldDelegatePagingAndCounting() {
+        when(underlyingRepository.findFirstPage(1)).thenReturn(List.of(amazon));
+        when(underlyingRepository.findPageAfter(amazonId, 1)).thenReturn(List.of(microsoft));
+        when(underlyingRepository.count()).thenReturn(2L);
+        when(underlyingRepository.streamAll()).thenReturn(Stream.of(amazon, microsoft));
+        when(underlyingRepository.findPendingVerification(1)).thenReturn(List.of(microsoft));
+
+        assertThat(repository.findFirstPage(1)).containsExactly(amazon);
+        assertThat(repository.findPageAfter(amazonId, 1)).containsExactly(microsoft);
+        assertThat(repository.count()).isEqualTo(2);
+        assertThat(repository.streamAll()).containsExactly(amazon, microsoft);
+        assertThat(repository.findPendingVerification(1)).containsExactly(microsoft);
+    }
+
+    @Test
+    public void shouldRecordHitsAndMisses() {
+        when(underlyingRepository.findByExternalId(amazonId)).thenReturn(Optional.of(amazon));
+
+        repository.findByExternalId(amazonId);
+        repository.findByExternalId(amazonId);
+        repository.findByExternalId(amazonId);
+
+        assertThat(cacheGets("hit")).isEqualTo(2);
+        assertThat(cacheGets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldEvictBeyondMaximumSize() {
+        final val separateRegistry = new SimpleMeterRegistry();
+        final val repositoryOfSize1 = new CachingCompanyRepository(
+            underlyingRepository,
+            FOUND_TTL,
+            NOT_FOUND_TTL,
+            1,
+            invalidations,
+            separateRegistry,
+            ticker
+        );
+
+        repositoryOfSize1.save(amazon);
+        repositoryOfSize1.save(microsoft);
+
+        assertThat(separateRegistry.get("cache.evictions").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRecordListingHitsAndMisses() {
+        when(underlyingRepository.findByListing(amazonListing)).thenReturn(Optional.of(amazon));
+
+        repository.findByListing(amazonListing);
+        repository.findByListing(amazonListing);
+
+        assertThat(cacheGets(CachingCompanyRepository.LISTINGS_CACHE_NAME, "hit")).isEqualTo(1);
+        assertThat(cacheGets(CachingCompanyRepository.LISTINGS_CACHE_NAME, "miss")).isEqualTo(1);
+    }
+
+    private double cacheGets(final String result) {
+        return cacheGets(CachingCompanyRepository.CACHE_NAME, result);
+    }
+
+    private double cacheGets(final String cacheName, final String result) {
+        return registry
+            .get("cache.gets")
+            .tags("cache", cacheName, "result", result)
+            .functionCounter()
+            .count();
+    }
+
+    private static Company companyWithExternalId(final CompanyExternalId externalId, final Listing listing) {
+        return companyWithExternalId(externalId, listing, VerificationStatus.VERIFIED);
+    }
+
+    private static Company companyWithExternalId(
+        final CompanyExternalId externalId,
+        final Listing listing,
+        final VerificationStatus verificationStatus
+    ) {
+        final val company = mock(Company.class);
+        when(company.getExternalId()).thenReturn(externalId);
+        when(company.getListing()).thenReturn(listing);
+        when(company.getVerificationStatus()).thenReturn(verificationStatus);
+        return company;
+    }
+
+    private static final class FakeTicker implements Ticker {
+
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        void advance(final Duration duration) {
+            nanos += duration.toNanos();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.ignast.stockinvesting.quotes.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.Company;
+import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.persistence.repositories.ExceptionMappingCompanyRepository;
+import org.junit.jupiter.api.Test;
+
+public final class CompanyCacheConfigTest {
+
+    @Test
+    public void shouldCacheCompaniesFoundInDatabase() {
+        final val databaseCompanies = mock(ExceptionMappingCompanyRepository.class);
+        final val externalId = new CompanyExternalId(1);
+        final val company = mock(Company.class);
+        when(databaseCompanies.findByExternalId(externalId)).thenReturn(Optional.of(company));
+
+        final val companies = new CompanyCacheConfig()
+            .cachedCompanies(
+                databaseCompanies,
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(1),
+                1,
+                Optional.empty(),
+                new SimpleMeterRegistry()
+            );
+        companies.findByExternalId(externalId);
+
+        assertThat(companies).isInstanceOf(CachingCompanyRepository.class);
+        assertThat(companies.findByExternalId(externalId)).containsSame(company);
+        verify(databaseCompanies, times(1)).findByExternalId(externalId);
+    }
+}
@@ -0,0 +1,21 @@
+package org.ignast.stockinvesting.quotes.persistence.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.NonNull;
+
+public final class InMemoryCacheInvalidations<K> implements CacheInvalidations<K> {
+
+    private final List<Consumer<K>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(@NonNull final K key) {
+        listeners.forEach(l -> l.accept(key));
+    }
+
+    @Override
+    public void subscribe(@NonNull final Consumer<K> listener) {
+        listeners.add(listener);
+    }
+}
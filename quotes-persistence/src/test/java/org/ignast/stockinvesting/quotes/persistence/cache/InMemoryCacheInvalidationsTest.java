@@ -0,0 +1,37 @@
+package org.ignast.stockinvesting.quotes.persistence.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public final class InMemoryCacheInvalidationsTest {
+
+    private final CacheInvalidations<String> invalidations = new InMemoryCacheInvalidations<>();
+
+    @Test
+    public void shouldNotAcceptNulls() {
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> invalidations.publish(null));
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> invalidations.subscribe(null));
+    }
+
+    @Test
+    public void shouldPublishNothingWithoutSubscribers() {
+        invalidations.publish("key");
+    }
+
+    @Test
+    public void shouldNotifyEverySubscriber() {
+        final List<String> first = new ArrayList<>();
+        final List<String> second = new ArrayList<>();
+        invalidations.subscribe(first::add);
+        invalidations.subscribe(second::add);
+
+        invalidations.publish("key");
+
+        assertThat(first).containsExactly("key");
+        assertThat(second).containsExactly("key");
+    }
+}
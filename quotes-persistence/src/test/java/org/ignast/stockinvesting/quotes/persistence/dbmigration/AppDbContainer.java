@@ -14,10 +14,7 @@ public final class AppDbContainer {
     private static final String DATABASE_NAME = "testschema";
 
     @SuppressWarnings("rawtypes")
-    private static final MySQLContainer CONTAINER = new MySQLContainer("mysql:8.0.28-debian")
-        .withDatabaseName(DATABASE_NAME)
-        .withUsername(USERNAME)
-        .withPassword(PASSWORD);
+    private static final MySQLContainer CONTAINER = create();
 
     private AppDbContainer() {}
 
@@ -26,6 +23,14 @@ public final class AppDbContainer {
         return CONTAINER;
     }
 
+    @SuppressWarnings("rawtypes")
+    public static MySQLContainer create() {
+        return new MySQLContainer("mysql:8.0.28-debian")
+            .withDatabaseName(DATABASE_NAME)
+            .withUsername(USERNAME)
+            .withPassword(PASSWORD);
+    }
+
     @SuppressWarnings("rawtypes")
     public static DataSource getDataSourceTo(final MySQLContainer mysql) {
         final val dataSource = new DriverManagerDataSource();
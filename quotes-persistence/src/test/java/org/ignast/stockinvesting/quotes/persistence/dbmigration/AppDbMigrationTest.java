@@ -87,6 +87,33 @@ public final class AppDbMigrationTest {
             db.execute(insertAmazon);
         }
 
+        @Test
+        public void shouldConsiderCompaniesVerifiedByDefault() {
+            db.execute(
+                """
+                    INSERT INTO company (external_id, company_name, stock_symbol, market_identifier_code)
+                    VALUES (1,'Amazon','AMZN','XNYS')"""
+            );
+
+            assertThat(
+                db.queryForObject(
+                    "SELECT verification_status FROM company WHERE external_id = 1",
+                    String.class
+                )
+            )
+                .isEqualTo("VERIFIED");
+        }
+
+        @Test
+        public void shouldAcceptCompanyPendingVerification() {
+            db.execute(
+                """
+                    INSERT INTO company
+                    (external_id, company_name, stock_symbol, market_identifier_code, verification_status)
+                    VALUES (1,'Amazon','AMZN','XNYS','PENDING')"""
+            );
+        }
+
         @Test
         public void shouldAutoincrementId() {
             final val insertAmazon =
@@ -0,0 +1,107 @@
+package org.ignast.stockinvesting.quotes.persistence.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import lombok.val;
+import org.ignast.stockinvesting.quotes.domain.StockExchanges;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+final class CompanyCursorTest {
+
+    private static final int FETCH_SIZE = 2;
+
+    private final DataSource dataSource = mock(DataSource.class);
+
+    private final Connection connection = mock(Connection.class);
+
+    private final PreparedStatement statement = mock(PreparedStatement.class);
+
+    private final CompanyCursor cursor = new CompanyCursor(
+        new JdbcTemplate(dataSource),
+        new DataSourceTransactionManager(dataSource),
+        mock(StockExchanges.class),
+        FETCH_SIZE
+    );
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(mock(ResultSet.class));
+    }
+
+    @Test
+    public void shouldStreamMysqlResultsWithoutCursorFetchOnOtherStatements() throws SQLException {
+        final val mysqlStatement = mock(JdbcStatement.class);
+        when(statement.isWrapperFor(JdbcStatement.class)).thenReturn(true);
+        when(statement.unwrap(JdbcStatement.class)).thenReturn(mysqlStatement);
+
+        try (final val companies = cursor.stream()) {
+            assertThat(companies).isEmpty();
+        }
+
+        verify(mysqlStatement).enableStreamingResults();
+        verify(statement, never()).setFetchSize(anyInt());
+    }
+
+    @Test
+    public void shouldFetchInConfiguredBatchesFromOtherDatabases() throws SQLException {
+        try (final val companies = cursor.stream()) {
+            assertThat(companies).isEmpty();
+        }
+
+        verify(statement).setFetchSize(FETCH_SIZE);
+    }
+
+    @Test
+    public void shouldStreamWithinReadOnlyTransactionUntilClosed() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        try (final val companies = cursor.stream()) {
+            verify(connection).setReadOnly(true);
+            verify(connection, never()).commit();
+            assertThat(companies).isEmpty();
+        }
+
+        verify(connection).commit();
+        verify(connection).close();
+    }
+
+    @Test
+    public void shouldRollBackTransactionIfStreamCannotBeOpened() throws SQLException {
+        when(statement.executeQuery()).thenThrow(new SQLException("failed"));
+
+        assertThatExceptionOfType(DataAccessException.class).isThrownBy(cursor::stream);
+
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).close();
+    }
+
+    @Test
+    public void shouldNotBeCreatedWithNullTransactionManager() {
+        final val jdbcTemplate = new JdbcTemplate(dataSource);
+        final val exchanges = mock(StockExchanges.class);
+
+        assertThatNullPointerException()
+            .isThrownBy(() -> new CompanyCursor(jdbcTemplate, null, exchanges, FETCH_SIZE));
+    }
+}
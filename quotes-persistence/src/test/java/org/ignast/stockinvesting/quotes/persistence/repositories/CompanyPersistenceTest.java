@@ -1,12 +1,16 @@
 package org.ignast.stockinvesting.quotes.persistence.repositories;
 
 import static java.math.BigDecimal.TEN;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.ignast.stockinvesting.quotes.domain.VerificationStatus.PENDING;
+import static org.ignast.stockinvesting.quotes.domain.VerificationStatus.VERIFIED;
 import static org.ignast.stockinvesting.quotes.persistence.testutil.DomainFactoryForTests.anyQuotes;
 import static org.ignast.stockinvesting.quotes.persistence.testutil.DomainFactoryForTests.constantPriceExchanges;
 
 import java.sql.SQLException;
+import java.util.List;
 import javax.sql.DataSource;
 import lombok.val;
 import org.ignast.stockinvesting.quotes.domain.Company;
@@ -25,14 +29,22 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.SingleConnectionDataSource;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @DataJpaTest
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
-@SuppressWarnings("checkstyle:innertypelast")
+@SuppressWarnings(
+    {
+        "checkstyle:innertypelast",
+        "checkstyle:classdataabstractioncoupling",
+        "checkstyle:classfanoutcomplexity",
+    }
+)
 final class CompanyPersistenceTest {
 
     private static final Money TEN_USD = Money.of(TEN, "USD");
@@ -42,6 +54,12 @@ final class CompanyPersistenceTest {
 
     private final JdbcTemplate jdbcTemplate;
 
+    private final CompanyBatchInsert batchInsert;
+
+    private final CompanyCursor cursor;
+
+    private final PlatformTransactionManager transactions;
+
     @TestConfiguration
     static class TestConfig {
 
@@ -51,11 +69,18 @@ final class CompanyPersistenceTest {
         }
     }
 
-    public CompanyPersistenceTest(@Autowired final DataSource dataSource) throws SQLException {
+    public CompanyPersistenceTest(
+        @Autowired final DataSource dataSource,
+        @Autowired final PlatformTransactionManager transactions
+    ) throws SQLException {
         final val testDataSource = new SingleConnectionDataSource();
         testDataSource.setUrl(dataSource.getConnection().getMetaData().getURL());
         testDataSource.setUsername(dataSource.getConnection().getMetaData().getUserName());
         jdbcTemplate = new JdbcTemplate(testDataSource);
+        batchInsert = new CompanyBatchInsert(new JdbcTemplate(dataSource), 2);
+        cursor =
+            new CompanyCursor(new JdbcTemplate(dataSource), transactions, constantPriceExchanges(TEN_USD), 2);
+        this.transactions = transactions;
     }
 
     @Test
@@ -79,6 +104,25 @@ final class CompanyPersistenceTest {
         assertThat(result.get("company_name")).isEqualTo("Amazon");
         assertThat(result.get("stock_symbol")).isEqualTo("AMZN");
         assertThat(result.get("market_identifier_code")).isEqualTo("XNAS");
+        assertThat(result.get("verification_status")).isEqualTo("VERIFIED");
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldDeleteCompany() {
+        final val nasdaq = new StockExchanges(anyQuotes()).getFor(new MarketIdentifierCode("XNAS"));
+        final val company = Company.createPendingVerification(
+            new CompanyExternalId(6),
+            new CompanyName("Amazon"),
+            new StockSymbol("AMZN"),
+            nasdaq
+        );
+        companyRepository.save(company);
+        commit();
+
+        companyRepository.deleteByExternalId(6);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM company;", Integer.class)).isZero();
     }
 
     @Test
@@ -89,7 +133,10 @@ final class CompanyPersistenceTest {
             "VALUES (16, 'Amazon', 'AMZN', 'XNAS')"
         );
 
-        final val company = companyRepository.findByExternalId(new CompanyExternalId(16));
+        final val company = companyRepository.findByExternalIdAndVerificationStatus(
+            new CompanyExternalId(16),
+            VERIFIED
+        );
         assertThat(company).isPresent();
         company.ifPresent(c -> {
             assertThat(c.getExternalId()).isEqualTo(new CompanyExternalId(16));
@@ -100,6 +147,101 @@ final class CompanyPersistenceTest {
         });
     }
 
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldNotFindCompanyPendingVerification() {
+        insertPendingVerification();
+
+        assertThat(
+            companyRepository.findByExternalIdAndVerificationStatus(new CompanyExternalId(16), VERIFIED)
+        )
+            .isEmpty();
+        assertThat(companyRepository.findByExternalIds(List.of(16), VERIFIED)).isEmpty();
+        assertThat(companyRepository.findByListing("AMZN", "XNAS", "VERIFIED")).isEmpty();
+        assertThat(companyRepository.findFirstPage(VERIFIED, PageRequest.ofSize(2))).isEmpty();
+        assertThat(companyRepository.countByVerificationStatus(VERIFIED)).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldFindCompaniesPendingVerification() {
+        insertPendingVerification();
+
+        assertThat(companyRepository.findFirstPage(PENDING, PageRequest.ofSize(2)))
+            .extracting(c -> c.getExternalId().get())
+            .containsExactly(16);
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldMarkCompanyVerified() {
+        insertPendingVerification();
+        commit();
+
+        companyRepository.updateVerificationStatus(16, VERIFIED);
+
+        assertThat(
+            jdbcTemplate.queryForObject(
+                "SELECT verification_status FROM company WHERE external_id = 16;",
+                String.class
+            )
+        )
+            .isEqualTo("VERIFIED");
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldRetrievePagesOrderedByExternalId() {
+        jdbcTemplate.execute(
+            "INSERT INTO company (external_id, company_name, stock_symbol, market_identifier_code) VALUES " +
+            "(30, 'Microsoft', 'MSFT', 'XNAS'), (10, 'Amazon', 'AMZN', 'XNAS'), (20, 'Alibaba', 'BABA', 'XHKG')"
+        );
+
+        final val firstPage = companyRepository.findFirstPage(VERIFIED, PageRequest.ofSize(2));
+        final val secondPage = companyRepository.findPageAfter(20, VERIFIED, PageRequest.ofSize(2));
+
+        assertThat(firstPage).extracting(c -> c.getExternalId().get()).containsExactly(10, 20);
+        assertThat(secondPage).extracting(c -> c.getExternalId().get()).containsExactly(30);
+        assertThat(companyRepository.findPageAfter(30, VERIFIED, PageRequest.ofSize(2))).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldFindCompaniesByExternalIdsInSingleQuery() {
+        jdbcTemplate.execute(
+            "INSERT INTO company (external_id, company_name, stock_symbol, market_identifier_code) VALUES " +
+            "(30, 'Microsoft', 'MSFT', 'XNAS'), (10, 'Amazon', 'AMZN', 'XNAS'), (20, 'Alibaba', 'BABA', 'XHKG')"
+        );
+
+        final val companies = companyRepository.findByExternalIds(List.of(10, 30, 40), VERIFIED);
+
+        assertThat(companies).extracting(c -> c.getExternalId().get()).containsExactlyInAnyOrder(10, 30);
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldFindCompanyByListing() {
+        jdbcTemplate.execute(
+            "INSERT INTO company (external_id, company_name, stock_symbol, market_identifier_code) VALUES " +
+            "(1, 'Amazon', 'AMZN', 'XNAS'), (2, 'Alibaba', 'BABA', 'XHKG'), (3, 'Alibaba', 'BABA', 'XNYS')"
+        );
+
+        final val company = companyRepository.findByListing("BABA", "XNYS", "VERIFIED");
+
+        assertThat(company).hasValueSatisfying(c -> assertThat(c.getExternalId().get()).isEqualTo(3));
+        assertThat(companyRepository.findByListing("AMZN", "XHKG", "VERIFIED")).isEmpty();
+    }
+
+    @Test
+    public void shouldCountCompanies() {
+        jdbcTemplate.execute(
+            "INSERT INTO company (external_id, company_name, stock_symbol, market_identifier_code) VALUES " +
+            "(1, 'Amazon', 'AMZN', 'XNAS'), (2, 'Alibaba', 'BABA', 'XHKG')"
+        );
+
+        assertThat(companyRepository.countByVerificationStatus(VERIFIED)).isEqualTo(2);
+    }
+
     @Test
     public void shouldRejectCompanyUnderExistingListing() {
         final val nasdaq = new StockExchanges(anyQuotes()).getFor(new MarketIdentifierCode("XNAS"));
@@ -146,6 +288,112 @@ final class CompanyPersistenceTest {
             .withMessageContaining("UNIQUE_EXTERNAL_ID");
     }
 
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldInsertCompaniesInBatches() {
+        final val companies = List.of(
+            nasdaqCompany(1, "AMZN"),
+            nasdaqCompany(2, "MSFT"),
+            nasdaqCompany(3, "AAPL")
+        );
+
+        final val notInserted = batchInsert.insert(companies);
+        commit();
+
+        assertThat(notInserted).isEmpty();
+        assertThat(
+            jdbcTemplate.queryForList("SELECT external_id FROM company ORDER BY external_id;", Integer.class)
+        )
+            .containsExactly(1, 2, 3);
+        assertThat(
+            jdbcTemplate.queryForList("SELECT DISTINCT verification_status FROM company;", String.class)
+        )
+            .containsExactly("PENDING");
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldIndicateRowsRejectedFromBatch() {
+        jdbcTemplate.execute(
+            "INSERT INTO company (external_id, company_name, stock_symbol, market_identifier_code) " +
+            "VALUES (2, 'Alibaba', 'BABA', 'XHKG')"
+        );
+        final val companies = List.of(
+            nasdaqCompany(1, "AMZN"),
+            nasdaqCompany(2, "MSFT"),
+            nasdaqCompany(3, "AMZN"),
+            nasdaqCompany(4, "AAPL")
+        );
+
+        final val notInserted = batchInsert.insert(companies);
+        commit();
+
+        assertThat(notInserted).containsExactlyInAnyOrder(1, 2);
+        assertThat(
+            jdbcTemplate.queryForList("SELECT external_id FROM company ORDER BY external_id;", Integer.class)
+        )
+            .containsExactly(1, 2, 4);
+    }
+
+    @Test
+    public void shouldNotInsertInNonPositiveBatches() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new CompanyBatchInsert(jdbcTemplate, 0))
+            .withMessage("Batch size must be positive");
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldStreamAllCompaniesOrderedByExternalIdThroughCursor() {
+        jdbcTemplate.execute(
+            "INSERT INTO company (external_id, company_name, stock_symbol, market_identifier_code) VALUES " +
+            "(30, 'Microsoft', 'MSFT', 'XNAS'), (10, 'Amazon', 'AMZN', 'XNAS'), (20, 'Alibaba', 'BABA', 'XHKG')"
+        );
+
+        try (final val companies = cursor.stream()) {
+            final val streamed = companies.collect(toList());
+
+            assertThat(streamed).extracting(c -> c.getExternalId().get()).containsExactly(10, 20, 30);
+            assertThat(streamed.get(1).getName()).isEqualTo(new CompanyName("Alibaba"));
+            assertThat(streamed.get(1).getStockSymbol()).isEqualTo(new StockSymbol("BABA"));
+            assertThat(streamed.get(1).getVerificationStatus()).isEqualTo(VERIFIED);
+        }
+    }
+
+    @Test
+    public void shouldNotStreamCompaniesPendingVerification() {
+        insertPendingVerification();
+
+        try (final val companies = cursor.stream()) {
+            assertThat(companies).isEmpty();
+        }
+    }
+
+    @Test
+    public void shouldNotStreamWithNonPositiveFetchSize() {
+        final val exchanges = constantPriceExchanges(TEN_USD);
+        assertThatExceptionOfType(IllegalArgumentException.class)
+            .isThrownBy(() -> new CompanyCursor(jdbcTemplate, transactions, exchanges, 0))
+            .withMessage("Fetch size must be positive");
+    }
+
+    private Company nasdaqCompany(final int externalId, final String symbol) {
+        return Company.createPendingVerification(
+            new CompanyExternalId(externalId),
+            new CompanyName("Company"),
+            new StockSymbol(symbol),
+            new StockExchanges(anyQuotes()).getFor(new MarketIdentifierCode("XNAS"))
+        );
+    }
+
+    private void insertPendingVerification() {
+        jdbcTemplate.execute(
+            "INSERT INTO company " +
+            "(external_id, company_name, stock_symbol, market_identifier_code, verification_status) " +
+            "VALUES (16, 'Amazon', 'AMZN', 'XNAS', 'PENDING')"
+        );
+    }
+
     private void commit() {
         TestTransaction.flagForCommit();
         TestTransaction.end();
@@ -3,6 +3,8 @@ package org.ignast.stockinvesting.quotes.persistence.repositories;
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.ignast.stockinvesting.quotes.domain.VerificationStatus.PENDING;
+import static org.ignast.stockinvesting.quotes.domain.VerificationStatus.VERIFIED;
 import static org.ignast.stockinvesting.quotes.persistence.testutil.DomainFactoryForTests.amazon;
 import static org.ignast.stockinvesting.quotes.persistence.testutil.SpringCompanyRepositoryStubs.stubDuplicateSavingsOn;
 import static org.ignast.stockinvesting.quotes.persistence.testutil.SpringCompanyRepositoryStubs.stubRetrieving;
@@ -10,44 +12,254 @@ import static org.ignast.stockinvesting.quotes.persistence.testutil.SpringCompan
 import static org.ignast.stockinvesting.quotes.persistence.testutil.SpringCompanyRepositoryStubs.stubThrowsOnSaving;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import lombok.val;
 import org.ignast.stockinvesting.quotes.domain.Company;
 import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
 import org.ignast.stockinvesting.quotes.domain.CompanyRepository;
 import org.ignast.stockinvesting.quotes.domain.CompanyRepository.CompanyAlreadyExists;
+import org.ignast.stockinvesting.quotes.domain.Listing;
+import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.StockSymbol;
 import org.ignast.stockinvesting.quotes.persistence.testutil.SpringCompanyRepositoryStubs.Choice;
 import org.ignast.stockinvesting.quotes.persistence.testutil.SpringCompanyRepositoryStubs.Databases;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
 final class ExceptionMappingCompanyRepositoryTest {
 
+    private final CompanyBatchInsert batchInsert = mock(CompanyBatchInsert.class);
+
+    private final CompanyCursor cursor = mock(CompanyCursor.class);
+
     @Test
     public void shouldSave() {
         final val underlyingRepository = mock(SpringCompanyRepository.class);
-        final val repository = new ExceptionMappingCompanyRepository(underlyingRepository);
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
 
         repository.save(mock(Company.class));
 
         verify(underlyingRepository).save(any());
     }
 
+    @Test
+    public void shouldDelete() {
+        final val underlyingRepository = mock(SpringCompanyRepository.class);
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
+        final val company = amazon();
+
+        repository.delete(company);
+
+        verify(underlyingRepository).deleteByExternalId(company.getExternalId().get());
+    }
+
+    @Test
+    public void shouldMarkCompanyVerified() {
+        final val underlyingRepository = mock(SpringCompanyRepository.class);
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
+        final val company = amazon();
+
+        repository.markVerified(company);
+
+        verify(underlyingRepository).updateVerificationStatus(company.getExternalId().get(), VERIFIED);
+    }
+
+    @Test
+    public void shouldFindCompaniesPendingVerification() {
+        final val company = mock(Company.class);
+        final val underlyingRepository = mock(SpringCompanyRepository.class);
+        when(underlyingRepository.findFirstPage(PENDING, PageRequest.ofSize(2))).thenReturn(List.of(company));
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
+
+        assertThat(repository.findPendingVerification(2)).containsExactly(company);
+    }
+
     @Test
     public void shouldRetrieveCompany() {
         final val company = mock(Company.class);
         final val underlyingRepository = stubRetrieving(company);
-        final val repository = new ExceptionMappingCompanyRepository(underlyingRepository);
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
 
         assertThat(repository.findByExternalId(mock(CompanyExternalId.class)).get()).isSameAs(company);
     }
 
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldFindCompaniesByExternalIds() {
+        final val company = mock(Company.class);
+        final val underlyingRepository = mock(SpringCompanyRepository.class);
+        when(underlyingRepository.findByExternalIds(Set.of(5, 6), VERIFIED)).thenReturn(List.of(company));
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
+
+        final val companies = repository.findByExternalIds(
+            List.of(new CompanyExternalId(5), new CompanyExternalId(6), new CompanyExternalId(5))
+        );
+
+        assertThat(companies).containsExactly(company);
+    }
+
+    @Test
+    public void shouldFindCompanyByListing() {
+        final val company = amazon();
+        final val underlyingRepository = mock(SpringCompanyRepository.class);
+        when(underlyingRepository.findByListing("AMZN", "XNAS", "VERIFIED")).thenReturn(Optional.of(company));
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
+
+        final val found = repository.findByListing(
+            new Listing(new StockSymbol("AMZN"), new MarketIdentifierCode("XNAS"))
+        );
+
+        assertThat(found).containsSame(company);
+    }
+
+    @Test
+    public void shouldNotFindCompanyByNullListing() {
+        final val repository = new ExceptionMappingCompanyRepository(
+            mock(SpringCompanyRepository.class),
+            batchInsert,
+            cursor
+        );
+
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> repository.findByListing(null));
+    }
+
+    @Test
+    public void shouldNotQueryForNoExternalIds() {
+        final val underlyingRepository = mock(SpringCompanyRepository.class);
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
+
+        assertThat(repository.findByExternalIds(List.of())).isEmpty();
+        verifyNoInteractions(underlyingRepository);
+    }
+
+    @Test
+    public void shouldNotFindCompaniesByNullExternalIds() {
+        final val repository = new ExceptionMappingCompanyRepository(
+            mock(SpringCompanyRepository.class),
+            batchInsert,
+            cursor
+        );
+
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> repository.findByExternalIds(null));
+    }
+
+    @Test
+    public void shouldRetrieveFirstPageOfRequestedSize() {
+        final val company = mock(Company.class);
+        final val underlyingRepository = mock(SpringCompanyRepository.class);
+        when(underlyingRepository.findFirstPage(VERIFIED, PageRequest.ofSize(2)))
+            .thenReturn(List.of(company));
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
+
+        assertThat(repository.findFirstPage(2)).containsExactly(company);
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldRetrievePageAfterGivenExternalId() {
+        final val company = mock(Company.class);
+        final val underlyingRepository = mock(SpringCompanyRepository.class);
+        when(underlyingRepository.findPageAfter(5, VERIFIED, PageRequest.ofSize(2)))
+            .thenReturn(List.of(company));
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
+
+        assertThat(repository.findPageAfter(new CompanyExternalId(5), 2)).containsExactly(company);
+    }
+
+    @Test
+    public void shouldNotRetrievePageAfterNullExternalId() {
+        final val repository = new ExceptionMappingCompanyRepository(
+            mock(SpringCompanyRepository.class),
+            batchInsert,
+            cursor
+        );
+
+        assertThatExceptionOfType(NullPointerException.class)
+            .isThrownBy(() -> repository.findPageAfter(null, 2));
+    }
+
+    @Test
+    @SuppressWarnings("checkstyle:magicnumber")
+    public void shouldCountCompanies() {
+        final val underlyingRepository = mock(SpringCompanyRepository.class);
+        when(underlyingRepository.countByVerificationStatus(VERIFIED)).thenReturn(3L);
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
+
+        assertThat(repository.count()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldStreamAllCompaniesThroughCursor() {
+        final val company = mock(Company.class);
+        when(cursor.stream()).thenReturn(Stream.of(company));
+        final val repository = new ExceptionMappingCompanyRepository(
+            mock(SpringCompanyRepository.class),
+            batchInsert,
+            cursor
+        );
+
+        assertThat(repository.streamAll()).containsExactly(company);
+    }
+
     @Test
     public void shouldIndicateCompanyCreationFailedIfMessageWasNull() {
         final val springRepository = stubThrowsOnSaving(new DataIntegrityViolationException(null));
-        final val repository = new ExceptionMappingCompanyRepository(springRepository);
+        final val repository = new ExceptionMappingCompanyRepository(springRepository, batchInsert, cursor);
 
         assertThatExceptionOfType(CompanyRepository.CompanyCreationFailed.class)
             .isThrownBy(() -> repository.save(amazon()))
@@ -59,7 +271,7 @@ final class ExceptionMappingCompanyRepositoryTest {
         final val springRepository = stubThrowsOnSaving(
             new DataIntegrityViolationException("someOtherMessage")
         );
-        final val repository = new ExceptionMappingCompanyRepository(springRepository);
+        final val repository = new ExceptionMappingCompanyRepository(springRepository, batchInsert, cursor);
 
         assertThatExceptionOfType(CompanyRepository.CompanyCreationFailed.class)
             .isThrownBy(() -> repository.save(amazon()))
@@ -75,7 +287,7 @@ final class ExceptionMappingCompanyRepositoryTest {
 
     private void shouldIndicateCompanyAlreadyExistsOn(final Choice database) {
         final val springRepository = stubDuplicateSavingsOn(database);
-        final val repository = new ExceptionMappingCompanyRepository(springRepository);
+        final val repository = new ExceptionMappingCompanyRepository(springRepository, batchInsert, cursor);
 
         assertThatExceptionOfType(CompanyAlreadyExists.class)
             .isThrownBy(() -> repository.save(amazon()))
@@ -94,7 +306,7 @@ final class ExceptionMappingCompanyRepositoryTest {
 
     private void shouldIndicateListingIsAttemptedToBeDuplicatedFor(final Choice database) {
         final val springRepository = stubSavingsWithDuplicateListingOn(database);
-        final val repository = new ExceptionMappingCompanyRepository(springRepository);
+        final val repository = new ExceptionMappingCompanyRepository(springRepository, batchInsert, cursor);
 
         assertThatExceptionOfType(CompanyRepository.ListingAlreadyExists.class)
             .isThrownBy(() -> repository.save(amazon()))
@@ -106,8 +318,73 @@ final class ExceptionMappingCompanyRepositoryTest {
 
     @Test
     public void shouldCreateCompany() {
-        final val repository = new ExceptionMappingCompanyRepository(mock(SpringCompanyRepository.class));
+        final val repository = new ExceptionMappingCompanyRepository(
+            mock(SpringCompanyRepository.class),
+            batchInsert,
+            cursor
+        );
 
         repository.save(mock(Company.class));
     }
+
+    @Test
+    public void shouldSaveAllCompaniesInBatch() {
+        final val underlyingRepository = mock(SpringCompanyRepository.class);
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
+        final val companies = List.of(amazon(), amazon());
+        when(batchInsert.insert(companies)).thenReturn(Set.of());
+
+        assertThat(repository.saveAll(companies)).containsExactly(Optional.empty(), Optional.empty());
+        verify(underlyingRepository, never()).save(any());
+    }
+
+    @Test
+    public void shouldSaveCompaniesRejectedFromBatchIndividually() {
+        final val underlyingRepository = mock(SpringCompanyRepository.class);
+        final val repository = new ExceptionMappingCompanyRepository(
+            underlyingRepository,
+            batchInsert,
+            cursor
+        );
+        final val inserted = amazon();
+        final val rejected = amazon();
+        when(batchInsert.insert(List.of(inserted, rejected))).thenReturn(Set.of(1));
+
+        assertThat(repository.saveAll(List.of(inserted, rejected)))
+            .containsExactly(Optional.empty(), Optional.empty());
+        verify(underlyingRepository).save(rejected);
+        verify(underlyingRepository, never()).save(inserted);
+    }
+
+    @Test
+    public void shouldReportWhyCompaniesRejectedFromBatchCouldNotBeSaved() {
+        final val repository = new ExceptionMappingCompanyRepository(
+            stubDuplicateSavingsOn(Databases::mysql),
+            batchInsert,
+            cursor
+        );
+        final val companies = List.of(amazon(), amazon());
+        when(batchInsert.insert(companies)).thenReturn(Set.of(1));
+
+        final val failures = repository.saveAll(companies);
+
+        assertThat(failures).hasSize(2);
+        assertThat(failures.get(0)).isEmpty();
+        assertThat(failures.get(1)).containsInstanceOf(CompanyAlreadyExists.class);
+    }
+
+    @Test
+    public void shouldNotSaveAllOfNullCompanies() {
+        final val repository = new ExceptionMappingCompanyRepository(
+            mock(SpringCompanyRepository.class),
+            batchInsert,
+            cursor
+        );
+
+        assertThatExceptionOfType(NullPointerException.class).isThrownBy(() -> repository.saveAll(null));
+    }
 }
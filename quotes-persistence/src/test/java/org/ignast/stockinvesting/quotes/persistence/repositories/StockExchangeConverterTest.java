@@ -21,7 +21,7 @@ final class StockExchangeConverterTest {
 
     private final StockExchanges stockExchanges = mock(
         StockExchanges.class,
-        s -> when(s.getFor(nasdaqMic)).thenReturn(nasdaqStockExchange)
+        s -> when(s.getForPersisted("XNAS")).thenReturn(nasdaqStockExchange)
     );
 
     @Test
@@ -0,0 +1,113 @@
+package org.ignast.stockinvesting.quotes.persistence.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration LAG = Duration.ofSeconds(5);
+
+    private final DataSource primary = mock(DataSource.class);
+
+    private final DataSource replica = mock(DataSource.class);
+
+    private final Connection primaryConnection = mock(Connection.class);
+
+    private final Connection replicaConnection = mock(Connection.class);
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(
+        primary,
+        replica,
+        LAG,
+        nanos::get
+    );
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    public void shouldNotBeCreatedWithNulls() {
+        assertThatNullPointerException().isThrownBy(() -> new ReadWriteRoutingDataSource(null, replica, LAG));
+        assertThatNullPointerException().isThrownBy(() -> new ReadWriteRoutingDataSource(primary, null, LAG));
+        assertThatNullPointerException()
+            .isThrownBy(() -> new ReadWriteRoutingDataSource(primary, replica, null));
+    }
+
+    @Test
+    public void shouldRouteNonTransactionalAccessToPrimary() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void shouldRouteReadOnlyTransactionsToReplica() throws SQLException {
+        beginTransaction(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    public void shouldRouteReadWriteTransactionsToPrimary() throws SQLException {
+        beginTransaction(false);
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    public void shouldReadOwnWritesFromPrimaryUntilReplicaCatchesUp() throws SQLException {
+        beginTransaction(false);
+        dataSource.getConnection();
+        commit();
+
+        beginTransaction(true);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        nanos.addAndGet(LAG.toNanos());
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    public void shouldKeepReadingFromReplicaIfWriteWasNotCommitted() throws SQLException {
+        beginTransaction(false);
+        dataSource.getConnection();
+        TransactionSynchronizationManager.clear();
+
+        beginTransaction(true);
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    private void beginTransaction(final boolean readOnly) {
+        TransactionSynchronizationManager.clear();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager
+            .getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clear();
+    }
+}
@@ -0,0 +1,117 @@
+package org.ignast.stockinvesting.quotes.persistence.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.ignast.stockinvesting.quotes.persistence.dbmigration.AppDbContainer.getDataSourceTo;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.val;
+import org.flywaydb.core.Flyway;
+import org.ignast.stockinvesting.quotes.persistence.dbmigration.AppDbContainer;
+import org.ignast.stockinvesting.quotes.persistence.dbmigration.ProductionDatabaseMigrationVersions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+public final class ReadWriteRoutingIT {
+
+    private static final Duration LAG = Duration.ofSeconds(5);
+
+    private static final String INSERT =
+        "INSERT INTO company (external_id, company_name, stock_symbol, market_identifier_code) " +
+        "VALUES (1, ?, 'AMZN', 'XNAS')";
+
+    private static final String COUNT = "SELECT COUNT(*) FROM company";
+
+    @Container
+    @SuppressWarnings("rawtypes")
+    private static final MySQLContainer PRIMARY = AppDbContainer.create();
+
+    @Container
+    @SuppressWarnings("rawtypes")
+    private static final MySQLContainer REPLICA = AppDbContainer.create();
+
+    private final JdbcTemplate primary = new JdbcTemplate(getDataSourceTo(PRIMARY));
+
+    private final JdbcTemplate replica = new JdbcTemplate(getDataSourceTo(REPLICA));
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(
+        new ReadWriteRoutingDataSource(getDataSourceTo(PRIMARY), getDataSourceTo(REPLICA), LAG, nanos::get)
+    );
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+
+    private final TransactionTemplate readWrite = new TransactionTemplate(
+        new DataSourceTransactionManager(routing)
+    );
+
+    private final TransactionTemplate readOnly = new TransactionTemplate(
+        new DataSourceTransactionManager(routing)
+    );
+
+    @BeforeAll
+    public static void migrate() {
+        migrateToTarget(PRIMARY);
+        migrateToTarget(REPLICA);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        primary.execute("DELETE FROM company");
+        replica.execute("DELETE FROM company");
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    public void shouldWriteToPrimary() {
+        readWrite.executeWithoutResult(s -> jdbcTemplate.update(INSERT, "Amazon"));
+
+        assertThat(primary.queryForObject(COUNT, Integer.class)).isEqualTo(1);
+        assertThat(replica.queryForObject(COUNT, Integer.class)).isZero();
+    }
+
+    @Test
+    public void shouldReadFromReplicaInReadOnlyTransactions() {
+        primary.update(INSERT, "Primary");
+        replica.update(INSERT, "Replica");
+
+        final val name = readOnly.execute(s ->
+            jdbcTemplate.queryForObject("SELECT company_name FROM company", String.class)
+        );
+
+        assertThat(name).isEqualTo("Replica");
+    }
+
+    @Test
+    public void shouldReadOwnWritesFromPrimaryUntilReplicaCatchesUp() {
+        readWrite.executeWithoutResult(s -> jdbcTemplate.update(INSERT, "Amazon"));
+
+        assertThat(countVisibleToReads()).isEqualTo(1);
+        nanos.addAndGet(LAG.toNanos());
+        assertThat(countVisibleToReads()).isZero();
+    }
+
+    private int countVisibleToReads() {
+        return readOnly.execute(s -> jdbcTemplate.queryForObject(COUNT, Integer.class));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static void migrateToTarget(final MySQLContainer mysql) {
+        Flyway
+            .configure()
+            .dataSource(getDataSourceTo(mysql))
+            .target(ProductionDatabaseMigrationVersions.TARGET)
+            .load()
+            .migrate();
+    }
+}
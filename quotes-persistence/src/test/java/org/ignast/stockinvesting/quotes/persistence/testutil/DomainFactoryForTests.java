@@ -14,6 +14,7 @@ import org.ignast.stockinvesting.quotes.domain.Company;
 import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
 import org.ignast.stockinvesting.quotes.domain.CompanyName;
 import org.ignast.stockinvesting.quotes.domain.MarketIdentifierCode;
+import org.ignast.stockinvesting.quotes.domain.Price;
 import org.ignast.stockinvesting.quotes.domain.QuotesRepository;
 import org.ignast.stockinvesting.quotes.domain.StockExchange;
 import org.ignast.stockinvesting.quotes.domain.StockExchanges;
@@ -42,7 +43,9 @@ public final class DomainFactoryForTests {
     public static QuotesRepository anyQuotes() {
         return MockitoUtils.mock(
             QuotesRepository.class,
-            r -> when(r.getQuotedPriceOf(any(), any())).thenReturn(TEN)
+            r ->
+                when(r.getQuotedPriceOf(any(), any()))
+                    .thenAnswer(i -> Price.of(TEN, StockExchanges.quoteCurrencyOf(i.getArgument(1))))
         );
     }
 
@@ -50,6 +53,7 @@ public final class DomainFactoryForTests {
         final val exchange = constantPriceExchange(price);
         final val exchanges = mock(StockExchanges.class);
         when(exchanges.getFor(any())).thenReturn(exchange);
+        when(exchanges.getForPersisted(any())).thenReturn(exchange);
         return exchanges;
     }
 
@@ -83,6 +87,7 @@ final class DomainFactoryForTestsTest {
 
         final val exchange = exchanges.getFor(new MarketIdentifierCode("XANY"));
         assertThat(exchange.getQuotedPrice(new StockSymbol("ANY"))).isEqualTo(price);
+        assertThat(exchanges.getForPersisted("XANY")).isSameAs(exchange);
         assertThat(exchange.getMarketIdentifierCode()).isNotNull();
         assertThat(exchange.getMarketIdentifierCode().get()).isNotNull();
     }
@@ -2,6 +2,7 @@ package org.ignast.stockinvesting.quotes.persistence.testutil;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.ignast.stockinvesting.quotes.domain.VerificationStatus.VERIFIED;
 import static org.ignast.stockinvesting.quotes.persistence.testutil.SpringCompanyRepositoryStubs.stubDuplicateSavingsOn;
 import static org.ignast.stockinvesting.quotes.persistence.testutil.SpringCompanyRepositoryStubs.stubRetrieving;
 import static org.ignast.stockinvesting.quotes.persistence.testutil.SpringCompanyRepositoryStubs.stubSavingsWithDuplicateListingOn;
@@ -11,14 +12,18 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import lombok.val;
 import org.ignast.stockinvesting.quotes.domain.Company;
 import org.ignast.stockinvesting.quotes.domain.CompanyExternalId;
+import org.ignast.stockinvesting.quotes.domain.VerificationStatus;
 import org.ignast.stockinvesting.quotes.persistence.repositories.SpringCompanyRepository;
 import org.ignast.stockinvesting.quotes.persistence.testutil.SpringCompanyRepositoryStubs.Databases;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 
 public final class SpringCompanyRepositoryStubs implements SpringCompanyRepository {
 
@@ -28,7 +33,8 @@ public final class SpringCompanyRepositoryStubs implements SpringCompanyReposito
 
     public static SpringCompanyRepositoryStubs stubRetrieving(final Company company) {
         final val stub = new SpringCompanyRepositoryStubs();
-        when(stub.repository.findByExternalId(any())).thenReturn(Optional.of(company));
+        when(stub.repository.findByExternalIdAndVerificationStatus(any(), any()))
+            .thenReturn(Optional.of(company));
         return stub;
     }
 
@@ -58,8 +64,57 @@ public final class SpringCompanyRepositoryStubs implements SpringCompanyReposito
     }
 
     @Override
-    public Optional<Company> findByExternalId(final CompanyExternalId externalId) {
-        return repository.findByExternalId(externalId);
+    public void deleteByExternalId(final int externalId) {
+        repository.deleteByExternalId(externalId);
+    }
+
+    @Override
+    public void updateVerificationStatus(final int externalId, final VerificationStatus status) {
+        repository.updateVerificationStatus(externalId, status);
+    }
+
+    @Override
+    public Optional<Company> findByExternalIdAndVerificationStatus(
+        final CompanyExternalId externalId,
+        final VerificationStatus status
+    ) {
+        return repository.findByExternalIdAndVerificationStatus(externalId, status);
+    }
+
+    @Override
+    public List<Company> findByExternalIds(
+        final Collection<Integer> externalIds,
+        final VerificationStatus status
+    ) {
+        return repository.findByExternalIds(externalIds, status);
+    }
+
+    @Override
+    public Optional<Company> findByListing(
+        final String stockSymbol,
+        final String marketIdentifierCode,
+        final String status
+    ) {
+        return repository.findByListing(stockSymbol, marketIdentifierCode, status);
+    }
+
+    @Override
+    public List<Company> findFirstPage(final VerificationStatus status, final Pageable pageable) {
+        return repository.findFirstPage(status, pageable);
+    }
+
+    @Override
+    public List<Company> findPageAfter(
+        final int lastExternalId,
+        final VerificationStatus status,
+        final Pageable pageable
+    ) {
+        return repository.findPageAfter(lastExternalId, status, pageable);
+    }
+
+    @Override
+    public long countByVerificationStatus(final VerificationStatus status) {
+        return repository.countByVerificationStatus(status);
     }
 
     public static final class Databases {
@@ -117,7 +172,10 @@ final class SpringCompanyRepositoryStubsTest {
         final val company = mock(Company.class);
         final val anyExternalId = mock(CompanyExternalId.class);
 
-        assertThat(stubRetrieving(company).findByExternalId(anyExternalId).get()).isSameAs(company);
+        assertThat(
+            stubRetrieving(company).findByExternalIdAndVerificationStatus(anyExternalId, VERIFIED).get()
+        )
+            .isSameAs(company);
     }
 
     @Test
@@ -0,0 +1,31 @@
+package org.ignast.stockinvesting.quotes.threads;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import lombok.val;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "execution.threads.virtual", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    private final Supplier<ExecutorService> executors;
+
+    public VirtualThreadsConfig() {
+        this(VirtualThreads::newVirtualThreadPerTaskExecutor);
+    }
+
+    VirtualThreadsConfig(final Supplier<ExecutorService> executors) {
+        this.executors = executors;
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadRequestHandling() {
+        final val executor = executors.get();
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+}
@@ -0,0 +1,33 @@
+package org.ignast.stockinvesting.quotes.threads;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.ExecutorService;
+import lombok.val;
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+public final class VirtualThreadsConfigTest {
+
+    @Test
+    public void shouldHandleRequestsOnVirtualThreadExecutor() {
+        final val executor = mock(ExecutorService.class);
+        final val protocolHandler = mock(ProtocolHandler.class);
+
+        new VirtualThreadsConfig(() -> executor).virtualThreadRequestHandling().customize(protocolHandler);
+
+        verify(protocolHandler).setExecutor(executor);
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_18)
+    public void shouldFailFastOnRuntimeWithoutVirtualThreads() {
+        assertThatExceptionOfType(IllegalStateException.class)
+            .isThrownBy(() -> new VirtualThreadsConfig().virtualThreadRequestHandling())
+            .withMessage("Virtual threads require Java 21 or later");
+    }
+}